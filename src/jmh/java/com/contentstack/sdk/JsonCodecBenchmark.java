@@ -0,0 +1,78 @@
+package com.contentstack.sdk;
+
+import com.contentstack.sdk.utils.LegacyResponse;
+import okio.Buffer;
+import okio.ByteString;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes a page of realistic entries (references, groups, modular blocks, JSON RTE, publish details) with each
+ * {@link JsonCodec}, and with the pre-codec pipeline that read the body into a String, parsed it with
+ * {@code org.json}, copied it into ordered maps and wrapped it in a {@link JSONObject} again. Every run builds the
+ * entry models too, the same way {@link CSConnectionRequest} does for a query response.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+
+    @Param({"STREAMING", "GSON", "ORG_JSON", "LEGACY"})
+    public String codec;
+
+    @Param({"10", "100"})
+    public int entries;
+
+    private ByteString page;
+    private JsonCodec jsonCodec;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        page = ByteString.encodeUtf8(page(entries));
+        if (!"LEGACY".equals(codec)) {
+            jsonCodec = (JsonCodec) JsonCodec.class.getField(codec).get(null);
+        }
+    }
+
+    @Benchmark
+    public EntriesModel decodePage() throws Exception {
+        Buffer body = new Buffer().write(page);
+        if (jsonCodec == null) {
+            return new EntriesModel(LegacyResponse.decode(body.readUtf8()));
+        }
+        EntriesModel.Streaming streaming = new EntriesModel.Streaming();
+        return streaming.toModel(jsonCodec.decode(body, streaming));
+    }
+
+    static String page(int count) {
+        StringBuilder json = new StringBuilder("{\"entries\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"uid\":\"blt0000000000").append(i).append("\",\"title\":\"Article ").append(i)
+                    .append(" \\u2014 caf\\u00e9 \\\"quoted\\\"\",\"url\":\"/blog/article-").append(i)
+                    .append("\",\"locale\":\"en-us\",\"_version\":").append(3 + i % 5)
+                    .append(",\"rating\":").append(i % 5).append(".5,\"views\":").append(1000L * i)
+                    .append(",\"tags\":[\"news\",\"tech\",\"long-read\"],\"seo\":{\"meta_title\":\"Article ")
+                    .append(i).append("\",\"meta_description\":\"Lorem ipsum dolor sit amet, consectetur ")
+                    .append("adipiscing elit, sed do eiusmod tempor incididunt ut labore.\",\"noindex\":false}")
+                    .append(",\"author\":[{\"uid\":\"bltauthor").append(i % 7)
+                    .append("\",\"_content_type_uid\":\"author\"}],\"hero\":{\"uid\":\"bltasset").append(i)
+                    .append("\",\"url\":\"https://images.contentstack.io/v3/assets/blt/hero.jpg\",")
+                    .append("\"content_type\":\"image/jpeg\",\"file_size\":\"482133\",\"filename\":\"hero.jpg\"}")
+                    .append(",\"blocks\":[{\"text\":{\"body\":\"<p>Paragraph one with <a href=\\\"/x\\\">link")
+                    .append("</a></p>\",\"_metadata\":{\"uid\":\"cs1\"}}},{\"quote\":{\"quote\":\"Stay hungry")
+                    .append("\",\"author\":\"Someone\",\"_metadata\":{\"uid\":\"cs2\"}}}],\"rte\":{\"type\":")
+                    .append("\"doc\",\"children\":[{\"type\":\"p\",\"children\":[{\"text\":\"Hello \"},")
+                    .append("{\"text\":\"world\",\"bold\":true}]}]},\"publish_details\":{\"environment\":")
+                    .append("\"bltenv\",\"locale\":\"en-us\",\"time\":\"2024-05-01T10:00:00.000Z\",")
+                    .append("\"user\":\"bltuser\"},\"created_at\":\"2024-04-01T10:00:00.000Z\",")
+                    .append("\"updated_at\":\"2024-05-01T10:00:00.000Z\",\"ACL\":{},\"_in_progress\":false}");
+        }
+        return json.append("],\"count\":").append(count).append('}').toString();
+    }
+}
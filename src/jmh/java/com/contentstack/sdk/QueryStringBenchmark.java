@@ -0,0 +1,61 @@
+package com.contentstack.sdk;
+
+import com.contentstack.sdk.utils.LegacyQueryString;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the query string of an entries request with many {@code include[]} references, field projections and a
+ * {@code query} filter, comparing {@link QueryStringBuilder} with the previous {@code String +=} construction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class QueryStringBenchmark {
+
+    @Param({"5", "50"})
+    public int references;
+
+    private HashMap<String, Object> params;
+    private CSHttpConnection connection;
+    private Method getParams;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        JSONArray include = new JSONArray();
+        for (int i = 0; i < references; i++) {
+            include.put("blocks.section_" + i + ".reference");
+        }
+        params = new HashMap<>();
+        params.put("include[]", include);
+        params.put("only[BASE][]", new JSONArray().put("title").put("url").put("seo.meta_title"));
+        params.put("only", new JSONObject().put("author", new JSONArray().put("name").put("bio")));
+        params.put("query", new JSONObject().put("title", new JSONObject().put("$regex", "^Café news"))
+                .put("rating", new JSONObject().put("$gte", 4)));
+        params.put("environment", "production");
+        params.put("locale", "en-us");
+        params.put("include_count", true);
+        params.put("limit", 100);
+
+        connection = new CSHttpConnection("https://cdn.contentstack.io/v3/content_types/blog/entries", null);
+        getParams = CSHttpConnection.class.getDeclaredMethod("getParams", HashMap.class);
+        getParams.setAccessible(true);
+    }
+
+    @Benchmark
+    public String builder() throws ReflectiveOperationException {
+        return (String) getParams.invoke(connection, params);
+    }
+
+    @Benchmark
+    public String legacy() {
+        return LegacyQueryString.getParams(params);
+    }
+}
@@ -0,0 +1,113 @@
+package com.contentstack.sdk;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a realistic sync page (entries with long rich text fields and nested blocks, a few of them holding script
+ * tags, and assets) to a {@link SyncStack} with each {@link SyncStack.SanitizeMode}, and with the pre-mode sanitizer
+ * that copied every item into a new object and ran two case-insensitive regular expressions over each of its
+ * top-level strings. Each invocation gets a freshly parsed page, since items are sanitized in place.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class SyncStackBenchmark {
+
+    @Param({"FULL", "TOP_LEVEL", "OFF", "LEGACY"})
+    public String mode;
+
+    @Param({"100", "1000"})
+    public int items;
+
+    private String page;
+    private JSONObject response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        page = page(items);
+    }
+
+    @Setup(Level.Invocation)
+    public void parse() {
+        response = new JSONObject(page);
+    }
+
+    @Benchmark
+    public List<JSONObject> setJSON() {
+        if ("LEGACY".equals(mode)) {
+            JSONArray array = response.getJSONArray("items");
+            List<JSONObject> sanitized = new ArrayList<>();
+            for (int i = 0; i < array.length(); i++) {
+                sanitized.add(legacySanitize(array.getJSONObject(i)));
+            }
+            return sanitized;
+        }
+        SyncStack stack = new SyncStack(SyncStack.SanitizeMode.valueOf(mode));
+        stack.setJSON(response);
+        return stack.getItems();
+    }
+
+    private static JSONObject legacySanitize(JSONObject json) {
+        JSONObject sanitizedJson = new JSONObject();
+        for (String key : json.keySet()) {
+            Object value = json.opt(key);
+            if (value instanceof String) {
+                String cleanValue = ((String) value)
+                        .replaceAll("(?i)<script>", "&lt;script&gt;")
+                        .replaceAll("(?i)</script>", "&lt;/script&gt;");
+                sanitizedJson.put(key, cleanValue);
+            } else {
+                sanitizedJson.put(key, value);
+            }
+        }
+        return sanitizedJson;
+    }
+
+    static String page(int count) {
+        StringBuilder body = new StringBuilder();
+        for (int p = 0; p < 12; p++) {
+            body.append("<p>Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor ")
+                    .append("incididunt ut labore et dolore <strong>magna</strong> aliqua. Ut enim ad minim ")
+                    .append("veniam, quis <a href=\\\"/docs\\\">nostrud</a> exercitation ullamco.</p>");
+        }
+        StringBuilder json = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            if (i % 10 == 9) {
+                json.append("{\"type\":\"asset_published\",\"event_at\":\"2024-05-01T10:00:00.000Z\",")
+                        .append("\"content_type_uid\":\"sys_assets\",\"data\":{\"uid\":\"bltasset").append(i)
+                        .append("\",\"title\":\"hero-").append(i).append(".jpg\",\"url\":")
+                        .append("\"https://images.contentstack.io/v3/assets/blt/hero.jpg\",\"file_size\":")
+                        .append("\"482133\",\"content_type\":\"image/jpeg\",\"publish_details\":{\"locale\":")
+                        .append("\"en-us\",\"environment\":\"bltenv\"}}}");
+                continue;
+            }
+            String script = i % 25 == 0 ? "<SCRIPT>track()</Script>" : "";
+            json.append("{\"type\":\"entry_published\",\"event_at\":\"2024-05-01T10:00:00.000Z\",")
+                    .append("\"content_type_uid\":\"blog\",\"data\":{\"uid\":\"blt0000000000").append(i)
+                    .append("\",\"title\":\"Article ").append(i).append("\",\"url\":\"/blog/article-").append(i)
+                    .append("\",\"locale\":\"en-us\",\"_version\":").append(3 + i % 5)
+                    .append(",\"summary\":\"Lorem ipsum dolor sit amet, consectetur adipiscing elit.\",")
+                    .append("\"body\":\"").append(body)
+                    .append(script).append("\",\"tags\":[\"news\",\"tech\"],\"blocks\":[{\"text\":{\"body\":\"")
+                    .append(body).append("\",\"_metadata\":{\"uid\":\"cs1\"}}},{\"quote\":{\"quote\":\"")
+                    .append("Stay hungry").append(script).append("\",\"author\":\"Someone\"}}],")
+                    .append("\"seo\":{\"meta_title\":\"Article ").append(i).append("\",\"meta_description\":")
+                    .append("\"Lorem ipsum dolor sit amet, consectetur adipiscing elit.\"},\"publish_details\":")
+                    .append("{\"environment\":\"bltenv\",\"locale\":\"en-us\",\"time\":")
+                    .append("\"2024-05-01T10:00:00.000Z\"}}}");
+        }
+        return json.append("],\"skip\":0,\"limit\":").append(count).append(",\"total_count\":").append(count)
+                .append(",\"sync_token\":\"blt_sync_token_1\"}").toString();
+    }
+}
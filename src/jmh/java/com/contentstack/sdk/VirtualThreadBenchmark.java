@@ -0,0 +1,83 @@
+package com.contentstack.sdk;
+
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans out concurrent {@link Query#findAsync()} calls against a local MockWebServer that answers after a fixed
+ * latency, comparing OkHttp's default platform thread pool with virtual threads ({@link Config#enableVirtualThreads}).
+ * On JVMs older than 21 the virtual mode falls back to the platform pool, so both rows should match.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class VirtualThreadBenchmark {
+
+    /**
+     * Queries per fan-out; a constant rather than a parameter so the per-operation numbers stay right.
+     */
+    private static final int CONCURRENT_REQUESTS = 256;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"20"})
+    public long latencyMs;
+
+    private MockWebServer server;
+    private Stack stack;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, IllegalAccessException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) {
+                return new MockResponse.Builder()
+                        .addHeader("Content-Type", "application/json")
+                        .headersDelay(latencyMs, TimeUnit.MILLISECONDS)
+                        .body("{\"entries\":[{\"uid\":\"blt1\",\"title\":\"Hello\"}]}")
+                        .build();
+            }
+        });
+        server.start(0);
+
+        Config config = new Config();
+        config.setHost(server.getHostName() + ":" + server.getPort());
+        config.scheme = "http://";
+        config.setRetryOptions(new RetryOptions().setRetryEnabled(false));
+        config.setMaxRequests(CONCURRENT_REQUESTS, CONCURRENT_REQUESTS);
+        config.connectionPool(CONCURRENT_REQUESTS, 5, TimeUnit.MINUTES);
+        config.enableVirtualThreads("virtual".equals(threads));
+        stack = Contentstack.stack("apiKey", "deliveryToken", "env", config);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // The dispatcher's executor, virtual or platform, belongs to this trial's stack
+        ((ExecutorService) stack.requestCoalescer.executor()).shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public void fanOutQueries() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[CONCURRENT_REQUESTS];
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures[i] = stack.contentType("blog").query().findAsync();
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+}
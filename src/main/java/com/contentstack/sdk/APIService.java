@@ -5,6 +5,7 @@ import retrofit2.Call;
 import retrofit2.http.GET;
 import retrofit2.http.HeaderMap;
 import retrofit2.http.Query;
+import retrofit2.http.Streaming;
 import retrofit2.http.Url;
 
 import java.util.LinkedHashMap;
@@ -16,7 +17,11 @@ import java.util.Map;
  * @since 12-12-2021
  */
 public interface APIService {
+    /**
+     * The body is read from the connection as it is decoded, not buffered first.
+     */
     @GET
+    @Streaming
     Call<ResponseBody> getRequest(
             @Url String url, @HeaderMap LinkedHashMap<String, Object> headers);
 
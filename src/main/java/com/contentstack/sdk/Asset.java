@@ -11,6 +11,7 @@ import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import static com.contentstack.sdk.Constants.ENVIRONMENT;
@@ -598,10 +599,47 @@ public class Asset {
      * @param callback the callback
      */
     public void fetch(FetchResultCallback callback) {
+        JSONObject replicated = replicated();
+        if (callback != null && replicated != null) {
+            this.configure(replicated);
+            callback.onRequestFinish(ResponseType.REPLICA);
+            return;
+        }
+        Error missing = callback != null && stackInstance != null ? stackInstance.knownMissing(assetUid, true) : null;
+        if (missing != null) {
+            callback.onRequestFail(ResponseType.CACHE, missing);
+            return;
+        }
         urlQueries.put(ENVIRONMENT, this.headers.get(ENVIRONMENT));
         fetchFromNetwork("assets/" + assetUid, urlQueries, this.headers, callback);
     }
 
+    /**
+     * Returns this asset from the local replica when the fetch asks for nothing a synced asset lacks: only the
+     * locale may be set.
+     */
+    private JSONObject replicated() {
+        LocalReplica replica = stackInstance != null ? stackInstance.servingReplica() : null;
+        for (String key : urlQueries.keySet()) {
+            if (!key.equals("locale") && !key.equals(ENVIRONMENT)) {
+                return null;
+            }
+        }
+        return replica != null ? replica.getAsset(assetUid, urlQueries.optString("locale", null)) : null;
+    }
+
+    /**
+     * Fetches the asset without blocking the calling thread. The returned future completes with this {@link Asset}
+     * once its fields are populated, or exceptionally with a {@link ContentstackException} when the request fails.
+     *
+     * @return a {@link CompletableFuture} of this {@link Asset}
+     */
+    public CompletableFuture<Asset> fetchAsync() {
+        FutureCallbacks.AssetFuture callback = new FutureCallbacks.AssetFuture(this);
+        fetch(callback);
+        return callback.future;
+    }
+
     private void fetchFromNetwork(String url, JSONObject urlQueries, LinkedHashMap<String, Object> headers,
             FetchResultCallback callback) {
         if (callback != null) {
@@ -1,10 +1,12 @@
 package com.contentstack.sdk;
 
+import io.reactivex.rxjava3.core.Flowable;
 import org.jetbrains.annotations.NotNull;
 import org.json.JSONObject;
 import org.json.JSONArray;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import static com.contentstack.sdk.Constants.ENVIRONMENT;
@@ -32,6 +34,20 @@ public class AssetLibrary implements INotifyClass {
         this.headers = stack.headers;
     }
 
+    /**
+     * Copies the library with its headers and parameters, one level deep, so pages can be requested on the copy
+     * while the library stays unchanged.
+     */
+    AssetLibrary copy() {
+        AssetLibrary copy = new AssetLibrary();
+        copy.stackInstance = stackInstance;
+        copy.headers = headers != null ? new LinkedHashMap<>(headers) : null;
+        for (String key : urlQueries.keySet()) {
+            copy.urlQueries.put(key, urlQueries.opt(key));
+        }
+        return copy;
+    }
+
     //Sanitization of keys
     private boolean isValidKey(String key) {
         // Fixed regex: allow alphanumeric, underscore, dot, and square brackets at the end, escaped properly
@@ -313,6 +329,53 @@ public class AssetLibrary implements INotifyClass {
         fetchFromNetwork("assets", urlQueries, headers, callback);
     }
 
+    /**
+     * Fetches all assets without blocking the calling thread. The returned future completes with the list of assets,
+     * or exceptionally with a {@link ContentstackException} when the request fails.
+     *
+     * @return a {@link CompletableFuture} of the fetched assets
+     */
+    public CompletableFuture<List<Asset>> fetchAllAsync() {
+        FutureCallbacks.AssetsFuture callback = new FutureCallbacks.AssetsFuture();
+        fetchAll(callback);
+        return callback.future;
+    }
+
+    /**
+     * Streams every asset, fetching pages of 100 assets on demand. See {@link #stream(int)}.
+     *
+     * @return a {@link Flowable} of the assets
+     */
+    public Flowable<Asset> stream() {
+        return stream(ReactivePages.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Streams every asset matching the library filters. Pages are fetched with {@code skip}/{@code limit} as the
+     * subscriber requests more assets, so consumers control how many pages are held in memory. A {@code skip} already
+     * set is used as the starting offset. Every page is requested on a copy of the library as it was when the stream
+     * was created, so the library itself is left unchanged.
+     * <p>
+     * Each page request blocks the thread that requested it; subscribe with {@code subscribeOn(Schedulers.io())} to
+     * run it in the background.
+     *
+     * @param pageSize number of assets to request per page
+     * @return a {@link Flowable} of the assets
+     */
+    public Flowable<Asset> stream(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_PAGE_SIZE);
+        }
+        final int start = urlQueries.optInt("skip", 0);
+        final AssetLibrary snapshot = copy();
+        return ReactivePages.<List<Asset>>pages((index, previous) -> {
+            if (previous != null && previous.size() < pageSize) {
+                return null;
+            }
+            return snapshot.copy().skip(start + index * pageSize).limit(pageSize).fetchAllAsync();
+        }).concatMapIterable(assets -> assets, 1);
+    }
+
     private void fetchFromNetwork(String url, JSONObject urlQueries, LinkedHashMap<String, Object> headers,
                                   FetchAssetsCallback callback) {
         if (callback != null) {
@@ -344,6 +407,12 @@ public class AssetLibrary implements INotifyClass {
 
     @Override
     public void getResultObject(List<Object> objects, JSONObject jsonObject, boolean isSingleEntry) {
+        getResultObject(objects, jsonObject, isSingleEntry, ResponseType.NETWORK);
+    }
+
+    @Override
+    public void getResultObject(List<Object> objects, JSONObject jsonObject, boolean isSingleEntry,
+            ResponseType responseType) {
 
         if (jsonObject != null && jsonObject.has("count")) {
             count = jsonObject.optInt("count");
@@ -353,6 +422,9 @@ public class AssetLibrary implements INotifyClass {
 
         if (objects == null || objects.isEmpty()) {
             logger.warning(ErrorMessages.MISSING_ASSETS_LIST);
+            if (callback != null) {
+                callback.onRequestFinish(responseType, assets);
+            }
             return;
         }
 
@@ -375,7 +447,7 @@ public class AssetLibrary implements INotifyClass {
         }
 
         if (callback != null) {
-            callback.onRequestFinish(ResponseType.NETWORK, assets);
+            callback.onRequestFinish(responseType, assets);
         }
     }
 
@@ -37,7 +37,8 @@ class AssetModel {
         if (isArray) {
             json = response;
         } else {
-            json = new JSONObject((LinkedHashMap<?, ?>) response.get("asset"));
+            Object asset = response.get("asset");
+            json = asset instanceof JSONObject ? (JSONObject) asset : new JSONObject((LinkedHashMap<?, ?>) asset);
         }
 
         if (json != null) {
@@ -27,7 +27,9 @@ class AssetsModel {
     public AssetsModel(JSONObject response) {
         JSONArray listResponse = null;
         Object rawAssets = response.opt("assets"); // Get assets
-        if (rawAssets instanceof List) {  // Check if it's an ArrayList
+        if (rawAssets instanceof JSONArray) {
+            listResponse = (JSONArray) rawAssets;
+        } else if (rawAssets instanceof List) {  // Check if it's an ArrayList
             List<?> assetsList = (List<?>) rawAssets;
             listResponse = new JSONArray(assetsList); // Convert to JSONArray
         } else if (rawAssets != null) {
@@ -96,6 +96,7 @@ class CSConnectionRequest implements IRequestModelHTTP {
         connection.setConfig(this.config);
         connection.setStack(this.stackInstance);
         connection.setCallBackObject(resultCallBack);
+        connection.setElementListener(elementListener(controller, sanitizeMode()));
         if (urlQueries != null && urlQueries.size() > 0) {
             connection.setFormParams(urlQueries);
         }
@@ -104,6 +105,12 @@ class CSConnectionRequest implements IRequestModelHTTP {
 
     @Override
     public synchronized void onRequestFailed(JSONObject error, int statusCode, ResultCallBack callBackObject) {
+        onRequestFailed(error, statusCode, callBackObject, ResponseType.NETWORK);
+    }
+
+    @Override
+    public synchronized void onRequestFailed(JSONObject error, int statusCode, ResultCallBack callBackObject,
+            ResponseType responseType) {
         Error errResp = new Error();
         if (error.has(ERROR_MESSAGE)) {
             String errMsg = error.optString(ERROR_MESSAGE);
@@ -118,7 +125,7 @@ class CSConnectionRequest implements IRequestModelHTTP {
             errResp.setErrorDetail(errorDetail);
         }
         if (this.resultCallBack != null) {
-            this.resultCallBack.onRequestFail(ResponseType.NETWORK, errResp);
+            this.resultCallBack.onRequestFail(responseType, errResp);
         }
     }
 
@@ -126,13 +133,15 @@ class CSConnectionRequest implements IRequestModelHTTP {
     public synchronized void onRequestFinished(CSHttpConnection request) {
         JSONObject jsonResponse = request.getResponse();
         if (request.getController().equalsIgnoreCase(Constants.QUERYOBJECT)) {
-            EntriesModel model = new EntriesModel(jsonResponse);
-            notifyClass.getResultObject(model.objectList, jsonResponse, false);
+            EntriesModel model = entriesModel(request, jsonResponse);
+            notifyClass.getResultObject(model.objectList, jsonResponse, false, request.getResponseType());
         } else if (request.getController().equalsIgnoreCase(Constants.SINGLEQUERYOBJECT)) {
-            EntriesModel model = new EntriesModel(jsonResponse);
-            notifyClass.getResultObject(model.objectList, jsonResponse, true);
+            EntriesModel model = entriesModel(request, jsonResponse);
+            notifyClass.getResultObject(model.objectList, jsonResponse, true, request.getResponseType());
         } else if (request.getController().equalsIgnoreCase(Constants.FETCHENTRY)) {
-            JSONObject jsonModel = new JSONObject((LinkedHashMap<?, ?>) jsonResponse.get("entry"));
+            Object entry = jsonResponse.get("entry");
+            JSONObject jsonModel = entry instanceof JSONObject ? (JSONObject) entry
+                    : new JSONObject((LinkedHashMap<?, ?>) entry);
             EntryModel model = new EntryModel(jsonModel);
             entryInstance.resultJson = model.jsonObject;
             entryInstance.title = model.title;
@@ -141,12 +150,12 @@ class CSConnectionRequest implements IRequestModelHTTP {
             entryInstance.uid = model.uid;
             entryInstance.setTags(model.tags);
             if (request.getCallBackObject() != null) {
-                ((EntryResultCallBack) request.getCallBackObject()).onRequestFinish(ResponseType.NETWORK);
+                ((EntryResultCallBack) request.getCallBackObject()).onRequestFinish(request.getResponseType());
             }
         } else if (request.getController().equalsIgnoreCase(Constants.FETCHALLASSETS)) {
             AssetsModel assetsModel = new AssetsModel(jsonResponse);
             List<Object> objectList = assetsModel.objects;
-            assetLibrary.getResultObject(objectList, jsonResponse, false);
+            assetLibrary.getResultObject(objectList, jsonResponse, false, request.getResponseType());
         } else if (request.getController().equalsIgnoreCase(Constants.FETCHASSETS)) {
             AssetModel model = new AssetModel(jsonResponse, false);
             assetInstance.contentType = model.contentType;
@@ -157,11 +166,21 @@ class CSConnectionRequest implements IRequestModelHTTP {
             assetInstance.assetUid = model.uploadedUid;
             assetInstance.setTags(model.tags);
             if (request.getCallBackObject() != null) {
-                ((FetchResultCallback) request.getCallBackObject()).onRequestFinish(ResponseType.NETWORK);
+                ((FetchResultCallback) request.getCallBackObject()).onRequestFinish(request.getResponseType());
             }
         } else if (request.getController().equalsIgnoreCase(Constants.FETCHSYNC)) {
-            SyncStack model = new SyncStack();
-            model.setJSON(jsonResponse);
+            SyncStack model = new SyncStack(sanitizeMode());
+            if (request.getElementListener() instanceof SyncStack.Streaming) {
+                model.setJSON(jsonResponse, (SyncStack.Streaming) request.getElementListener());
+            } else {
+                model.setJSON(jsonResponse);
+            }
+            if (stackInstance != null && stackInstance.uidFilter != null) {
+                stackInstance.uidFilter.onSyncPage(urlQueries, model);
+            }
+            if (stackInstance != null && stackInstance.replica != null) {
+                stackInstance.replica.onSyncPage(urlQueries, model);
+            }
             if (request.getCallBackObject() != null) {
                 ((SyncResultCallBack) request.getCallBackObject()).onRequestFinish(model);
             }
@@ -180,4 +199,29 @@ class CSConnectionRequest implements IRequestModelHTTP {
         }
     }
 
+    private SyncStack.SanitizeMode sanitizeMode() {
+        return config != null ? config.syncSanitizeMode : SyncStack.SanitizeMode.TOP_LEVEL;
+    }
+
+    /**
+     * Entry lists and sync pages are turned into models while the body is decoded, one element at a time.
+     */
+    private static JsonCodec.ElementListener elementListener(String controller, SyncStack.SanitizeMode sanitizeMode) {
+        if (Constants.QUERYOBJECT.equalsIgnoreCase(controller)
+                || Constants.SINGLEQUERYOBJECT.equalsIgnoreCase(controller)) {
+            return new EntriesModel.Streaming();
+        }
+        if (Constants.FETCHSYNC.equalsIgnoreCase(controller)) {
+            return new SyncStack.Streaming(sanitizeMode);
+        }
+        return null;
+    }
+
+    private static EntriesModel entriesModel(CSHttpConnection request, JSONObject jsonResponse) {
+        if (request.getElementListener() instanceof EntriesModel.Streaming) {
+            return ((EntriesModel.Streaming) request.getElementListener()).toModel(jsonResponse);
+        }
+        return new EntriesModel(jsonResponse);
+    }
+
 }
@@ -1,25 +1,25 @@
 package com.contentstack.sdk;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.net.SocketTimeoutException;
-import java.net.URLEncoder;
-import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.IntStream;
+import okhttp3.Headers;
 import okhttp3.Request;
+import okio.BufferedSource;
+import okio.Okio;
 import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import retrofit2.Call;
+import retrofit2.Callback;
 import retrofit2.Response;
 
 
@@ -30,6 +30,24 @@ import static com.contentstack.sdk.Constants.*;
 public class CSHttpConnection implements IURLRequestHTTP {
 
     protected static final Logger logger = Logger.getLogger(CSHttpConnection.class.getName());
+
+    /**
+     * Receives the outcome of background refreshes, which only update the cache.
+     */
+    private static final IRequestModelHTTP REFRESH_RESULT = new IRequestModelHTTP() {
+        @Override
+        public void sendRequest() {
+        }
+
+        @Override
+        public void onRequestFailed(JSONObject error, int statusCode, ResultCallBack callBackObject) {
+        }
+
+        @Override
+        public void onRequestFinished(CSHttpConnection request) {
+        }
+    };
+
     private final String urlPath;
     private final IRequestModelHTTP connectionRequest;
     private String controller;
@@ -41,7 +59,14 @@ public class CSHttpConnection implements IURLRequestHTTP {
     private ResultCallBack callBackObject;
     private JSONObject responseJSON;
     private HashMap<String, Object> formParams;
-    private final String utfType = String.valueOf(StandardCharsets.UTF_8);
+    private JsonCodec.ElementListener elementListener;
+    private RequestCoalescer.Flight flight;
+    private RequestCoalescer.Flight scopeFlight;
+    private String cacheKey;
+    private ValidatorStore.Validated revalidated;
+    private JSONObject staleFallback;
+    private boolean refresh = false;
+    private ResponseType responseType = ResponseType.NETWORK;
 
     public CSHttpConnection(String urlToCall, IRequestModelHTTP csConnectionRequest) {
         this.urlPath = urlToCall;
@@ -97,81 +122,66 @@ public class CSHttpConnection implements IURLRequestHTTP {
         return responseJSON;
     }
 
+    /**
+     * Sets the listener that receives the elements of the response's top-level arrays while the body is decoded.
+     */
+    void setElementListener(JsonCodec.ElementListener elementListener) {
+        this.elementListener = elementListener;
+    }
+
+    /**
+     * Returns the listener the response was streamed through, or null when it was decoded without one.
+     */
+    JsonCodec.ElementListener getElementListener() {
+        return elementListener;
+    }
+
     public String setFormParamsGET(HashMap<String, Object> params) {
         if (params != null && params.size() > 0) {
-            String urlParams = null;
-            urlParams = info.equalsIgnoreCase(Constants.REQUEST_CONTROLLER.QUERY.name())
+            if (info.equalsIgnoreCase(Constants.REQUEST_CONTROLLER.QUERY.name())
                     || info.equalsIgnoreCase(Constants.REQUEST_CONTROLLER.ENTRY.name())
                     || info.equalsIgnoreCase(Constants.REQUEST_CONTROLLER.ASSET.name())
-                    || info.equalsIgnoreCase(Constants.REQUEST_CONTROLLER.ASSETLIBRARY.name()) ? getParams(params) : null;
-            if (urlParams == null) {
-                for (Map.Entry<String, Object> e : params.entrySet()) {
-                    if (urlParams == null) {
-                        urlParams = "?" + e.getKey() + "=" + e.getValue();
-                    } else {
-                        urlParams += "&" + e.getKey() + "=" + e.getValue();
-                    }
-                }
+                    || info.equalsIgnoreCase(Constants.REQUEST_CONTROLLER.ASSETLIBRARY.name())) {
+                return getParams(params);
+            }
+            QueryStringBuilder urlParams = new QueryStringBuilder("?");
+            for (Map.Entry<String, Object> e : params.entrySet()) {
+                urlParams.param(e.getKey(), e.getValue());
             }
-            return urlParams;
+            return urlParams.toString();
         }
         return null;
     }
 
     private String getParams(HashMap<String, Object> params) {
-        String urlParams = "?";
+        QueryStringBuilder urlParams = new QueryStringBuilder("?");
         for (Map.Entry<String, Object> e : params.entrySet()) {
             String key = e.getKey();
             Object value = e.getValue();
             try {
                 if (key.equalsIgnoreCase("include[]") || key.equalsIgnoreCase("only[BASE][]")
                         || key.equalsIgnoreCase("except[BASE][]") || key.equalsIgnoreCase("asset_fields[]")) {
-                    urlParams = convertUrlParam(urlParams, value, key);
+                    urlParams.arrayParam(key, (JSONArray) value);
                 } else if (key.equalsIgnoreCase("only")) {
                     JSONObject onlyJSON = (JSONObject) value;
-                    Iterator<String> itrString = onlyJSON.keys();
-                    while (itrString.hasNext()) {
-                        String innerKey = itrString.next();
-                        JSONArray array = onlyJSON.optJSONArray(innerKey);
-                        innerKey = URLEncoder.encode("only[" + innerKey + "][]", utfType);
-                        for (int i = 0; i < array.length(); i++) {
-                            urlParams += urlParams.equals("?") ? innerKey + "=" + array.opt(i)
-                                    : "&" + innerKey + "=" + array.opt(i);
-                        }
+                    for (String innerKey : onlyJSON.keySet()) {
+                        urlParams.fieldArrayParam("only", innerKey, onlyJSON.optJSONArray(innerKey));
                     }
                 } else if (key.equalsIgnoreCase("except")) {
-                    JSONObject onlyJSON = (JSONObject) value;
-                    Iterator<String> iter = onlyJSON.keys();
-                    while (iter.hasNext()) {
-                        String innerKey = iter.next();
-                        JSONArray array = onlyJSON.optJSONArray(innerKey);
-                        innerKey = URLEncoder.encode("except[" + innerKey + "][]", utfType);
-                        for (int i = 0; i < array.length(); i++) {
-                            urlParams += urlParams.equals("?") ? innerKey + "=" + array.opt(i)
-                                    : "&" + innerKey + "=" + array.opt(i);
-                        }
+                    JSONObject exceptJSON = (JSONObject) value;
+                    for (String innerKey : exceptJSON.keySet()) {
+                        urlParams.fieldArrayParam("except", innerKey, exceptJSON.optJSONArray(innerKey));
                     }
                 } else if (key.equalsIgnoreCase("query")) {
-                    JSONObject queryJSON = (JSONObject) value;
-                    urlParams += urlParams.equals("?") ? key + "=" + URLEncoder.encode(queryJSON.toString(), utfType)
-                            : "&" + key + "=" + URLEncoder.encode(queryJSON.toString(), utfType);
+                    urlParams.encodedParam(key, ((JSONObject) value).toString());
                 } else {
-                    urlParams += urlParams.equals("?") ? key + "=" + value : "&" + key + "=" + value;
+                    urlParams.param(key, value);
                 }
             } catch (Exception e1) {
                 logger.log(Level.SEVERE, ErrorMessages.URL_PARAMETER_ENCODING_FAILED, e1);
             }
         }
-        return urlParams;
-    }
-
-    private String convertUrlParam(String urlParams, Object value, String key) throws UnsupportedEncodingException {
-        key = URLEncoder.encode(key, utfType);
-        JSONArray array = (JSONArray) value;
-        for (int i = 0; i < array.length(); i++) {
-            urlParams += urlParams.equals("?") ? key + "=" + array.opt(i) : "&" + key + "=" + array.opt(i);
-        }
-        return urlParams;
+        return urlParams.toString();
     }
 
     @Override
@@ -192,99 +202,469 @@ public class CSHttpConnection implements IURLRequestHTTP {
         }
     }
 
-    private JSONObject createOrderedJSONObject(Map<String, Object> map) {
-        JSONObject json = new JSONObject();
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            json.put(entry.getKey(), entry.getValue());
+    private void getService(String requestUrl) throws IOException {
+
+        this.headers.put(X_USER_AGENT_KEY, "contentstack-delivery-java/" + SDK_VERSION);
+        this.headers.put(USER_AGENT_KEY, USER_AGENT);
+        this.headers.put(CONTENT_TYPE, APPLICATION_JSON);
+
+        Request request = null;
+        if (this.config.plugins != null) {
+            request = pluginRequestImp(requestUrl);
+            this.headers.clear();
+            Request finalRequest = request;
+            request.headers().names().forEach(key -> {
+                this.headers.put(key, finalRequest.headers().get(key));
+            });
+            requestUrl = request.url().toString();
+        }
+
+        RequestScope scope = isStorable() ? this.stackInstance.currentScope() : null;
+        if (scope != null) {
+            // The scope memo comes first: within a scope every identical request sees the same response
+            RequestCoalescer.Flight memo = scope.memo.join(RequestCoalescer.key(requestUrl, this.headers), mayWait());
+            if (memo != null && memo.isLeader()) {
+                this.scopeFlight = memo;
+            } else if (memo != null) {
+                follow(memo);
+                return;
+            }
+        }
+
+        if (isCaching() || isRevalidating()) {
+            cacheKey = ResponseCache.key(requestUrl, this.headers);
+        }
+        if (isCaching()) {
+            ResponseCache.Hit hit = this.stackInstance.responseCache.lookup(cacheKey);
+            if (hit != null && hit.isFresh()) {
+                serveCached(hit, ResponseType.CACHE);
+                return;
+            }
+            if (hit != null && hit.isServableWhileRevalidating()) {
+                refreshInBackground(requestUrl);
+                serveCached(hit, ResponseType.STALE_WHILE_REVALIDATE);
+                return;
+            }
+            if (hit != null && hit.isServableIfError()) {
+                staleFallback = hit.value;
+            }
+        }
+
+        if (isCoalescing()) {
+            RequestCoalescer.Flight joined = this.stackInstance.requestCoalescer
+                    .join(RequestCoalescer.key(requestUrl, this.headers), mayWait());
+            if (joined != null && joined.isLeader()) {
+                this.flight = joined;
+            } else if (joined != null) {
+                follow(joined);
+                return;
+            }
+        }
+
+        Call<ResponseBody> call = this.service.getRequest(requestUrl, conditionalHeaders());
+        if (isAsync()) {
+            enqueue(call, request);
+            return;
+        }
+        try {
+            handleResponse(call.execute(), request);
+        } catch (SocketTimeoutException e) {
+            // Handle timeout
+            setNetworkError("Request timed out: " + e.getMessage());
+        } catch (IOException e) {
+            // Handle other IO exceptions
+            setNetworkError("IO error occurred: " + e.getMessage());
+        } finally {
+            abandonFlight();
         }
-        return json;
     }
 
     /**
-     * Recursively converts a parsed {@link JSONObject} into plain Java collections that
-     * mirror what the response models expect: JSON objects become {@link LinkedHashMap}
-     * (preserving key order) and JSON arrays become {@link ArrayList}.
+     * Identical requests share one network call when coalescing is enabled. Plugins and live preview can change a
+     * request or its response per caller, so those requests always go to the network on their own.
      */
-    private static Map<String, Object> jsonToOrderedMap(JSONObject object) {
-        LinkedHashMap<String, Object> map = new LinkedHashMap<>();
-        for (String key : object.keySet()) {
-            map.put(key, convertJsonValue(object.get(key)));
+    private boolean isCoalescing() {
+        return this.config != null && this.config.requestCoalescing && this.config.plugins == null
+                && !this.config.enableLivePreview && this.stackInstance != null
+                && this.stackInstance.requestCoalescer != null;
+    }
+
+    /**
+     * Responses are kept, in the cache or with their validators, except sync pages, which must always come from the
+     * network, and, as for coalescing, requests whose response plugins or live preview may change.
+     */
+    private boolean isStorable() {
+        return this.stackInstance != null && this.config.plugins == null && !this.config.enableLivePreview
+                && !Constants.FETCHSYNC.equalsIgnoreCase(this.controller);
+    }
+
+    private boolean isCaching() {
+        return isStorable() && this.stackInstance.responseCache != null;
+    }
+
+    private boolean isRevalidating() {
+        return isStorable() && this.stackInstance.validatorStore != null;
+    }
+
+    /**
+     * Adds the validators of the stored response for this request, if any, to a copy of the headers; the header
+     * map itself belongs to the caller and is reused by later requests.
+     */
+    private LinkedHashMap<String, Object> conditionalHeaders() {
+        if (isRevalidating()) {
+            revalidated = this.stackInstance.validatorStore.get(cacheKey);
+        }
+        if (revalidated == null) {
+            return this.headers;
+        }
+        LinkedHashMap<String, Object> conditional = new LinkedHashMap<>(this.headers);
+        if (revalidated.etag != null) {
+            conditional.put(IF_NONE_MATCH, revalidated.etag);
         }
-        return map;
+        if (revalidated.lastModified != null) {
+            conditional.put(IF_MODIFIED_SINCE, revalidated.lastModified);
+        }
+        return conditional;
     }
 
-    private static Object convertJsonValue(Object value) {
-        if (value == null || value == JSONObject.NULL) {
-            return null;
+    /**
+     * Completes this request from a copy of a cached response, or fails it with a cached "not found" error, on the
+     * callback executor when async callers have one.
+     */
+    private void serveCached(ResponseCache.Hit hit, ResponseType type) {
+        if (scopeFlight != null) {
+            // The cached tree is never modified, requests of the scope copy it like this one does
+            scopeFlight.complete(hit.failed ? RequestCoalescer.Outcome.failure(hit.value, hit.errorCode)
+                    : RequestCoalescer.Outcome.success(hit.value, type));
         }
-        if (value instanceof JSONObject) {
-            return jsonToOrderedMap((JSONObject) value);
+        responseType = type;
+        // Models are built from the copy, nothing is streamed
+        elementListener = null;
+        if (!isAsync() || this.config.callbackExecutor == null) {
+            finishCached(hit);
+            return;
         }
-        if (value instanceof JSONArray) {
-            JSONArray array = (JSONArray) value;
-            ArrayList<Object> list = new ArrayList<>(array.length());
-            for (int i = 0; i < array.length(); i++) {
-                list.add(convertJsonValue(array.get(i)));
+        this.config.callbackExecutor.execute(() -> {
+            try {
+                finishCached(hit);
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, ErrorMessages.CALLBACK_EXECUTION_FAILED, e);
+                failPendingFuture(e);
             }
-            return list;
+        });
+    }
+
+    private void finishCached(ResponseCache.Hit hit) {
+        responseJSON = RequestCoalescer.copy(hit.value);
+        if (hit.failed) {
+            connectionRequest.onRequestFailed(responseJSON, hit.errorCode, callBackObject, responseType);
+        } else {
+            connectionRequest.onRequestFinished(this);
         }
-        // Normalize floating-point numbers to Double to match the previous parser's output.
-        if (value instanceof BigDecimal) {
-            return ((BigDecimal) value).doubleValue();
+    }
+
+    /**
+     * Refreshes the stale cached response of this request with a request of its own, on the dispatcher, unless a
+     * refresh of it is already running. Its outcome only updates the cache.
+     */
+    private void refreshInBackground(String requestUrl) {
+        ResponseCache cache = this.stackInstance.responseCache;
+        if (!cache.startRefresh(cacheKey)) {
+            return;
+        }
+        CSHttpConnection background = new CSHttpConnection(urlPath, REFRESH_RESULT);
+        background.controller = this.controller;
+        background.headers = new LinkedHashMap<>(this.headers);
+        background.service = this.service;
+        background.config = this.config;
+        background.stackInstance = this.stackInstance;
+        background.cacheKey = this.cacheKey;
+        background.refresh = true;
+        try {
+            background.enqueue(this.service.getRequest(requestUrl, background.conditionalHeaders()), null);
+        } catch (RuntimeException e) {
+            cache.endRefresh(cacheKey);
+            throw e;
         }
-        return value;
     }
 
-    private void getService(String requestUrl) throws IOException {
+    private void endRefresh() {
+        if (refresh) {
+            this.stackInstance.responseCache.endRefresh(cacheKey);
+        }
+    }
 
-        this.headers.put(X_USER_AGENT_KEY, "contentstack-delivery-java/" + SDK_VERSION);
-        this.headers.put(USER_AGENT_KEY, USER_AGENT);
-        this.headers.put(CONTENT_TYPE, APPLICATION_JSON);
+    /**
+     * Fails this request after a network error, a timeout or a 5xx status, unless a stale cached response may be
+     * served instead.
+     */
+    private void setNetworkError(String errResp) {
+        if (!serveStaleIfError()) {
+            setError(errResp);
+        }
+    }
 
-        Request request = null;
-        if (this.config.plugins != null) {
-            request = pluginRequestImp(requestUrl);
-            this.headers.clear();
-            Request finalRequest = request;
-            request.headers().names().forEach(key -> {
-                this.headers.put(key, finalRequest.headers().get(key));
-            });
-            requestUrl = request.url().toString();
+    private boolean serveStaleIfError() {
+        if (staleFallback == null) {
+            return false;
         }
+        // The cached tree is never modified, joined requests copy it like this one does
+        completeFlights(RequestCoalescer.Outcome.success(staleFallback, ResponseType.STALE_IF_ERROR));
+        responseType = ResponseType.STALE_IF_ERROR;
+        elementListener = null;
+        responseJSON = RequestCoalescer.copy(staleFallback);
+        connectionRequest.onRequestFinished(this);
+        return true;
+    }
 
-        try {
-            Response<ResponseBody> response = this.service.getRequest(requestUrl, this.headers).execute();
-            if (response.isSuccessful()) {
-                assert response.body() != null;
-                if (request != null) {
-                    response = pluginResponseImp(request, response);
+    /**
+     * A blocking request must not wait for a flight still in progress when a callback executor is set: the leader
+     * completes the flight from that executor, which may be the very thread this request would block. It only joins
+     * completed flights then, and otherwise makes its own request.
+     */
+    private boolean mayWait() {
+        return isAsync() || this.config.callbackExecutor == null;
+    }
+
+    /**
+     * Completes this request from the response of an identical request that is already in flight, or that was
+     * already made in the current {@link RequestScope}.
+     */
+    private void follow(RequestCoalescer.Flight joined) {
+        // Models are built from this caller's own copy of the response
+        elementListener = null;
+        if (!isAsync()) {
+            finishJoined(joined.outcome().join());
+            return;
+        }
+        Executor executor = this.config.callbackExecutor != null ? this.config.callbackExecutor
+                : this.stackInstance.requestCoalescer.executor();
+        joined.outcome().thenAcceptAsync(outcome -> {
+            try {
+                finishJoined(outcome);
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, ErrorMessages.CALLBACK_EXECUTION_FAILED, e);
+                failPendingFuture(e);
+            }
+        }, executor);
+    }
+
+    private void finishJoined(RequestCoalescer.Outcome outcome) {
+        if (scopeFlight != null) {
+            // The published tree is never modified, requests of the scope copy it like this one does
+            scopeFlight.complete(outcome);
+        }
+        responseJSON = RequestCoalescer.copy(outcome.response);
+        responseType = outcome.responseType;
+        if (outcome.failed) {
+            connectionRequest.onRequestFailed(responseJSON, outcome.errorCode, callBackObject, outcome.responseType);
+        } else {
+            connectionRequest.onRequestFinished(this);
+        }
+    }
+
+    /**
+     * Publishes the decoded response to the requests that joined this one. They copy the published tree, so when
+     * there are any this request switches to a copy of its own before callbacks can modify it.
+     */
+    private boolean publishResponse() {
+        if (completeFlights(RequestCoalescer.Outcome.success(responseJSON))) {
+            responseJSON = RequestCoalescer.copy(responseJSON);
+            elementListener = null;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Keeps the decoded response in the cache and, when it came with validators, in the validator store. The
+     * published tree is never modified, so both can share it; otherwise they share a copy, as this request's
+     * callbacks work on the decoded tree.
+     */
+    private void storeResponse(JSONObject decoded, boolean published, long weight, Headers headers) {
+        String etag = headers.get(ETAG);
+        String lastModified = headers.get(LAST_MODIFIED);
+        boolean validated = isRevalidating() && (etag != null || lastModified != null);
+        JSONObject stored = published || !(isCaching() || validated) ? decoded : RequestCoalescer.copy(decoded);
+        if (isCaching()) {
+            ResponseCache cache = this.stackInstance.responseCache;
+            if (cache.isNegativeCaching() && isEmptyResult(decoded)) {
+                cache.putEmpty(cacheKey, stored, weight);
+            } else {
+                cache.put(cacheKey, stored, weight);
+            }
+        }
+        if (isRevalidating()) {
+            this.stackInstance.validatorStore.put(cacheKey, etag, lastModified, stored, weight);
+        }
+    }
+
+    /**
+     * A query result without any entry or asset.
+     */
+    private static boolean isEmptyResult(JSONObject response) {
+        JSONArray results = response.optJSONArray("entries");
+        if (results == null) {
+            results = response.optJSONArray("assets");
+        }
+        return results != null && results.isEmpty();
+    }
+
+    /**
+     * A request for an entry, asset or content type that does not exist: 404 or 410, or the 422 Contentstack
+     * answers for an unknown entry UID (error code 141) or asset UID (error code 145).
+     */
+    private static boolean isNotFound(int status, int errorCode) {
+        return status == 404 || status == 410 || (status == 422 && (errorCode == 141 || errorCode == 145));
+    }
+
+    /**
+     * Completes this request from the stored response its validators matched; there is no body to read.
+     */
+    private void finishNotModified(Response<ResponseBody> response) {
+        if (response.errorBody() != null) {
+            response.errorBody().close();
+        }
+        elementListener = null;
+        JSONObject stored = revalidated.value;
+        // The stored tree is never modified, joined requests copy it like this one does
+        completeFlights(RequestCoalescer.Outcome.success(stored));
+        responseJSON = RequestCoalescer.copy(stored);
+        if (isCaching()) {
+            this.stackInstance.responseCache.put(cacheKey, stored, revalidated.weight);
+        }
+        connectionRequest.onRequestFinished(this);
+    }
+
+    /**
+     * Joined requests must never be left waiting, whatever happened to the request they joined.
+     */
+    private void abandonFlight() {
+        if ((flight != null && !flight.isCompleted()) || (scopeFlight != null && !scopeFlight.isCompleted())) {
+            completeFlights(RequestCoalescer.Outcome.failure(errorJSON(ErrorMessages.COALESCED_REQUEST_FAILED), 0));
+        }
+    }
+
+    /**
+     * Completes the flight this request leads, if any, and its flight in the current {@link RequestScope}.
+     *
+     * @return true if the outcome was published to other requests
+     */
+    private boolean completeFlights(RequestCoalescer.Outcome outcome) {
+        boolean joined = flight != null && flight.complete(outcome);
+        return (scopeFlight != null && scopeFlight.complete(outcome)) || joined;
+    }
+
+    /**
+     * Requests are enqueued on the HTTP dispatcher instead of being executed on the caller's thread when async
+     * requests are enabled on the {@link Config}, or when the callback backs a future returned by the async API.
+     */
+    boolean isAsync() {
+        return (this.config != null && this.config.asyncRequests)
+                || this.callBackObject instanceof FutureCallbacks.NonBlocking;
+    }
+
+    private void enqueue(Call<ResponseBody> call, Request request) {
+        call.enqueue(new Callback<ResponseBody>() {
+            @Override
+            public void onResponse(@NotNull Call<ResponseBody> call, @NotNull Response<ResponseBody> response) {
+                try {
+                    handleResponse(response, request);
+                } catch (SocketTimeoutException e) {
+                    setNetworkError("Request timed out: " + e.getMessage());
+                } catch (IOException e) {
+                    setNetworkError("IO error occurred: " + e.getMessage());
+                } catch (RuntimeException e) {
+                    // Nothing up the stack to rethrow to on a dispatcher thread; don't lose it silently
+                    logger.log(Level.SEVERE, ErrorMessages.CALLBACK_EXECUTION_FAILED, e);
+                    failPendingFuture(e);
+                } finally {
+                    abandonFlight();
+                    endRefresh();
                 }
+            }
+
+            @Override
+            public void onFailure(@NotNull Call<ResponseBody> call, @NotNull Throwable t) {
                 try {
-                    // Parse the JSON into ordered maps/lists using org.json. Nested objects
-                    // become LinkedHashMap and arrays become ArrayList, matching the shape
-                    // the response models expect.
-                    Map<String, Object> responseMap = jsonToOrderedMap(new JSONObject(response.body().string()));
-
-                    // Use the custom method to create an ordered JSONObject
-                    responseJSON = createOrderedJSONObject(responseMap);
-                    if (this.config.livePreviewEntry != null && !this.config.livePreviewEntry.isEmpty()) {
-                        handleJSONArray();
+                    if (t instanceof SocketTimeoutException) {
+                        setNetworkError("Request timed out: " + t.getMessage());
+                    } else {
+                        setNetworkError("IO error occurred: " + t.getMessage());
                     }
-                    connectionRequest.onRequestFinished(CSHttpConnection.this);
-                } catch (JSONException e) {
-                    // Handle non-JSON response
-                    setError(ErrorMessages.INVALID_JSON_RESPONSE);
+                } catch (RuntimeException e) {
+                    logger.log(Level.SEVERE, ErrorMessages.CALLBACK_EXECUTION_FAILED, e);
+                } finally {
+                    abandonFlight();
+                    endRefresh();
                 }
-            } else {
-                assert response.errorBody() != null;
-                setError(response.errorBody().string());
             }
-        } catch (SocketTimeoutException e) {
-            // Handle timeout
-            setError("Request timed out: " + e.getMessage());
-        } catch (IOException e) {
-            // Handle other IO exceptions
-            setError("IO error occurred: " + e.getMessage());
+        });
+    }
+
+    /**
+     * A future must not be left pending because response handling threw; user callbacks are not re-invoked.
+     */
+    private void failPendingFuture(RuntimeException e) {
+        if (this.callBackObject instanceof FutureCallbacks.NonBlocking) {
+            this.callBackObject.onRequestFail(ResponseType.NETWORK, new Error(e.toString(), 0, null));
+        }
+    }
+
+    private void handleResponse(Response<ResponseBody> response, Request request) throws IOException {
+        if (response.isSuccessful()) {
+            assert response.body() != null;
+            if (request != null) {
+                response = pluginResponseImp(request, response);
+            }
+            ResponseCache.CountingSource counted = cacheKey != null
+                    ? new ResponseCache.CountingSource(response.body().source()) : null;
+            try (BufferedSource body = counted != null ? Okio.buffer(counted) : response.body().source()) {
+                boolean livePreview = this.config.livePreviewEntry != null && !this.config.livePreviewEntry.isEmpty();
+                if (livePreview) {
+                    // Live preview rewrites the decoded entries, so models can't be built while streaming
+                    elementListener = null;
+                }
+                responseJSON = this.config.jsonCodec.decode(body, elementListener);
+                // The body is streamed: reading it to the end lets the disk cache commit it before callbacks run
+                body.readAll(Okio.blackhole());
+                if (livePreview) {
+                    handleJSONArray();
+                }
+                JSONObject decoded = responseJSON;
+                boolean published = publishResponse();
+                if (counted != null) {
+                    storeResponse(decoded, published, counted.count(), response.headers());
+                }
+                connectionRequest.onRequestFinished(CSHttpConnection.this);
+            } catch (JSONException e) {
+                // Handle non-JSON response
+                setError(ErrorMessages.INVALID_JSON_RESPONSE);
+            }
+        } else if (response.code() == 304 && revalidated != null) {
+            finishNotModified(response);
+        } else if (response.code() >= 500 && staleFallback != null) {
+            response.errorBody().close();
+            serveStaleIfError();
+        } else {
+            assert response.errorBody() != null;
+            String errorBody = response.errorBody().string();
+            JSONObject error = errorJSON(errorBody);
+            if (isCaching() && response.code() < 500 && response.code() != 408 && response.code() != 429) {
+                ResponseCache cache = this.stackInstance.responseCache;
+                if (cache.isNegativeCaching() && isNotFound(response.code(), errorCode(error))) {
+                    cache.putMissing(cacheKey, RequestCoalescer.copy(error), errorBody.length(), errorCode(error));
+                } else {
+                    // The server no longer serves the cached response, it must not be served stale either
+                    cache.remove(cacheKey);
+                }
+            }
+            if (this.stackInstance != null && this.stackInstance.uidFilter != null
+                    && isNotFound(response.code(), errorCode(error))
+                    && (Constants.FETCHENTRY.equals(controller) || Constants.FETCHASSETS.equals(controller))) {
+                this.stackInstance.uidFilter.onNotFound(Constants.FETCHASSETS.equals(controller), RequestCoalescer.copy(error));
+            }
+            fail(error);
         }
     }
 
@@ -335,27 +715,52 @@ public class CSHttpConnection implements IURLRequestHTTP {
     }
 
     void setError(String errResp) {
-        
+        fail(errorJSON(errResp));
+    }
+
+    private void fail(JSONObject error) {
+        responseJSON = error;
+        int errCode = errorCode(error);
+        if (completeFlights(RequestCoalescer.Outcome.failure(responseJSON, errCode))) {
+            responseJSON = RequestCoalescer.copy(responseJSON);
+        }
+        connectionRequest.onRequestFailed(responseJSON, errCode, callBackObject);
+    }
+
+    private static int errorCode(JSONObject error) {
+        try {
+            return Integer.parseInt(error.optString(ERROR_CODE, "0"));
+        } catch (NumberFormatException e) {
+            // Default error code remains 0 if parsing fails
+            return 0;
+        }
+    }
+
+    private static JSONObject errorJSON(String errResp) {
         if (errResp == null || errResp.trim().isEmpty()) {
             errResp = "Unexpected error: No response received from server.";
         }
+        JSONObject error;
         try {
-            responseJSON = new JSONObject(errResp);
+            error = new JSONObject(errResp);
         } catch (JSONException e) {
             // If errResp is not valid JSON, create a new JSONObject with the error message
-            responseJSON = new JSONObject();
-            responseJSON.put(ERROR_MESSAGE, errResp);
+            error = new JSONObject();
+            error.put(ERROR_MESSAGE, errResp);
         }
-        responseJSON.put(ERROR_MESSAGE, responseJSON.optString(ERROR_MESSAGE, "An unknown error occurred."));
-        responseJSON.put(ERROR_CODE, responseJSON.optString(ERROR_CODE, "0"));
-        responseJSON.put(ERRORS, responseJSON.optString(ERRORS, "No additional error details available."));
-        int errCode = 0;
-        try {
-            errCode = Integer.parseInt(responseJSON.optString(ERROR_CODE, "0"));
-        } catch (NumberFormatException e) {
-            // Default error code remains 0 if parsing fails
-        }
-        connectionRequest.onRequestFailed(responseJSON, errCode, callBackObject);
+        error.put(ERROR_MESSAGE, error.optString(ERROR_MESSAGE, "An unknown error occurred."));
+        error.put(ERROR_CODE, error.optString(ERROR_CODE, "0"));
+        error.put(ERRORS, error.optString(ERRORS, "No additional error details available."));
+        return error;
+    }
+
+    /**
+     * Returns whether the response came from the network or from the cache.
+     *
+     * @return the response type
+     */
+    ResponseType getResponseType() {
+        return responseType;
     }
 
     public void setAPIService(APIService service) {
@@ -0,0 +1,366 @@
+package com.contentstack.sdk;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration for the in-memory response cache of a stack. Set it with {@link Config#setCacheOptions(CacheOptions)}
+ * before creating the stack; the cache is disabled when no options are set.
+ *
+ * <p>Responses are cached by request URL, with its query parameters in a stable order, together with the request
+ * headers, so requests for different locales, branches, environments or variants never share an entry. A cached
+ * response is served until it is older than the time-to-live, and the cache holds at most the configured weight of
+ * response bytes. Results served from the cache are reported with {@link ResponseType#CACHE}.
+ *
+ * <p>Expired responses can still be served for a while: with {@link #setStaleWhileRevalidate(long, TimeUnit)} the
+ * stale response is returned at once while a single background request refreshes it, and with
+ * {@link #setStaleIfError(long, TimeUnit)} it is returned when the request fails with a network error, a timeout
+ * or a 5xx status, once the retries of the {@link RetryOptions} are exhausted.
+ *
+ * <p>Requests for content that does not exist can be absorbed too: {@link #setNegativeTimeToLive(long, TimeUnit)}
+ * caches "not found" errors and empty query results for a short time, and {@link #setUidFilter(int, double)} keeps
+ * a Bloom filter of the entry and asset UIDs seen by sync, so fetches of unknown UIDs shortly after a sync fail
+ * without a request.
+ *
+ * <p><b>Example Usage:</b>
+ * <pre>{@code
+ * CacheOptions cacheOptions = new CacheOptions()
+ *     .setMaxWeight(64L * 1024 * 1024)
+ *     .setTimeToLive(10, TimeUnit.MINUTES);
+ * Config config = new Config().setCacheOptions(cacheOptions);
+ * }</pre>
+ */
+public class CacheOptions {
+
+    /** Default maximum weight, in bytes of response body */
+    private static final long DEFAULT_MAX_WEIGHT = 32L * 1024 * 1024;
+
+    /** Default time-to-live in milliseconds */
+    private static final long DEFAULT_TIME_TO_LIVE_MS = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * Maximum total weight of the cached responses, in bytes of response body.
+     */
+    private long maxWeight = DEFAULT_MAX_WEIGHT;
+
+    /**
+     * How long a response is served from the cache after it was received.
+     */
+    private long timeToLiveMs = DEFAULT_TIME_TO_LIVE_MS;
+
+    /**
+     * Policy choosing which response to drop when the cache is full.
+     */
+    private EvictionPolicy evictionPolicy = EvictionPolicy.W_TINY_LFU;
+
+    /**
+     * How long after its time-to-live a response may still be served while it is refreshed in the background.
+     */
+    private long staleWhileRevalidateMs = 0;
+
+    /**
+     * How long after its time-to-live a response may still be served when the network request for it fails.
+     */
+    private long staleIfErrorMs = 0;
+
+    /**
+     * How long "not found" errors and empty results are cached.
+     */
+    private long negativeTimeToLiveMs = 0;
+
+    /**
+     * Number of UIDs the sync-populated UID filter is sized for; 0 disables the filter.
+     */
+    private int uidFilterExpectedUids = 0;
+
+    /**
+     * False positive rate of the UID filter at its expected number of UIDs.
+     */
+    private double uidFilterFalsePositiveRate = 0.01;
+
+    /**
+     * How long after a sync the UID filter reports UIDs it has not seen as missing.
+     */
+    private long uidFilterMaxAgeMs = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * Defines which responses are kept when the cache is full.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Least recently used - drops the response that was read the longest time ago.
+         * <p>Simple and predictable, but a single scan over many one-off requests (a full pagination, for example)
+         * flushes the responses that are read all the time.
+         */
+        LRU,
+
+        /**
+         * Window TinyLFU - new responses enter a small LRU window; when they leave it, they only replace a response
+         * of the main area if they have been requested more often recently. Request frequencies are tracked in a
+         * compact, periodically aged sketch.
+         * <p><b>Recommended for most use cases</b> as it keeps hit rates high under scans and skewed traffic.
+         */
+        W_TINY_LFU
+    }
+
+    /**
+     * Creates CacheOptions with default configuration.
+     * <p>Defaults: 32 MB maximum weight, 5 minutes time-to-live, W-TinyLFU eviction.
+     */
+    public CacheOptions() {
+    }
+
+    /**
+     * Sets the maximum total weight of the cached responses. A response weighs as many bytes as its body; responses
+     * heavier than the maximum are never cached.
+     *
+     * @param maxWeight maximum weight in bytes (must be positive)
+     * @return this CacheOptions instance for method chaining
+     * @throws IllegalArgumentException if the weight is not positive
+     */
+    public CacheOptions setMaxWeight(long maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException(
+                    "Cache max weight must be positive. Provided: " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+        return this;
+    }
+
+    /**
+     * Sets how long a response is served from the cache after it was received.
+     *
+     * @param duration time-to-live (must be positive)
+     * @param unit     unit of the duration
+     * @return this CacheOptions instance for method chaining
+     * @throws IllegalArgumentException if the duration is not positive
+     * @throws NullPointerException     if unit is null
+     */
+    public CacheOptions setTimeToLive(long duration, TimeUnit unit) {
+        Objects.requireNonNull(unit, "Time unit cannot be null");
+        if (duration <= 0) {
+            throw new IllegalArgumentException(
+                    "Cache time-to-live must be positive. Provided: " + duration + " " + unit);
+        }
+        this.timeToLiveMs = unit.toMillis(duration);
+        return this;
+    }
+
+    /**
+     * Sets the eviction policy.
+     *
+     * @param evictionPolicy eviction policy (LRU or W_TINY_LFU)
+     * @return this CacheOptions instance for method chaining
+     * @throws NullPointerException if the policy is null
+     */
+    public CacheOptions setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        this.evictionPolicy = Objects.requireNonNull(evictionPolicy, "Eviction policy cannot be null");
+        return this;
+    }
+
+    /**
+     * Lets a response that has outlived its time-to-live be served for up to the given staleness while one
+     * background request refreshes it. Such results are reported with {@link ResponseType#STALE_WHILE_REVALIDATE}.
+     *
+     * @param maxStaleness how long after expiring a response may be served, 0 to disable
+     * @param unit         unit of the duration
+     * @return this CacheOptions instance for method chaining
+     * @throws IllegalArgumentException if the duration is negative
+     * @throws NullPointerException     if unit is null
+     */
+    public CacheOptions setStaleWhileRevalidate(long maxStaleness, TimeUnit unit) {
+        this.staleWhileRevalidateMs = staleness("Stale-while-revalidate", maxStaleness, unit);
+        return this;
+    }
+
+    /**
+     * Lets a response that has outlived its time-to-live be served for up to the given staleness when the request
+     * for it fails with a network error, a timeout or a 5xx status. Such results are reported with
+     * {@link ResponseType#STALE_IF_ERROR}.
+     *
+     * @param maxStaleness how long after expiring a response may be served, 0 to disable
+     * @param unit         unit of the duration
+     * @return this CacheOptions instance for method chaining
+     * @throws IllegalArgumentException if the duration is negative
+     * @throws NullPointerException     if unit is null
+     */
+    public CacheOptions setStaleIfError(long maxStaleness, TimeUnit unit) {
+        this.staleIfErrorMs = staleness("Stale-if-error", maxStaleness, unit);
+        return this;
+    }
+
+    /**
+     * Caches "not found" errors (404, 410, and Contentstack's 422 with error code 141) and query results without
+     * entries or assets for the given time, which is usually much shorter than the time-to-live. Such responses are
+     * never served stale. Cached errors are reported to the callback's failure path with {@link ResponseType#CACHE}.
+     *
+     * @param duration time-to-live of negative results, 0 to cache empty results like any other and errors never
+     * @param unit     unit of the duration
+     * @return this CacheOptions instance for method chaining
+     * @throws IllegalArgumentException if the duration is negative
+     * @throws NullPointerException     if unit is null
+     */
+    public CacheOptions setNegativeTimeToLive(long duration, TimeUnit unit) {
+        Objects.requireNonNull(unit, "Time unit cannot be null");
+        if (duration < 0) {
+            throw new IllegalArgumentException(
+                    "Negative time-to-live cannot be negative. Provided: " + duration + " " + unit);
+        }
+        this.negativeTimeToLiveMs = unit.toMillis(duration);
+        return this;
+    }
+
+    /**
+     * Keeps a Bloom filter of the UIDs of the entries and assets published in sync responses, trusted for one minute
+     * after each sync, see {@link #setUidFilter(int, double, long, TimeUnit)}.
+     *
+     * @param expectedUids      number of UIDs the filter is sized for, 0 to disable it
+     * @param falsePositiveRate share of unknown UIDs still sent to the network at that size, between 0 and 1
+     * @return this CacheOptions instance for method chaining
+     * @throws IllegalArgumentException if the size is negative or the rate is not between 0 and 1
+     */
+    public CacheOptions setUidFilter(int expectedUids, double falsePositiveRate) {
+        return setUidFilter(expectedUids, falsePositiveRate, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Keeps a Bloom filter of the UIDs of the entries and assets published in sync responses. Once an initial
+     * sync of the whole stack ({@code Stack.sync}) has been followed to its sync token, {@code Entry.fetch} and
+     * {@code Asset.fetch} of a UID the filter has never seen fail at once with {@link ResponseType#CACHE}, instead of
+     * going to the network, with the error the server last returned for a missing entry or asset. Until the server
+     * has reported one missing, and once the maximum age has passed since the last sync ({@code Stack.sync} or
+     * {@code Stack.syncToken}), fetches go to the network as usual, so content published since the last sync is
+     * found.
+     *
+     * @param expectedUids      number of UIDs the filter is sized for, 0 to disable it
+     * @param falsePositiveRate share of unknown UIDs still sent to the network at that size, between 0 and 1
+     * @param maxAge            how long after a sync unknown UIDs are reported missing
+     * @param unit              the time unit of maxAge
+     * @return this CacheOptions instance for method chaining
+     * @throws IllegalArgumentException if the size or age is negative or the rate is not between 0 and 1
+     * @throws NullPointerException     if unit is null
+     */
+    public CacheOptions setUidFilter(int expectedUids, double falsePositiveRate, long maxAge, TimeUnit unit) {
+        Objects.requireNonNull(unit, "Time unit cannot be null");
+        if (expectedUids < 0) {
+            throw new IllegalArgumentException(
+                    "UID filter size cannot be negative. Provided: " + expectedUids);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException(
+                    "UID filter false positive rate must be between 0 and 1. Provided: " + falsePositiveRate);
+        }
+        if (maxAge < 0) {
+            throw new IllegalArgumentException(
+                    "UID filter maximum age cannot be negative. Provided: " + maxAge + " " + unit);
+        }
+        this.uidFilterExpectedUids = expectedUids;
+        this.uidFilterFalsePositiveRate = falsePositiveRate;
+        this.uidFilterMaxAgeMs = unit.toMillis(maxAge);
+        return this;
+    }
+
+    private static long staleness(String name, long maxStaleness, TimeUnit unit) {
+        Objects.requireNonNull(unit, "Time unit cannot be null");
+        if (maxStaleness < 0) {
+            throw new IllegalArgumentException(
+                    name + " staleness cannot be negative. Provided: " + maxStaleness + " " + unit);
+        }
+        return unit.toMillis(maxStaleness);
+    }
+
+    /**
+     * Returns the maximum total weight of the cached responses.
+     *
+     * @return maximum weight in bytes
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Returns the time-to-live of a cached response.
+     *
+     * @return time-to-live in milliseconds
+     */
+    public long getTimeToLiveMs() {
+        return timeToLiveMs;
+    }
+
+    /**
+     * Returns the eviction policy.
+     *
+     * @return eviction policy
+     */
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * Returns how long after expiring a response may be served while it is refreshed.
+     *
+     * @return maximum staleness in milliseconds, 0 when disabled
+     */
+    public long getStaleWhileRevalidateMs() {
+        return staleWhileRevalidateMs;
+    }
+
+    /**
+     * Returns how long after expiring a response may be served when the request for it fails.
+     *
+     * @return maximum staleness in milliseconds, 0 when disabled
+     */
+    public long getStaleIfErrorMs() {
+        return staleIfErrorMs;
+    }
+
+    /**
+     * Returns the time-to-live of "not found" errors and empty results.
+     *
+     * @return time-to-live in milliseconds, 0 when negative caching is disabled
+     */
+    public long getNegativeTimeToLiveMs() {
+        return negativeTimeToLiveMs;
+    }
+
+    /**
+     * Returns the number of UIDs the UID filter is sized for.
+     *
+     * @return expected UIDs, 0 when the filter is disabled
+     */
+    public int getUidFilterExpectedUids() {
+        return uidFilterExpectedUids;
+    }
+
+    /**
+     * Returns the false positive rate of the UID filter.
+     *
+     * @return false positive rate at the expected number of UIDs
+     */
+    public double getUidFilterFalsePositiveRate() {
+        return uidFilterFalsePositiveRate;
+    }
+
+    /**
+     * Returns how long after a sync the UID filter reports unknown UIDs missing.
+     *
+     * @return maximum age in milliseconds
+     */
+    public long getUidFilterMaxAge() {
+        return uidFilterMaxAgeMs;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheOptions{" +
+                "maxWeight=" + maxWeight +
+                ", timeToLiveMs=" + timeToLiveMs +
+                ", evictionPolicy=" + evictionPolicy +
+                ", staleWhileRevalidateMs=" + staleWhileRevalidateMs +
+                ", staleIfErrorMs=" + staleIfErrorMs +
+                ", negativeTimeToLiveMs=" + negativeTimeToLiveMs +
+                ", uidFilterExpectedUids=" + uidFilterExpectedUids +
+                ", uidFilterMaxAgeMs=" + uidFilterMaxAgeMs +
+                '}';
+    }
+}
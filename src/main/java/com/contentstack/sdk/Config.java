@@ -1,11 +1,15 @@
 package com.contentstack.sdk;
 
+import okhttp3.Cache;
 import okhttp3.ConnectionPool;
 import org.jetbrains.annotations.NotNull;
 import org.json.JSONObject;
 
+import java.io.File;
 import java.net.Proxy;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -33,6 +37,22 @@ public class Config {
     protected String[] earlyAccess = null;
     protected ConnectionPool connectionPool = new ConnectionPool();
     protected RetryOptions retryOptions = new RetryOptions();
+    protected boolean asyncRequests = false;
+    protected ExecutorService executorService = null;
+    protected Executor callbackExecutor = null;
+    protected int maxRequests = 64;
+    protected int maxRequestsPerHost = 5;
+    protected boolean virtualThreads = false;
+    protected JsonCodec jsonCodec = JsonCodec.STREAMING;
+    protected SyncStack.SanitizeMode syncSanitizeMode = SyncStack.SanitizeMode.TOP_LEVEL;
+    protected boolean requestCoalescing = false;
+    protected CacheOptions cacheOptions = null;
+    protected ReplicaOptions replicaOptions = null;
+    protected boolean conditionalRequests = false;
+    protected long validatorStoreMaxWeight = 16L * 1024 * 1024;
+    protected Cache diskCache = null;
+    protected long diskCacheFreshnessMs = 0;
+    protected long fetchBatchWindowMs = 0;
     public String releaseId;
     public String previewTimestamp;
 
@@ -151,6 +171,405 @@ public class Config {
         return this.retryOptions;
     }
 
+    /**
+     * Enables non-blocking request execution. When enabled, calls such as {@code Query.find}, {@code Entry.fetch},
+     * {@code AssetLibrary.fetchAll} and {@code Stack.sync} return immediately after the request is handed to the
+     * HTTP dispatcher, and the callback is invoked once the response arrives instead of on the calling thread.
+     * <p>
+     * Disabled by default, so existing code that relies on the callback having run by the time the call returns keeps
+     * working unchanged.
+     *
+     * @param asyncRequests true to enqueue requests instead of executing them on the caller's thread
+     * @return the config
+     */
+    public Config enableAsyncRequests(boolean asyncRequests) {
+        this.asyncRequests = asyncRequests;
+        return this;
+    }
+
+    /**
+     * Returns whether requests are enqueued on the HTTP dispatcher.
+     *
+     * @return true if async requests are enabled
+     */
+    public boolean isAsyncRequests() {
+        return this.asyncRequests;
+    }
+
+    /**
+     * Sets the executor the HTTP dispatcher uses to run enqueued calls. When not set, OkHttp's default cached thread
+     * pool is used. The executor is owned by the caller and is not shut down by the SDK.
+     *
+     * @param executorService the executor service used for network I/O
+     * @return the config
+     */
+    public Config setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    /**
+     * Gets the executor used by the HTTP dispatcher.
+     *
+     * @return the executor service, or null when the default is used
+     */
+    public ExecutorService getExecutorService() {
+        return this.executorService;
+    }
+
+    /**
+     * Runs dispatched requests on virtual threads (one per request) when the JVM supports them (Java 21+). On older
+     * JVMs the option is ignored and the default platform thread pool is used. An executor set through
+     * {@link #setExecutorService(ExecutorService)} takes precedence.
+     * <p>
+     * Virtual threads are used by requests that go through the dispatcher, that is when
+     * {@link #enableAsyncRequests(boolean)} is set or when the {@code *Async} and {@code stream} APIs are used; this
+     * includes the backoff sleeps of the retry interceptor. Raise {@link #setMaxRequests(int, int)} to let more
+     * requests run concurrently.
+     *
+     * @param virtualThreads true to use virtual threads when available
+     * @return the config
+     */
+    public Config enableVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    /**
+     * Returns whether virtual threads were requested.
+     *
+     * @return true if virtual threads are enabled
+     */
+    public boolean isVirtualThreads() {
+        return this.virtualThreads;
+    }
+
+    /**
+     * Lets concurrent identical requests share one network call. While a request for a URL is in flight, further
+     * requests for the same URL with the same headers (API key, tokens, environment, branch, ...) wait for its
+     * response instead of going to the network. Each caller still gets its own copy of the result, so callbacks
+     * can modify it freely.
+     * <p>
+     * Disabled by default. Requests are never coalesced when plugins are set or live preview is enabled.
+     *
+     * @param requestCoalescing true to coalesce identical in-flight requests
+     * @return the config
+     */
+    public Config enableRequestCoalescing(boolean requestCoalescing) {
+        this.requestCoalescing = requestCoalescing;
+        return this;
+    }
+
+    /**
+     * Returns whether identical in-flight requests are coalesced.
+     *
+     * @return true if request coalescing is enabled
+     */
+    public boolean isRequestCoalescing() {
+        return this.requestCoalescing;
+    }
+
+    /**
+     * Enables the in-memory response cache. Successful responses are cached per request URL and headers, so different
+     * locales, branches, environments and variants never share an entry, and served until the time-to-live of the
+     * options has passed; results served from the cache are reported with {@link ResponseType#CACHE}. Set the
+     * options before creating the stack.
+     * <p>
+     * Disabled by default. Sync requests are never cached, and nothing is cached when plugins are set or live
+     * preview is enabled. Cache hits complete on the calling thread, or on the callback executor when async
+     * requests are enabled and one is set.
+     *
+     * @param cacheOptions the cache options, or null to disable the cache
+     * @return the config
+     */
+    public Config setCacheOptions(CacheOptions cacheOptions) {
+        this.cacheOptions = cacheOptions;
+        return this;
+    }
+
+    /**
+     * Gets the cache options.
+     *
+     * @return the cache options, or null when the cache is disabled
+     */
+    public CacheOptions getCacheOptions() {
+        return this.cacheOptions;
+    }
+
+    /**
+     * Enables the local replica: the entries and assets returned by sync are kept in memory, and in a file when
+     * the options have one, and {@code Entry.fetch} / {@code Asset.fetch} are answered from them with
+     * {@link ResponseType#REPLICA}. Once a full sync has completed, queries the replica supports run on it too,
+     * see {@link LocalQueryPlan}. Read it with {@link Stack#getReplica()}. Set the options before creating the
+     * stack.
+     * <p>
+     * Disabled by default. Fetches only use the replica when it holds the entry or asset and the fetch asks for
+     * nothing the synced version lacks: no references, field projections, variants or include parameters other
+     * than the locale. Live preview fetches always go to the network.
+     *
+     * @param replicaOptions the replica options, or null to disable the replica
+     * @return the config
+     */
+    public Config setReplicaOptions(ReplicaOptions replicaOptions) {
+        this.replicaOptions = replicaOptions;
+        return this;
+    }
+
+    /**
+     * Gets the replica options.
+     *
+     * @return the replica options, or null when the replica is disabled
+     */
+    public ReplicaOptions getReplicaOptions() {
+        return this.replicaOptions;
+    }
+
+    /**
+     * Stores HTTP responses on disk with OkHttp's cache, so they survive restarts: a new process starts with the
+     * cached responses instead of downloading them again. Responses are served from disk while their
+     * {@code Cache-Control} allows, or for the window set with {@link #setDiskCacheFreshness(long, TimeUnit)}, and
+     * revalidated with the CDN afterwards. Cached responses only match requests of the same stack, environment,
+     * branch and variants; the cache holds one response per URL, so requests that differ only in those replace
+     * each other's response. Set this before creating the stack; stacks created from this config share the cache.
+     * <p>
+     * Only one cache may use a directory at a time. Disabled by default.
+     *
+     * @param directory the directory the cache writes to, created if needed
+     * @param maxSize   the maximum size of the cache, in bytes
+     * @return the config
+     * @throws IllegalArgumentException if the directory is null or the size is less than 1
+     */
+    public Config setDiskCache(File directory, long maxSize) {
+        if (directory == null || maxSize < 1) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_DISK_CACHE);
+        }
+        this.diskCache = new Cache(directory, maxSize);
+        return this;
+    }
+
+    /**
+     * Gets the disk cache.
+     *
+     * @return the disk cache, or null when it is disabled
+     */
+    public Cache getDiskCache() {
+        return this.diskCache;
+    }
+
+    /**
+     * Serves responses from the disk cache for the given time after they were received, whatever their
+     * {@code Cache-Control} says. Sync responses always keep the CDN's caching headers.
+     *
+     * @param duration the freshness window, 0 to follow the CDN's {@code Cache-Control}
+     * @param unit     the unit of the duration
+     * @return the config
+     * @throws IllegalArgumentException if the duration is negative
+     */
+    public Config setDiskCacheFreshness(long duration, TimeUnit unit) {
+        if (duration < 0) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_DISK_CACHE_FRESHNESS);
+        }
+        this.diskCacheFreshnessMs = unit.toMillis(duration);
+        return this;
+    }
+
+    /**
+     * Gets the forced freshness window of the disk cache.
+     *
+     * @return the freshness window in milliseconds, 0 when the CDN's {@code Cache-Control} is followed
+     */
+    public long getDiskCacheFreshnessMs() {
+        return this.diskCacheFreshnessMs;
+    }
+
+    /**
+     * Batches entry fetches. {@code Entry.fetch} calls made within the window for entries of the same content type,
+     * with the same locale, variant and other parameters, are sent as one {@code containedIn("uid", ...)} query, and
+     * each callback receives its own entry; an entry the query does not return is then fetched on its own, so its
+     * callback gets the server's error. A batch is sent as soon as it holds 100 entries. Only fetches that do not
+     * block their caller are batched, that is {@code Entry.fetchAsync} and, with
+     * {@link #enableAsyncRequests(boolean)}, {@code Entry.fetch}; a blocking {@code fetch} still runs its callback
+     * before it returns. Fetches answered by the local replica or live preview are never delayed. Set this before
+     * creating the stack.
+     * <p>
+     * Disabled by default; a window of a few milliseconds is enough to collapse the fetches made while resolving one
+     * page or request.
+     *
+     * @param duration the batching window, 0 to disable batching
+     * @param unit     the unit of the duration
+     * @return the config
+     * @throws IllegalArgumentException if the duration is negative
+     */
+    public Config setFetchBatchWindow(long duration, TimeUnit unit) {
+        if (duration < 0) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_FETCH_BATCH_WINDOW);
+        }
+        this.fetchBatchWindowMs = unit.toMillis(duration);
+        return this;
+    }
+
+    /**
+     * Gets the window within which entry fetches are batched.
+     *
+     * @return the batching window in milliseconds, 0 when fetches are not batched
+     */
+    public long getFetchBatchWindowMs() {
+        return this.fetchBatchWindowMs;
+    }
+
+    /**
+     * Sends repeated requests conditionally. Responses that come with an {@code ETag} or {@code Last-Modified}
+     * header are kept with their decoded result, and the next identical request carries {@code If-None-Match} or
+     * {@code If-Modified-Since}; when the server answers {@code 304 Not Modified} the stored result is served
+     * without reading or parsing a body. Works for entries, queries, assets, content types and global fields; the
+     * stored responses take up to 16 MB. Set this before creating the stack.
+     * <p>
+     * Disabled by default. Sync requests are never sent conditionally, nor are requests when plugins are set or live
+     * preview is enabled.
+     *
+     * @param conditionalRequests true to revalidate repeated requests
+     * @return the config
+     */
+    public Config enableConditionalRequests(boolean conditionalRequests) {
+        this.conditionalRequests = conditionalRequests;
+        return this;
+    }
+
+    /**
+     * Sends repeated requests conditionally, see {@link #enableConditionalRequests(boolean)}, keeping up to the
+     * given size of response bodies for revalidation.
+     *
+     * @param conditionalRequests true to revalidate repeated requests
+     * @param maxWeight           the maximum total size of the stored responses, in bytes
+     * @return the config
+     * @throws IllegalArgumentException if the size is less than 1
+     */
+    public Config enableConditionalRequests(boolean conditionalRequests, long maxWeight) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_VALIDATOR_STORE_SIZE);
+        }
+        this.conditionalRequests = conditionalRequests;
+        this.validatorStoreMaxWeight = maxWeight;
+        return this;
+    }
+
+    /**
+     * Returns whether repeated requests are sent conditionally.
+     *
+     * @return true if conditional requests are enabled
+     */
+    public boolean isConditionalRequests() {
+        return this.conditionalRequests;
+    }
+
+    /**
+     * Sets the codec used to decode response bodies. Defaults to {@link JsonCodec#STREAMING}; results are always
+     * exposed as {@code org.json} types whichever codec is used.
+     *
+     * @param jsonCodec the codec, see {@link JsonCodec} for the built-in ones
+     * @return the config
+     * @throws IllegalArgumentException if the codec is null
+     */
+    public Config setJsonCodec(JsonCodec jsonCodec) {
+        if (jsonCodec == null) {
+            throw new IllegalArgumentException(ErrorMessages.MISSING_JSON_CODEC);
+        }
+        this.jsonCodec = jsonCodec;
+        return this;
+    }
+
+    /**
+     * Gets the codec used to decode response bodies.
+     *
+     * @return the JSON codec
+     */
+    public JsonCodec getJsonCodec() {
+        return this.jsonCodec;
+    }
+
+    /**
+     * Sets how far the strings of sync items are sanitized, see {@link SyncStack.SanitizeMode}. Defaults to
+     * {@link SyncStack.SanitizeMode#TOP_LEVEL}; {@link SyncStack.SanitizeMode#FULL} also escapes script tags in the
+     * content of entries and assets.
+     *
+     * @param syncSanitizeMode the sanitize mode
+     * @return the config
+     * @throws IllegalArgumentException if the mode is null
+     */
+    public Config setSyncSanitizeMode(SyncStack.SanitizeMode syncSanitizeMode) {
+        if (syncSanitizeMode == null) {
+            throw new IllegalArgumentException(ErrorMessages.MISSING_SYNC_SANITIZE_MODE);
+        }
+        this.syncSanitizeMode = syncSanitizeMode;
+        return this;
+    }
+
+    /**
+     * Gets how far the strings of sync items are sanitized.
+     *
+     * @return the sanitize mode
+     */
+    public SyncStack.SanitizeMode getSyncSanitizeMode() {
+        return this.syncSanitizeMode;
+    }
+
+    /**
+     * Sets the executor on which result callbacks of enqueued requests are delivered. When not set, callbacks run on
+     * the dispatcher thread that completed the request.
+     *
+     * @param callbackExecutor the executor used to deliver callbacks
+     * @return the config
+     */
+    public Config setCallbackExecutor(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+        return this;
+    }
+
+    /**
+     * Gets the callback executor.
+     *
+     * @return the callback executor, or null when callbacks run on the dispatcher thread
+     */
+    public Executor getCallbackExecutor() {
+        return this.callbackExecutor;
+    }
+
+    /**
+     * Sets the maximum number of requests the dispatcher runs concurrently. Requests above these limits are queued
+     * in memory until a running call completes.
+     *
+     * @param maxRequests        the maximum number of concurrent requests, default value is 64
+     * @param maxRequestsPerHost the maximum number of concurrent requests per host, default value is 5
+     * @return the config
+     * @throws IllegalArgumentException if either value is less than 1
+     */
+    public Config setMaxRequests(int maxRequests, int maxRequestsPerHost) {
+        if (maxRequests < 1 || maxRequestsPerHost < 1) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_MAX_REQUESTS);
+        }
+        this.maxRequests = maxRequests;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of concurrent requests.
+     *
+     * @return the max requests
+     */
+    public int getMaxRequests() {
+        return this.maxRequests;
+    }
+
+    /**
+     * Gets the maximum number of concurrent requests per host.
+     *
+     * @return the max requests per host
+     */
+    public int getMaxRequestsPerHost() {
+        return this.maxRequestsPerHost;
+    }
+
     /**
      * Gets host.
      *
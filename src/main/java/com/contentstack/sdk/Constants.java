@@ -37,6 +37,11 @@ public class Constants {
     protected static final String USER_AGENT = userAgent();
     protected static final String CONTENT_TYPE = "Content-Type";
     protected static final String APPLICATION_JSON = "application/json";
+    // Conditional requests
+    protected static final String ETAG = "ETag";
+    protected static final String LAST_MODIFIED = "Last-Modified";
+    protected static final String IF_NONE_MATCH = "If-None-Match";
+    protected static final String IF_MODIFIED_SINCE = "If-Modified-Since";
 
     protected static final String QUERY = "query";
     protected static final String EXCEPT = "except";
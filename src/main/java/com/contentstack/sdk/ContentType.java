@@ -5,9 +5,13 @@ import org.json.JSONObject;
 import org.json.JSONArray;
 import lombok.Getter;
 import lombok.Setter;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 /**
@@ -138,6 +142,53 @@ public class ContentType {
         return query;
     }
 
+    /**
+     * Fetches many entries by UID at once, blocking until they arrive. See {@link #entriesAsync(Collection)}.
+     *
+     * @param uids
+     *             the entry UIDs
+     * @return the entries found, by UID, and the UIDs missing
+     * @throws ContentstackException
+     *                               if a request fails
+     */
+    public EntryBatchResult entries(@NotNull Collection<String> uids) {
+        try {
+            return entriesAsync(uids).join();
+        } catch (CompletionException e) {
+            throw FutureCallbacks.unwrap(e);
+        }
+    }
+
+    /**
+     * Fetches many entries by UID at once without blocking the calling thread. The UIDs are sent as
+     * {@code containedIn("uid", ...)} queries of up to 100 UIDs each, kept short enough for any URL length limit, and
+     * the queries run concurrently, instead of one {@link Entry#fetch(EntryResultCallBack)} round trip per entry.
+     * <p>
+     * The result holds the entries found, in the order their UIDs were requested, and the UIDs that matched no
+     * published entry. The future completes exceptionally with a {@link ContentstackException} when any of the
+     * queries fails.
+     *
+     * @param uids
+     *             the entry UIDs; duplicates are fetched once
+     * @return a {@link CompletableFuture} of the {@link EntryBatchResult} <br>
+     *         <br>
+     *         <b>Example :</b><br>
+     *
+     *         <pre class="prettyprint">
+     *         Stack stack = Contentstack.stack("apiKey", "deliveryToken", "environment");
+     *         EntryBatchResult result = stack.contentType("blog").entriesAsync(uids).join();
+     *         Entry first = result.getEntry("blt0123");
+     *         List&lt;String&gt; unpublished = result.getMissingUids();
+     *         </pre>
+     */
+    public CompletableFuture<EntryBatchResult> entriesAsync(@NotNull Collection<String> uids) {
+        Objects.requireNonNull(uids, "UIDs cannot be null");
+        if (contentTypeUid == null || contentTypeUid.isEmpty()) {
+            return FutureCallbacks.failed(ErrorMessages.CONTENT_TYPE_UID_REQUIRED);
+        }
+        return EntryBatchLoader.load(query(), uids);
+    }
+
     /**
      * Fetch.
      *
@@ -163,6 +214,29 @@ public class ContentType {
         fetchContentTypes(urlString, params, headers, callback);
     }
 
+    /**
+     * Fetches the content type without blocking the calling thread. The returned future completes with the
+     * {@link ContentTypesModel}, or exceptionally with a {@link ContentstackException} when the request fails.
+     *
+     * @param params
+     *               the params
+     * @return a {@link CompletableFuture} of the {@link ContentTypesModel}
+     */
+    public CompletableFuture<ContentTypesModel> fetchAsync(@NotNull JSONObject params) {
+        if (contentTypeUid == null || contentTypeUid.isEmpty()) {
+            return FutureCallbacks.failed(ErrorMessages.CONTENT_TYPE_UID_REQUIRED);
+        }
+        params.put("environment", headers.get("environment"));
+        FutureCallbacks.ContentTypesFuture callback = new FutureCallbacks.ContentTypesFuture();
+        HashMap<String, Object> urlParams = getUrlParams(params);
+        new CSBackgroundTask(this, stackInstance, Constants.FETCHCONTENTTYPES, "content_types/" + contentTypeUid,
+                headers, urlParams, Constants.REQUEST_CONTROLLER.CONTENTTYPES.toString(), callback);
+        return callback.future.thenApply(model -> {
+            model.setContentTypeData(ContentType.this);
+            return model;
+        });
+    }
+
     private void fetchContentTypes(String urlString, JSONObject params, HashMap<String, Object> headers,
             ContentTypesCallback callback) {
         if (callback != null) {
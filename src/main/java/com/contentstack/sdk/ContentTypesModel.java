@@ -25,7 +25,9 @@ public class ContentTypesModel {
     public void setJSON(JSONObject responseJSON) {
         if (responseJSON != null) {
             String ctKey = "content_type";
-            if (responseJSON.has(ctKey) && responseJSON.opt(ctKey) instanceof LinkedHashMap) {
+            if (responseJSON.opt(ctKey) instanceof JSONObject) {
+                this.response = responseJSON.optJSONObject(ctKey);
+            } else if (responseJSON.has(ctKey) && responseJSON.opt(ctKey) instanceof LinkedHashMap) {
                 try {
                     this.response = new JSONObject((LinkedHashMap<?, ?>) responseJSON.get(ctKey));
                 } catch (Exception e) {
@@ -33,7 +35,11 @@ public class ContentTypesModel {
                 }
             }
             String ctListKey = "content_types";
-            if (responseJSON.has(ctListKey) && responseJSON.opt(ctListKey) instanceof ArrayList) {
+            if (responseJSON.opt(ctListKey) instanceof JSONArray) {
+                JSONArray list = responseJSON.optJSONArray(ctListKey);
+                this.response = list;
+                this.responseJSONArray = list;
+            } else if (responseJSON.has(ctListKey) && responseJSON.opt(ctListKey) instanceof ArrayList) {
                try {
                 ArrayList<LinkedHashMap<?, ?>> contentTypes = (ArrayList) responseJSON.get(ctListKey);
                 List<Object> objectList = new ArrayList<>();
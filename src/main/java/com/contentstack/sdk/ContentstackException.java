@@ -0,0 +1,43 @@
+package com.contentstack.sdk;
+
+/**
+ * Unchecked exception used to complete the futures returned by the asynchronous API ({@code findAsync},
+ * {@code fetchAsync}, {@code fetchAllAsync}, {@code syncAsync}) exceptionally. It carries the {@link Error} that the
+ * callback based API would have delivered.
+ * <p>
+ * <b>Example :</b><br>
+ * <pre class="prettyprint">
+ * entry.fetchAsync().exceptionally(throwable -&gt; {
+ *     Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+ *     Error error = ((ContentstackException) cause).getError();
+ *     return null;
+ * });
+ * </pre>
+ */
+public class ContentstackException extends RuntimeException {
+
+    private final transient Error error;
+
+    public ContentstackException(Error error) {
+        super(error != null ? error.getErrorMessage() : null);
+        this.error = error;
+    }
+
+    /**
+     * Returns the error reported by Contentstack.
+     *
+     * @return the {@link Error}
+     */
+    public Error getError() {
+        return this.error;
+    }
+
+    /**
+     * Returns the error code reported by Contentstack, or 0 when not available.
+     *
+     * @return the error code
+     */
+    public int getErrorCode() {
+        return this.error != null ? this.error.getErrorCode() : 0;
+    }
+}
@@ -0,0 +1,118 @@
+package com.contentstack.sdk;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.ByteString;
+
+import static com.contentstack.sdk.Constants.SYNCHRONISATION;
+
+/**
+ * Network interceptor installed with the disk cache of {@link Config#setDiskCache(java.io.File, long)}. OkHttp's
+ * cache is keyed by URL only, while the stack, environment, branch and variants of a request are sent as headers, so
+ * every cacheable response is made to {@code Vary} on the request headers that select content. OkHttp writes the
+ * values of those headers to disk, so tokens and keys are left out of {@code Vary}: {@link Credentials} sends a hash
+ * of them in their place, which is only seen by the cache and never sent to the server. When a freshness
+ * window is configured, the {@code Cache-Control} of successful responses is replaced so they are served from disk
+ * for that long; sync responses keep the CDN's headers, as a stale sync page would miss changes.
+ */
+final class DiskCacheInterceptor implements Interceptor {
+
+    private static final String VARY = "Vary";
+    private static final Set<String> TRANSPORT_HEADERS = new HashSet<>(Arrays.asList(
+            "host", "connection", "accept-encoding", "cookie", "user-agent", "x-user-agent", "content-type",
+            "if-none-match", "if-modified-since"));
+    private static final Set<String> SECRET_HEADERS = new HashSet<>(Arrays.asList(
+            "api_key", "access_token", "authorization", "preview_token", "management_token"));
+    static final String CREDENTIALS_HASH = "X-Credentials-Hash";
+
+    private final long freshnessSeconds;
+
+    /**
+     * @param freshnessMs how long responses are fresh regardless of their {@code Cache-Control}, 0 to keep it
+     */
+    DiskCacheInterceptor(long freshnessMs) {
+        this.freshnessSeconds = freshnessMs > 0 ? Math.max(1, freshnessMs / 1000) : 0;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request.header(CREDENTIALS_HASH) != null
+                ? request.newBuilder().removeHeader(CREDENTIALS_HASH).build() : request);
+        if (!"GET".equals(request.method()) || !response.isSuccessful()) {
+            return response;
+        }
+        // The cache keeps the Vary headers of the request the response names, so it must carry the hash
+        Response.Builder rewritten = response.newBuilder().request(request).header(VARY, vary(request, response));
+        if (freshnessSeconds > 0 && !request.url().encodedPath().endsWith("/" + SYNCHRONISATION)) {
+            rewritten.header("Cache-Control", "public, max-age=" + freshnessSeconds)
+                    .removeHeader("Pragma")
+                    .removeHeader("Expires");
+        }
+        return rewritten.build();
+    }
+
+    /**
+     * The response's own {@code Vary} fields followed by the names of the request headers that select content,
+     * other than tokens and keys.
+     */
+    private static String vary(Request request, Response response) {
+        Set<String> fields = new LinkedHashSet<>();
+        for (String value : response.headers(VARY)) {
+            for (String field : value.split(",")) {
+                if (!field.trim().isEmpty()) {
+                    fields.add(field.trim());
+                }
+            }
+        }
+        if (fields.contains("*")) {
+            return "*";
+        }
+        for (String name : request.headers().names()) {
+            String lowerCase = name.toLowerCase(Locale.ROOT);
+            if (!TRANSPORT_HEADERS.contains(lowerCase) && !SECRET_HEADERS.contains(lowerCase)) {
+                fields.add(name);
+            }
+        }
+        return String.join(", ", fields);
+    }
+
+    /**
+     * Application interceptor, ahead of the cache, that adds the SHA-256 hash of the request's tokens and keys as the
+     * {@value #CREDENTIALS_HASH} header, so cached responses vary on them without storing them.
+     */
+    static final class Credentials implements Interceptor {
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Request request = chain.request();
+            TreeMap<String, String> secrets = new TreeMap<>();
+            for (String name : request.headers().names()) {
+                String lowerCase = name.toLowerCase(Locale.ROOT);
+                if (SECRET_HEADERS.contains(lowerCase)) {
+                    secrets.put(lowerCase, String.join("\n", request.headers(name)));
+                }
+            }
+            if (secrets.isEmpty()) {
+                return chain.proceed(request);
+            }
+            // Header values cannot hold line breaks, so one line per name and value keeps the input unambiguous
+            StringBuilder input = new StringBuilder();
+            for (Map.Entry<String, String> secret : secrets.entrySet()) {
+                input.append(secret.getKey()).append('\n').append(secret.getValue()).append('\n');
+            }
+            String hash = ByteString.encodeUtf8(input.toString()).sha256().hex();
+            return chain.proceed(request.newBuilder().header(CREDENTIALS_HASH, hash).build());
+        }
+    }
+}
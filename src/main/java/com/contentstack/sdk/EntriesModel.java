@@ -1,5 +1,6 @@
 package com.contentstack.sdk;
 
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -13,12 +14,25 @@ class EntriesModel {
     protected JSONObject jsonObject;
     protected List<Object> objectList;
 
+    private EntriesModel(JSONObject responseJSON, List<Object> objectList) {
+        this.jsonObject = responseJSON;
+        this.objectList = objectList;
+    }
+
     protected EntriesModel(JSONObject responseJSON) {
         try {
             this.jsonObject = responseJSON;
             objectList = new ArrayList<>();
             Object entryList = jsonObject.opt("entries");
-            if (entryList instanceof ArrayList) {
+            if (entryList instanceof JSONArray) {
+                JSONArray entries = (JSONArray) entryList;
+                for (int i = 0; i < entries.length(); i++) {
+                    JSONObject jsonModel = entries.optJSONObject(i);
+                    if (jsonModel != null) {
+                        objectList.add(new EntryModel(jsonModel));
+                    }
+                }
+            } else if (entryList instanceof ArrayList) {
                 ArrayList<LinkedHashMap> entries = (ArrayList) entryList;
                 if (!entries.isEmpty()) {
                     entries.forEach(model -> {
@@ -37,4 +51,24 @@ class EntriesModel {
         }
 
     }
+
+    /**
+     * Builds the entry models while the response is being decoded, one per element of {@code entries}.
+     */
+    static final class Streaming implements JsonCodec.ElementListener {
+
+        private final List<Object> objectList = new ArrayList<>();
+
+        @Override
+        public Object onElement(String key, Object element) {
+            if ("entries".equals(key) && element instanceof JSONObject) {
+                objectList.add(new EntryModel((JSONObject) element));
+            }
+            return element;
+        }
+
+        EntriesModel toModel(JSONObject responseJSON) {
+            return new EntriesModel(responseJSON, objectList);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -954,12 +955,74 @@ public class Entry {
             callback.onRequestFinish(ResponseType.NETWORK);
             return;
         }
+        JSONObject replicated = replicated();
+        if (callback != null && replicated != null) {
+            this.configure(replicated);
+            callback.onRequestFinish(ResponseType.REPLICA);
+            return;
+        }
+        Error missing = callback != null ? contentType.stackInstance.knownMissing(uid, false) : null;
+        if (missing != null) {
+            callback.onRequestFail(ResponseType.CACHE, missing);
+            return;
+        }
+        EntryFetchBatcher batcher = contentType.stackInstance.fetchBatcher;
+        if (callback != null && batcher != null && batcher.add(this, callback)) {
+            return;
+        }
+        fetchFromNetwork(callback);
+    }
+
+    /**
+     * Requests this entry on its own, without the replica or the fetch batcher.
+     */
+    void fetchFromNetwork(EntryResultCallBack callback) {
         String urlString = "content_types/" + contentTypeUid + "/entries/" + uid;
         JSONObject urlQueries = new JSONObject();
         urlQueries.put(ENVIRONMENT, headers.get(ENVIRONMENT));
         fetchFromNetwork(urlString, urlQueries, callback);
     }
 
+    /**
+     * Returns this entry from the local replica when the fetch asks for nothing a synced entry lacks: only the
+     * locale may be set, without references, projections or variants.
+     */
+    private JSONObject replicated() {
+        LocalReplica replica = contentType.stackInstance.servingReplica();
+        if (replica == null || params.length() > (params.has("locale") ? 1 : 0)
+                || (objectUidForOnly != null && objectUidForOnly.length() > 0)
+                || (exceptFieldArray != null && exceptFieldArray.length() > 0)
+                || (onlyJsonObject != null && onlyJsonObject.length() > 0)
+                || (exceptJsonObject != null && exceptJsonObject.length() > 0)
+                || headers.containsKey("x-cs-variant-uid")) {
+            return null;
+        }
+        return replica.getEntry(contentTypeUid, uid, params.optString("locale", null));
+    }
+
+    /**
+     * Fetches the entry without blocking the calling thread. The returned future completes with this {@link Entry}
+     * once its fields are populated, or exceptionally with a {@link ContentstackException} when the request fails.
+     *
+     * @return a {@link CompletableFuture} of this {@link Entry}
+     *
+     *         <pre class="prettyprint">
+     *         {@code
+     *         Stack stack = Contentstack.stack("apiKey", "deliveryToken", "environment");
+     *         CompletableFuture<Entry> future = stack.contentType("form_name").entry("entry_uid").fetchAsync();
+     *         future.thenAccept(entry -> System.out.println(entry.getTitle()));
+     *         }
+     *         </pre>
+     */
+    public CompletableFuture<Entry> fetchAsync() {
+        if (uid == null || uid.isEmpty()) {
+            return FutureCallbacks.failed(ErrorMessages.ENTRY_UID_REQUIRED);
+        }
+        FutureCallbacks.EntryFuture callback = new FutureCallbacks.EntryFuture(this);
+        fetch(callback);
+        return callback.future;
+    }
+
     private void fetchFromNetwork(String urlString, JSONObject urlQueries, EntryResultCallBack callBack) {
 
         JSONObject mainJson = new JSONObject();
@@ -985,7 +1048,7 @@ public class Entry {
         return hashMap;
     }
 
-    private void setIncludeJSON(JSONObject mainJson, ResultCallBack callBack) {
+    void setIncludeJSON(JSONObject mainJson, ResultCallBack callBack) {
         try {
             Iterator<String> iterator = params.keys();
             while (iterator.hasNext()) {
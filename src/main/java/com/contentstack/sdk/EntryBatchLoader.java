@@ -0,0 +1,121 @@
+package com.contentstack.sdk;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Fetches entries by UID with {@code containedIn("uid", ...)} queries, see {@link ContentType#entries(Collection)}.
+ * The UIDs are split into chunks that fit in one response page and keep the request URL short, and every chunk is
+ * requested at once on its own copy of a template Query; the HTTP dispatcher bounds how many are on the wire.
+ */
+final class EntryBatchLoader {
+
+    /**
+     * Maximum number of UIDs per query: the Content Delivery API returns at most 100 entries per request.
+     */
+    static final int MAX_CHUNK_SIZE = ReactivePages.DEFAULT_PAGE_SIZE;
+
+    /**
+     * Maximum length of the URL-encoded UID list of one query, well below the URL limits of proxies and CDNs once
+     * the rest of the query string is added.
+     */
+    static final int MAX_CHUNK_LENGTH = 4000;
+
+    /**
+     * Length of the encoded quotes and comma around each UID in the query: {@code %22uid%22%2C}.
+     */
+    private static final int UID_OVERHEAD = 9;
+
+    private EntryBatchLoader() {
+    }
+
+    /**
+     * @param template the query the chunks are copied from, with the locale, references and other parameters to
+     *                 fetch the entries with
+     * @param uids     the UIDs to fetch; duplicates are fetched once
+     * @return the future of the entries found and the UIDs missing, failed when any chunk fails
+     */
+    static CompletableFuture<EntryBatchResult> load(Query template, Collection<String> uids) {
+        LinkedHashSet<String> requested = new LinkedHashSet<>();
+        for (String uid : uids) {
+            if (uid != null && !uid.isEmpty()) {
+                requested.add(uid);
+            }
+        }
+        List<List<String>> chunks = chunks(requested);
+        List<CompletableFuture<QueryResult>> futures = new ArrayList<>(chunks.size());
+        for (List<String> chunk : chunks) {
+            futures.add(template.copy()
+                    .containedIn("uid", chunk.toArray())
+                    .limit(chunk.size())
+                    .findAsync());
+        }
+        CompletableFuture<EntryBatchResult> result = new CompletableFuture<>();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).whenComplete((done, failure) -> {
+            if (failure != null) {
+                result.completeExceptionally(FutureCallbacks.unwrap(failure));
+                return;
+            }
+            Map<String, Entry> found = new LinkedHashMap<>();
+            for (CompletableFuture<QueryResult> future : futures) {
+                for (Entry entry : future.join().getResultObjects()) {
+                    found.put(entry.getUid(), entry);
+                }
+            }
+            Map<String, Entry> entries = new LinkedHashMap<>();
+            List<String> missing = new ArrayList<>();
+            for (String uid : requested) {
+                Entry entry = found.get(uid);
+                if (entry != null) {
+                    entries.put(uid, entry);
+                } else {
+                    missing.add(uid);
+                }
+            }
+            result.complete(new EntryBatchResult(entries, missing));
+        });
+        return result;
+    }
+
+    /**
+     * Splits the UIDs into chunks of at most {@link #MAX_CHUNK_SIZE} UIDs and {@link #MAX_CHUNK_LENGTH} encoded
+     * characters. UIDs that are not valid query values are left out, so they are reported missing.
+     */
+    static List<List<String>> chunks(Collection<String> uids) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> chunk = new ArrayList<>();
+        int length = 0;
+        for (String uid : uids) {
+            if (!Query.isValidValue(uid)) {
+                continue;
+            }
+            int uidLength = encodedLength(uid) + UID_OVERHEAD;
+            if (!chunk.isEmpty() && (chunk.size() == MAX_CHUNK_SIZE || length + uidLength > MAX_CHUNK_LENGTH)) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                length = 0;
+            }
+            chunk.add(uid);
+            length += uidLength;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private static int encodedLength(String uid) {
+        try {
+            return URLEncoder.encode(uid, "UTF-8").length();
+        } catch (UnsupportedEncodingException e) {
+            return uid.length() * 3;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.contentstack.sdk;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entries fetched by UID with {@link ContentType#entries(java.util.Collection)}: the entries found, by UID, and the
+ * UIDs that matched no published entry.
+ */
+public class EntryBatchResult {
+
+    private final Map<String, Entry> entries;
+    private final List<String> missingUids;
+
+    EntryBatchResult(Map<String, Entry> entries, List<String> missingUids) {
+        this.entries = Collections.unmodifiableMap(entries);
+        this.missingUids = Collections.unmodifiableList(missingUids);
+    }
+
+    /**
+     * Returns the entries found, in the order their UIDs were requested.
+     *
+     * @return the entries, by UID
+     */
+    public Map<String, Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the entry with the given UID.
+     *
+     * @param uid the entry UID
+     * @return the entry, or null when it was not requested or not found
+     */
+    public Entry getEntry(String uid) {
+        return entries.get(uid);
+    }
+
+    /**
+     * Returns the requested UIDs that matched no published entry, in the order they were requested. UIDs that are
+     * not valid query values are reported here without being sent.
+     *
+     * @return the missing UIDs
+     */
+    public List<String> getMissingUids() {
+        return missingUids;
+    }
+
+    @Override
+    public String toString() {
+        return "EntryBatchResult{" +
+                "entries=" + entries.keySet() +
+                ", missingUids=" + missingUids +
+                '}';
+    }
+}
@@ -0,0 +1,204 @@
+package com.contentstack.sdk;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.json.JSONObject;
+
+/**
+ * Collapses the entry fetches of a stack made within a short window into queries, see
+ * {@link Config#setFetchBatchWindow(long, java.util.concurrent.TimeUnit)}. Only fetches that do not block their
+ * caller are batched. Fetches are grouped by content type, request parameters (locale, references, projections,
+ * ...) and headers (variant, branch, ...); the first fetch of a group opens a batch, which is sent when the window
+ * ends or once it holds {@link EntryBatchLoader#MAX_CHUNK_SIZE} entries. The entries the query returns are handed to
+ * the callbacks of the fetches that asked for them; the entries it does not return are fetched on their own, so
+ * their callbacks get the server's answer.
+ */
+final class EntryFetchBatcher {
+
+    private static final Logger logger = Logger.getLogger(EntryFetchBatcher.class.getSimpleName());
+
+    private final Stack stack;
+    private final long windowMs;
+    private final ScheduledThreadPoolExecutor timer;
+    private final Map<String, Batch> open = new HashMap<>();
+
+    EntryFetchBatcher(Stack stack, long windowMs) {
+        this.stack = stack;
+        this.windowMs = windowMs;
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "contentstack-fetch-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Adds the fetch of an entry to the open batch of its group, opening one if needed.
+     *
+     * @return false if the entry must be fetched on its own: its fetch blocks the caller until the callback has run,
+     * or it can not be fetched by a query
+     */
+    boolean add(Entry entry, EntryResultCallBack callback) {
+        if (!(stack.config.asyncRequests || callback instanceof FutureCallbacks.NonBlocking)
+                || !Query.isValidValue(entry.uid)) {
+            return false;
+        }
+        JSONObject params = new JSONObject();
+        entry.setIncludeJSON(params, callback);
+        LinkedHashMap<String, Object> headers = new LinkedHashMap<>(entry.headers);
+        String key = key(entry.contentTypeUid, params, headers);
+        Batch full = null;
+        synchronized (this) {
+            Batch batch = open.get(key);
+            if (batch == null) {
+                Batch opened = new Batch(entry.contentTypeUid, params, headers);
+                opened.timer = timer.schedule(() -> expire(key, opened), windowMs, TimeUnit.MILLISECONDS);
+                open.put(key, opened);
+                batch = opened;
+            }
+            batch.waiting.computeIfAbsent(entry.uid, uid -> new ArrayList<>()).add(new Fetch(entry, callback));
+            if (batch.waiting.size() >= EntryBatchLoader.MAX_CHUNK_SIZE) {
+                open.remove(key);
+                batch.timer.cancel(false);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return true;
+    }
+
+    private void expire(String key, Batch batch) {
+        synchronized (this) {
+            if (open.get(key) != batch) {
+                return;
+            }
+            open.remove(key);
+        }
+        send(batch);
+    }
+
+    private void send(Batch batch) {
+        Query query = stack.contentType(batch.contentTypeUid).query();
+        query.headers = batch.headers;
+        for (String param : batch.params.keySet()) {
+            query.urlQueries.put(param, batch.params.opt(param));
+        }
+        query.containedIn("uid", batch.waiting.keySet().toArray())
+                .limit(batch.waiting.size())
+                .find(new BatchCallback(batch));
+    }
+
+    /**
+     * Hands the result of a batch query to its fetches, on the thread that delivers the query's callback.
+     */
+    private static final class BatchCallback extends QueryResultsCallBack implements FutureCallbacks.NonBlocking {
+        private final Batch batch;
+
+        BatchCallback(Batch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onCompletion(ResponseType responseType, QueryResult result, Error error) {
+            if (error != null) {
+                for (List<Fetch> fetches : batch.waiting.values()) {
+                    for (Fetch fetch : fetches) {
+                        fetch.fail(responseType, error);
+                    }
+                }
+                return;
+            }
+            Map<String, Entry> found = new HashMap<>();
+            for (Entry entry : result.getResultObjects()) {
+                found.put(entry.getUid(), entry);
+            }
+            for (Map.Entry<String, List<Fetch>> waiting : batch.waiting.entrySet()) {
+                Entry entry = found.get(waiting.getKey());
+                List<Fetch> fetches = waiting.getValue();
+                for (int i = 0; i < fetches.size(); i++) {
+                    if (entry == null) {
+                        // Not returned by the query: the entry's own request answers with the server's error
+                        fetches.get(i).fetchAlone();
+                    } else {
+                        // Fetches of the same entry each get their own copy
+                        fetches.get(i).finish(responseType, i == 0 ? entry.resultJson
+                                : RequestCoalescer.copy(entry.resultJson));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the group key of a fetch from its content type, parameters and headers, in a stable order.
+     */
+    static String key(String contentTypeUid, JSONObject params, Map<String, Object> headers) {
+        StringBuilder key = new StringBuilder(contentTypeUid);
+        for (Map.Entry<String, Object> param : new TreeMap<>(params.toMap()).entrySet()) {
+            key.append('\n').append(param.getKey()).append('=').append(param.getValue());
+        }
+        return key.append('\n').append(RequestCoalescer.key("", headers)).toString();
+    }
+
+    private static final class Batch {
+        final String contentTypeUid;
+        final JSONObject params;
+        final LinkedHashMap<String, Object> headers;
+        final Map<String, List<Fetch>> waiting = new LinkedHashMap<>();
+        ScheduledFuture<?> timer;
+
+        Batch(String contentTypeUid, JSONObject params, LinkedHashMap<String, Object> headers) {
+            this.contentTypeUid = contentTypeUid;
+            this.params = params;
+            this.headers = headers;
+        }
+    }
+
+    private static final class Fetch {
+        final Entry entry;
+        final EntryResultCallBack callback;
+
+        Fetch(Entry entry, EntryResultCallBack callback) {
+            this.entry = entry;
+            this.callback = callback;
+        }
+
+        void finish(ResponseType responseType, JSONObject json) {
+            try {
+                entry.configure(json);
+                callback.onRequestFinish(responseType);
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, ErrorMessages.CALLBACK_EXECUTION_FAILED, e);
+            }
+        }
+
+        void fail(ResponseType responseType, Error error) {
+            try {
+                callback.onRequestFail(responseType, error);
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, ErrorMessages.CALLBACK_EXECUTION_FAILED, e);
+            }
+        }
+
+        void fetchAlone() {
+            try {
+                entry.fetchFromNetwork(callback);
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, ErrorMessages.CALLBACK_EXECUTION_FAILED, e);
+            }
+        }
+    }
+}
@@ -37,6 +37,7 @@ public final class ErrorMessages {
     public static final String INVALID_PARAMETER_KEY = "Invalid parameter key. Use only alphanumeric characters, underscores, and dots.";
     public static final String INVALID_PARAMETER_VALUE = "Invalid parameter value. Remove unsupported characters and try again.";
     public static final String INVALID_QUERY_URL = "Invalid query URL. Use a valid URL and try again.";
+    public static final String INVALID_PAGE_SIZE = "Invalid page size. Provide a page size of 1 or greater and try again.";
     public static final String INVALID_DATE_FORMAT = "Invalid date format for field. Provide the date in ISO format and try again.";
     
     // ========== DATA TYPE ERRORS ==========
@@ -58,6 +59,7 @@ public final class ErrorMessages {
     public static final String URL_PARAMETER_ENCODING_FAILED = "URL parameter encoding failed. Provide a valid key and value, then try again.";
     public static final String LIVE_PREVIEW_URL_FAILED = "Failed to execute the Live Preview URL. Check your connection and try again.";
     public static final String TAXONOMY_QUERY_FAILED = "Failed to execute taxonomy query. Check your network connection and verify taxonomy parameters.";
+    public static final String COALESCED_REQUEST_FAILED = "The shared request for this call ended without a response. Try again.";
     public static final String INVALID_JSON_RESPONSE = "Invalid JSON response. Check the server response format and try again.";
     
     // ========== CONFIGURATION ERRORS ==========
@@ -65,6 +67,17 @@ public final class ErrorMessages {
     public static final String MISSING_PREVIEW_TOKEN = "Missing preview token for rest-preview.contentstack.com. Set the preview token in your configuration to use Live Preview.";
     public static final String LIVE_PREVIEW_NOT_ENABLED = "Live Preview is not enabled in the configuration. Enable it and try again.";
     public static final String LIVE_PREVIEW_HOST_NOT_ENABLED = "Live Preview host is not set. Call config.setLivePreviewHost(\"rest-preview.contentstack.com\") (or your preview host) before using Live Preview.";
+    public static final String VIRTUAL_THREADS_UNAVAILABLE = "Virtual threads require Java 21 or later. Falling back to the default platform thread pool.";
+    public static final String MISSING_JSON_CODEC = "Missing JSON codec. Provide a JsonCodec such as JsonCodec.STREAMING and try again.";
+    public static final String MISSING_SYNC_SANITIZE_MODE = "Missing sync sanitize mode. Provide a SyncStack.SanitizeMode such as TOP_LEVEL and try again.";
+    public static final String INVALID_MAX_REQUESTS = "Invalid request limits. Provide values of 1 or greater for maxRequests and maxRequestsPerHost.";
+    public static final String INVALID_DISK_CACHE = "Invalid disk cache. Provide a directory and a size of 1 byte or more and try again.";
+    public static final String INVALID_DISK_CACHE_FRESHNESS = "Invalid disk cache freshness. Provide a duration of 0 or more and try again.";
+    public static final String INVALID_SYNC_PREFETCH_DEPTH = "Invalid sync prefetch depth. Provide a depth of 1 or greater and try again.";
+    public static final String INVALID_BUFFERED_PAGES = "Invalid number of buffered pages. Provide 1 or greater and try again.";
+    public static final String INVALID_MAX_CONCURRENCY = "Invalid maximum concurrency. Provide 1 or greater and try again.";
+    public static final String INVALID_FETCH_BATCH_WINDOW = "Invalid fetch batch window. Provide a duration of 0 or more and try again.";
+    public static final String INVALID_VALIDATOR_STORE_SIZE = "Invalid validator store size. Provide a size of 1 byte or more and try again.";
     public static final String EMBEDDED_ITEMS_NOT_INCLUDED = "Embedded items are not included in the entry. Call includeEmbeddedItems() and try again.";
     
     // ========== OPERATION ERRORS ==========
@@ -73,5 +86,10 @@ public final class ErrorMessages {
     public static final String QUERY_EXECUTION_FAILED = "Query execution failed. Check the query and try again.";
     public static final String ENTRIES_PROCESSING_FAILED = "Failed to process entries data. Check the entries format and try again.";
     public static final String GROUP_DATE_PARSING_FAILED = "Failed to parse date from group field. Provide a valid date format and try again.";
+    public static final String CALLBACK_EXECUTION_FAILED = "Result callback threw an exception while handling an asynchronous response. Check the callback implementation.";
+    public static final String SYNC_PAGE_HANDLER_FAILED = "Sync page handler threw an exception, so the sync was stopped. Resume it with the pagination token of the last page handled.";
+    public static final String QUERY_ITERATION_INTERRUPTED = "Interrupted while waiting for the next page of query results.";
+    public static final String REPLICA_LOAD_FAILED = "Failed to load the local replica from its persistence file. Starting with an empty replica; run a full sync to rebuild it.";
+    public static final String REPLICA_PERSIST_FAILED = "Failed to write the local replica to its persistence file. The replica in memory is up to date; check the file location and permissions.";
     public static final String QUERY_RESULT_PROCESSING_FAILED = "Failed to process query result data. Check the response format and try again.";
 }
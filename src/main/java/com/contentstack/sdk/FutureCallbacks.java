@@ -0,0 +1,146 @@
+package com.contentstack.sdk;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Adapters from the callback API to {@link CompletableFuture}. Every adapter is a {@link NonBlocking} callback, so
+ * the request it is attached to is always enqueued on the HTTP dispatcher, regardless of
+ * {@link Config#enableAsyncRequests(boolean)}.
+ */
+final class FutureCallbacks {
+
+    /**
+     * Marker for callbacks whose request must never block the calling thread.
+     */
+    interface NonBlocking {
+    }
+
+    private FutureCallbacks() {
+    }
+
+    static <T> CompletableFuture<T> failed(String errorMessage) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(new ContentstackException(new Error(errorMessage, 0, null)));
+        return future;
+    }
+
+    static <T> void fail(CompletableFuture<T> future, Error error) {
+        future.completeExceptionally(new ContentstackException(error));
+    }
+
+    /**
+     * Returns the {@link ContentstackException} a future failed with, unwrapped from a {@link CompletionException}
+     * and wrapping any other cause.
+     */
+    static ContentstackException unwrap(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        if (cause instanceof ContentstackException) {
+            return (ContentstackException) cause;
+        }
+        return new ContentstackException(new Error(ErrorMessages.QUERY_EXECUTION_FAILED, 0, cause.toString()));
+    }
+
+    static final class QueryFuture extends QueryResultsCallBack implements NonBlocking {
+        final CompletableFuture<QueryResult> future = new CompletableFuture<>();
+
+        @Override
+        public void onCompletion(ResponseType responseType, QueryResult queryresult, Error error) {
+            if (error != null) {
+                fail(future, error);
+            } else {
+                future.complete(queryresult);
+            }
+        }
+    }
+
+    static final class SingleQueryFuture extends SingleQueryResultCallback implements NonBlocking {
+        final CompletableFuture<Entry> future = new CompletableFuture<>();
+
+        @Override
+        public void onCompletion(ResponseType responseType, Entry entry, Error error) {
+            if (error != null) {
+                fail(future, error);
+            } else {
+                future.complete(entry);
+            }
+        }
+    }
+
+    static final class EntryFuture extends EntryResultCallBack implements NonBlocking {
+        final CompletableFuture<Entry> future = new CompletableFuture<>();
+        private final Entry entry;
+
+        EntryFuture(Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public void onCompletion(ResponseType responseType, Error error) {
+            if (error != null) {
+                fail(future, error);
+            } else {
+                future.complete(entry);
+            }
+        }
+    }
+
+    static final class AssetFuture extends FetchResultCallback implements NonBlocking {
+        final CompletableFuture<Asset> future = new CompletableFuture<>();
+        private final Asset asset;
+
+        AssetFuture(Asset asset) {
+            this.asset = asset;
+        }
+
+        @Override
+        public void onCompletion(ResponseType responseType, Error error) {
+            if (error != null) {
+                fail(future, error);
+            } else {
+                future.complete(asset);
+            }
+        }
+    }
+
+    static final class AssetsFuture extends FetchAssetsCallback implements NonBlocking {
+        final CompletableFuture<List<Asset>> future = new CompletableFuture<>();
+
+        @Override
+        public void onCompletion(ResponseType responseType, List<Asset> assets, Error error) {
+            if (error != null) {
+                fail(future, error);
+            } else {
+                future.complete(assets);
+            }
+        }
+    }
+
+    static final class SyncFuture extends SyncResultCallBack implements NonBlocking {
+        final CompletableFuture<SyncStack> future = new CompletableFuture<>();
+
+        @Override
+        public void onCompletion(SyncStack syncStack, Error error) {
+            if (error != null) {
+                fail(future, error);
+            } else {
+                future.complete(syncStack);
+            }
+        }
+    }
+
+    static final class ContentTypesFuture extends ContentTypesCallback implements NonBlocking {
+        final CompletableFuture<ContentTypesModel> future = new CompletableFuture<>();
+
+        @Override
+        public void onCompletion(ContentTypesModel contentTypesModel, Error error) {
+            if (error != null) {
+                fail(future, error);
+            } else {
+                future.complete(contentTypesModel);
+            }
+        }
+    }
+}
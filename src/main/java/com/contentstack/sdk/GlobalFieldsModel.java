@@ -17,7 +17,9 @@ public class GlobalFieldsModel {
     public void setJSON(JSONObject responseJSON) {
         if (responseJSON != null) {
             String gfKey = "global_field";
-            if (responseJSON.has(gfKey) && responseJSON.opt(gfKey) instanceof LinkedHashMap) {
+            if (responseJSON.opt(gfKey) instanceof JSONObject) {
+                this.response = responseJSON.optJSONObject(gfKey);
+            } else if (responseJSON.has(gfKey) && responseJSON.opt(gfKey) instanceof LinkedHashMap) {
                 try {
                     this.response = new JSONObject((LinkedHashMap<?, ?>) responseJSON.get(gfKey));
                 } catch (Exception e) {
@@ -25,7 +27,11 @@ public class GlobalFieldsModel {
                 }
             }
             String gfListKey = "global_fields";
-            if (responseJSON.has(gfListKey) && responseJSON.opt(gfListKey) instanceof ArrayList) {
+            if (responseJSON.opt(gfListKey) instanceof JSONArray) {
+                JSONArray list = responseJSON.optJSONArray(gfListKey);
+                this.response = list;
+                this.responseJSONArray = list;
+            } else if (responseJSON.has(gfListKey) && responseJSON.opt(gfListKey) instanceof ArrayList) {
                 try {
                     ArrayList<LinkedHashMap<?, ?>> globalFields = (ArrayList) responseJSON.get(gfListKey);
                     List<Object> objectList = new ArrayList<>();
@@ -0,0 +1,92 @@
+package com.contentstack.sdk;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import okio.BufferedSource;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * {@link JsonCodec} on top of Gson's streaming {@link JsonReader}. Gson is already on the classpath through the
+ * Retrofit converter; the tree it builds matches {@link JsonCodec#STREAMING}.
+ */
+final class GsonJsonCodec implements JsonCodec {
+
+    @Override
+    public JSONObject decode(BufferedSource body, ElementListener listener) throws IOException {
+        if (body.rangeEquals(0, ResponseDecoder.UTF8_BOM)) {
+            body.skip(ResponseDecoder.UTF8_BOM.size());
+        }
+        JsonReader reader = new JsonReader(new InputStreamReader(body.inputStream(), StandardCharsets.UTF_8));
+        try {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                throw new JSONException("A JSONObject text must begin with '{'");
+            }
+            return readObject(reader, listener);
+        } catch (MalformedJsonException | EOFException | IllegalStateException | NumberFormatException e) {
+            // Keep the codec contract: malformed bodies are JSON errors, not I/O failures
+            throw new JSONException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads an object; a non-null {@code listener} marks the response object, whose arrays are streamed.
+     */
+    private static JSONObject readObject(JsonReader reader, ElementListener listener) throws IOException {
+        JSONObject object = new JSONObject();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            Object value = listener != null && reader.peek() == JsonToken.BEGIN_ARRAY
+                    ? readArray(reader, key, listener) : readValue(reader);
+            if (value != JSONObject.NULL) {
+                object.put(key, value);
+            }
+        }
+        reader.endObject();
+        return object;
+    }
+
+    private static JSONArray readArray(JsonReader reader, String key, ElementListener listener) throws IOException {
+        JSONArray array = new JSONArray();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            Object element = readValue(reader);
+            if (listener != null) {
+                element = listener.onElement(key, element);
+            }
+            if (element != null) {
+                array.put(element);
+            }
+        }
+        reader.endArray();
+        return array;
+    }
+
+    private static Object readValue(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                return readObject(reader, null);
+            case BEGIN_ARRAY:
+                return readArray(reader, null, null);
+            case STRING:
+                return reader.nextString();
+            case NUMBER:
+                return ResponseDecoder.toNumber(reader.nextString());
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NULL:
+                reader.nextNull();
+                return JSONObject.NULL;
+            default:
+                throw new JSONException("Unexpected token " + reader.peek() + " at " + reader.getPath());
+        }
+    }
+}
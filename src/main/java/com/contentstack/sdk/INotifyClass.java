@@ -9,4 +9,12 @@ public interface INotifyClass {
     void getResult(Object object, String controller);
 
     void getResultObject(List<Object> object, JSONObject jsonObject, boolean isSingleEntry);
+
+    /**
+     * Receives the result objects together with where the response came from.
+     */
+    default void getResultObject(List<Object> object, JSONObject jsonObject, boolean isSingleEntry,
+            ResponseType responseType) {
+        getResultObject(object, jsonObject, isSingleEntry);
+    }
 }
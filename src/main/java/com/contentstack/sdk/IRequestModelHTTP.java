@@ -11,5 +11,14 @@ public interface IRequestModelHTTP {
 
     void onRequestFailed(JSONObject error, int statusCode, ResultCallBack callBackObject);
 
+    /**
+     * Reports a failed request whose error did not necessarily come from the network, such as a cached
+     * "not found" error.
+     */
+    default void onRequestFailed(JSONObject error, int statusCode, ResultCallBack callBackObject,
+            ResponseType responseType) {
+        onRequestFailed(error, statusCode, callBackObject);
+    }
+
     void onRequestFinished(CSHttpConnection request);
 }
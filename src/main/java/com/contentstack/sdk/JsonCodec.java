@@ -0,0 +1,68 @@
+package com.contentstack.sdk;
+
+import java.io.IOException;
+
+import okio.BufferedSource;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Decodes Content Delivery API response bodies into the {@link JSONObject} tree that the SDK's models and callbacks
+ * expose. The codec only affects how the bytes are parsed; results are always handed out as {@code org.json} types.
+ *
+ * <p><b>Built-in codecs:</b>
+ * <ul>
+ *   <li>{@link #STREAMING} (default): single-pass tokenizer reading UTF-8 straight from the body</li>
+ *   <li>{@link #GSON}: Gson's {@code JsonReader} streaming tokenizer</li>
+ *   <li>{@link #ORG_JSON}: {@code org.json}'s own {@code JSONTokener}</li>
+ * </ul>
+ *
+ * <p><b>Example Usage:</b>
+ * <pre>{@code
+ * Config config = new Config().setJsonCodec(JsonCodec.GSON);
+ * }</pre>
+ */
+public interface JsonCodec {
+
+    /**
+     * Single-pass decoder over the body's {@link BufferedSource}. Drops object members whose value is null.
+     */
+    JsonCodec STREAMING = ResponseDecoder::decode;
+
+    /**
+     * Decoder built on Gson's streaming {@code JsonReader}. Produces the same tree as {@link #STREAMING}.
+     */
+    JsonCodec GSON = new GsonJsonCodec();
+
+    /**
+     * Decoder built on {@code org.json}'s tokenizer. Produces the same tree as {@link #STREAMING}.
+     */
+    JsonCodec ORG_JSON = new OrgJsonCodec();
+
+    /**
+     * Decodes a JSON object from the response body.
+     *
+     * @param body     the response body
+     * @param listener receives each element of the object's top-level arrays as it is decoded, may be null
+     * @return the decoded object
+     * @throws IOException   when reading the body fails
+     * @throws JSONException when the body is not a JSON object
+     */
+    JSONObject decode(BufferedSource body, ElementListener listener) throws IOException;
+
+    /**
+     * Receives the elements of the response's top-level arrays ({@code entries}, {@code items}, ...) as they are
+     * decoded, so models can be built before the rest of the page has been read.
+     */
+    interface ElementListener {
+
+        /**
+         * Called once per element of a top-level array, in order.
+         *
+         * @param key     the name of the array member in the response object
+         * @param element the decoded element
+         * @return the value stored in the array in place of the element, or null to leave it out
+         */
+        Object onElement(String key, Object element);
+    }
+}
@@ -0,0 +1,620 @@
+package com.contentstack.sdk;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import static com.contentstack.sdk.Constants.*;
+
+/**
+ * A {@link Query} compiled for the local replica maintained by sync, see {@link Config#setReplicaOptions}. The
+ * query JSON is turned into a predicate over the synced entries, a sort order and a page window; parameters and
+ * operators the replica can not answer are listed by {@link #getUnsupported()}, and such queries are sent to the
+ * network as usual. Use {@link Query#explain()} to see how a query will run.
+ * <p>
+ * Supported: equality, {@code $ne}, {@code $lt}, {@code $lte}, {@code $gt}, {@code $gte}, {@code $in},
+ * {@code $nin}, {@code $exists}, {@code $regex} with {@code $options}, {@code $and} and {@code $or}, on top-level
+ * or dotted field paths; {@code tags}, {@code locale}, {@code asc}/{@code desc}, {@code skip}, {@code limit},
+ * {@code count}, {@code include_count} and top-level {@code only}/{@code except}. A field holding an array matches
+ * when any of its values does. Without {@code asc} or {@code desc} entries are ordered by {@code updated_at},
+ * newest first, and ties by UID.
+ * <p>
+ * Not supported: references ({@code include[]}, {@code $in_query}, {@code $nin_query}), variants, fallback and
+ * embedded items, typeahead search and the other {@code include_*} parameters.
+ * <p>
+ * Conditions every matching entry must meet (those at the top level of the query or under {@code $and}) on a
+ * string, number or boolean are also recorded as constraints, which the replica answers from its secondary indexes,
+ * see {@link ReplicaOptions#addHashIndex(String, String)}, instead of scanning the content type.
+ */
+public final class LocalQueryPlan {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final String DEFAULT_SORT = "updated_at";
+
+    private final List<String> unsupported = new ArrayList<>();
+    private Predicate<JSONObject> filter = entry -> true;
+    private String filterDescription = "all";
+    private String locale;
+    private Set<String> tags;
+    private String sortField = DEFAULT_SORT;
+    private boolean descending = true;
+    private int skip = 0;
+    private int limit = DEFAULT_LIMIT;
+    private boolean countOnly = false;
+    private boolean includeCount = false;
+    private Set<String> only;
+    private Set<String> except;
+    private final List<Constraint> constraints = new ArrayList<>();
+
+    private LocalQueryPlan() {
+    }
+
+    /**
+     * Compiles the URL parameters of a query.
+     *
+     * @param urlQueries the parameters, with the query JSON under {@code query}
+     * @param headers    the request headers
+     */
+    static LocalQueryPlan compile(JSONObject urlQueries, Map<String, Object> headers) {
+        LocalQueryPlan plan = new LocalQueryPlan();
+        for (String key : urlQueries.keySet()) {
+            plan.compileParameter(key, urlQueries.opt(key));
+        }
+        if (headers != null && headers.containsKey("x-cs-variant-uid")) {
+            plan.unsupported.add("x-cs-variant-uid: variants are not synced");
+        }
+        return plan;
+    }
+
+    /**
+     * Returns whether the whole query can run on the replica.
+     *
+     * @return true if no parameter or operator is unsupported
+     */
+    public boolean isLocal() {
+        return unsupported.isEmpty();
+    }
+
+    /**
+     * Returns the parameters and operators that send the query to the network, with the reason for each.
+     *
+     * @return the unsupported parts of the query, empty when it runs locally
+     */
+    public List<String> getUnsupported() {
+        return Collections.unmodifiableList(unsupported);
+    }
+
+    /**
+     * Returns the locale the query reads.
+     *
+     * @return the locale code, or null when the query does not set one
+     */
+    public String getLocale() {
+        return locale;
+    }
+
+    @Override
+    public String toString() {
+        return "LocalQueryPlan{" +
+                "local=" + isLocal() +
+                ", filter=" + filterDescription +
+                (tags != null ? ", tags=" + tags : "") +
+                (constraints.isEmpty() ? "" : ", constraints=" + constraints) +
+                ", sort=" + sortField + (descending ? " desc" : " asc") +
+                ", skip=" + skip +
+                ", limit=" + limit +
+                (countOnly ? ", count" : "") +
+                (unsupported.isEmpty() ? "" : ", unsupported=" + unsupported) +
+                '}';
+    }
+
+    /**
+     * Runs the query over the synced entries of its content type and locale, and answers it with a response
+     * shaped like the one of the Content Delivery API. Matching entries are copied.
+     */
+    JSONObject execute(Collection<JSONObject> entries) {
+        List<JSONObject> matches = new ArrayList<>();
+        for (JSONObject entry : entries) {
+            if (matches(entry)) {
+                matches.add(entry);
+            }
+        }
+        if (countOnly) {
+            return new JSONObject().put("entries", matches.size());
+        }
+        Comparator<JSONObject> order = Comparator.comparing((JSONObject entry) -> first(entry, sortField),
+                LocalQueryPlan::compareForSort);
+        if (descending) {
+            order = order.reversed();
+        }
+        matches.sort(order.thenComparing(entry -> entry.optString("uid")));
+        return page(matches);
+    }
+
+    /**
+     * Answers the query from its matches in result order; they may stop at the end of the page window when the
+     * query does not ask for the total count.
+     */
+    JSONObject page(List<JSONObject> matches) {
+        JSONObject response = new JSONObject();
+        JSONArray page = new JSONArray();
+        for (int i = skip; i < matches.size() && i < (long) skip + limit; i++) {
+            page.put(project(matches.get(i)));
+        }
+        response.put("entries", page);
+        if (includeCount) {
+            response.put("count", matches.size());
+        }
+        return response;
+    }
+
+    boolean matches(JSONObject entry) {
+        return filter.test(entry) && hasTag(entry);
+    }
+
+    /**
+     * Returns whether the response depends on every match, not only on the ones in the page window.
+     */
+    boolean needsAllMatches() {
+        return countOnly || includeCount;
+    }
+
+    /**
+     * Returns the number of matches, in result order, the page window reaches.
+     */
+    long window() {
+        return (long) skip + limit;
+    }
+
+    String sortField() {
+        return sortField;
+    }
+
+    boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * Returns the conditions every match meets, each a superset of the matches; the filter still checks every
+     * candidate they select.
+     */
+    List<Constraint> constraints() {
+        return constraints;
+    }
+
+    private void compileParameter(String key, Object value) {
+        switch (key) {
+            case QUERY:
+                if (value instanceof JSONObject) {
+                    filter = compileQuery((JSONObject) value, true);
+                    filterDescription = value.toString();
+                } else {
+                    unsupported.add("query: expected a JSON object");
+                }
+                break;
+            case ENVIRONMENT:
+                // The replica holds the environment the stack syncs
+                break;
+            case "locale":
+                locale = String.valueOf(value);
+                break;
+            case "tags":
+                tags = new HashSet<>();
+                for (String tag : String.valueOf(value).split(",")) {
+                    tags.add(tag.trim());
+                }
+                Constraint tagged = new Constraint("tags");
+                tagged.in(new ArrayList<>(tags));
+                constraints.add(tagged);
+                break;
+            case "asc":
+            case "desc":
+                sortField = String.valueOf(value);
+                descending = key.equals("desc");
+                break;
+            case "skip":
+                skip = Math.max(0, integer(key, value, 0));
+                break;
+            case LIMIT:
+                limit = Math.max(0, integer(key, value, DEFAULT_LIMIT));
+                break;
+            case "count":
+                countOnly = "true".equals(String.valueOf(value));
+                break;
+            case "include_count":
+                includeCount = "true".equals(String.valueOf(value));
+                break;
+            case "only[BASE][]":
+                only = fields(key, value);
+                break;
+            case "except[BASE][]":
+                except = fields(key, value);
+                break;
+            case "include[]":
+            case "include_reference_content_type_uid":
+                unsupported.add(key + ": referenced entries are not resolved locally");
+                break;
+            default:
+                unsupported.add(key + ": not supported by the local query engine");
+                break;
+        }
+    }
+
+    private int integer(String key, Object value, int defaultValue) {
+        try {
+            return value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            unsupported.add(key + ": not a number");
+            return defaultValue;
+        }
+    }
+
+    private Set<String> fields(String key, Object value) {
+        Set<String> fields = new LinkedHashSet<>();
+        if (!(value instanceof JSONArray)) {
+            unsupported.add(key + ": expected an array of field UIDs");
+            return fields;
+        }
+        for (Object field : (JSONArray) value) {
+            String name = String.valueOf(field);
+            if (name.contains(".")) {
+                unsupported.add(key + ": nested field " + name);
+            }
+            fields.add(name);
+        }
+        return fields;
+    }
+
+    /**
+     * @param conjunctive whether every match must meet the query, so its conditions can be recorded as constraints
+     */
+    private Predicate<JSONObject> compileQuery(JSONObject query, boolean conjunctive) {
+        Predicate<JSONObject> predicate = entry -> true;
+        for (String field : query.keySet()) {
+            predicate = predicate.and(compileField(field, query.opt(field), conjunctive));
+        }
+        return predicate;
+    }
+
+    private Predicate<JSONObject> compileField(String field, Object condition, boolean conjunctive) {
+        if (field.equals("$and") || field.equals("$or")) {
+            if (!(condition instanceof JSONArray)) {
+                unsupported.add(field + ": expected an array of queries");
+                return entry -> false;
+            }
+            boolean and = field.equals("$and");
+            Predicate<JSONObject> predicate = entry -> and;
+            for (Object clause : (JSONArray) condition) {
+                if (!(clause instanceof JSONObject)) {
+                    unsupported.add(field + ": expected an array of queries");
+                    return entry -> false;
+                }
+                Predicate<JSONObject> compiled = compileQuery((JSONObject) clause, conjunctive && and);
+                predicate = and ? predicate.and(compiled) : predicate.or(compiled);
+            }
+            return predicate;
+        }
+        if (field.startsWith("$")) {
+            unsupported.add(field + ": unknown operator");
+            return entry -> false;
+        }
+        Constraint constraint = new Constraint(field);
+        if (!(condition instanceof JSONObject) || !isOperatorObject((JSONObject) condition)) {
+            constraint.in(Collections.singletonList(condition));
+            addConstraint(constraint, conjunctive);
+            return entry -> anyValue(entry, field, value -> equal(value, condition));
+        }
+        JSONObject operators = (JSONObject) condition;
+        Predicate<JSONObject> predicate = entry -> true;
+        for (String operator : operators.keySet()) {
+            if (!operator.equals(OPTIONS)) {
+                Object operand = operators.opt(operator);
+                predicate = predicate.and(compileOperator(field, operator, operand, operators));
+                constraint.narrow(operator, operand);
+            }
+        }
+        addConstraint(constraint, conjunctive);
+        return predicate;
+    }
+
+    private void addConstraint(Constraint constraint, boolean conjunctive) {
+        if (conjunctive && !constraint.isEmpty()) {
+            constraints.add(constraint);
+        }
+    }
+
+    private static boolean isOperatorObject(JSONObject condition) {
+        for (String key : condition.keySet()) {
+            if (key.startsWith("$")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Predicate<JSONObject> compileOperator(String field, String operator, Object operand, JSONObject operators) {
+        switch (operator) {
+            case "$ne":
+                return entry -> !anyValue(entry, field, value -> equal(value, operand));
+            case "$lt":
+                return range(field, operand, compared -> compared < 0);
+            case "$lte":
+                return range(field, operand, compared -> compared <= 0);
+            case "$gt":
+                return range(field, operand, compared -> compared > 0);
+            case "$gte":
+                return range(field, operand, compared -> compared >= 0);
+            case "$in":
+            case "$nin":
+                if (!(operand instanceof JSONArray)) {
+                    unsupported.add(field + " " + operator + ": expected an array");
+                    return entry -> false;
+                }
+                JSONArray candidates = (JSONArray) operand;
+                Predicate<JSONObject> in = entry -> anyValue(entry, field, value -> contains(candidates, value));
+                return operator.equals("$in") ? in : in.negate();
+            case EXISTS:
+                boolean exists = !Boolean.FALSE.equals(operand) && !"false".equals(String.valueOf(operand));
+                return entry -> exists == !values(entry, field).isEmpty();
+            case REGEX:
+                Pattern pattern = pattern(field, String.valueOf(operand), operators.optString(OPTIONS, ""));
+                if (pattern == null) {
+                    return entry -> false;
+                }
+                return entry -> anyValue(entry, field,
+                        value -> value instanceof String && pattern.matcher((String) value).find());
+            case "$in_query":
+            case "$nin_query":
+                unsupported.add(field + " " + operator + ": referenced entries are not resolved locally");
+                return entry -> false;
+            default:
+                unsupported.add(field + " " + operator + ": unknown operator");
+                return entry -> false;
+        }
+    }
+
+    private static Predicate<JSONObject> range(String field, Object operand, IntPredicate accept) {
+        return entry -> anyValue(entry, field, value -> {
+            int compared = compare(value, operand);
+            return compared != Integer.MAX_VALUE && accept.test(compared);
+        });
+    }
+
+    private Pattern pattern(String field, String regex, String options) {
+        int flags = 0;
+        for (char option : options.toCharArray()) {
+            if (option == 'i') {
+                flags |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+            } else if (option == 'm') {
+                flags |= Pattern.MULTILINE;
+            } else if (option == 's') {
+                flags |= Pattern.DOTALL;
+            } else if (option == 'x') {
+                flags |= Pattern.COMMENTS;
+            } else {
+                unsupported.add(field + " $options: unknown option " + option);
+                return null;
+            }
+        }
+        try {
+            return Pattern.compile(regex, flags);
+        } catch (PatternSyntaxException e) {
+            unsupported.add(field + " $regex: " + e.getDescription());
+            return null;
+        }
+    }
+
+    private boolean hasTag(JSONObject entry) {
+        if (tags == null) {
+            return true;
+        }
+        JSONArray entryTags = entry.optJSONArray("tags");
+        if (entryTags != null) {
+            for (Object tag : entryTags) {
+                if (tags.contains(String.valueOf(tag))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private JSONObject project(JSONObject entry) {
+        JSONObject copy = RequestCoalescer.copy(entry);
+        if (only != null) {
+            JSONObject projected = new JSONObject();
+            projected.put("uid", copy.opt("uid"));
+            for (String field : only) {
+                if (copy.has(field)) {
+                    projected.put(field, copy.opt(field));
+                }
+            }
+            copy = projected;
+        }
+        if (except != null) {
+            for (String field : except) {
+                copy.remove(field);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * A condition on a field, as values one of which the field holds, or as bounds of its values.
+     */
+    static final class Constraint {
+
+        final String field;
+        List<Object> values;
+        Object lower;
+        boolean lowerInclusive;
+        Object upper;
+        boolean upperInclusive;
+
+        private Constraint(String field) {
+            this.field = field;
+        }
+
+        boolean isEmpty() {
+            return values == null && lower == null && upper == null;
+        }
+
+        /**
+         * Records the values, unless one of them is not a string, number or boolean.
+         */
+        private void in(List<Object> candidates) {
+            for (Object candidate : candidates) {
+                if (ReplicaIndex.key(candidate) == null) {
+                    return;
+                }
+            }
+            values = candidates;
+        }
+
+        private void narrow(String operator, Object operand) {
+            if (operator.equals("$in") && operand instanceof JSONArray) {
+                in(((JSONArray) operand).toList());
+                return;
+            }
+            if (ReplicaIndex.key(operand) == null) {
+                return;
+            }
+            if (operator.equals("$gt") || operator.equals("$gte")) {
+                lower = operand;
+                lowerInclusive = operator.equals("$gte");
+            } else if (operator.equals("$lt") || operator.equals("$lte")) {
+                upper = operand;
+                upperInclusive = operator.equals("$lte");
+            }
+        }
+
+        @Override
+        public String toString() {
+            if (values != null) {
+                return field + " in " + values;
+            }
+            return (lower != null ? lower + (lowerInclusive ? " <= " : " < ") : "") + field
+                    + (upper != null ? (upperInclusive ? " <= " : " < ") + upper : "");
+        }
+    }
+
+    /**
+     * Values of a dotted field path; arrays on the path and at its end are flattened, so a field holding an array
+     * contributes each of its values.
+     */
+    static List<Object> values(JSONObject entry, String path) {
+        List<Object> current = Collections.singletonList(entry);
+        for (String segment : path.split("\\.")) {
+            List<Object> next = new ArrayList<>();
+            for (Object node : current) {
+                if (node instanceof JSONObject && ((JSONObject) node).has(segment)) {
+                    flatten(((JSONObject) node).opt(segment), next);
+                }
+            }
+            if (next.isEmpty()) {
+                return next;
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    private static void flatten(Object value, List<Object> into) {
+        if (value instanceof JSONArray) {
+            for (Object element : (JSONArray) value) {
+                into.add(element);
+            }
+        } else {
+            into.add(value);
+        }
+    }
+
+    private static boolean anyValue(JSONObject entry, String field, Predicate<Object> test) {
+        for (Object value : values(entry, field)) {
+            if (test.test(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object first(JSONObject entry, String field) {
+        List<Object> values = values(entry, field);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static boolean contains(JSONArray candidates, Object value) {
+        for (Object candidate : candidates) {
+            if (equal(value, candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean equal(Object value, Object operand) {
+        if (value instanceof Number && operand instanceof Number) {
+            return compare(value, operand) == 0;
+        }
+        if (value instanceof JSONObject && operand instanceof JSONObject) {
+            return ((JSONObject) value).similar(operand);
+        }
+        return value != null && value.equals(operand);
+    }
+
+    /**
+     * Compares numbers with numbers, strings with strings (ISO dates sort as strings) and booleans with booleans.
+     *
+     * @return the comparison, or {@link Integer#MAX_VALUE} when the values are not comparable
+     */
+    private static int compare(Object value, Object operand) {
+        if (value instanceof Number && operand instanceof Number) {
+            return Double.compare(((Number) value).doubleValue(), ((Number) operand).doubleValue());
+        }
+        if (value instanceof String && operand instanceof String) {
+            return Integer.signum(((String) value).compareTo((String) operand));
+        }
+        if (value instanceof Boolean && operand instanceof Boolean) {
+            return Boolean.compare((Boolean) value, (Boolean) operand);
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Orders missing values first, then numbers, strings, booleans and anything else.
+     */
+    private static int compareForSort(Object left, Object right) {
+        int rank = Integer.compare(rank(left), rank(right));
+        if (rank != 0) {
+            return rank;
+        }
+        int compared = compare(left, right);
+        return compared == Integer.MAX_VALUE ? 0 : compared;
+    }
+
+    private static int rank(Object value) {
+        if (value == null || value == JSONObject.NULL) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            return 1;
+        }
+        if (value instanceof String) {
+            return 2;
+        }
+        return value instanceof Boolean ? 3 : 4;
+    }
+}
@@ -0,0 +1,581 @@
+package com.contentstack.sdk;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import okio.BufferedSource;
+import okio.Okio;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONWriter;
+
+/**
+ * Local copy of the published entries and assets of a stack, maintained by the Sync API; see
+ * {@link ReplicaOptions}. Entries are kept per content type, UID and locale, assets per UID and locale.
+ * <p>
+ * Sync items are applied as their pages arrive: {@code entry_published} and {@code asset_published} store the
+ * item, {@code entry_unpublished}, {@code entry_deleted}, {@code asset_unpublished} and {@code asset_deleted} drop
+ * it, in its locale when the item has one, and {@code content_type_deleted} drops all entries of the content type.
+ * A full initial sync (without content type, locale, publish type or start date) is built aside and replaces the
+ * replica once it reaches its sync token, so reads keep seeing the previous state meanwhile and content deleted
+ * since does not linger. The sync token of full and delta syncs is kept, and persisted with the replica; filtered
+ * initial syncs only contribute their items. Several syncs may run at once: every chain of pages is tracked on its
+ * own, following the pagination token each page hands to the next.
+ * <p>
+ * The secondary indexes declared in the {@link ReplicaOptions} are updated with every item applied, and rebuilt
+ * when the replica is loaded from its file.
+ * <p>
+ * Reads never block on sync and return copies, which callers may modify.
+ */
+public final class LocalReplica {
+
+    private static final Logger logger = Logger.getLogger(LocalReplica.class.getSimpleName());
+    private static final String NO_LOCALE = "";
+
+    private enum Tracking {
+        NONE, FULL, DELTA
+    }
+
+    /**
+     * Sync chains whose last page asked for another one, at most this many.
+     */
+    private static final int MAX_OPEN_CHAINS = 16;
+
+    private final File persistenceFile;
+    private final Map<String, Map<String, ReplicaIndex.Type>> indexDefinitions;
+    private volatile Store live;
+    private volatile String syncToken;
+    private final Map<String, Chain> openChains = new LinkedHashMap<String, Chain>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Chain> eldest) {
+            return size() > MAX_OPEN_CHAINS;
+        }
+    };
+
+    LocalReplica(ReplicaOptions options, JsonCodec codec) {
+        this.persistenceFile = options.getPersistenceFile();
+        this.indexDefinitions = options.getIndexes();
+        this.live = new Store(indexDefinitions);
+        if (persistenceFile != null && persistenceFile.isFile()) {
+            load(codec);
+        }
+    }
+
+    /**
+     * Returns the sync token the replica is current with, to continue it with {@code Stack.syncToken}.
+     *
+     * @return the sync token, or null before a full sync has completed
+     */
+    public String getSyncToken() {
+        return syncToken;
+    }
+
+    /**
+     * Returns a copy of an entry.
+     *
+     * @param contentTypeUid the content type of the entry
+     * @param uid            the entry UID
+     * @param locale         the locale code, or null for the only locale the entry is published in
+     * @return the entry, or null when the replica has no such entry, or several locales of it and none was given
+     */
+    public JSONObject getEntry(String contentTypeUid, String uid, String locale) {
+        ContentTypeEntries contentType = live.entries.get(contentTypeUid);
+        return contentType != null ? version(contentType.byUid.get(uid), locale) : null;
+    }
+
+    /**
+     * Returns a copy of an asset.
+     *
+     * @param uid    the asset UID
+     * @param locale the locale code, or null for the only locale the asset is published in
+     * @return the asset, or null when the replica has no such asset, or several locales of it and none was given
+     */
+    public JSONObject getAsset(String uid, String locale) {
+        return version(live.assets.get(uid), locale);
+    }
+
+    /**
+     * Returns the number of entries in the replica, counting every locale of an entry.
+     *
+     * @return the number of entries
+     */
+    public int getEntryCount() {
+        int count = 0;
+        for (ContentTypeEntries contentType : live.entries.values()) {
+            count += contentType.versions;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of assets in the replica, counting every locale of an asset.
+     *
+     * @return the number of assets
+     */
+    public int getAssetCount() {
+        int count = 0;
+        for (Map<String, JSONObject> locales : live.assets.values()) {
+            count += locales.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the secondary indexes of the content types the replica holds entries of, with their size.
+     *
+     * @return the indexes
+     */
+    public List<ReplicaIndex> getIndexes() {
+        List<ReplicaIndex> indexes = new ArrayList<>();
+        for (ContentTypeEntries contentType : live.entries.values()) {
+            indexes.addAll(contentType.indexes.values());
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the estimated heap used by the secondary indexes, in addition to the entries.
+     *
+     * @return estimated size in bytes
+     */
+    public long getIndexMemory() {
+        long bytes = 0;
+        for (ReplicaIndex index : getIndexes()) {
+            bytes += index.getEstimatedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Runs a query on the entries of its content type and locale. The smallest set of candidates an index, or the
+     * UIDs of the query, select is filtered; without one, a sorted index on the sort field is read in order up to
+     * the page window, and otherwise every entry is. Without a locale, every entry must be published in a single
+     * locale, as the replica can not tell which one is the master.
+     *
+     * @return the response, or null when no locale is given and an entry has several
+     */
+    JSONObject query(String contentTypeUid, LocalQueryPlan plan) {
+        ContentTypeEntries contentType = live.entries.get(contentTypeUid);
+        if (contentType == null) {
+            return plan.execute(Collections.emptyList());
+        }
+        String locale = plan.getLocale();
+        if (locale == null && contentType.multiLocaleUids > 0) {
+            return null;
+        }
+        Predicate<JSONObject> inLocale = data -> locale == null || locale.equals(locale(data));
+        Collection<JSONObject> candidates = contentType.candidates(plan.constraints());
+        if (candidates == null) {
+            ReplicaIndex order = contentType.indexes.get(plan.sortField());
+            if (order != null && order.getType() == ReplicaIndex.Type.SORTED && !plan.needsAllMatches()
+                    && order.orderedEntries() == contentType.versions) {
+                List<JSONObject> matches = new ArrayList<>();
+                order.ordered(plan.isDescending(), inLocale.and(plan::matches), plan.window(), matches);
+                return plan.page(matches);
+            }
+            candidates = contentType.all();
+        }
+        List<JSONObject> entries = new ArrayList<>(candidates.size());
+        for (JSONObject data : candidates) {
+            if (inLocale.test(data)) {
+                entries.add(data);
+            }
+        }
+        return plan.execute(entries);
+    }
+
+    private static JSONObject version(Map<String, JSONObject> locales, String locale) {
+        if (locales == null) {
+            return null;
+        }
+        JSONObject data = null;
+        if (locale != null) {
+            data = locales.get(locale);
+        } else if (locales.size() == 1) {
+            data = locales.values().iterator().next();
+        }
+        return data != null ? RequestCoalescer.copy(data) : null;
+    }
+
+    /**
+     * Applies a sync page.
+     *
+     * @param params the query parameters of the sync request
+     * @param page   the sync response
+     */
+    synchronized void onSyncPage(Map<String, Object> params, SyncStack page) {
+        Chain chain;
+        Object paginationToken = params != null ? params.get("pagination_token") : null;
+        if (paginationToken != null) {
+            // A page of a chain this replica has not seen begin only contributes its items
+            chain = openChains.remove(String.valueOf(paginationToken));
+            if (chain == null) {
+                chain = new Chain(Tracking.NONE, null);
+            }
+        } else if (params != null && params.containsKey("sync_token")) {
+            chain = new Chain(Tracking.DELTA, null);
+        } else if (params != null && UidFilter.isFullInitialSync(params)) {
+            chain = new Chain(Tracking.FULL, new Store(indexDefinitions));
+        } else {
+            chain = new Chain(Tracking.NONE, null);
+        }
+        Store target = chain.building != null ? chain.building : live;
+        List<JSONObject> items = page.getItems();
+        if (items != null) {
+            for (JSONObject item : items) {
+                target.apply(item);
+            }
+        }
+        String token = page.getSyncToken();
+        if (token == null) {
+            String next = page.getPaginationToken();
+            if (next != null && !next.isEmpty()) {
+                openChains.put(next, chain);
+            }
+            return;
+        }
+        if (chain.tracking == Tracking.NONE) {
+            return;
+        }
+        if (chain.building != null) {
+            live = chain.building;
+        }
+        syncToken = token;
+        persist();
+    }
+
+    private static String locale(JSONObject data) {
+        String locale = data.optString("locale", null);
+        if (locale == null) {
+            JSONObject publishDetails = data.optJSONObject("publish_details");
+            locale = publishDetails != null ? publishDetails.optString("locale", null) : null;
+        }
+        return locale != null ? locale : NO_LOCALE;
+    }
+
+    /**
+     * Writes the replica to a temporary file next to the persistence file and moves it into place, so a crash
+     * never leaves a partial replica behind.
+     */
+    private void persist() {
+        if (persistenceFile == null) {
+            return;
+        }
+        File temporary = new File(persistenceFile.getAbsoluteFile().getParentFile(), persistenceFile.getName() + ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporary.toPath(), StandardCharsets.UTF_8)) {
+                live.write(new JSONWriter(writer).object().key("sync_token").value(syncToken));
+            }
+            try {
+                Files.move(temporary.toPath(), persistenceFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary.toPath(), persistenceFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, ErrorMessages.REPLICA_PERSIST_FAILED, e);
+        }
+    }
+
+    private void load(JsonCodec codec) {
+        try (BufferedSource source = Okio.buffer(Okio.source(persistenceFile))) {
+            JSONObject snapshot = codec.decode(source, null);
+            Store store = new Store(indexDefinitions);
+            JSONObject entries = snapshot.optJSONObject("entries");
+            if (entries != null) {
+                for (String contentTypeUid : entries.keySet()) {
+                    JSONArray items = entries.getJSONArray(contentTypeUid);
+                    for (int i = 0; i < items.length(); i++) {
+                        store.putEntry(contentTypeUid, items.getJSONObject(i));
+                    }
+                }
+            }
+            JSONArray assets = snapshot.optJSONArray("assets");
+            if (assets != null) {
+                for (int i = 0; i < assets.length(); i++) {
+                    store.putAsset(assets.getJSONObject(i));
+                }
+            }
+            live = store;
+            syncToken = snapshot.optString("sync_token", null);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, ErrorMessages.REPLICA_LOAD_FAILED, e);
+        }
+    }
+
+    /**
+     * A sync in progress: what its sync token stands for and, for a full sync, the store it builds.
+     */
+    private static final class Chain {
+
+        final Tracking tracking;
+        final Store building;
+
+        Chain(Tracking tracking, Store building) {
+            this.tracking = tracking;
+            this.building = building;
+        }
+    }
+
+    /**
+     * One generation of the replica. Only written under the replica's lock; the concurrent maps let readers see
+     * it while it changes.
+     */
+    private static final class Store {
+
+        final Map<String, Map<String, ReplicaIndex.Type>> indexDefinitions;
+        final Map<String, ContentTypeEntries> entries = new ConcurrentHashMap<>();
+        final Map<String, Map<String, JSONObject>> assets = new ConcurrentHashMap<>();
+
+        Store(Map<String, Map<String, ReplicaIndex.Type>> indexDefinitions) {
+            this.indexDefinitions = indexDefinitions;
+        }
+
+        void apply(JSONObject item) {
+            String type = item.optString("type");
+            JSONObject data = item.optJSONObject("data");
+            String contentTypeUid = item.optString("content_type_uid", null);
+            switch (type) {
+                case "entry_published":
+                    if (data != null && contentTypeUid != null) {
+                        putEntry(contentTypeUid, RequestCoalescer.copy(data));
+                    }
+                    break;
+                case "entry_unpublished":
+                case "entry_deleted":
+                    if (data != null && contentTypeUid != null) {
+                        ContentTypeEntries contentType = entries.get(contentTypeUid);
+                        if (contentType != null) {
+                            contentType.drop(data);
+                            if (contentType.byUid.isEmpty()) {
+                                entries.remove(contentTypeUid);
+                            }
+                        }
+                    }
+                    break;
+                case "asset_published":
+                    if (data != null) {
+                        putAsset(RequestCoalescer.copy(data));
+                    }
+                    break;
+                case "asset_unpublished":
+                case "asset_deleted":
+                    if (data != null) {
+                        dropAsset(data);
+                    }
+                    break;
+                case "content_type_deleted":
+                    if (contentTypeUid == null && data != null) {
+                        contentTypeUid = data.optString("uid", null);
+                    }
+                    if (contentTypeUid != null) {
+                        entries.remove(contentTypeUid);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        void putEntry(String contentTypeUid, JSONObject data) {
+            entries.computeIfAbsent(contentTypeUid, key -> new ContentTypeEntries(key, indexDefinitions.get(key)))
+                    .put(data);
+        }
+
+        void putAsset(JSONObject data) {
+            String uid = data.optString("uid", null);
+            if (uid != null) {
+                assets.computeIfAbsent(uid, key -> new ConcurrentHashMap<>()).put(locale(data), data);
+            }
+        }
+
+        /**
+         * Drops the locale of the asset, or every locale when the item has none.
+         */
+        private void dropAsset(JSONObject data) {
+            String uid = data.optString("uid", null);
+            Map<String, JSONObject> locales = uid != null ? assets.get(uid) : null;
+            if (locales == null) {
+                return;
+            }
+            String locale = locale(data);
+            if (locale.equals(NO_LOCALE)) {
+                assets.remove(uid);
+                return;
+            }
+            locales.remove(locale);
+            if (locales.isEmpty()) {
+                assets.remove(uid);
+            }
+        }
+
+        void write(JSONWriter writer) {
+            writer.key("entries").object();
+            for (Map.Entry<String, ContentTypeEntries> contentType : entries.entrySet()) {
+                writer.key(contentType.getKey()).array();
+                for (JSONObject data : contentType.getValue().all()) {
+                    writer.value(data);
+                }
+                writer.endArray();
+            }
+            writer.endObject().key("assets").array();
+            for (Map<String, JSONObject> locales : assets.values()) {
+                for (JSONObject data : locales.values()) {
+                    writer.value(data);
+                }
+            }
+            writer.endArray().endObject();
+        }
+    }
+
+    /**
+     * The entries of a content type, by UID and locale, and their secondary indexes.
+     */
+    private static final class ContentTypeEntries {
+
+        final Map<String, Map<String, JSONObject>> byUid = new ConcurrentHashMap<>();
+        final Map<String, ReplicaIndex> indexes = new LinkedHashMap<>();
+        volatile int versions = 0;
+        volatile int multiLocaleUids = 0;
+
+        ContentTypeEntries(String contentTypeUid, Map<String, ReplicaIndex.Type> definitions) {
+            if (definitions != null) {
+                for (Map.Entry<String, ReplicaIndex.Type> definition : definitions.entrySet()) {
+                    indexes.put(definition.getKey(),
+                            new ReplicaIndex(contentTypeUid, definition.getKey(), definition.getValue()));
+                }
+            }
+        }
+
+        void put(JSONObject data) {
+            String uid = data.optString("uid", null);
+            if (uid == null) {
+                return;
+            }
+            Map<String, JSONObject> locales = byUid.computeIfAbsent(uid, key -> new ConcurrentHashMap<>());
+            JSONObject previous = locales.put(locale(data), data);
+            if (previous != null) {
+                unindex(previous);
+            } else {
+                versions++;
+                if (locales.size() == 2) {
+                    multiLocaleUids++;
+                }
+            }
+            for (ReplicaIndex index : indexes.values()) {
+                index.add(data);
+            }
+        }
+
+        /**
+         * Drops the locale of the entry, or every locale when the item has none.
+         */
+        void drop(JSONObject data) {
+            String uid = data.optString("uid", null);
+            Map<String, JSONObject> locales = uid != null ? byUid.get(uid) : null;
+            if (locales == null) {
+                return;
+            }
+            String locale = locale(data);
+            if (locale.equals(NO_LOCALE)) {
+                byUid.remove(uid);
+                for (JSONObject removed : locales.values()) {
+                    unindex(removed);
+                }
+                versions -= locales.size();
+                if (locales.size() > 1) {
+                    multiLocaleUids--;
+                }
+                return;
+            }
+            JSONObject removed = locales.remove(locale);
+            if (removed == null) {
+                return;
+            }
+            unindex(removed);
+            versions--;
+            if (locales.size() == 1) {
+                multiLocaleUids--;
+            } else if (locales.isEmpty()) {
+                byUid.remove(uid);
+            }
+        }
+
+        private void unindex(JSONObject data) {
+            for (ReplicaIndex index : indexes.values()) {
+                index.remove(data);
+            }
+        }
+
+        List<JSONObject> all() {
+            List<JSONObject> all = new ArrayList<>(versions);
+            for (Map<String, JSONObject> locales : byUid.values()) {
+                all.addAll(locales.values());
+            }
+            return all;
+        }
+
+        /**
+         * Returns the smallest set of entries, in every locale, one of the constraints selects through the UIDs or
+         * an index.
+         *
+         * @return the candidates, or null when no constraint can use an index
+         */
+        Set<JSONObject> candidates(List<LocalQueryPlan.Constraint> constraints) {
+            Set<JSONObject> smallest = null;
+            for (LocalQueryPlan.Constraint constraint : constraints) {
+                Set<JSONObject> selected = select(constraint);
+                if (selected != null && (smallest == null || selected.size() < smallest.size())) {
+                    smallest = selected;
+                    if (smallest.isEmpty()) {
+                        break;
+                    }
+                }
+            }
+            return smallest;
+        }
+
+        private Set<JSONObject> select(LocalQueryPlan.Constraint constraint) {
+            Set<JSONObject> selected = new HashSet<>();
+            if (constraint.values != null && constraint.field.equals("uid")) {
+                for (Object uid : constraint.values) {
+                    Map<String, JSONObject> locales = byUid.get(String.valueOf(uid));
+                    if (locales != null) {
+                        selected.addAll(locales.values());
+                    }
+                }
+                return selected;
+            }
+            ReplicaIndex index = indexes.get(constraint.field);
+            if (index == null) {
+                return null;
+            }
+            if (constraint.values != null) {
+                index.lookup(constraint.values, selected);
+            } else if (index.getType() == ReplicaIndex.Type.SORTED) {
+                index.range(constraint.lower, constraint.lowerInclusive, constraint.upper, constraint.upperInclusive,
+                        selected);
+            } else {
+                return null;
+            }
+            return selected;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.contentstack.sdk;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+
+import okio.BufferedSource;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+/**
+ * {@link JsonCodec} on top of {@code org.json}'s {@link JSONTokener}, reading the body as a character stream. The
+ * whole response is parsed before top-level array elements are passed to the listener. The parsed tree is then
+ * brought to the shape {@link JsonCodec#STREAMING} builds: null members are dropped and decimals become
+ * {@link Double}.
+ */
+final class OrgJsonCodec implements JsonCodec {
+
+    @Override
+    public JSONObject decode(BufferedSource body, ElementListener listener) throws IOException {
+        if (body.rangeEquals(0, ResponseDecoder.UTF8_BOM)) {
+            body.skip(ResponseDecoder.UTF8_BOM.size());
+        }
+        JSONObject object = new JSONObject(new JSONTokener(body.inputStream()));
+        normalize(object);
+        if (listener != null) {
+            for (String key : object.keySet()) {
+                Object value = object.opt(key);
+                if (value instanceof JSONArray) {
+                    object.put(key, replay((JSONArray) value, key, listener));
+                }
+            }
+        }
+        return object;
+    }
+
+    private static JSONArray replay(JSONArray array, String key, ElementListener listener) {
+        JSONArray result = new JSONArray();
+        for (int i = 0; i < array.length(); i++) {
+            Object element = listener.onElement(key, array.opt(i));
+            if (element != null) {
+                result.put(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Drops the null members of objects and turns decimals into doubles, in place.
+     *
+     * @return the value to store in place of the given one
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof JSONObject) {
+            JSONObject object = (JSONObject) value;
+            for (String key : new ArrayList<>(object.keySet())) {
+                Object member = object.opt(key);
+                if (member == JSONObject.NULL) {
+                    object.remove(key);
+                } else {
+                    Object normalized = normalize(member);
+                    if (normalized != member) {
+                        object.put(key, normalized);
+                    }
+                }
+            }
+        } else if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            for (int i = 0; i < array.length(); i++) {
+                Object element = array.opt(i);
+                Object normalized = normalize(element);
+                if (normalized != element) {
+                    array.put(i, normalized);
+                }
+            }
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).doubleValue();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,166 @@
+package com.contentstack.sdk;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Runs the partitions of an initial sync concurrently, see
+ * {@link Stack#syncPartitioned(SyncPartitionOptions, PartitionedSyncCallBack)}. Each partition follows its own
+ * pagination tokens with a {@link SyncPager}; at most the configured number of partitions run at a time, and the
+ * next one starts when one completes. Nothing blocks a thread while waiting for a page.
+ */
+final class PartitionedSync {
+
+    /**
+     * Maximum number of content types the Content Delivery API returns per request.
+     */
+    private static final int CONTENT_TYPES_PAGE_SIZE = 100;
+
+    private final Stack stack;
+    private final SyncPartitionOptions options;
+    private final PartitionedSyncCallBack callback;
+    private final ArrayDeque<SyncPartition> pending = new ArrayDeque<>();
+    private final Map<SyncPartition, String> syncTokens = new LinkedHashMap<>();
+    private final Object handlerLock = new Object();
+    private int running = 0;
+    private boolean completed = false;
+    private Error error;
+
+    PartitionedSync(Stack stack, SyncPartitionOptions options, PartitionedSyncCallBack callback) {
+        this.stack = stack;
+        this.options = options;
+        this.callback = callback;
+    }
+
+    void start() {
+        if (options.isPartitionByContentType() && options.getContentTypes() == null) {
+            listContentTypes(0, new ArrayList<>());
+        } else {
+            run(options.partitions(options.isPartitionByContentType() ? options.getContentTypes() : null));
+        }
+    }
+
+    /**
+     * Lists the content types of the stack page by page, then runs the partitions.
+     */
+    private void listContentTypes(int skip, List<String> contentTypeUids) {
+        JSONObject params = new JSONObject().put("skip", skip).put("limit", CONTENT_TYPES_PAGE_SIZE);
+        stack.getContentTypes(params, new ContentTypesPage(skip, contentTypeUids));
+    }
+
+    private void run(List<SyncPartition> partitions) {
+        synchronized (this) {
+            pending.addAll(partitions);
+        }
+        launch();
+    }
+
+    /**
+     * Starts pending partitions up to the concurrency limit, or completes the sync once none is left running.
+     */
+    private void launch() {
+        List<SyncPartition> starting = new ArrayList<>();
+        boolean complete;
+        synchronized (this) {
+            while (error == null && running < options.getMaxConcurrency() && !pending.isEmpty()) {
+                starting.add(pending.poll());
+                running++;
+            }
+            complete = !completed && running == 0 && (error != null || pending.isEmpty());
+            completed |= complete;
+        }
+        for (SyncPartition partition : starting) {
+            new SyncPager(stack, options.getPrefetchDepth(), new PartitionCallback(partition))
+                    .start(partition.params());
+        }
+        if (complete) {
+            Map<SyncPartition, String> tokens;
+            synchronized (this) {
+                tokens = Collections.unmodifiableMap(new LinkedHashMap<>(syncTokens));
+            }
+            callback.onCompletion(tokens, error);
+        }
+    }
+
+    private synchronized void fail(Error failure) {
+        if (error == null) {
+            error = failure;
+        }
+    }
+
+    /**
+     * Hands the pages of a partition to the shared callback and records its sync token.
+     */
+    private final class PartitionCallback extends SyncPagesCallBack {
+
+        private final SyncPartition partition;
+
+        PartitionCallback(SyncPartition partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public void onPage(SyncStack syncStack) {
+            synchronized (handlerLock) {
+                callback.onPage(partition, syncStack);
+            }
+        }
+
+        @Override
+        public void onCompletion(String syncToken, Error failure) {
+            synchronized (PartitionedSync.this) {
+                running--;
+                if (failure == null) {
+                    syncTokens.put(partition, syncToken);
+                }
+            }
+            if (failure != null) {
+                fail(failure);
+            }
+            launch();
+        }
+    }
+
+    /**
+     * Receives one page of content types; never blocks the thread that requested it.
+     */
+    private final class ContentTypesPage extends ContentTypesCallback implements FutureCallbacks.NonBlocking {
+
+        private final int skip;
+        private final List<String> contentTypeUids;
+
+        ContentTypesPage(int skip, List<String> contentTypeUids) {
+            this.skip = skip;
+            this.contentTypeUids = contentTypeUids;
+        }
+
+        @Override
+        public void onCompletion(ContentTypesModel contentTypesModel, Error failure) {
+            if (failure != null) {
+                fail(failure);
+                launch();
+                return;
+            }
+            JSONArray contentTypes = contentTypesModel.getResultArray();
+            for (int i = 0; i < contentTypes.length(); i++) {
+                JSONObject contentType = contentTypes.optJSONObject(i);
+                String uid = contentType != null ? contentType.optString("uid", null) : null;
+                if (uid != null) {
+                    contentTypeUids.add(uid);
+                }
+            }
+            if (contentTypes.length() >= CONTENT_TYPES_PAGE_SIZE) {
+                listContentTypes(skip + contentTypes.length(), contentTypeUids);
+            } else {
+                run(options.partitions(contentTypeUids));
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.contentstack.sdk;
+
+import java.util.Map;
+
+/**
+ * Callback of a partitioned initial sync, see {@link Stack#syncPartitioned(SyncPartitionOptions,
+ * PartitionedSyncCallBack)}: the pages of all partitions are handed to {@link #onPage(SyncPartition, SyncStack)},
+ * then {@link #onCompletion(Map, Error)} reports the sync token of every partition.
+ */
+public abstract class PartitionedSyncCallBack {
+
+    /**
+     * Handles one page of a partition. Pages of different partitions are interleaved but never handed over
+     * concurrently, and the pages of a partition arrive in order. Throwing stops that partition, and the sync.
+     *
+     * @param partition the partition the page belongs to
+     * @param syncStack the page
+     */
+    public abstract void onPage(SyncPartition partition, SyncStack syncStack);
+
+    /**
+     * Called once, when every partition has completed or after a failure, once the running partitions have
+     * stopped.
+     *
+     * @param syncTokens the sync token of every partition that completed, in the order they completed
+     * @param error      the first error that stopped the sync, or null when every partition completed
+     */
+    public abstract void onCompletion(Map<SyncPartition, String> syncTokens, Error error);
+}
@@ -1,8 +1,10 @@
 package com.contentstack.sdk;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import io.reactivex.rxjava3.core.Flowable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.json.JSONArray;
@@ -60,6 +62,33 @@ public class Query implements INotifyClass {
         this.contentTypeInstance = contentTypeInstance;
     }
 
+    /**
+     * Copies the Query, so the copy can run concurrently with it and with other copies. Parameters and conditions are
+     * copied one level deep: {@code skip}, {@code limit} and the other top-level parameters can be changed on the
+     * copy, and conditions on other fields added to it, while the existing conditions and field projections are
+     * shared and must not be changed.
+     *
+     * @return a Query with the same content type, headers and parameters
+     */
+    Query copy() {
+        setQueryJson();
+        Query copy = new Query(contentTypeUid);
+        copy.contentTypeInstance = contentTypeInstance;
+        copy.headers = headers != null ? new LinkedHashMap<>(headers) : null;
+        for (String key : urlQueries.keySet()) {
+            copy.urlQueries.put(key, urlQueries.opt(key));
+        }
+        for (String key : queryValueJSON.keySet()) {
+            copy.queryValueJSON.put(key, queryValueJSON.opt(key));
+        }
+        if (copy.urlQueries.has(QUERY)) {
+            copy.urlQueries.put(QUERY, copy.queryValueJSON);
+        }
+        copy.isJsonProper = isJsonProper;
+        copy.errorString = errorString;
+        return copy;
+    }
+
     /**
      * To set headers for Built.io Contentstack rest calls. <br> Scope is limited to this object and followed classes.
      *
@@ -112,7 +141,7 @@ public class Query implements INotifyClass {
     }
 
     //Sanitization of values
-    private boolean isValidValue(Object value) {
+    static boolean isValidValue(Object value) {
         if(value instanceof String){
             return ((String) value).matches("^[a-zA-Z0-9_.\\-\\s]+$");
         }
@@ -1239,6 +1268,206 @@ public class Query implements INotifyClass {
         return this;
     }
 
+    /**
+     * Executes the Query without blocking the calling thread. The request is enqueued on the HTTP dispatcher and the
+     * returned future completes once the response is parsed, so several queries can be composed with
+     * {@link CompletableFuture#allOf(CompletableFuture[])}.
+     * <p>
+     * The future completes exceptionally with a {@link ContentstackException} carrying the {@link Error} when the
+     * request fails. Run one request at a time per Query instance; use a separate Query for each concurrent call.
+     *
+     * @return a {@link CompletableFuture} of the {@link QueryResult} <br>
+     * <br>
+     * <b>Example :</b><br>
+     *
+     * <pre class="prettyprint">
+     *          Stack stack = Contentstack.stack( "apiKey", "deliveryToken", "environment");
+     *          CompletableFuture&lt;QueryResult&gt; blogs = stack.contentType("blog").query().findAsync();
+     *          CompletableFuture&lt;QueryResult&gt; authors = stack.contentType("author").query().findAsync();
+     *          CompletableFuture.allOf(blogs, authors).join();
+     *         </pre>
+     */
+    public CompletableFuture<QueryResult> findAsync() {
+        if (!isJsonProper) {
+            return FutureCallbacks.failed(errorString);
+        }
+        if (contentTypeUid == null || contentTypeUid.isEmpty()) {
+            return FutureCallbacks.failed(ErrorMessages.CONTENT_TYPE_UID_REQUIRED);
+        }
+        FutureCallbacks.QueryFuture callback = new FutureCallbacks.QueryFuture();
+        find(callback);
+        return callback.future;
+    }
+
+    /**
+     * Executes the Query for a single entry without blocking the calling thread. See {@link #findAsync()}.
+     *
+     * @return a {@link CompletableFuture} of the first matching {@link Entry}
+     */
+    public CompletableFuture<Entry> findOneAsync() {
+        if (!isJsonProper) {
+            return FutureCallbacks.failed(errorString);
+        }
+        if (contentTypeUid == null || contentTypeUid.isEmpty()) {
+            return FutureCallbacks.failed(ErrorMessages.CONTENT_TYPE_UID_REQUIRED);
+        }
+        FutureCallbacks.SingleQueryFuture callback = new FutureCallbacks.SingleQueryFuture();
+        findOne(callback);
+        return callback.future;
+    }
+
+    /**
+     * Streams every entry matching the Query, fetching pages of 100 entries on demand. See {@link #stream(int)}.
+     *
+     * @return a {@link Flowable} of the matching entries
+     */
+    public Flowable<Entry> stream() {
+        return stream(ReactivePages.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Streams every entry matching the Query. Pages are fetched with {@code skip}/{@code limit} as the subscriber
+     * requests more entries, so consumers control how many pages are held in memory; a page that returns fewer than
+     * {@code pageSize} entries ends the stream. A {@code skip} already set on the Query is used as the starting offset.
+     * Every page is requested on a copy of the Query as it was when the stream was created, so the Query itself is
+     * left unchanged.
+     * <p>
+     * Each page request blocks the thread that requested it; subscribe with {@code subscribeOn(Schedulers.io())} to
+     * run it in the background. A failed page terminates the stream with a {@link ContentstackException}.
+     *
+     * @param pageSize number of entries to request per page
+     * @return a {@link Flowable} of the matching entries <br>
+     * <br>
+     * <b>Example :</b><br>
+     *
+     * <pre class="prettyprint">
+     *          Stack stack = Contentstack.stack( "apiKey", "deliveryToken", "environment");
+     *          stack.contentType("blog").query().stream(100)
+     *              .subscribeOn(Schedulers.io())
+     *              .blockingForEach(entry -&gt; index(entry));
+     *         </pre>
+     */
+    public Flowable<Entry> stream(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_PAGE_SIZE);
+        }
+        final int start = urlQueries.optInt("skip", 0);
+        final Query snapshot = copy();
+        return ReactivePages.<QueryResult>pages((index, previous) -> {
+            if (previous != null && previous.getResultObjects().size() < pageSize) {
+                return null;
+            }
+            return snapshot.copy().skip(start + index * pageSize).limit(pageSize).findAsync();
+        }).concatMapIterable(QueryResult::getResultObjects, 1);
+    }
+
+    /**
+     * Iterates over every entry matching the Query, in pages of 100 entries with up to 2 pages buffered. See
+     * {@link #iterate(int, int)}.
+     *
+     * @return an {@link Iterator} over the matching entries
+     */
+    public Iterator<Entry> iterate() {
+        return iterate(ReactivePages.DEFAULT_PAGE_SIZE, QueryPager.DEFAULT_BUFFERED_PAGES);
+    }
+
+    /**
+     * Iterates over every entry matching the Query, requesting the pages with {@code skip}/{@code limit} so the
+     * caller never pages by hand. The first page is requested right away, with {@code include_count}; each following
+     * page is requested as soon as the previous one arrives, while the caller is still reading, until
+     * {@code bufferedPages} pages are waiting to be read. Pages stop at the count, or at the first page holding fewer
+     * than {@code pageSize} entries. A {@code skip} already set on the Query is used as the starting offset.
+     * <p>
+     * {@link Iterator#hasNext()} blocks only while the next page is on the wire, and throws a
+     * {@link ContentstackException} when a page request failed. Abandoning the iterator early is safe: at most the
+     * buffered pages are fetched ahead. Every page is requested on a copy of the Query, so the Query itself can be
+     * reused right away.
+     *
+     * @param pageSize      number of entries to request per page
+     * @param bufferedPages maximum number of pages fetched ahead of the one being read
+     * @return an {@link Iterator} over the matching entries <br>
+     * <br>
+     * <b>Example :</b><br>
+     *
+     * <pre class="prettyprint">
+     *          Stack stack = Contentstack.stack( "apiKey", "deliveryToken", "environment");
+     *          Iterator&lt;Entry&gt; entries = stack.contentType("blog").query().iterate(100, 2);
+     *          while (entries.hasNext()) {
+     *              index(entries.next());
+     *          }
+     *         </pre>
+     */
+    public Iterator<Entry> iterate(int pageSize, int bufferedPages) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_PAGE_SIZE);
+        }
+        if (bufferedPages < 1) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_BUFFERED_PAGES);
+        }
+        return new QueryPager(this, pageSize, bufferedPages).start();
+    }
+
+    /**
+     * Reads every entry matching the Query into a list, paging with {@link #iterate()}.
+     *
+     * @return the matching entries, in order
+     * @throws ContentstackException if a page request failed
+     */
+    public List<Entry> findAll() {
+        List<Entry> entries = new ArrayList<>();
+        iterate().forEachRemaining(entries::add);
+        return entries;
+    }
+
+    /**
+     * Reads every entry matching the Query with concurrent page requests, in pages of 100 entries with up to 4
+     * requests at a time. See {@link #findAllAsync(int, int)}.
+     *
+     * @return a {@link CompletableFuture} of the matching entries, in order
+     */
+    public CompletableFuture<List<Entry>> findAllAsync() {
+        return findAllAsync(ReactivePages.DEFAULT_PAGE_SIZE, QueryFanOut.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Reads every entry matching the Query with concurrent page requests. The first page is requested with
+     * {@code include_count}; the count gives the number of pages, which are then requested at the same time, up to
+     * {@code maxConcurrency} at once, and merged in order. A {@code skip} already set on the Query is used as the
+     * starting offset. When no count is returned, the following pages are requested one at a time.
+     * <p>
+     * Every page is requested on a copy of the Query, so the Query itself can be reused right away. The pages are
+     * read at slightly different times: entries published or deleted meanwhile can shift between pages, so a
+     * consistent snapshot needs a sync instead. Concurrent requests to one host are also limited by
+     * {@link Config#setMaxRequests(int, int)}.
+     *
+     * @param pageSize       number of entries to request per page
+     * @param maxConcurrency maximum number of page requests in flight at once
+     * @return a {@link CompletableFuture} of the matching entries, in order, completed exceptionally with a
+     * {@link ContentstackException} when a page request fails <br>
+     * <br>
+     * <b>Example :</b><br>
+     *
+     * <pre class="prettyprint">
+     *          Stack stack = Contentstack.stack( "apiKey", "deliveryToken", "environment");
+     *          List&lt;Entry&gt; entries = stack.contentType("blog").query().findAllAsync(100, 8).join();
+     *         </pre>
+     */
+    public CompletableFuture<List<Entry>> findAllAsync(int pageSize, int maxConcurrency) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_PAGE_SIZE);
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_MAX_CONCURRENCY);
+        }
+        if (!isJsonProper) {
+            return FutureCallbacks.failed(errorString);
+        }
+        if (contentTypeUid == null || contentTypeUid.isEmpty()) {
+            return FutureCallbacks.failed(ErrorMessages.CONTENT_TYPE_UID_REQUIRED);
+        }
+        return new QueryFanOut(this, pageSize, maxConcurrency).start();
+    }
+
     private void throwException(String queryName, String messageString, @Nullable Exception e) {
         HashMap<String, Object> errorHashMap = new HashMap<>();
         isJsonProper = false;
@@ -1285,7 +1514,50 @@ public class Query implements INotifyClass {
         urlQueries.put(Constants.ENVIRONMENT, this.headers.get(Constants.ENVIRONMENT));
         includeLivePreview();
         mainJSON.put(QUERY, urlQueries);
-        fetchFromNetwork(urlString, mainJSON, callback, callBack);
+        if (!findInReplica(callBack != null)) {
+            fetchFromNetwork(urlString, mainJSON, callback, callBack);
+        }
+    }
+
+    /**
+     * Runs the query on the local replica when the stack serves from one, a full sync has completed and the
+     * replica supports every part of the query; see {@link LocalQueryPlan}.
+     *
+     * @return false if the query must go to the network
+     */
+    private boolean findInReplica(boolean isSingleEntry) {
+        LocalReplica replica = contentTypeInstance.stackInstance.servingReplica();
+        if (replica == null || replica.getSyncToken() == null) {
+            return false;
+        }
+        LocalQueryPlan plan = LocalQueryPlan.compile(urlQueries, headers);
+        JSONObject response = plan.isLocal() ? replica.query(contentTypeUid, plan) : null;
+        if (response == null) {
+            return false;
+        }
+        getResultObject(new EntriesModel(response).objectList, response, isSingleEntry, ResponseType.REPLICA);
+        return true;
+    }
+
+    /**
+     * Compiles the Query for the local replica maintained by sync, see {@link Config#setReplicaOptions}, and
+     * reports whether it can run there or which of its parameters and operators send it to the network.
+     *
+     * @return the plan of the Query <br>
+     * <br>
+     * <b>Example :</b><br>
+     *
+     * <pre class="prettyprint">
+     *          Stack stack = Contentstack.stack( "apiKey", "deliveryToken", "environment");
+     *          LocalQueryPlan plan = stack.contentType("blog").query().where("title", "Hello").explain();
+     *          if (!plan.isLocal()) {
+     *              System.out.println(plan.getUnsupported());
+     *          }
+     *         </pre>
+     */
+    public LocalQueryPlan explain() {
+        setQueryJson();
+        return LocalQueryPlan.compile(urlQueries, headers);
     }
 
     private void includeLivePreview() {
@@ -1332,6 +1604,12 @@ public class Query implements INotifyClass {
 
     @Override
     public void getResultObject(List<Object> objects, JSONObject jsonObject, boolean isSingleEntry) {
+        getResultObject(objects, jsonObject, isSingleEntry, ResponseType.NETWORK);
+    }
+
+    @Override
+    public void getResultObject(List<Object> objects, JSONObject jsonObject, boolean isSingleEntry,
+            ResponseType responseType) {
         List<Entry> objectList = new ArrayList<>();
         for (Object object : objects) {
             Entry entry;
@@ -1354,13 +1632,13 @@ public class Query implements INotifyClass {
                 entry = objectList.get(0);
             }
             if (singleQueryResultCallback != null) {
-                singleQueryResultCallback.onRequestFinish(ResponseType.NETWORK, entry);
+                singleQueryResultCallback.onRequestFinish(responseType, entry);
             }
         } else {
             QueryResult queryResultObject = new QueryResult();
             queryResultObject.setJSON(jsonObject, objectList);
             if (queryResultCallback != null) {
-                queryResultCallback.onRequestFinish(ResponseType.NETWORK, queryResultObject);
+                queryResultCallback.onRequestFinish(responseType, queryResultObject);
             }
         }
 
@@ -0,0 +1,146 @@
+package com.contentstack.sdk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Reads every entry matching a Query with concurrent page requests, see {@link Query#findAllAsync(int, int)}. The
+ * first page is requested with {@code include_count}; once the count is known, the other pages do not depend on each
+ * other, so they are requested on copies of the Query, up to the concurrency limit at a time, and merged in page
+ * order once all have arrived.
+ * <p>
+ * When the response carries no count, the following pages are requested one at a time until a page holds fewer than
+ * a page of entries. The first failed page fails the whole read and no further pages are requested.
+ */
+final class QueryFanOut {
+
+    static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    private final Query query;
+    private final int pageSize;
+    private final int maxConcurrency;
+    private final int start;
+    private final CompletableFuture<List<Entry>> result = new CompletableFuture<>();
+    private List<List<Entry>> pages;
+    private int nextPage;
+    private int running = 0;
+    private int remaining;
+
+    QueryFanOut(Query query, int pageSize, int maxConcurrency) {
+        // Copied on the calling thread; every page is a copy of this one
+        this.query = query.copy();
+        this.pageSize = pageSize;
+        this.maxConcurrency = maxConcurrency;
+        this.start = query.urlQueries.optInt("skip", 0);
+    }
+
+    /**
+     * Requests the first page.
+     *
+     * @return the future of every entry, in order
+     */
+    CompletableFuture<List<Entry>> start() {
+        page(0, true).whenComplete(this::onFirstPage);
+        return result;
+    }
+
+    private CompletableFuture<QueryResult> page(int index, boolean includeCount) {
+        Query page = query.copy().skip(start + index * pageSize).limit(pageSize);
+        if (includeCount) {
+            page.includeCount();
+        } else {
+            page.urlQueries.remove("include_count");
+        }
+        return page.findAsync();
+    }
+
+    private void onFirstPage(QueryResult first, Throwable failure) {
+        if (failure != null) {
+            result.completeExceptionally(FutureCallbacks.unwrap(failure));
+            return;
+        }
+        List<Entry> entries = first.getResultObjects();
+        if (first.receiveJson == null || !first.receiveJson.has("count")) {
+            List<Entry> all = new ArrayList<>(entries);
+            if (entries.size() < pageSize) {
+                result.complete(all);
+            } else {
+                sequential(1, all);
+            }
+            return;
+        }
+        int matching = Math.max(0, first.getCount() - start);
+        int pageCount = (matching + pageSize - 1) / pageSize;
+        if (pageCount <= 1) {
+            result.complete(new ArrayList<>(entries));
+            return;
+        }
+        synchronized (this) {
+            pages = new ArrayList<>(pageCount);
+            pages.add(entries);
+            for (int i = 1; i < pageCount; i++) {
+                pages.add(null);
+            }
+            nextPage = 1;
+            remaining = pageCount - 1;
+        }
+        launch();
+    }
+
+    /**
+     * Requests pages until the concurrency limit is reached or every page was requested.
+     */
+    private void launch() {
+        while (true) {
+            int index;
+            synchronized (this) {
+                if (result.isDone() || nextPage >= pages.size() || running >= maxConcurrency) {
+                    return;
+                }
+                index = nextPage++;
+                running++;
+            }
+            page(index, false).whenComplete((page, failure) -> onPage(index, page, failure));
+        }
+    }
+
+    private void onPage(int index, QueryResult page, Throwable failure) {
+        List<Entry> all = null;
+        synchronized (this) {
+            running--;
+            if (failure != null) {
+                result.completeExceptionally(FutureCallbacks.unwrap(failure));
+                return;
+            }
+            pages.set(index, page.getResultObjects());
+            if (--remaining == 0) {
+                all = new ArrayList<>();
+                for (List<Entry> entries : pages) {
+                    all.addAll(entries);
+                }
+            }
+        }
+        if (all != null) {
+            result.complete(all);
+        } else {
+            launch();
+        }
+    }
+
+    private void sequential(int index, List<Entry> all) {
+        page(index, false).whenComplete((page, failure) -> {
+            if (failure != null) {
+                result.completeExceptionally(FutureCallbacks.unwrap(failure));
+                return;
+            }
+            List<Entry> entries = page.getResultObjects();
+            all.addAll(entries);
+            if (entries.size() < pageSize) {
+                result.complete(all);
+            } else {
+                sequential(index + 1, all);
+            }
+        });
+    }
+}
@@ -0,0 +1,132 @@
+package com.contentstack.sdk;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over every entry matching a Query, see {@link Query#iterate(int, int)}. Pages are requested with
+ * {@code skip}/{@code limit} one after the other, but the next request goes out as soon as a page arrives instead of
+ * once the caller has read it: up to the buffered number of pages wait for the caller while the following one is on
+ * the wire. The first page is requested with {@code include_count}, and the pages stop at that count, or at the first
+ * page holding fewer than a page of entries.
+ * <p>
+ * Every page is requested on its own copy of the Query, taken when the iterator is created, so the Query itself is
+ * never changed. Requests are enqueued on the HTTP dispatcher; only {@link #hasNext()} and {@link #next()} block, and
+ * only while no page is waiting.
+ */
+final class QueryPager implements Iterator<Entry> {
+
+    static final int DEFAULT_BUFFERED_PAGES = 2;
+
+    private final Query query;
+    private final int pageSize;
+    private final int bufferedPages;
+    private final int start;
+    private final ArrayDeque<List<Entry>> fetched = new ArrayDeque<>();
+    private Iterator<Entry> current = Collections.emptyIterator();
+    private int pages = 0;
+    private int total = -1;
+    private boolean fetching = false;
+    private boolean last = false;
+    private ContentstackException error;
+
+    QueryPager(Query query, int pageSize, int bufferedPages) {
+        this.query = query.copy();
+        this.pageSize = pageSize;
+        this.bufferedPages = bufferedPages;
+        this.start = query.urlQueries.optInt("skip", 0);
+    }
+
+    /**
+     * Requests the first page.
+     */
+    QueryPager start() {
+        synchronized (this) {
+            fetching = true;
+        }
+        request(0);
+        return this;
+    }
+
+    private void request(int index) {
+        Query page = query.copy().skip(start + index * pageSize).limit(pageSize);
+        if (index == 0) {
+            page.includeCount();
+        }
+        page.findAsync().whenComplete(this::onFetched);
+    }
+
+    private void onFetched(QueryResult page, Throwable failure) {
+        synchronized (this) {
+            fetching = false;
+            if (failure != null) {
+                error = FutureCallbacks.unwrap(failure);
+            } else {
+                if (pages == 0 && page.receiveJson != null && page.receiveJson.has("count")) {
+                    total = page.getCount();
+                }
+                pages++;
+                List<Entry> entries = page.getResultObjects();
+                fetched.add(entries);
+                last = entries.size() < pageSize || (total >= 0 && start + pages * pageSize >= total);
+            }
+            notifyAll();
+        }
+        fetchNext();
+    }
+
+    /**
+     * Requests the next page unless one is on the wire, the last one has arrived, or enough are waiting.
+     */
+    private void fetchNext() {
+        int index;
+        synchronized (this) {
+            if (fetching || last || error != null || fetched.size() >= bufferedPages) {
+                return;
+            }
+            fetching = true;
+            index = pages;
+        }
+        request(index);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            List<Entry> page;
+            synchronized (this) {
+                while (fetched.isEmpty() && error == null && fetching) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new ContentstackException(
+                                new Error(ErrorMessages.QUERY_ITERATION_INTERRUPTED, 0, e.toString()));
+                    }
+                }
+                page = fetched.poll();
+                if (page == null) {
+                    if (error != null) {
+                        throw error;
+                    }
+                    return false;
+                }
+            }
+            current = page.iterator();
+            // Room for another page: request it before this one is read
+            fetchNext();
+        }
+        return true;
+    }
+
+    @Override
+    public Entry next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+}
@@ -107,7 +107,8 @@ public class QueryResult {
         try {
             if (receiveJson != null && receiveJson.has("content_type")) {
                 Object contentTypeObject = receiveJson.get("content_type");
-                JSONObject jsonObject = new JSONObject((Map<?, ?>) contentTypeObject);
+                JSONObject jsonObject = contentTypeObject instanceof JSONObject ? (JSONObject) contentTypeObject
+                        : new JSONObject((Map<?, ?>) contentTypeObject);
                 if (jsonObject != null) {
                     contentObject = jsonObject;
                 }
@@ -0,0 +1,145 @@
+package com.contentstack.sdk;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.json.JSONArray;
+
+/**
+ * Builds request query strings in a single {@link StringBuilder}. Produces exactly what the previous
+ * {@code String +=} implementation did, including {@code application/x-www-form-urlencoded} encoding identical to
+ * {@link java.net.URLEncoder#encode(String, String)} with UTF-8, without re-encoding the constant array keys
+ * ({@code include[]}, {@code only[BASE][]}, ...) on every request.
+ */
+final class QueryStringBuilder {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final Map<String, String> ENCODED_KEYS = new HashMap<>();
+
+    static {
+        for (String key : new String[]{"include[]", "only[BASE][]", "except[BASE][]", "asset_fields[]"}) {
+            ENCODED_KEYS.put(key, encode(key));
+        }
+    }
+
+    private final StringBuilder builder;
+
+    /**
+     * Creates a builder that continues the given query string, usually {@code "?"}.
+     *
+     * @param prefix the query string built so far
+     */
+    QueryStringBuilder(String prefix) {
+        this.builder = new StringBuilder(Math.max(128, prefix.length() + 64)).append(prefix);
+    }
+
+    /**
+     * Appends {@code key=value}; the key and value are written as given.
+     */
+    QueryStringBuilder param(String key, Object value) {
+        separator();
+        builder.append(key).append('=').append(value);
+        return this;
+    }
+
+    /**
+     * Appends {@code key=value} with the value form-encoded.
+     */
+    QueryStringBuilder encodedParam(String key, String value) {
+        separator();
+        builder.append(key).append('=');
+        appendEncoded(builder, value);
+        return this;
+    }
+
+    /**
+     * Appends one {@code key=value} pair per array element, with the key form-encoded once.
+     */
+    QueryStringBuilder arrayParam(String key, JSONArray values) {
+        String encodedKey = encodeKey(key);
+        for (int i = 0; i < values.length(); i++) {
+            param(encodedKey, values.opt(i));
+        }
+        return this;
+    }
+
+    /**
+     * Appends one {@code prefix[field][]=value} pair per array element, as used by field projections such as
+     * {@code only[author][]}.
+     */
+    QueryStringBuilder fieldArrayParam(String prefix, String field, JSONArray values) {
+        StringBuilder key = new StringBuilder(prefix.length() + field.length() + 12).append(prefix).append("%5B");
+        appendEncoded(key, field);
+        String encodedKey = key.append("%5D%5B%5D").toString();
+        for (int i = 0; i < values.length(); i++) {
+            param(encodedKey, values.opt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return builder.toString();
+    }
+
+    /**
+     * Nothing has been appended yet while the query string is still a bare {@code "?"}.
+     */
+    private void separator() {
+        if (builder.length() != 1 || builder.charAt(0) != '?') {
+            builder.append('&');
+        }
+    }
+
+    /**
+     * Form-encodes a key, reusing the pre-encoded form of the SDK's constant keys.
+     */
+    static String encodeKey(String key) {
+        String encoded = ENCODED_KEYS.get(key);
+        return encoded != null ? encoded : encode(key);
+    }
+
+    static String encode(String value) {
+        StringBuilder out = new StringBuilder(value.length() + 16);
+        appendEncoded(out, value);
+        return out.toString();
+    }
+
+    /**
+     * Same algorithm as {@link java.net.URLEncoder}: unreserved characters are copied, space becomes {@code +}, and
+     * every other run of characters is converted to UTF-8 as a whole (so unpaired surrogates become {@code ?}) and
+     * written as {@code %XX} bytes.
+     */
+    static void appendEncoded(StringBuilder out, String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (isUnreserved(c)) {
+                out.append(c);
+                i++;
+            } else if (c == ' ') {
+                out.append('+');
+                i++;
+            } else {
+                int start = i;
+                do {
+                    char current = value.charAt(i++);
+                    if (Character.isHighSurrogate(current) && i < length
+                            && Character.isLowSurrogate(value.charAt(i))) {
+                        i++;
+                    }
+                } while (i < length && !isUnreserved(value.charAt(i)) && value.charAt(i) != ' ');
+                for (byte b : value.substring(start, i).getBytes(StandardCharsets.UTF_8)) {
+                    out.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+                }
+            }
+        }
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == '*';
+    }
+}
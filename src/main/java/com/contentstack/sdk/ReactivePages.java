@@ -0,0 +1,55 @@
+package com.contentstack.sdk;
+
+import io.reactivex.rxjava3.core.Flowable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+
+/**
+ * Turns a page-by-page fetch into a {@link Flowable}. Pages are requested lazily: a page is only fetched when the
+ * subscriber has requested more items than the pages fetched so far provide, so at most the page being drained and
+ * the one being prefetched are held in memory.
+ * <p>
+ * Each page fetch blocks the thread that requested it until the page arrives; use
+ * {@code subscribeOn(Schedulers.io())} to keep the I/O off the subscriber's thread.
+ */
+final class ReactivePages {
+
+    /**
+     * Maximum number of objects the Content Delivery API returns per request.
+     */
+    static final int DEFAULT_PAGE_SIZE = 100;
+
+    private ReactivePages() {
+    }
+
+    /**
+     * @param nextPage called with the zero-based page index and the previous page (null for the first page); returns
+     *                 the future of the next page, or null when there are no more pages
+     * @param <P>      the page type
+     * @return a Flowable emitting each page in order
+     */
+    static <P> Flowable<P> pages(BiFunction<Integer, P, CompletableFuture<P>> nextPage) {
+        return Flowable.generate(PageState<P>::new, (state, emitter) -> {
+            CompletableFuture<P> future = nextPage.apply(state.index, state.previous);
+            if (future == null) {
+                emitter.onComplete();
+                return;
+            }
+            try {
+                P page = future.join();
+                state.previous = page;
+                state.index++;
+                emitter.onNext(page);
+            } catch (CompletionException e) {
+                emitter.onError(e.getCause() != null ? e.getCause() : e);
+            }
+        });
+    }
+
+    private static final class PageState<P> {
+        int index = 0;
+        P previous;
+    }
+}
@@ -0,0 +1,298 @@
+package com.contentstack.sdk;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+import org.json.JSONObject;
+
+/**
+ * Secondary index over one field of the entries of a content type in the {@link LocalReplica}, declared with
+ * {@link ReplicaOptions#addHashIndex(String, String)} or {@link ReplicaOptions#addSortedIndex(String, String)}.
+ * Indexes are maintained as sync items are applied and let local queries read only the entries that may match
+ * instead of scanning the content type; see {@link LocalQueryPlan}. A sorted index on the field a query orders by
+ * also lets the replica read the entries in result order and stop at the end of the page.
+ * <p>
+ * Every string, number and boolean the field path holds is a key, array values each on their own, with numbers
+ * compared as doubles. The memory figures are estimates of the heap the index adds to the replica, for sizing.
+ */
+public final class ReplicaIndex {
+
+    /**
+     * Kind of index.
+     */
+    public enum Type {
+        /**
+         * Hash index answering equality and {@code containedIn}.
+         */
+        HASH,
+
+        /**
+         * Sorted index answering equality, {@code containedIn}, ranges ({@code lessThan}, {@code greaterThan},
+         * ...) and ordering ({@code ascending}, {@code descending}).
+         */
+        SORTED
+    }
+
+    // Rough per-object costs on a 64-bit JVM with compressed references
+    private static final long KEY_OVERHEAD = 64;
+    private static final long POSTING_OVERHEAD = 40;
+
+    /**
+     * Orders numbers before strings before booleans, each by value.
+     */
+    private static final Comparator<Object> KEY_ORDER = (left, right) -> {
+        int rank = Integer.compare(rank(left), rank(right));
+        if (rank != 0) {
+            return rank;
+        }
+        if (left instanceof Double) {
+            return Double.compare((Double) left, (Double) right);
+        }
+        if (left instanceof String) {
+            return ((String) left).compareTo((String) right);
+        }
+        return Boolean.compare((Boolean) left, (Boolean) right);
+    };
+
+    private final String contentTypeUid;
+    private final String field;
+    private final Type type;
+    private final Map<Object, Set<JSONObject>> postings;
+    private volatile int keyCount = 0;
+    private volatile long postingCount = 0;
+    private volatile int orderedEntries = 0;
+    private volatile long estimatedBytes = 0;
+
+    ReplicaIndex(String contentTypeUid, String field, Type type) {
+        this.contentTypeUid = contentTypeUid;
+        this.field = field;
+        this.type = type;
+        this.postings = type == Type.SORTED ? new ConcurrentSkipListMap<>(KEY_ORDER) : new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the content type of the indexed entries.
+     *
+     * @return the content type UID
+     */
+    public String getContentTypeUid() {
+        return contentTypeUid;
+    }
+
+    /**
+     * Returns the indexed field path.
+     *
+     * @return the field path, dotted for nested fields
+     */
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * Returns the kind of index.
+     *
+     * @return HASH or SORTED
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     *
+     * @return the key count
+     */
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Returns the number of (key, entry) pairs; an entry counts once per value of the field.
+     *
+     * @return the posting count
+     */
+    public long getPostingCount() {
+        return postingCount;
+    }
+
+    /**
+     * Returns the estimated heap used by the index, excluding the entries themselves, which the replica holds
+     * anyway.
+     *
+     * @return estimated size in bytes
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicaIndex{" +
+                "contentTypeUid=" + contentTypeUid +
+                ", field=" + field +
+                ", type=" + type +
+                ", keyCount=" + keyCount +
+                ", postingCount=" + postingCount +
+                ", estimatedBytes=" + estimatedBytes +
+                '}';
+    }
+
+    /**
+     * Adds an entry under every value of the field. Only called by the replica's single writer.
+     */
+    void add(JSONObject entry) {
+        List<Object> values = LocalQueryPlan.values(entry, field);
+        if (sortKey(values) != null) {
+            orderedEntries++;
+        }
+        for (Object value : values) {
+            Object key = key(value);
+            if (key == null) {
+                continue;
+            }
+            Set<JSONObject> entries = postings.get(key);
+            if (entries == null) {
+                entries = ConcurrentHashMap.newKeySet();
+                postings.put(key, entries);
+                keyCount++;
+                estimatedBytes += KEY_OVERHEAD + keySize(key);
+            }
+            if (entries.add(entry)) {
+                postingCount++;
+                estimatedBytes += POSTING_OVERHEAD;
+            }
+        }
+    }
+
+    /**
+     * Removes an entry added before; it must not have changed since.
+     */
+    void remove(JSONObject entry) {
+        List<Object> values = LocalQueryPlan.values(entry, field);
+        if (sortKey(values) != null) {
+            orderedEntries--;
+        }
+        for (Object value : values) {
+            Object key = key(value);
+            Set<JSONObject> entries = key != null ? postings.get(key) : null;
+            if (entries == null || !entries.remove(entry)) {
+                continue;
+            }
+            postingCount--;
+            estimatedBytes -= POSTING_OVERHEAD;
+            if (entries.isEmpty()) {
+                postings.remove(key);
+                keyCount--;
+                estimatedBytes -= KEY_OVERHEAD + keySize(key);
+            }
+        }
+    }
+
+    /**
+     * Collects the entries holding any of the values.
+     */
+    void lookup(Collection<Object> values, Set<JSONObject> into) {
+        for (Object value : values) {
+            Object key = key(value);
+            Set<JSONObject> entries = key != null ? postings.get(key) : null;
+            if (entries != null) {
+                into.addAll(entries);
+            }
+        }
+    }
+
+    /**
+     * Collects the entries with a value within the bounds, null for an open bound; sorted indexes only. Values of
+     * other types than the bounds may be included, the query's predicate drops them.
+     */
+    void range(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive, Set<JSONObject> into) {
+        NavigableMap<Object, Set<JSONObject>> sorted = (NavigableMap<Object, Set<JSONObject>>) postings;
+        Object lowerKey = key(lower);
+        Object upperKey = key(upper);
+        NavigableMap<Object, Set<JSONObject>> view;
+        if (lowerKey != null && upperKey != null) {
+            if (KEY_ORDER.compare(lowerKey, upperKey) > 0) {
+                return;
+            }
+            view = sorted.subMap(lowerKey, lowerInclusive, upperKey, upperInclusive);
+        } else if (lowerKey != null) {
+            view = sorted.tailMap(lowerKey, lowerInclusive);
+        } else if (upperKey != null) {
+            view = sorted.headMap(upperKey, upperInclusive);
+        } else {
+            view = sorted;
+        }
+        for (Set<JSONObject> entries : view.values()) {
+            into.addAll(entries);
+        }
+    }
+
+    /**
+     * Returns the number of entries that sort by a value of the index, those whose first value of the field is a
+     * string, number or boolean. When it is every entry of the content type, {@link #ordered} sees them all.
+     */
+    int orderedEntries() {
+        return orderedEntries;
+    }
+
+    /**
+     * Collects the accepted entries in the order of a query sorting by the field, as {@link LocalQueryPlan} sorts
+     * them, until at least the wanted number is reached; entries sorting by the same value are ordered by UID.
+     * Sorted indexes only.
+     */
+    void ordered(boolean descending, Predicate<JSONObject> accept, long wanted, List<JSONObject> into) {
+        NavigableMap<Object, Set<JSONObject>> sorted = (NavigableMap<Object, Set<JSONObject>>) postings;
+        for (Map.Entry<Object, Set<JSONObject>> posting : (descending ? sorted.descendingMap() : sorted).entrySet()) {
+            if (into.size() >= wanted) {
+                return;
+            }
+            List<JSONObject> group = new ArrayList<>();
+            for (JSONObject entry : posting.getValue()) {
+                // An array field sorts by its first value only
+                Object sortKey = sortKey(LocalQueryPlan.values(entry, field));
+                if (sortKey != null && KEY_ORDER.compare(sortKey, posting.getKey()) == 0 && accept.test(entry)) {
+                    group.add(entry);
+                }
+            }
+            group.sort(Comparator.comparing(entry -> entry.optString("uid")));
+            into.addAll(group);
+        }
+    }
+
+    private static Object sortKey(List<Object> values) {
+        return values.isEmpty() ? null : key(values.get(0));
+    }
+
+    /**
+     * Normalizes a value to a key: numbers become doubles, so 10 and 10.0 meet; objects, arrays and nulls are not
+     * indexed.
+     */
+    static Object key(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof String || value instanceof Boolean) {
+            return value;
+        }
+        return null;
+    }
+
+    private static int rank(Object key) {
+        if (key instanceof Double) {
+            return 0;
+        }
+        return key instanceof String ? 1 : 2;
+    }
+
+    private static long keySize(Object key) {
+        return key instanceof String ? 2L * ((String) key).length() : 16;
+    }
+}
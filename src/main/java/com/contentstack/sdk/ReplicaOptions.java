@@ -0,0 +1,169 @@
+package com.contentstack.sdk;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Configuration for the local replica of a stack, a copy of its published entries and assets kept up to date by
+ * the Sync API. Set it with {@link Config#setReplicaOptions(ReplicaOptions)} before creating the stack; the replica
+ * is disabled when no options are set.
+ *
+ * <p>Every page returned by {@code Stack.sync}, {@code Stack.syncToken} and the other sync methods is applied to the
+ * replica. Once it holds a version of an entry or asset, {@code Entry.fetch} and {@code Asset.fetch} are answered
+ * from it without a request, and reported with {@link ResponseType#REPLICA}. Once a full sync has completed,
+ * queries are run on it as well, unless they use parameters it can not answer, see {@link LocalQueryPlan}.
+ *
+ * <p>With a persistence file, the replica and its sync token are written to disk each time a sync completes and
+ * loaded again when the next stack is created, so a restart only needs a delta sync:
+ * <pre>{@code
+ * Config config = new Config().setReplicaOptions(new ReplicaOptions().setPersistenceFile(new File("replica.json")));
+ * Stack stack = Contentstack.stack("apiKey", "deliveryToken", "environment", config);
+ * String token = stack.getReplica().getSyncToken();
+ * if (token == null) {
+ *     stack.sync(callback);
+ * } else {
+ *     stack.syncToken(token, callback);
+ * }
+ * }</pre>
+ *
+ * <p>Queries scan the entries of their content type unless it has secondary indexes on the fields they filter or
+ * sort by: a hash index answers equality and {@code containedIn}, a sorted index ranges and ordering too. Indexes
+ * are kept up to date as sync items are applied; {@link LocalReplica#getIndexes()} reports their size.
+ * <pre>{@code
+ * ReplicaOptions options = new ReplicaOptions()
+ *     .addHashIndex("blog", "url")
+ *     .addHashIndex("blog", "tags")
+ *     .addSortedIndex("blog", "published_date");
+ * }</pre>
+ */
+public class ReplicaOptions {
+
+    /**
+     * File the replica is loaded from and saved to; null keeps it in memory only.
+     */
+    private File persistenceFile = null;
+
+    /**
+     * Whether fetches and queries are answered from the replica.
+     */
+    private boolean serveFetches = true;
+
+    /**
+     * Secondary indexes, by content type and field path.
+     */
+    private final Map<String, Map<String, ReplicaIndex.Type>> indexes = new LinkedHashMap<>();
+
+    /**
+     * Creates ReplicaOptions with default configuration.
+     * <p>Defaults: in memory only, fetches served from the replica.
+     */
+    public ReplicaOptions() {
+    }
+
+    /**
+     * Keeps the replica in a file: it is loaded when the stack is created, if the file exists, and replaced
+     * atomically every time a sync reaches its sync token.
+     *
+     * @param persistenceFile the file holding the replica
+     * @return this ReplicaOptions instance for method chaining
+     * @throws NullPointerException if the file is null
+     */
+    public ReplicaOptions setPersistenceFile(File persistenceFile) {
+        this.persistenceFile = Objects.requireNonNull(persistenceFile, "Persistence file cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets whether {@code Entry.fetch}, {@code Asset.fetch} and the queries the replica supports, see
+     * {@link LocalQueryPlan}, are answered from the replica. When disabled, the replica is only maintained, for
+     * reading through {@link LocalReplica}.
+     *
+     * @param serveFetches true to serve fetches from the replica
+     * @return this ReplicaOptions instance for method chaining
+     */
+    public ReplicaOptions setServeFetches(boolean serveFetches) {
+        this.serveFetches = serveFetches;
+        return this;
+    }
+
+    /**
+     * Adds a hash index on a field of the entries of a content type, for queries testing it for equality
+     * ({@code where}) or against a list of values ({@code containedIn}), and for {@code tags} on the {@code tags}
+     * field. Has no effect when the field already has a sorted index.
+     *
+     * @param contentTypeUid the content type UID
+     * @param field          the field path, dotted for nested fields, like {@code url} or {@code seo.slug}
+     * @return this ReplicaOptions instance for method chaining
+     * @throws NullPointerException     if the content type or field is null
+     * @throws IllegalArgumentException if the content type or field is empty
+     */
+    public ReplicaOptions addHashIndex(String contentTypeUid, String field) {
+        index(contentTypeUid, field).putIfAbsent(field, ReplicaIndex.Type.HASH);
+        return this;
+    }
+
+    /**
+     * Adds a sorted index on a field of the entries of a content type, usually a date or a number, for queries
+     * testing it for equality or a range ({@code lessThan}, {@code greaterThanOrEqualTo}, ...) or ordering by it.
+     * Replaces a hash index on the field.
+     *
+     * @param contentTypeUid the content type UID
+     * @param field          the field path, dotted for nested fields
+     * @return this ReplicaOptions instance for method chaining
+     * @throws NullPointerException     if the content type or field is null
+     * @throws IllegalArgumentException if the content type or field is empty
+     */
+    public ReplicaOptions addSortedIndex(String contentTypeUid, String field) {
+        index(contentTypeUid, field).put(field, ReplicaIndex.Type.SORTED);
+        return this;
+    }
+
+    private Map<String, ReplicaIndex.Type> index(String contentTypeUid, String field) {
+        Objects.requireNonNull(contentTypeUid, "Content type UID cannot be null");
+        Objects.requireNonNull(field, "Field cannot be null");
+        if (contentTypeUid.isEmpty() || field.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Index content type and field cannot be empty. Provided: " + contentTypeUid + "." + field);
+        }
+        return indexes.computeIfAbsent(contentTypeUid, key -> new LinkedHashMap<>());
+    }
+
+    /**
+     * Returns the file the replica is persisted to.
+     *
+     * @return the persistence file, or null when the replica is kept in memory only
+     */
+    public File getPersistenceFile() {
+        return persistenceFile;
+    }
+
+    /**
+     * Returns whether fetches are answered from the replica.
+     *
+     * @return true if fetches are served from the replica
+     */
+    public boolean isServeFetches() {
+        return serveFetches;
+    }
+
+    /**
+     * Returns the secondary indexes.
+     *
+     * @return the kind of each index, by content type UID and field path
+     */
+    public Map<String, Map<String, ReplicaIndex.Type>> getIndexes() {
+        return Collections.unmodifiableMap(indexes);
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicaOptions{" +
+                "persistenceFile=" + persistenceFile +
+                ", serveFetches=" + serveFetches +
+                ", indexes=" + indexes +
+                '}';
+    }
+}
@@ -0,0 +1,225 @@
+package com.contentstack.sdk;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Single-flight for identical in-flight requests of a stack: while a request for a URL and header set is on the
+ * wire, further identical requests wait for it instead of going to the network themselves. Enabled with
+ * {@link Config#enableRequestCoalescing(boolean)}.
+ * <p>
+ * The decoded response is published once and never handed to callers directly; every caller, the one that made
+ * the request included when others joined it, works on its own deep copy, so callbacks can modify their result
+ * without affecting each other.
+ */
+final class RequestCoalescer {
+
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final boolean retainCompleted;
+
+    /**
+     * @param executor runs the completion of requests that joined a flight without blocking their caller
+     */
+    RequestCoalescer(Executor executor) {
+        this(executor, false);
+    }
+
+    /**
+     * @param executor        runs the completion of requests that joined a flight without blocking their caller
+     * @param retainCompleted whether flights that succeeded stay open, so later identical requests are served their
+     *                        response too, see {@link RequestScope}
+     */
+    RequestCoalescer(Executor executor, boolean retainCompleted) {
+        this.executor = executor;
+        this.retainCompleted = retainCompleted;
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Forgets every flight; requests still in flight complete their callers but are no longer joined.
+     */
+    void clear() {
+        inFlight.clear();
+    }
+
+    /**
+     * Builds the flight key of a request from its final URL and its headers, in a stable order.
+     */
+    static String key(String url, Map<String, Object> headers) {
+        StringBuilder key = new StringBuilder(url);
+        for (Map.Entry<String, Object> header : new TreeMap<>(headers).entrySet()) {
+            key.append('\n').append(header.getKey()).append(':').append(header.getValue());
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns the flight for the key. The caller leads the flight, and must complete it, when
+     * {@link Flight#isLeader()} is true; otherwise it has joined a request that is already in flight.
+     */
+    Flight join(String key) {
+        return join(key, true);
+    }
+
+    /**
+     * Returns the flight for the key, as {@link #join(String)} does, but only joins a flight that has not completed
+     * yet when the caller may wait for it.
+     *
+     * @return the flight, or null when the caller must make its own request outside of any flight
+     */
+    Flight join(String key, boolean mayWait) {
+        while (true) {
+            Flight flight = new Flight(key, true);
+            Flight existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                return flight;
+            }
+            if (!mayWait && !existing.isCompleted()) {
+                return null;
+            }
+            if (existing.follow()) {
+                return new Flight(key, false, existing);
+            }
+            // Completed but not yet removed: help it out and start a new flight
+            inFlight.remove(key, existing);
+        }
+    }
+
+    /**
+     * Deep copy of a decoded response; strings, numbers and booleans are immutable and shared.
+     */
+    static JSONObject copy(JSONObject source) {
+        JSONObject copy = new JSONObject();
+        for (String key : source.keySet()) {
+            copy.put(key, copyValue(source.opt(key)));
+        }
+        return copy;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof JSONObject) {
+            return copy((JSONObject) value);
+        }
+        if (value instanceof JSONArray) {
+            JSONArray source = (JSONArray) value;
+            JSONArray copy = new JSONArray();
+            for (int i = 0; i < source.length(); i++) {
+                copy.put(copyValue(source.opt(i)));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * Outcome of a flight: the decoded response and where it came from, or the error response and its code.
+     */
+    static final class Outcome {
+
+        final JSONObject response;
+        final ResponseType responseType;
+        final boolean failed;
+        final int errorCode;
+
+        private Outcome(JSONObject response, ResponseType responseType, boolean failed, int errorCode) {
+            this.response = response;
+            this.responseType = responseType;
+            this.failed = failed;
+            this.errorCode = errorCode;
+        }
+
+        static Outcome success(JSONObject response) {
+            return success(response, ResponseType.NETWORK);
+        }
+
+        static Outcome success(JSONObject response, ResponseType responseType) {
+            return new Outcome(response, responseType, false, 0);
+        }
+
+        static Outcome failure(JSONObject error, int errorCode) {
+            return new Outcome(error, ResponseType.NETWORK, true, errorCode);
+        }
+    }
+
+    /**
+     * One request on the wire and the callers waiting for it.
+     */
+    final class Flight {
+
+        private final String key;
+        private final boolean leader;
+        private final CompletableFuture<Outcome> outcome;
+        private int followers = 0;
+        private boolean closed = false;
+        private boolean retained = false;
+
+        private Flight(String key, boolean leader) {
+            this.key = key;
+            this.leader = leader;
+            this.outcome = new CompletableFuture<>();
+        }
+
+        private Flight(String key, boolean leader, Flight joined) {
+            this.key = key;
+            this.leader = leader;
+            this.outcome = joined.outcome;
+        }
+
+        boolean isLeader() {
+            return leader;
+        }
+
+        CompletableFuture<Outcome> outcome() {
+            return outcome;
+        }
+
+        private synchronized boolean follow() {
+            if (closed && !retained) {
+                return false;
+            }
+            followers++;
+            return true;
+        }
+
+        /**
+         * Closes the flight to new callers, unless it succeeded and completed flights are retained, and publishes the
+         * outcome to the ones that joined.
+         *
+         * @return true if other callers joined or may still join, in which case the published response must not be
+         * used by the leader
+         */
+        boolean complete(Outcome result) {
+            boolean joined;
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                closed = true;
+                retained = retainCompleted && !result.failed;
+                joined = followers > 0 || retained;
+            }
+            if (!retained) {
+                inFlight.remove(key, this);
+            }
+            outcome.complete(result);
+            return joined;
+        }
+
+        /**
+         * Whether the outcome is known, for the leader and the callers that joined alike.
+         */
+        boolean isCompleted() {
+            return outcome.isDone();
+        }
+    }
+}
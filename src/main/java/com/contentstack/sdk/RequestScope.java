@@ -0,0 +1,67 @@
+package com.contentstack.sdk;
+
+/**
+ * A unit of work, such as the render of a page, within which identical requests are made once, see
+ * {@link Stack#openScope()}. The first {@link Query#find(QueryResultsCallBack)}, {@link Entry#fetch(EntryResultCallBack)}
+ * or other request for a URL and headers goes to the cache or the network as usual; every identical request the
+ * scope sees afterwards, or while it is in flight, is served a copy of that response, so the whole unit of work sees
+ * one consistent state of the content and decodes it once. Failed requests are not kept, an identical request
+ * retries them.
+ * <p>
+ * A scope applies to the requests made on the thread that opened it, until it is closed; requests the SDK makes on
+ * its own threads, like the pages prefetched by {@link Query#iterate()} or batched fetches, are not memoized. Sync
+ * requests and, as for the cache, requests that plugins or live preview may change always go to the network.
+ * Closing the scope drops every response it kept. Scopes may be nested, the innermost one applies.
+ * <p>
+ * <b>Example:</b>
+ *
+ * <pre class="prettyprint">
+ * try (RequestScope scope = stack.openScope()) {
+ *     renderHeader(stack);  // fetches the "navigation" entry
+ *     renderFooter(stack);  // fetches it again, served from the scope
+ * }
+ * </pre>
+ */
+public final class RequestScope implements AutoCloseable {
+
+    final RequestCoalescer memo;
+    private final Stack stack;
+    private final RequestScope enclosing;
+    private volatile boolean closed = false;
+
+    RequestScope(Stack stack, RequestScope enclosing) {
+        this.stack = stack;
+        this.enclosing = enclosing;
+        this.memo = new RequestCoalescer(stack.requestCoalescer.executor(), true);
+    }
+
+    /**
+     * Returns the scope that was current when this one was opened.
+     */
+    RequestScope enclosing() {
+        return enclosing;
+    }
+
+    /**
+     * Returns whether the scope was closed.
+     *
+     * @return true once {@link #close()} was called
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Drops the responses kept by the scope and makes the scope it was opened in current again. Requests still in
+     * flight complete their callers. Closing a scope again does nothing.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        stack.closeScope(this);
+        memo.clear();
+    }
+}
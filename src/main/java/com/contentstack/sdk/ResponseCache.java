@@ -0,0 +1,403 @@
+package com.contentstack.sdk;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Source;
+import org.json.JSONObject;
+
+/**
+ * In-memory cache of decoded responses of a stack, configured with {@link CacheOptions}. Entries are bounded by
+ * the total weight of their response bodies and expire after the time-to-live.
+ * <p>
+ * With {@link CacheOptions.EvictionPolicy#W_TINY_LFU} a new response enters a window holding about 1% of the
+ * weight, evicted in LRU order; a response leaving the window only takes the place of the least recently used
+ * response of the main area when it has been requested more often, according to a count-min sketch of 4-bit
+ * counters that are halved periodically so old popularity fades. With {@link CacheOptions.EvictionPolicy#LRU} all
+ * responses share one LRU list.
+ * <p>
+ * Expired responses are kept for the longer of the stale-while-revalidate and stale-if-error windows, so they can
+ * still be served as stale; only one background refresh runs per key at a time.
+ * <p>
+ * Negative results, "not found" errors and empty query results, live for the negative time-to-live instead and
+ * are dropped as soon as it ends: they are never served stale.
+ * <p>
+ * Cached trees are never handed out: callers store a tree nobody else holds and copy the one they get, so
+ * callbacks can modify their result freely.
+ */
+final class ResponseCache {
+
+    private final long timeToLiveNanos;
+    private final long negativeTimeToLiveNanos;
+    private final long staleWhileRevalidateNanos;
+    private final long staleIfErrorNanos;
+    private final long retentionNanos;
+    private final boolean admission;
+    private final long windowMaxWeight;
+    private final long mainMaxWeight;
+    private final LongSupplier ticker;
+    private final FrequencySketch sketch;
+    private final LinkedHashMap<String, Node> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Node> main = new LinkedHashMap<>(16, 0.75f, true);
+    private long windowWeight = 0;
+    private long mainWeight = 0;
+    private final Set<String> refreshing = new HashSet<>();
+
+    ResponseCache(CacheOptions options) {
+        this(options, System::nanoTime);
+    }
+
+    ResponseCache(CacheOptions options, LongSupplier ticker) {
+        this.timeToLiveNanos = options.getTimeToLiveMs() * 1_000_000L;
+        this.negativeTimeToLiveNanos = options.getNegativeTimeToLiveMs() * 1_000_000L;
+        this.staleWhileRevalidateNanos = options.getStaleWhileRevalidateMs() * 1_000_000L;
+        this.staleIfErrorNanos = options.getStaleIfErrorMs() * 1_000_000L;
+        this.retentionNanos = Math.max(staleWhileRevalidateNanos, staleIfErrorNanos);
+        this.admission = options.getEvictionPolicy() == CacheOptions.EvictionPolicy.W_TINY_LFU;
+        this.windowMaxWeight = admission ? Math.max(1, options.getMaxWeight() / 100) : 0;
+        this.mainMaxWeight = options.getMaxWeight() - windowMaxWeight;
+        this.ticker = ticker;
+        // Sized for responses of about 4 KB on average
+        this.sketch = admission ? new FrequencySketch(options.getMaxWeight() / 4096) : null;
+    }
+
+    /**
+     * Builds the cache key of a request from its final URL, with the query parameters sorted so that the order in
+     * which they were set does not matter, and its headers (API key, tokens, environment, branch, variants, ...).
+     */
+    static String key(String url, Map<String, Object> headers) {
+        int query = url.indexOf('?');
+        if (query < 0 || query == url.length() - 1) {
+            return RequestCoalescer.key(url, headers);
+        }
+        String[] params = url.substring(query + 1).split("&");
+        Arrays.sort(params);
+        StringBuilder normalized = new StringBuilder(url.length()).append(url, 0, query + 1);
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                normalized.append('&');
+            }
+            normalized.append(params[i]);
+        }
+        return RequestCoalescer.key(normalized.toString(), headers);
+    }
+
+    /**
+     * Returns the fresh cached response for the key, or null when there is none or it has expired.
+     */
+    JSONObject get(String key) {
+        Hit hit = lookup(key);
+        return hit != null && hit.isFresh() ? hit.value : null;
+    }
+
+    /**
+     * Returns the cached response for the key, fresh or still within a stale window, or null when there is none.
+     * Every lookup counts as a request for the key in the frequency sketch.
+     */
+    synchronized Hit lookup(String key) {
+        if (sketch != null) {
+            sketch.increment(key.hashCode());
+        }
+        Node node = window.get(key);
+        if (node == null) {
+            node = main.get(key);
+        }
+        if (node == null) {
+            return null;
+        }
+        long staleness = ticker.getAsLong() - node.expiresAt;
+        if (staleness >= 0 && (node.negative || staleness >= retentionNanos)) {
+            remove(key);
+            return null;
+        }
+        return new Hit(node, staleness);
+    }
+
+    /**
+     * Whether "not found" errors and empty results are cached, with their own time-to-live.
+     */
+    boolean isNegativeCaching() {
+        return negativeTimeToLiveNanos > 0;
+    }
+
+    /**
+     * Claims the background refresh of a stale response.
+     *
+     * @return false if a refresh of the key is already running
+     */
+    synchronized boolean startRefresh(String key) {
+        return refreshing.add(key);
+    }
+
+    synchronized void endRefresh(String key) {
+        refreshing.remove(key);
+    }
+
+    /**
+     * Caches a response, replacing the previous one for the key.
+     *
+     * @param value  the decoded response, which must not be modified afterwards
+     * @param weight the size of the response body in bytes
+     */
+    void put(String key, JSONObject value, long weight) {
+        put(key, new Node(value, weight, ticker.getAsLong() + timeToLiveNanos, false, false, 0));
+    }
+
+    /**
+     * Caches a successful response without results for the negative time-to-live.
+     *
+     * @param value  the decoded response, which must not be modified afterwards
+     * @param weight the size of the response body in bytes
+     */
+    void putEmpty(String key, JSONObject value, long weight) {
+        put(key, new Node(value, weight, ticker.getAsLong() + negativeTimeToLiveNanos, true, false, 0));
+    }
+
+    /**
+     * Caches a "not found" error for the negative time-to-live; lookups report it as a failed hit.
+     *
+     * @param error     the decoded error response, which must not be modified afterwards
+     * @param weight    the size of the error body in bytes
+     * @param errorCode the error code the request failed with
+     */
+    void putMissing(String key, JSONObject error, long weight, int errorCode) {
+        put(key, new Node(error, weight, ticker.getAsLong() + negativeTimeToLiveNanos, true, true, errorCode));
+    }
+
+    private synchronized void put(String key, Node node) {
+        remove(key);
+        long weight = node.weight;
+        if (weight > windowMaxWeight + mainMaxWeight) {
+            return;
+        }
+        if (!admission) {
+            main.put(key, node);
+            mainWeight += weight;
+            evictMain();
+            return;
+        }
+        window.put(key, node);
+        windowWeight += weight;
+        Iterator<Map.Entry<String, Node>> eldest = window.entrySet().iterator();
+        while (windowWeight > windowMaxWeight && eldest.hasNext()) {
+            Map.Entry<String, Node> candidate = eldest.next();
+            eldest.remove();
+            windowWeight -= candidate.getValue().weight;
+            admit(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    synchronized void remove(String key) {
+        Node node = window.remove(key);
+        if (node != null) {
+            windowWeight -= node.weight;
+        }
+        node = main.remove(key);
+        if (node != null) {
+            mainWeight -= node.weight;
+        }
+    }
+
+    synchronized void clear() {
+        window.clear();
+        main.clear();
+        windowWeight = 0;
+        mainWeight = 0;
+    }
+
+    synchronized int size() {
+        return window.size() + main.size();
+    }
+
+    synchronized long weight() {
+        return windowWeight + mainWeight;
+    }
+
+    /**
+     * Moves a response leaving the window into the main area if it is requested more often than the responses it
+     * would push out; otherwise it is dropped and the main area is left as it was.
+     */
+    private void admit(String key, Node candidate) {
+        if (isExpired(candidate) || candidate.weight > mainMaxWeight) {
+            return;
+        }
+        int candidateFrequency = sketch.frequency(key.hashCode());
+        // Decide on every victim first, so a rejected candidate pushes nothing out
+        int victims = 0;
+        long freed = 0;
+        for (Map.Entry<String, Node> victim : main.entrySet()) {
+            if (mainWeight - freed + candidate.weight <= mainMaxWeight) {
+                break;
+            }
+            if (!isExpired(victim.getValue()) && candidateFrequency <= sketch.frequency(victim.getKey().hashCode())) {
+                return;
+            }
+            victims++;
+            freed += victim.getValue().weight;
+        }
+        Iterator<Map.Entry<String, Node>> eldest = main.entrySet().iterator();
+        for (int i = 0; i < victims; i++) {
+            mainWeight -= eldest.next().getValue().weight;
+            eldest.remove();
+        }
+        main.put(key, candidate);
+        mainWeight += candidate.weight;
+    }
+
+    private void evictMain() {
+        Iterator<Map.Entry<String, Node>> eldest = main.entrySet().iterator();
+        while (mainWeight > mainMaxWeight && eldest.hasNext()) {
+            mainWeight -= eldest.next().getValue().weight;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Expired and past every stale window, the response can no longer be served; negative results have none.
+     */
+    private boolean isExpired(Node node) {
+        long staleness = ticker.getAsLong() - node.expiresAt;
+        return staleness >= 0 && (node.negative || staleness >= retentionNanos);
+    }
+
+    /**
+     * A cached response and how long ago it expired; negative while it is fresh. A failed hit holds the cached
+     * error response of a request for content that does not exist.
+     */
+    final class Hit {
+
+        final JSONObject value;
+        final long stalenessNanos;
+        final boolean failed;
+        final int errorCode;
+
+        private Hit(Node node, long stalenessNanos) {
+            this.value = node.value;
+            this.stalenessNanos = stalenessNanos;
+            this.failed = node.failed;
+            this.errorCode = node.errorCode;
+        }
+
+        boolean isFresh() {
+            return stalenessNanos < 0;
+        }
+
+        boolean isServableWhileRevalidating() {
+            return stalenessNanos < staleWhileRevalidateNanos;
+        }
+
+        boolean isServableIfError() {
+            return stalenessNanos < staleIfErrorNanos;
+        }
+    }
+
+    private static final class Node {
+
+        final JSONObject value;
+        final long weight;
+        final long expiresAt;
+        final boolean negative;
+        final boolean failed;
+        final int errorCode;
+
+        Node(JSONObject value, long weight, long expiresAt, boolean negative, boolean failed, int errorCode) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+            this.negative = negative;
+            this.failed = failed;
+            this.errorCode = errorCode;
+        }
+    }
+
+    /**
+     * Count-min sketch of recent request frequencies: four rows of 4-bit counters (saturating at 15), all halved
+     * once ten times as many increments as there are counters per row have been recorded.
+     */
+    static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final int MAX_COUNT = 15;
+
+        private final byte[] counters;
+        private final int width;
+        private final int sampleSize;
+        private int additions = 0;
+
+        FrequencySketch(long expectedEntries) {
+            long clamped = Math.max(64, Math.min(1 << 16, expectedEntries));
+            this.width = Integer.highestOneBit((int) clamped - 1) << 1;
+            this.counters = new byte[width * SEEDS.length];
+            this.sampleSize = 10 * width;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = index(hash, row);
+                if (counters[index] < MAX_COUNT) {
+                    counters[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(int hash) {
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < SEEDS.length; row++) {
+                frequency = Math.min(frequency, counters[index(hash, row)]);
+            }
+            return frequency;
+        }
+
+        private int index(int hash, int row) {
+            long h = (hash + SEEDS[row]) * SEEDS[row];
+            h += h >>> 32;
+            return row * width + ((int) h & (width - 1));
+        }
+
+        private void reset() {
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] >>= 1;
+            }
+            additions /= 2;
+        }
+    }
+
+    /**
+     * Counts the bytes read from a response body, which is the weight of the cached response.
+     */
+    static final class CountingSource extends ForwardingSource {
+
+        private long count = 0;
+
+        CountingSource(Source delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            long read = super.read(sink, byteCount);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
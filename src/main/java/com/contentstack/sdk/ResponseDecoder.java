@@ -0,0 +1,291 @@
+package com.contentstack.sdk;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+import okio.BufferedSource;
+import okio.ByteString;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Single-pass JSON decoder for Content Delivery API responses. Reads UTF-8 bytes straight from the response body's
+ * {@link BufferedSource} and builds the {@link JSONObject}/{@link JSONArray} tree the response models consume, so the
+ * payload is never materialised as a {@code String} and is never parsed twice.
+ * <p>
+ * The output matches the previous pipeline: members whose value is {@code null} are left out of their object (they
+ * stay as {@link JSONObject#NULL} inside arrays) and numbers keep the types the models have always seen, see
+ * {@link #toNumber(String)}. Array order is preserved.
+ * <p>
+ * Elements of the top-level arrays ({@code entries}, {@code items}, ...) can be handed to a
+ * {@link JsonCodec.ElementListener} as soon as each one is complete, so models are built while the rest of the page is
+ * still being read. The elements stay in the returned tree, which callers, the response cache and coalesced requests
+ * read. Backs {@link JsonCodec#STREAMING}.
+ */
+final class ResponseDecoder {
+
+    static final ByteString UTF8_BOM = ByteString.decodeHex("efbbbf");
+    private static final ByteString QUOTE_OR_BACKSLASH = ByteString.encodeUtf8("\"\\");
+
+    private final BufferedSource source;
+    private final JsonCodec.ElementListener listener;
+    private final StringBuilder scratch = new StringBuilder();
+    private long position = 0;
+
+    private ResponseDecoder(BufferedSource source, JsonCodec.ElementListener listener) {
+        this.source = source;
+        this.listener = listener;
+    }
+
+    /**
+     * Decodes a JSON object from the source.
+     *
+     * @param source the response body
+     * @return the decoded object
+     * @throws IOException   when reading the body fails
+     * @throws JSONException when the body is not a JSON object
+     */
+    static JSONObject decode(BufferedSource source) throws IOException {
+        return decode(source, null);
+    }
+
+    /**
+     * Decodes a JSON object from the source, passing each element of its top-level arrays to the listener.
+     *
+     * @param source   the response body
+     * @param listener receives top-level array elements as they complete, may be null
+     * @return the decoded object
+     * @throws IOException   when reading the body fails
+     * @throws JSONException when the body is not a JSON object
+     */
+    static JSONObject decode(BufferedSource source, JsonCodec.ElementListener listener) throws IOException {
+        ResponseDecoder decoder = new ResponseDecoder(source, listener);
+        if (source.rangeEquals(0, UTF8_BOM)) {
+            decoder.skip(UTF8_BOM.size());
+        }
+        if (decoder.nextNonWhitespace() != '{') {
+            throw decoder.syntaxError("A JSONObject text must begin with '{'");
+        }
+        return decoder.readObject(true);
+    }
+
+    private JSONObject readObject(boolean topLevel) throws IOException {
+        JSONObject object = new JSONObject();
+        int c = nextNonWhitespace();
+        if (c == '}') {
+            return object;
+        }
+        while (true) {
+            if (c != '"') {
+                throw syntaxError("Expected a quoted key");
+            }
+            String key = readString();
+            if (nextNonWhitespace() != ':') {
+                throw syntaxError("Expected ':' after key");
+            }
+            c = nextNonWhitespace();
+            Object value = topLevel && c == '[' && listener != null ? readArray(key) : readValue(c);
+            if (value != JSONObject.NULL) {
+                object.put(key, value);
+            }
+            c = nextNonWhitespace();
+            if (c == '}') {
+                return object;
+            }
+            if (c != ',') {
+                throw syntaxError("Expected ',' or '}'");
+            }
+            c = nextNonWhitespace();
+        }
+    }
+
+    /**
+     * Reads an array; when {@code streamedKey} is set every element goes through the listener first.
+     */
+    private JSONArray readArray(String streamedKey) throws IOException {
+        JSONArray array = new JSONArray();
+        int c = nextNonWhitespace();
+        if (c == ']') {
+            return array;
+        }
+        while (true) {
+            Object element = readValue(c);
+            if (streamedKey != null) {
+                element = listener.onElement(streamedKey, element);
+            }
+            if (element != null) {
+                array.put(element);
+            }
+            c = nextNonWhitespace();
+            if (c == ']') {
+                return array;
+            }
+            if (c != ',') {
+                throw syntaxError("Expected ',' or ']'");
+            }
+            c = nextNonWhitespace();
+        }
+    }
+
+    private Object readValue(int c) throws IOException {
+        switch (c) {
+            case '{':
+                return readObject(false);
+            case '[':
+                return readArray(null);
+            case '"':
+                return readString();
+            case 't':
+                expectLiteral("rue");
+                return Boolean.TRUE;
+            case 'f':
+                expectLiteral("alse");
+                return Boolean.FALSE;
+            case 'n':
+                expectLiteral("ull");
+                return JSONObject.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return readNumber((char) c);
+                }
+                throw syntaxError(c == -1 ? "Unexpected end of input" : "Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    private String readString() throws IOException {
+        scratch.setLength(0);
+        while (true) {
+            long index = source.indexOfElement(QUOTE_OR_BACKSLASH);
+            if (index == -1) {
+                throw syntaxError("Unterminated string");
+            }
+            String chunk = source.readUtf8(index);
+            position += index;
+            int c = next();
+            if (c == '"') {
+                if (scratch.length() == 0) {
+                    // Common case: no escapes, the chunk is the whole string
+                    return chunk;
+                }
+                return scratch.append(chunk).toString();
+            }
+            scratch.append(chunk).append(readEscape());
+        }
+    }
+
+    private char readEscape() throws IOException {
+        int c = next();
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'f':
+                return '\f';
+            case 'r':
+                return '\r';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(next(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Illegal escape");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            default:
+                throw syntaxError("Illegal escape");
+        }
+    }
+
+    private Object readNumber(char first) throws IOException {
+        scratch.setLength(0);
+        scratch.append(first);
+        while (source.request(1)) {
+            char c = (char) source.getBuffer().getByte(0);
+            if (c >= '0' && c <= '9' || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                scratch.append(c);
+            } else {
+                break;
+            }
+            skip(1);
+        }
+        String text = scratch.toString();
+        try {
+            return toNumber(text);
+        } catch (NumberFormatException e) {
+            throw syntaxError("Invalid number '" + text + "'");
+        }
+    }
+
+    /**
+     * Types a JSON number literal the way responses always have been: integers become {@link Integer}, {@link Long}
+     * or {@link BigInteger} by magnitude, and numbers with a fraction or exponent (and negative zero) become
+     * {@link Double}.
+     *
+     * @param text the number literal
+     * @return the typed number
+     * @throws NumberFormatException when the literal is not a number
+     */
+    static Number toNumber(String text) {
+        char first = text.charAt(0);
+        if (text.indexOf('.') >= 0 || text.indexOf('e') >= 0 || text.indexOf('E') >= 0 || "-0".equals(text)) {
+            return Double.valueOf(text);
+        }
+        int digits = first == '-' ? text.length() - 1 : text.length();
+        if (digits <= 18) {
+            long value = Long.parseLong(text);
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+            return value;
+        }
+        BigInteger value = new BigInteger(text);
+        return value.bitLength() <= 63 ? (Number) value.longValue() : value;
+    }
+
+    private void expectLiteral(String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++) {
+            if (next() != rest.charAt(i)) {
+                throw syntaxError("Invalid literal");
+            }
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            int c = next();
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    /**
+     * Structural characters are ASCII, so reading a single byte is enough outside of strings.
+     */
+    private int next() throws IOException {
+        if (!source.request(1)) {
+            return -1;
+        }
+        position++;
+        return source.readByte() & 0xff;
+    }
+
+    private void skip(long byteCount) throws IOException {
+        source.skip(byteCount);
+        position += byteCount;
+    }
+
+    private JSONException syntaxError(String message) {
+        return new JSONException(message + " at byte " + position);
+    }
+}
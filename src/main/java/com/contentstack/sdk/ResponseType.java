@@ -10,5 +10,28 @@ public enum ResponseType {
     /**
      * Request not reach up to network and cache.
      */
-    UNKNOWN
+    UNKNOWN,
+
+    /**
+     * Response served from the in-memory cache, see {@link Config#setCacheOptions(CacheOptions)}.
+     */
+    CACHE,
+
+    /**
+     * Expired response served from the in-memory cache while a background request refreshes it, see
+     * {@link CacheOptions#setStaleWhileRevalidate(long, java.util.concurrent.TimeUnit)}.
+     */
+    STALE_WHILE_REVALIDATE,
+
+    /**
+     * Expired response served from the in-memory cache because the network request failed, see
+     * {@link CacheOptions#setStaleIfError(long, java.util.concurrent.TimeUnit)}.
+     */
+    STALE_IF_ERROR,
+
+    /**
+     * Entry or asset served from the local replica maintained by sync, see
+     * {@link Config#setReplicaOptions(ReplicaOptions)}.
+     */
+    REPLICA
 }
@@ -10,7 +10,11 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -25,7 +29,9 @@ import static com.contentstack.sdk.Constants.LIVE_PREVIEW;
 import com.contentstack.sdk.Constants.REQUEST_CONTROLLER;
 import static com.contentstack.sdk.Constants.SYNCHRONISATION;
 
+import io.reactivex.rxjava3.core.Flowable;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.ResponseBody;
 import retrofit2.Response;
@@ -38,6 +44,11 @@ import retrofit2.Retrofit;
  */
 public class Stack {
 
+    /**
+     * Default number of sync pages fetched ahead of the handler by {@link #syncAll(String, SyncPagesCallBack)}.
+     */
+    private static final int DEFAULT_SYNC_PREFETCH_DEPTH = 2;
+
     private final Logger logger = Logger.getLogger(Stack.class.getSimpleName());
     protected LinkedHashMap<String, Object> headers;
     protected Config config;
@@ -47,6 +58,13 @@ public class Stack {
     protected APIService service;
     protected String apiKey;
     protected JSONObject syncParams = null;
+    RequestCoalescer requestCoalescer;
+    ResponseCache responseCache;
+    ValidatorStore validatorStore;
+    UidFilter uidFilter;
+    LocalReplica replica;
+    EntryFetchBatcher fetchBatcher;
+    private final ThreadLocal<RequestScope> scopes = new ThreadLocal<>();
 
     protected Stack() throws IllegalAccessException {
         throw new IllegalAccessException(ErrorMessages.DIRECT_INSTANTIATION_STACK);
@@ -100,11 +118,49 @@ public class Stack {
             logger.fine("Retry interceptor added with options: " + retryOptions);
         }
 
+        // Disk cache, with responses varying on the headers that select content
+        if (this.config.diskCache != null) {
+            clientBuilder.cache(this.config.diskCache);
+            clientBuilder.addInterceptor(new DiskCacheInterceptor.Credentials());
+            clientBuilder.addNetworkInterceptor(new DiskCacheInterceptor(this.config.diskCacheFreshnessMs));
+        }
+
+        // Dispatcher runs enqueued (async) calls; bounded by maxRequests/maxRequestsPerHost
+        ExecutorService executor = this.config.executorService;
+        if (executor == null && this.config.virtualThreads) {
+            executor = VirtualThreads.newThreadPerTaskExecutor();
+        }
+        Dispatcher dispatcher = executor != null ? new Dispatcher(executor) : new Dispatcher();
+        dispatcher.setMaxRequests(this.config.maxRequests);
+        dispatcher.setMaxRequestsPerHost(this.config.maxRequestsPerHost);
+        clientBuilder.dispatcher(dispatcher);
+        this.requestCoalescer = new RequestCoalescer(dispatcher.executorService());
+        if (this.config.cacheOptions != null) {
+            this.responseCache = new ResponseCache(this.config.cacheOptions);
+            if (this.config.cacheOptions.getUidFilterExpectedUids() > 0) {
+                this.uidFilter = new UidFilter(this.config.cacheOptions.getUidFilterExpectedUids(),
+                        this.config.cacheOptions.getUidFilterFalsePositiveRate(),
+                        this.config.cacheOptions.getUidFilterMaxAge(), System::nanoTime);
+            }
+        }
+        if (this.config.replicaOptions != null) {
+            this.replica = new LocalReplica(this.config.replicaOptions, this.config.jsonCodec);
+        }
+        if (this.config.conditionalRequests) {
+            this.validatorStore = new ValidatorStore(this.config.validatorStoreMaxWeight);
+        }
+        if (this.config.fetchBatchWindowMs > 0) {
+            this.fetchBatcher = new EntryFetchBatcher(this, this.config.fetchBatchWindowMs);
+        }
+
         OkHttpClient client = clientBuilder.build();
 
-        Retrofit retrofit = new Retrofit.Builder().baseUrl(endpoint)
-                .client(client)
-                .build();
+        Retrofit.Builder retrofitBuilder = new Retrofit.Builder().baseUrl(endpoint)
+                .client(client);
+        if (this.config.callbackExecutor != null) {
+            retrofitBuilder.callbackExecutor(this.config.callbackExecutor);
+        }
+        Retrofit retrofit = retrofitBuilder.build();
 
         this.service = retrofit.create(APIService.class);
     }
@@ -372,6 +428,101 @@ public class Stack {
         }
     }
 
+    /**
+     * Drops every response held by the in-memory cache, see {@link Config#setCacheOptions(CacheOptions)}, and
+     * every response kept for conditional requests, see {@link Config#enableConditionalRequests(boolean)}. Does
+     * nothing when neither is enabled.
+     * <p>
+     * <b>Example:</b> stack.clearCache();
+     */
+    public void clearCache() {
+        if (responseCache != null) {
+            responseCache.clear();
+        }
+        if (validatorStore != null) {
+            validatorStore.clear();
+        }
+    }
+
+    /**
+     * Opens a {@link RequestScope} on the calling thread: until it is closed, identical requests made on this thread
+     * are made once and every caller gets its own copy of the response. Use it with try-with-resources.
+     * <p>
+     * <b>Example:</b>
+     *
+     * <pre class="prettyprint">
+     * try (RequestScope scope = stack.openScope()) {
+     *     Entry first = stack.contentType("page").entry("blt0123").fetchAsync().join();
+     *     Entry again = stack.contentType("page").entry("blt0123").fetchAsync().join(); // no request
+     * }
+     * </pre>
+     *
+     * @return the scope, current on this thread until it is closed
+     */
+    public RequestScope openScope() {
+        RequestScope scope = new RequestScope(this, currentScope());
+        scopes.set(scope);
+        return scope;
+    }
+
+    /**
+     * Returns the innermost scope of the calling thread that is still open, if any.
+     */
+    RequestScope currentScope() {
+        RequestScope scope = scopes.get();
+        while (scope != null && scope.isClosed()) {
+            scope = scope.enclosing();
+        }
+        return scope;
+    }
+
+    /**
+     * Makes the innermost open scope current again once the current one is closed; scopes closed out of order or
+     * from another thread are skipped when they are next looked up.
+     */
+    void closeScope(RequestScope scope) {
+        if (scopes.get() != scope) {
+            return;
+        }
+        RequestScope current = currentScope();
+        if (current == null) {
+            scopes.remove();
+        } else {
+            scopes.set(current);
+        }
+    }
+
+    /**
+     * Returns the local replica maintained by sync, see {@link Config#setReplicaOptions(ReplicaOptions)}.
+     *
+     * @return the replica, or null when it is not enabled
+     */
+    public LocalReplica getReplica() {
+        return replica;
+    }
+
+    /**
+     * Returns the replica when fetches are served from it; live preview fetches never are.
+     */
+    LocalReplica servingReplica() {
+        return replica != null && config.replicaOptions.isServeFetches() && !config.enableLivePreview ? replica : null;
+    }
+
+    /**
+     * The error the server gave for a missing entry, or asset, when the UID filter, see
+     * {@link CacheOptions#setUidFilter(int, double, long, java.util.concurrent.TimeUnit)}, is sure none has the UID; null otherwise. Live
+     * preview serves content that sync has not seen, so it is never consulted then.
+     */
+    Error knownMissing(String uid, boolean asset) {
+        JSONObject error = uidFilter != null && !config.enableLivePreview ? uidFilter.notFound(uid, asset) : null;
+        if (error == null) {
+            return null;
+        }
+        Object details = error.opt(Constants.ERRORS);
+        return new Error(error.optString(Constants.ERROR_MESSAGE), error.optInt(Constants.ERROR_CODE),
+                details != null ? details.toString() : null);
+    }
+
     /**
      * Image transform string. This document is a detailed reference to Contentstack
      * Image Delivery API and covers the
@@ -434,9 +585,9 @@ public class Stack {
      * @param syncCallBack returns callback for sync result.
      */
     public void sync(SyncResultCallBack syncCallBack) {
-        syncParams = new JSONObject();
-        syncParams.put("init", true);
-        this.requestSync(syncCallBack);
+        JSONObject params = new JSONObject();
+        params.put("init", true);
+        this.requestSync(params, syncCallBack);
     }
 
     /**
@@ -449,9 +600,10 @@ public class Stack {
      *                        If the result of the initial sync (or subsequent sync)
      *                        contains more than 100 records, the response would
      *                        be paginated. It provides pagination token in the
-     *                        response. However, you do not have to use the
-     *                        pagination token manually to get the next batch, the
-     *                        SDK does that automatically until the sync is
+     *                        response. Each sync method returns a single batch:
+     *                        pass the pagination token here to get the next one,
+     *                        or use {@link #syncAll(String, int, SyncPagesCallBack)}
+     *                        to have every batch fetched until the sync is
      *                        complete. Pagination token can be used in case you
      *                        want to fetch only selected batches. It is especially
      *                        useful if the sync process is interrupted midway (due
@@ -465,9 +617,9 @@ public class Stack {
      *                        stack.syncPaginationToken("paginationToken)
      */
     public void syncPaginationToken(@NotNull String paginationToken, SyncResultCallBack syncCallBack) {
-        syncParams = new JSONObject();
-        syncParams.put("pagination_token", paginationToken);
-        this.requestSync(syncCallBack);
+        JSONObject params = new JSONObject();
+        params.put("pagination_token", paginationToken);
+        this.requestSync(params, syncCallBack);
     }
 
     /**
@@ -490,9 +642,9 @@ public class Stack {
      *                     </pre>
      */
     public void syncToken(String syncToken, SyncResultCallBack syncCallBack) {
-        syncParams = new JSONObject();
-        syncParams.put("sync_token", syncToken);
-        this.requestSync(syncCallBack);
+        JSONObject params = new JSONObject();
+        params.put("sync_token", syncToken);
+        this.requestSync(params, syncCallBack);
     }
 
     /**
@@ -512,10 +664,10 @@ public class Stack {
      */
     public void syncFromDate(@NotNull Date fromDate, SyncResultCallBack syncCallBack) {
         String newFromDate = convertUTCToISO(fromDate);
-        syncParams = new JSONObject();
-        syncParams.put("init", true);
-        syncParams.put("start_from", newFromDate);
-        this.requestSync(syncCallBack);
+        JSONObject params = new JSONObject();
+        params.put("init", true);
+        params.put("start_from", newFromDate);
+        this.requestSync(params, syncCallBack);
     }
 
     protected String convertUTCToISO(Date date) {
@@ -543,10 +695,10 @@ public class Stack {
      *                     SyncResultCallBack()){ }
      */
     public void syncContentType(@NotNull String contentType, SyncResultCallBack syncCallBack) {
-        syncParams = new JSONObject();
-        syncParams.put("init", true);
-        syncParams.put(CONTENT_TYPE_UID, contentType);
-        this.requestSync(syncCallBack);
+        JSONObject params = new JSONObject();
+        params.put("init", true);
+        params.put(CONTENT_TYPE_UID, contentType);
+        this.requestSync(params, syncCallBack);
     }
 
     /**
@@ -568,10 +720,10 @@ public class Stack {
      *                     content_type, new SyncResultCallBack()){ }
      */
     public void syncLocale(String localeCode, SyncResultCallBack syncCallBack) {
-        syncParams = new JSONObject();
-        syncParams.put("init", true);
-        syncParams.put("locale", localeCode);
-        this.requestSync(syncCallBack);
+        JSONObject params = new JSONObject();
+        params.put("init", true);
+        params.put("locale", localeCode);
+        this.requestSync(params, syncCallBack);
     }
 
     /**
@@ -601,10 +753,10 @@ public class Stack {
      *                     </code>
      */
     public void syncPublishType(PublishType publishType, SyncResultCallBack syncCallBack) {
-        syncParams = new JSONObject();
-        syncParams.put("init", true);
-        syncParams.put("type", publishType.name().toLowerCase());
-        this.requestSync(syncCallBack);
+        JSONObject params = new JSONObject();
+        params.put("init", true);
+        params.put("type", publishType.name().toLowerCase());
+        this.requestSync(params, syncCallBack);
     }
 
     /**
@@ -627,20 +779,211 @@ public class Stack {
     public void sync(String contentType, Date fromDate, String localeCode,
             PublishType publishType, SyncResultCallBack syncCallBack) {
         String newDate = convertUTCToISO(fromDate);
-        syncParams = new JSONObject();
-        syncParams.put("init", true);
-        syncParams.put("start_from", newDate);
-        syncParams.put("content_type_uid", contentType);
-        syncParams.put("type", publishType.name());
-        syncParams.put("locale", localeCode);
-        this.requestSync(syncCallBack);
+        JSONObject params = new JSONObject();
+        params.put("init", true);
+        params.put("start_from", newDate);
+        params.put("content_type_uid", contentType);
+        params.put("type", publishType.name());
+        params.put("locale", localeCode);
+        this.requestSync(params, syncCallBack);
     }
 
-    private void requestSync(final SyncResultCallBack callback) {
+    /**
+     * Performs a sync following every pagination token, with the default prefetch depth of 2. See
+     * {@link #syncAll(String, int, SyncPagesCallBack)}.
+     *
+     * @param syncToken the sync token of a previous sync, or null for a complete sync
+     * @param callback  receives every page, then the final sync token
+     */
+    public void syncAll(String syncToken, @NotNull SyncPagesCallBack callback) {
+        syncAll(syncToken, DEFAULT_SYNC_PREFETCH_DEPTH, callback);
+    }
+
+    /**
+     * Performs a sync following every pagination token until the sync is complete. With a null sync token a
+     * complete sync is performed, otherwise only the delta since that token is fetched.
+     * <p>
+     * Every page is handed to {@link SyncPagesCallBack#onPage(SyncStack)} in order, one at a time, and the final
+     * sync token to store for the next delta sync is reported to {@link SyncPagesCallBack#onCompletion}. Each page
+     * holds the pagination token of the next one, so pages are requested one after the other, but the next request
+     * goes out as soon as a page arrives, while the handler is still busy with the previous ones: up to
+     * {@code prefetchDepth} pages are fetched ahead of the handler. Requests never block the calling thread; pages
+     * are handled on the threads that deliver responses, see {@link Config#setCallbackExecutor}.
+     * <br>
+     * <br>
+     * <b>Example :</b><br>
+     * <pre class="prettyprint">
+     * stack.syncAll(null, 4, new SyncPagesCallBack() {
+     *     public void onPage(SyncStack page) { store(page.getItems()); }
+     *     public void onCompletion(String syncToken, Error error) { saveToken(syncToken); }
+     * });
+     * </pre>
+     *
+     * @param syncToken     the sync token of a previous sync, or null for a complete sync
+     * @param prefetchDepth how many fetched pages may wait for the handler, 1 or more
+     * @param callback      receives every page, then the final sync token
+     * @throws IllegalArgumentException if the prefetch depth is less than 1
+     */
+    public void syncAll(String syncToken, int prefetchDepth, @NotNull SyncPagesCallBack callback) {
+        if (prefetchDepth < 1) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_SYNC_PREFETCH_DEPTH);
+        }
+        Objects.requireNonNull(callback, "Sync callback cannot be null");
+        new SyncPager(this, prefetchDepth, callback).start(syncToken);
+    }
+
+    /**
+     * Performs a sync following every pagination token without blocking the calling thread. See
+     * {@link #syncAll(String, int, SyncPagesCallBack)}.
+     * <p>
+     * The returned future completes with the final sync token once every page was handled, or exceptionally with a
+     * {@link ContentstackException} when a request fails or the handler throws.
+     *
+     * @param syncToken     the sync token of a previous sync, or null for a complete sync
+     * @param prefetchDepth how many fetched pages may wait for the handler, 1 or more
+     * @param pageHandler   handles every page, in order
+     * @return a {@link CompletableFuture} of the final sync token
+     */
+    public CompletableFuture<String> syncAllAsync(String syncToken, int prefetchDepth,
+            @NotNull Consumer<SyncStack> pageHandler) {
+        Objects.requireNonNull(pageHandler, "Sync page handler cannot be null");
+        CompletableFuture<String> future = new CompletableFuture<>();
+        syncAll(syncToken, prefetchDepth, new SyncPagesCallBack() {
+            @Override
+            public void onPage(SyncStack syncStack) {
+                pageHandler.accept(syncStack);
+            }
+
+            @Override
+            public void onCompletion(String finalSyncToken, Error error) {
+                if (error != null) {
+                    FutureCallbacks.fail(future, error);
+                } else {
+                    future.complete(finalSyncToken);
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Performs an initial sync of the whole stack as independent partitions synced concurrently, instead of one
+     * long chain of pages: by content type, with the published assets as a partition of their own, and/or by
+     * locale, see {@link SyncPartitionOptions}. At most {@link SyncPartitionOptions#getMaxConcurrency()} partitions
+     * run at a time, each following its pagination tokens as {@link #syncAll(String, int, SyncPagesCallBack)} does.
+     * <p>
+     * The pages of all partitions are handed to {@link PartitionedSyncCallBack#onPage} one at a time, and the sync
+     * token of every partition to {@link PartitionedSyncCallBack#onCompletion}. Each token continues its partition
+     * with {@link #syncToken(String, SyncResultCallBack)}; as for {@link #syncContentType(String,
+     * SyncResultCallBack)} and {@link #syncLocale(String, SyncResultCallBack)}, its deltas only cover the partition,
+     * and the assets partition only reports published assets. Content types created later are not in any partition.
+     * Partitions feed the local replica like any other sync, but only a full {@link #sync(SyncResultCallBack)}
+     * gives it a sync token.
+     *
+     * @param options  how to split the stack
+     * @param callback receives the pages, then the sync token of every partition
+     * @throws NullPointerException if the options or callback are null
+     */
+    public void syncPartitioned(@NotNull SyncPartitionOptions options, @NotNull PartitionedSyncCallBack callback) {
+        Objects.requireNonNull(options, "Sync partition options cannot be null");
+        Objects.requireNonNull(callback, "Sync callback cannot be null");
+        new PartitionedSync(this, options, callback).start();
+    }
+
+    /**
+     * Performs a complete sync without blocking the calling thread. See {@link #sync(SyncResultCallBack)}.
+     * <p>
+     * The returned future completes with the {@link SyncStack}, or exceptionally with a
+     * {@link ContentstackException} when the request fails.
+     *
+     * @return a {@link CompletableFuture} of the {@link SyncStack}
+     */
+    public CompletableFuture<SyncStack> syncAsync() {
+        FutureCallbacks.SyncFuture callback = new FutureCallbacks.SyncFuture();
+        sync(callback);
+        return callback.future;
+    }
+
+    /**
+     * Fetches the next batch of a paginated sync without blocking the calling thread. See
+     * {@link #syncPaginationToken(String, SyncResultCallBack)}.
+     *
+     * @param paginationToken the pagination token returned by the previous batch
+     * @return a {@link CompletableFuture} of the {@link SyncStack}
+     */
+    public CompletableFuture<SyncStack> syncPaginationTokenAsync(@NotNull String paginationToken) {
+        FutureCallbacks.SyncFuture callback = new FutureCallbacks.SyncFuture();
+        syncPaginationToken(paginationToken, callback);
+        return callback.future;
+    }
+
+    /**
+     * Fetches the delta since a previous sync without blocking the calling thread. See
+     * {@link #syncToken(String, SyncResultCallBack)}.
+     *
+     * @param syncToken the sync token returned by the previous sync
+     * @return a {@link CompletableFuture} of the {@link SyncStack}
+     */
+    public CompletableFuture<SyncStack> syncTokenAsync(String syncToken) {
+        FutureCallbacks.SyncFuture callback = new FutureCallbacks.SyncFuture();
+        syncToken(syncToken, callback);
+        return callback.future;
+    }
+
+    /**
+     * Streams the items of a complete sync. See {@link #syncStream(String)}.
+     *
+     * @return a {@link Flowable} of the sync items
+     */
+    public Flowable<JSONObject> syncStream() {
+        return syncStream(null);
+    }
+
+    /**
+     * Streams sync items, following pagination tokens on demand: the next batch is only requested once the
+     * subscriber has asked for more items than the batches fetched so far provide. With a null sync token a complete
+     * sync is performed, otherwise only the delta since that token is streamed.
+     * <p>
+     * Each batch request blocks the thread that requested it; subscribe with {@code subscribeOn(Schedulers.io())} to
+     * run it in the background. Use {@link #syncPageStream(String)} when the final sync token is needed.
+     *
+     * @param syncToken the sync token of a previous sync, or null for a complete sync
+     * @return a {@link Flowable} of the sync items
+     */
+    public Flowable<JSONObject> syncStream(String syncToken) {
+        return syncPageStream(syncToken).concatMapIterable(SyncStack::getItems, 1);
+    }
+
+    /**
+     * Streams the sync batches (one {@link SyncStack} per response) following pagination tokens on demand. The last
+     * batch carries the sync token to store for the next delta sync.
+     *
+     * @param syncToken the sync token of a previous sync, or null for a complete sync
+     * @return a {@link Flowable} of the sync batches
+     */
+    public Flowable<SyncStack> syncPageStream(String syncToken) {
+        return ReactivePages.<SyncStack>pages((index, previous) -> {
+            if (previous == null) {
+                return syncToken != null ? syncTokenAsync(syncToken) : syncAsync();
+            }
+            String paginationToken = previous.getPaginationToken();
+            if (paginationToken == null || paginationToken.isEmpty()) {
+                return null;
+            }
+            return syncPaginationTokenAsync(paginationToken);
+        });
+    }
+
+    /**
+     * Sends a sync request with its own parameters, so concurrent syncs never see each other's. The parameters are
+     * also kept in {@link #syncParams} as the last ones requested.
+     */
+    void requestSync(JSONObject params, final SyncResultCallBack callback) {
+        syncParams = params;
         if (this.headers.containsKey(ENVIRONMENT)) {
-            syncParams.put(ENVIRONMENT, this.headers.get(ENVIRONMENT));
+            params.put(ENVIRONMENT, this.headers.get(ENVIRONMENT));
         }
-        fetchFromNetwork(SYNCHRONISATION, syncParams, this.headers, callback);
+        fetchFromNetwork(SYNCHRONISATION, params, this.headers, callback);
     }
 
     private void fetchContentTypes(String urlString, JSONObject contentTypeParam, HashMap<String, Object> headers,
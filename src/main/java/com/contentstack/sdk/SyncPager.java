@@ -0,0 +1,146 @@
+package com.contentstack.sdk;
+
+import java.util.ArrayDeque;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.json.JSONObject;
+
+/**
+ * Follows the pagination tokens of a sync, see {@link Stack#syncAll(String, int, SyncPagesCallBack)}. Each page
+ * holds the token of the next one, so pages are requested one after the other, but the next request goes out as
+ * soon as a page arrives instead of once it has been handled: up to the prefetch depth of pages wait for the
+ * handler while the following one is on the wire.
+ * <p>
+ * Pages are handled on the thread that delivered them, one at a time and in order; a page arriving while another
+ * is being handled is queued and handled by the same thread afterwards.
+ */
+final class SyncPager {
+
+    private static final Logger logger = Logger.getLogger(SyncPager.class.getSimpleName());
+
+    private final Stack stack;
+    private final int prefetchDepth;
+    private final SyncPagesCallBack callback;
+    private final ArrayDeque<SyncStack> fetched = new ArrayDeque<>();
+    private boolean fetching = false;
+    private boolean handling = false;
+    private boolean completed = false;
+    private String paginationToken;
+    private String syncToken;
+    private Error error;
+
+    SyncPager(Stack stack, int prefetchDepth, SyncPagesCallBack callback) {
+        this.stack = stack;
+        this.prefetchDepth = prefetchDepth;
+        this.callback = callback;
+    }
+
+    /**
+     * Requests the first page: a complete sync without a sync token, otherwise the delta since it.
+     */
+    void start(String syncToken) {
+        start(syncToken != null ? new JSONObject().put("sync_token", syncToken) : new JSONObject().put("init", true));
+    }
+
+    /**
+     * Requests the first page with the given sync parameters, an initial sync possibly filtered, or a delta.
+     */
+    void start(JSONObject params) {
+        synchronized (this) {
+            fetching = true;
+        }
+        stack.requestSync(params, new PageCallback());
+    }
+
+    private void onFetched(SyncStack page, Error failure) {
+        synchronized (this) {
+            fetching = false;
+            if (failure != null) {
+                if (error == null) {
+                    error = failure;
+                }
+            } else {
+                fetched.add(page);
+                String next = page.getPaginationToken();
+                if (next != null && !next.isEmpty()) {
+                    paginationToken = next;
+                } else {
+                    paginationToken = null;
+                    syncToken = page.getSyncToken();
+                }
+            }
+        }
+        fetchNext();
+        handle();
+    }
+
+    /**
+     * Requests the next page unless one is on the wire, the last one has arrived, or enough are waiting.
+     */
+    private void fetchNext() {
+        String token;
+        synchronized (this) {
+            if (fetching || paginationToken == null || error != null || fetched.size() >= prefetchDepth) {
+                return;
+            }
+            fetching = true;
+            token = paginationToken;
+            paginationToken = null;
+        }
+        stack.requestSync(new JSONObject().put("pagination_token", token), new PageCallback());
+    }
+
+    /**
+     * Hands the waiting pages to the callback, unless another thread is already doing so, and completes the sync
+     * once the last one was handled.
+     */
+    private void handle() {
+        while (true) {
+            SyncStack page;
+            synchronized (this) {
+                if (handling || completed) {
+                    return;
+                }
+                page = fetched.poll();
+                if (page == null) {
+                    if (error == null && (fetching || paginationToken != null)) {
+                        return;
+                    }
+                    completed = true;
+                } else {
+                    handling = true;
+                }
+            }
+            if (page == null) {
+                callback.onCompletion(error == null ? syncToken : null, error);
+                return;
+            }
+            // Room for another page: request it before handling this one
+            fetchNext();
+            try {
+                callback.onPage(page);
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, ErrorMessages.SYNC_PAGE_HANDLER_FAILED, e);
+                synchronized (this) {
+                    error = new Error(ErrorMessages.SYNC_PAGE_HANDLER_FAILED, 0, e.toString());
+                    fetched.clear();
+                }
+            }
+            synchronized (this) {
+                handling = false;
+            }
+        }
+    }
+
+    /**
+     * Receives one page; never blocks the thread that requested it.
+     */
+    private final class PageCallback extends SyncResultCallBack implements FutureCallbacks.NonBlocking {
+
+        @Override
+        public void onCompletion(SyncStack syncStack, Error failure) {
+            onFetched(syncStack, failure);
+        }
+    }
+}
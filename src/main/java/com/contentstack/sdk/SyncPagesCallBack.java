@@ -0,0 +1,25 @@
+package com.contentstack.sdk;
+
+/**
+ * Callback of an automatically paginated sync, see {@link Stack#syncAll(String, int, SyncPagesCallBack)}: every
+ * page is handed to {@link #onPage(SyncStack)} in order, then {@link #onCompletion(String, Error)} reports the sync
+ * token to store for the next delta sync, or the error that stopped the sync.
+ */
+public abstract class SyncPagesCallBack {
+
+    /**
+     * Handles one page of the sync. Pages are handed over one at a time and in order, while the next pages are
+     * fetched in the background. Throwing stops the sync.
+     *
+     * @param syncStack the page, with its pagination token, or its sync token for the last page
+     */
+    public abstract void onPage(SyncStack syncStack);
+
+    /**
+     * Called once, after the last page was handled or when the sync stops.
+     *
+     * @param syncToken the sync token of the last page, or null when the sync failed
+     * @param error     the error that stopped the sync, or null
+     */
+    public abstract void onCompletion(String syncToken, Error error);
+}
@@ -0,0 +1,106 @@
+package com.contentstack.sdk;
+
+import java.util.Objects;
+
+import org.json.JSONObject;
+
+/**
+ * One slice of a partitioned initial sync, see {@link Stack#syncPartitioned(SyncPartitionOptions,
+ * PartitionedSyncCallBack)}: the entries of a content type, the published assets, or both of them, optionally
+ * restricted to a locale. A partition has a sync token of its own; continue it with {@code Stack.syncToken}, and
+ * only the changes within the partition are returned.
+ */
+public final class SyncPartition {
+
+    private final String contentTypeUid;
+    private final String locale;
+    private final boolean assets;
+
+    private SyncPartition(String contentTypeUid, String locale, boolean assets) {
+        this.contentTypeUid = contentTypeUid;
+        this.locale = locale;
+        this.assets = assets;
+    }
+
+    static SyncPartition entries(String contentTypeUid, String locale) {
+        return new SyncPartition(contentTypeUid, locale, false);
+    }
+
+    static SyncPartition assets(String locale) {
+        return new SyncPartition(null, locale, true);
+    }
+
+    static SyncPartition locale(String locale) {
+        return new SyncPartition(null, locale, false);
+    }
+
+    /**
+     * Returns the content type whose entries the partition holds.
+     *
+     * @return the content type UID, or null when the partition is not restricted to one content type
+     */
+    public String getContentTypeUid() {
+        return contentTypeUid;
+    }
+
+    /**
+     * Returns the locale of the partition.
+     *
+     * @return the locale code, or null when the partition covers every locale
+     */
+    public String getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns whether the partition holds the published assets only.
+     *
+     * @return true for an assets partition
+     */
+    public boolean isAssets() {
+        return assets;
+    }
+
+    /**
+     * Parameters of the initial sync of the partition.
+     */
+    JSONObject params() {
+        JSONObject params = new JSONObject().put("init", true);
+        if (contentTypeUid != null) {
+            params.put(Constants.CONTENT_TYPE_UID, contentTypeUid);
+        }
+        if (locale != null) {
+            params.put("locale", locale);
+        }
+        if (assets) {
+            params.put("type", "asset_published");
+        }
+        return params;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof SyncPartition)) {
+            return false;
+        }
+        SyncPartition partition = (SyncPartition) other;
+        return assets == partition.assets && Objects.equals(contentTypeUid, partition.contentTypeUid)
+                && Objects.equals(locale, partition.locale);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contentTypeUid, locale, assets);
+    }
+
+    @Override
+    public String toString() {
+        return "SyncPartition{" +
+                (assets ? "assets" : "contentTypeUid=" + contentTypeUid) +
+                ", locale=" + locale +
+                '}';
+    }
+}
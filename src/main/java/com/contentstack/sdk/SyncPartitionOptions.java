@@ -0,0 +1,212 @@
+package com.contentstack.sdk;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Configuration of a partitioned initial sync, see
+ * {@link Stack#syncPartitioned(SyncPartitionOptions, PartitionedSyncCallBack)}.
+ *
+ * <p>By default the stack is split by content type: one partition per content type, listed with
+ * {@code Stack.getContentTypes} unless {@link #setContentTypes(Collection)} names them, and one for the published
+ * assets. With {@link #setLocales(Collection)} every partition is split further by locale; without content type
+ * partitioning, the stack is split by locale only, each partition holding the entries and assets of its locale.
+ *
+ * <p><b>Example Usage:</b>
+ * <pre>{@code
+ * SyncPartitionOptions options = new SyncPartitionOptions()
+ *     .setLocales(Arrays.asList("en-us", "fr-fr"))
+ *     .setMaxConcurrency(8);
+ * }</pre>
+ */
+public class SyncPartitionOptions {
+
+    /** Default number of partitions synced at the same time */
+    private static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    /** Default number of pages a partition fetches ahead of the handler */
+    private static final int DEFAULT_PREFETCH_DEPTH = 2;
+
+    /**
+     * Whether the stack is split by content type.
+     */
+    private boolean partitionByContentType = true;
+
+    /**
+     * Content types to sync; null lists them from the stack.
+     */
+    private List<String> contentTypes = null;
+
+    /**
+     * Locales to split the stack by; empty does not split by locale.
+     */
+    private List<String> locales = Collections.emptyList();
+
+    /**
+     * Maximum number of partitions synced at the same time.
+     */
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     * Number of pages each partition fetches ahead of the handler.
+     */
+    private int prefetchDepth = DEFAULT_PREFETCH_DEPTH;
+
+    /**
+     * Creates SyncPartitionOptions with default configuration.
+     * <p>Defaults: split by content type, all content types of the stack, no locale split, 4 partitions at a time,
+     * 2 pages of prefetch.
+     */
+    public SyncPartitionOptions() {
+    }
+
+    /**
+     * Sets whether the stack is split by content type, with a separate partition for the published assets.
+     *
+     * @param partitionByContentType true to split by content type
+     * @return this SyncPartitionOptions instance for method chaining
+     */
+    public SyncPartitionOptions setPartitionByContentType(boolean partitionByContentType) {
+        this.partitionByContentType = partitionByContentType;
+        return this;
+    }
+
+    /**
+     * Sets the content types to sync instead of listing all content types of the stack.
+     *
+     * @param contentTypes the content type UIDs
+     * @return this SyncPartitionOptions instance for method chaining
+     * @throws NullPointerException if the collection is null
+     */
+    public SyncPartitionOptions setContentTypes(Collection<String> contentTypes) {
+        Objects.requireNonNull(contentTypes, "Content types cannot be null");
+        this.contentTypes = new ArrayList<>(contentTypes);
+        return this;
+    }
+
+    /**
+     * Splits every partition by locale. The Content Delivery API does not list the locales of a stack, so they are
+     * given here.
+     *
+     * @param locales the locale codes
+     * @return this SyncPartitionOptions instance for method chaining
+     * @throws NullPointerException if the collection is null
+     */
+    public SyncPartitionOptions setLocales(Collection<String> locales) {
+        Objects.requireNonNull(locales, "Locales cannot be null");
+        this.locales = new ArrayList<>(locales);
+        return this;
+    }
+
+    /**
+     * Sets how many partitions are synced at the same time. Each one has at most one request on the wire, see
+     * {@link Config#setMaxRequests(int, int)} for the limits of the HTTP dispatcher.
+     *
+     * @param maxConcurrency maximum number of partitions synced at once (must be positive)
+     * @return this SyncPartitionOptions instance for method chaining
+     * @throws IllegalArgumentException if the value is not positive
+     */
+    public SyncPartitionOptions setMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException(
+                    "Sync max concurrency must be positive. Provided: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Sets how many pages each partition fetches ahead of the handler, see
+     * {@link Stack#syncAll(String, int, SyncPagesCallBack)}.
+     *
+     * @param prefetchDepth number of pages (must be positive)
+     * @return this SyncPartitionOptions instance for method chaining
+     * @throws IllegalArgumentException if the value is not positive
+     */
+    public SyncPartitionOptions setPrefetchDepth(int prefetchDepth) {
+        if (prefetchDepth < 1) {
+            throw new IllegalArgumentException(
+                    "Sync prefetch depth must be positive. Provided: " + prefetchDepth);
+        }
+        this.prefetchDepth = prefetchDepth;
+        return this;
+    }
+
+    /**
+     * Returns whether the stack is split by content type.
+     *
+     * @return true if split by content type
+     */
+    public boolean isPartitionByContentType() {
+        return partitionByContentType;
+    }
+
+    /**
+     * Returns the content types to sync.
+     *
+     * @return the content type UIDs, or null when they are listed from the stack
+     */
+    public List<String> getContentTypes() {
+        return contentTypes != null ? Collections.unmodifiableList(contentTypes) : null;
+    }
+
+    /**
+     * Returns the locales the stack is split by.
+     *
+     * @return the locale codes, empty when not split by locale
+     */
+    public List<String> getLocales() {
+        return Collections.unmodifiableList(locales);
+    }
+
+    /**
+     * Returns how many partitions are synced at the same time.
+     *
+     * @return maximum number of concurrent partitions
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns how many pages each partition fetches ahead of the handler.
+     *
+     * @return prefetch depth in pages
+     */
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
+    /**
+     * Builds the partitions for the given content types, null when content type partitioning is off.
+     */
+    List<SyncPartition> partitions(List<String> contentTypeUids) {
+        List<String> split = locales.isEmpty() ? Collections.singletonList(null) : locales;
+        List<SyncPartition> partitions = new ArrayList<>();
+        for (String locale : split) {
+            if (contentTypeUids == null) {
+                partitions.add(SyncPartition.locale(locale));
+                continue;
+            }
+            for (String contentTypeUid : contentTypeUids) {
+                partitions.add(SyncPartition.entries(contentTypeUid, locale));
+            }
+            partitions.add(SyncPartition.assets(locale));
+        }
+        return partitions;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncPartitionOptions{" +
+                "partitionByContentType=" + partitionByContentType +
+                ", contentTypes=" + contentTypes +
+                ", locales=" + locales +
+                ", maxConcurrency=" + maxConcurrency +
+                ", prefetchDepth=" + prefetchDepth +
+                '}';
+    }
+}
@@ -20,6 +20,36 @@ import java.util.logging.Logger;
 public class SyncStack {
 
     private static final Logger logger = Logger.getLogger(SyncStack.class.getName());
+    private static final String SCRIPT_OPEN = "<script>";
+    private static final String SCRIPT_CLOSE = "</script>";
+    private static final String ESCAPED_OPEN = "&lt;script&gt;";
+    private static final String ESCAPED_CLOSE = "&lt;/script&gt;";
+
+    /**
+     * How far the string values of sync items are sanitized, see {@link Config#setSyncSanitizeMode(SanitizeMode)}.
+     * Sanitizing escapes {@code <script>} and {@code </script>} tags, in any case, as {@code &lt;script&gt;} and
+     * {@code &lt;/script&gt;}.
+     */
+    public enum SanitizeMode {
+        /**
+         * Sanitizes every string of an item, including the fields of the entry or asset under {@code data} and the
+         * objects and arrays nested in them.
+         */
+        FULL,
+
+        /**
+         * Sanitizes the strings at the top level of an item ({@code type}, {@code content_type_uid},
+         * {@code event_at}, ...) and leaves {@code data} as it is. The default.
+         */
+        TOP_LEVEL,
+
+        /**
+         * Leaves items as they are, for pipelines that trust or sanitize the content themselves.
+         */
+        OFF
+    }
+
+    private final SanitizeMode sanitizeMode;
     private JSONObject receiveJson;
     private int skip;
     private int limit;
@@ -29,6 +59,14 @@ public class SyncStack {
     private String syncToken;
     private ArrayList<JSONObject> syncItems;
 
+    public SyncStack() {
+        this(SanitizeMode.TOP_LEVEL);
+    }
+
+    SyncStack(SanitizeMode sanitizeMode) {
+        this.sanitizeMode = sanitizeMode;
+    }
+
     public String getUrl() {
         return this.url;
     }
@@ -77,21 +115,21 @@ public class SyncStack {
                 for (int i = 0; i < jsonArray.length(); i++) {
                     JSONObject jsonItem = jsonArray.optJSONObject(i);
                     if (jsonItem != null) {
-                        syncItems.add(sanitizeJson(jsonItem));
+                        syncItems.add(sanitizeJson(jsonItem, sanitizeMode));
                     }
                 }
             } else if (itemsObj instanceof JSONObject) {
                 syncItems = new ArrayList<>();
-                syncItems.add(sanitizeJson((JSONObject) itemsObj));
+                syncItems.add(sanitizeJson((JSONObject) itemsObj, sanitizeMode));
             } else if (itemsObj instanceof List) {
                 List<?> itemsList = (List<?>) itemsObj;
                 syncItems = new ArrayList<>();
                 for (Object item : itemsList) {
                     if (item instanceof JSONObject) {
-                        syncItems.add(sanitizeJson((JSONObject) item));
+                        syncItems.add(sanitizeJson((JSONObject) item, sanitizeMode));
                     } else if (item instanceof Map) {
                         JSONObject jsonItem = new JSONObject((Map<?, ?>) item);
-                        syncItems.add(sanitizeJson(jsonItem));
+                        syncItems.add(sanitizeJson(jsonItem, sanitizeMode));
                     } else {
                         logger.warning("Item in ArrayList is not a JSONObject or LinkedHashMap. Skipping. Type: " + item.getClass().getName());
                     }
@@ -104,7 +142,23 @@ public class SyncStack {
         } else {
             syncItems = new ArrayList<>();
         }
-    
+        setPageInfo();
+    }
+
+    /**
+     * Sets the response whose items were already sanitized by {@link Streaming} while it was decoded.
+     */
+    synchronized void setJSON(@NotNull JSONObject jsonobject, Streaming streamed) {
+        if (!(jsonobject.opt("items") instanceof JSONArray)) {
+            setJSON(jsonobject);
+            return;
+        }
+        this.receiveJson = jsonobject;
+        this.syncItems = streamed.syncItems;
+        setPageInfo();
+    }
+
+    private void setPageInfo() {
         this.paginationToken = null;
         this.syncToken = null;
         if (receiveJson.has("skip")) {
@@ -129,37 +183,128 @@ public class SyncStack {
         }
     }
 
-     /**
-     * ✅ Sanitize JSON to prevent JSON injection
+    /**
+     * Sanitizes an item in place, see {@link SanitizeMode}; only the strings holding a script tag are replaced.
      */
-    private JSONObject sanitizeJson(JSONObject json) {
-        JSONObject sanitizedJson = new JSONObject();
+    static JSONObject sanitizeJson(JSONObject json, SanitizeMode mode) {
+        if (mode != SanitizeMode.OFF) {
+            sanitizeObject(json, mode == SanitizeMode.FULL);
+        }
+        return json;
+    }
+
+    private static void sanitizeObject(JSONObject json, boolean deep) {
         for (String key : json.keySet()) {
             Object value = json.opt(key);
-            if (value instanceof String) {
-                // ✅ Remove potentially dangerous script tags
-                String cleanValue = ((String) value)
-                    .replaceAll("(?i)<script>", "&lt;script&gt;")  // Prevent script injection
-                    .replaceAll("(?i)</script>", "&lt;/script&gt;"); // Prevent closing script tags
-    
-                sanitizedJson.put(key, cleanValue); // ✅ Store sanitized value
+            Object clean = deep ? sanitizeValue(value) : value instanceof String ? sanitize((String) value) : value;
+            if (clean != value) {
+                // Replacing the value of an existing key does not disturb the iteration
+                json.put(key, clean);
+            }
+        }
+    }
+
+    private static Object sanitizeValue(Object value) {
+        if (value instanceof String) {
+            return sanitize((String) value);
+        }
+        if (value instanceof JSONObject) {
+            sanitizeObject((JSONObject) value, true);
+        } else if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            for (int i = 0; i < array.length(); i++) {
+                Object element = array.opt(i);
+                Object clean = sanitizeValue(element);
+                if (clean != element) {
+                    array.put(i, clean);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Escapes script tags in a single pass.
+     *
+     * @return the value itself when it holds no script tag, otherwise an escaped copy
+     */
+    static String sanitize(String value) {
+        StringBuilder clean = null;
+        int copied = 0;
+        for (int i = value.indexOf('<'); i >= 0; i = value.indexOf('<', i + 1)) {
+            String escaped;
+            int length;
+            if (value.regionMatches(true, i, SCRIPT_OPEN, 0, SCRIPT_OPEN.length())) {
+                escaped = ESCAPED_OPEN;
+                length = SCRIPT_OPEN.length();
+            } else if (value.regionMatches(true, i, SCRIPT_CLOSE, 0, SCRIPT_CLOSE.length())) {
+                escaped = ESCAPED_CLOSE;
+                length = SCRIPT_CLOSE.length();
             } else {
-                sanitizedJson.put(key, value); // ✅ Keep non-string values unchanged
+                continue;
+            }
+            if (clean == null) {
+                clean = new StringBuilder(value.length() + 16);
             }
+            clean.append(value, copied, i).append(escaped);
+            copied = i + length;
+            i = copied - 1;
         }
-        return sanitizedJson;
+        return clean == null ? value : clean.append(value, copied, value.length()).toString();
     }
-    
-    
+
     /**
-     * ✅ Validate tokens to prevent security risks
+     * Validates tokens to prevent security risks: only letters, digits, {@code -}, {@code _} and {@code .} are
+     * accepted.
      */
     private String validateToken(String token) {
-        if (token != null && !token.matches("^[a-zA-Z0-9-_.]+$")) {
+        if (token != null && !isValidToken(token)) {
             logger.warning("Invalid token detected: ");
             return null;
         }
         return token;
     }
 
+    private static boolean isValidToken(String token) {
+        if (token.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sanitizes sync items, in place, while the response is being decoded, so each item is handled while it is still
+     * in the CPU cache.
+     */
+    static final class Streaming implements JsonCodec.ElementListener {
+
+        private final ArrayList<JSONObject> syncItems = new ArrayList<>();
+        private final SanitizeMode sanitizeMode;
+
+        Streaming() {
+            this(SanitizeMode.TOP_LEVEL);
+        }
+
+        Streaming(SanitizeMode sanitizeMode) {
+            this.sanitizeMode = sanitizeMode;
+        }
+
+        @Override
+        public Object onElement(String key, Object element) {
+            if ("items".equals(key) && element instanceof JSONObject) {
+                JSONObject item = sanitizeJson((JSONObject) element, sanitizeMode);
+                syncItems.add(item);
+                return item;
+            }
+            return element;
+        }
+    }
 }
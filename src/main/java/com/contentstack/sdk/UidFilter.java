@@ -0,0 +1,164 @@
+package com.contentstack.sdk;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+import org.json.JSONObject;
+
+/**
+ * Bloom filter of the entry and asset UIDs published in the sync responses of a stack, configured with
+ * {@link CacheOptions#setUidFilter(int, double)}. A UID the filter has not seen certainly has not been synced; a UID
+ * it has seen may still be missing (a false positive, or content deleted since), so only negative answers are used.
+ * <p>
+ * The filter only answers once it holds the whole stack: after an initial sync without content type, locale,
+ * publish type or start date filters has been followed to its sync token. Starting such a sync again rebuilds it.
+ * Content published after the last sync is unknown to it, so it only answers for its maximum age after that sync
+ * (the full sync, or a later one with a sync token), and only once the server has reported an entry or asset
+ * missing: the filter answers with that error, never one of its own.
+ */
+final class UidFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long maxAgeNanos;
+    private final LongSupplier ticker;
+    private volatile boolean ready = false;
+    private volatile boolean building = false;
+    private volatile long syncedAt;
+    private volatile JSONObject entryNotFound;
+    private volatile JSONObject assetNotFound;
+
+    UidFilter(int expectedUids, double falsePositiveRate) {
+        this(expectedUids, falsePositiveRate, TimeUnit.MINUTES.toMillis(1), System::nanoTime);
+    }
+
+    UidFilter(int expectedUids, double falsePositiveRate, long maxAgeMs, LongSupplier ticker) {
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+        this.ticker = ticker;
+        long optimalBits = (long) Math.ceil(-expectedUids * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, Math.min(Integer.MAX_VALUE, (optimalBits + 63) / 64));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = 64L * words;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / Math.max(1, expectedUids) * Math.log(2)));
+    }
+
+    /**
+     * Returns true when the filter holds the whole stack as of less than its maximum age ago and has never seen the
+     * UID.
+     */
+    boolean isKnownMissing(String uid) {
+        return ready && uid != null && ticker.getAsLong() - syncedAt < maxAgeNanos && !mightContain(uid);
+    }
+
+    /**
+     * Returns the error the server gave for a missing entry, or asset, when the UID is known missing; null when the
+     * request has to go to the network.
+     *
+     * @param uid   the UID fetched
+     * @param asset whether an asset rather than an entry is fetched
+     * @return a copy of the error response, or null
+     */
+    JSONObject notFound(String uid, boolean asset) {
+        JSONObject error = asset ? assetNotFound : entryNotFound;
+        return error != null && isKnownMissing(uid) ? new JSONObject(error.toString()) : null;
+    }
+
+    /**
+     * Keeps the error response of an entry, or asset, fetch the server reported missing.
+     */
+    void onNotFound(boolean asset, JSONObject error) {
+        if (asset) {
+            assetNotFound = error;
+        } else {
+            entryNotFound = error;
+        }
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    void add(String uid) {
+        long hash1 = hash(uid);
+        long hash2 = Long.rotateLeft(hash1, 32) * 0x9E3779B97F4A7C15L | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String uid) {
+        long hash1 = hash(uid);
+        long hash2 = Long.rotateLeft(hash1, 32) * 0x9E3779B97F4A7C15L | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the UIDs published in a sync page.
+     *
+     * @param params the query parameters of the sync request
+     * @param page   the sync response
+     */
+    void onSyncPage(Map<String, Object> params, SyncStack page) {
+        if (params != null && isFullInitialSync(params)) {
+            ready = false;
+            building = true;
+            for (int i = 0; i < bits.length(); i++) {
+                bits.set(i, 0);
+            }
+        }
+        List<JSONObject> items = page.getItems();
+        if (items != null) {
+            for (JSONObject item : items) {
+                JSONObject data = item.optJSONObject("data");
+                if (item.optString("type").endsWith("_published") && data != null && data.has("uid")) {
+                    add(data.optString("uid"));
+                }
+            }
+        }
+        if (page.getSyncToken() != null && (building || params == null || !params.containsKey("init"))) {
+            syncedAt = ticker.getAsLong();
+            if (building) {
+                building = false;
+                ready = true;
+            }
+        }
+    }
+
+    /**
+     * An initial sync of the whole stack: without content type, locale, publish type or start date.
+     */
+    static boolean isFullInitialSync(Map<String, Object> params) {
+        return Boolean.TRUE.equals(params.get("init")) && !params.containsKey("content_type_uid") && !params.containsKey("locale")
+                && !params.containsKey("type") && !params.containsKey("start_from");
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units, mixed with the finalizer of SplitMix64.
+     */
+    private static long hash(String uid) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < uid.length(); i++) {
+            hash ^= uid.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
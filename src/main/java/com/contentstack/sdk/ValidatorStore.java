@@ -0,0 +1,84 @@
+package com.contentstack.sdk;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.json.JSONObject;
+
+/**
+ * Validators ({@code ETag}, {@code Last-Modified}) of the responses of a stack, together with their decoded result,
+ * so repeated requests can be sent conditionally and a {@code 304 Not Modified} answered without reading or parsing
+ * a body. Enabled with {@link Config#enableConditionalRequests(boolean)}.
+ * <p>
+ * Keyed like {@link ResponseCache}, bounded by the total size of the stored response bodies and evicted in LRU
+ * order. Stored trees are never handed out; callers copy the one they get.
+ */
+final class ValidatorStore {
+
+    private final long maxWeight;
+    private final LinkedHashMap<String, Validated> responses = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight = 0;
+
+    ValidatorStore(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    synchronized Validated get(String key) {
+        return responses.get(key);
+    }
+
+    /**
+     * Stores a response and its validators, replacing the previous one for the key. Responses without validators
+     * cannot be revalidated and only remove what was stored.
+     *
+     * @param value the decoded response, which must not be modified afterwards
+     */
+    synchronized void put(String key, String etag, String lastModified, JSONObject value, long weight) {
+        Validated previous = responses.remove(key);
+        if (previous != null) {
+            this.weight -= previous.weight;
+        }
+        if ((etag == null && lastModified == null) || weight > maxWeight) {
+            return;
+        }
+        responses.put(key, new Validated(etag, lastModified, value, weight));
+        this.weight += weight;
+        Iterator<Map.Entry<String, Validated>> eldest = responses.entrySet().iterator();
+        while (this.weight > maxWeight && eldest.hasNext()) {
+            this.weight -= eldest.next().getValue().weight;
+            eldest.remove();
+        }
+    }
+
+    synchronized void clear() {
+        responses.clear();
+        weight = 0;
+    }
+
+    synchronized int size() {
+        return responses.size();
+    }
+
+    synchronized long weight() {
+        return weight;
+    }
+
+    /**
+     * A decoded response and the validators it was served with.
+     */
+    static final class Validated {
+
+        final String etag;
+        final String lastModified;
+        final JSONObject value;
+        final long weight;
+
+        Validated(String etag, String lastModified, JSONObject value, long weight) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
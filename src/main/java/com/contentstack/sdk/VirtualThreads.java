@@ -0,0 +1,51 @@
+package com.contentstack.sdk;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Looks up JDK 21 virtual threads reflectively so the SDK keeps compiling and running on Java 8.
+ */
+final class VirtualThreads {
+
+    private static final Logger logger = Logger.getLogger(VirtualThreads.class.getSimpleName());
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = lookup();
+
+    private VirtualThreads() {
+    }
+
+    private static Method lookup() {
+        try {
+            return Class.forName("java.util.concurrent.Executors").getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true when the running JVM provides virtual threads
+     */
+    static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     *
+     * @return the executor, or null when virtual threads are not available on this JVM
+     */
+    static ExecutorService newThreadPerTaskExecutor() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            logger.info(ErrorMessages.VIRTUAL_THREADS_UNAVAILABLE);
+            return null;
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.log(Level.WARNING, ErrorMessages.VIRTUAL_THREADS_UNAVAILABLE, e);
+            return null;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import com.contentstack.sdk.utils.StubInterceptor;
+import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -1160,4 +1162,19 @@ public class TestAsset {
         assertTrue(result.get("bool") instanceof Boolean);
         assertTrue(result.get("double") instanceof Double);
     }
+
+    // ========== ASYNC API TESTS ==========
+
+    @Test
+    void testFetchAsyncCompletesWithPopulatedAsset() throws Exception {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        stack.service = StubInterceptor.json(200,
+                "{\"asset\":{\"uid\":\"blt9\",\"filename\":\"logo.png\",\"url\":\"https://images/logo.png\"}}").service();
+        Asset fetched = stack.asset("blt9");
+
+        Asset result = fetched.fetchAsync().get(5, TimeUnit.SECONDS);
+
+        assertSame(fetched, result);
+        assertEquals("logo.png", result.getFileName());
+    }
 }
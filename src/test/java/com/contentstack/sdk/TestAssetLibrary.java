@@ -5,6 +5,9 @@ import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.LinkedHashMap;
+import com.contentstack.sdk.utils.StubInterceptor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.*;
 import com.contentstack.sdk.AssetLibrary.ORDERBY;
 
@@ -931,4 +934,71 @@ public class TestAssetLibrary {
             }
         });
     }
+
+    // ========== ASYNC API TESTS ==========
+
+    @Test
+    void testFetchAllAsyncCompletesWithAssets() throws Exception {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        stack.service = StubInterceptor.json(200,
+                "{\"assets\":[{\"uid\":\"a1\",\"filename\":\"a.png\"},{\"uid\":\"a2\",\"filename\":\"b.png\"}]}").service();
+
+        List<Asset> assets = stack.assetLibrary().fetchAllAsync().get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, assets.size());
+        assertEquals("a1", assets.get(0).getAssetUid());
+    }
+
+    @Test
+    void testFetchAllAsyncCompletesWithEmptyList() throws Exception {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        stack.service = StubInterceptor.json(200, "{\"assets\":[]}").service();
+
+        List<Asset> assets = stack.assetLibrary().fetchAllAsync().get(5, TimeUnit.SECONDS);
+
+        assertTrue(assets.isEmpty());
+    }
+
+    // ========== STREAM TESTS ==========
+
+    private static StubInterceptor pagedStub(String key, int total) {
+        return new StubInterceptor(request -> {
+            String skipParam = request.url().queryParameter("skip");
+            String limitParam = request.url().queryParameter("limit");
+            int skip = skipParam != null ? Integer.parseInt(skipParam) : 0;
+            int limit = limitParam != null ? Integer.parseInt(limitParam) : 100;
+            JSONArray items = new JSONArray();
+            for (int i = skip; i < Math.min(total, skip + limit); i++) {
+                items.put(new JSONObject().put("uid", "uid" + i));
+            }
+            return StubInterceptor.response(200, new JSONObject().put(key, items).toString());
+        });
+    }
+
+    @Test
+    void testStreamPagesThroughAllAssets() throws IllegalAccessException {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        StubInterceptor stub = pagedStub("assets", 45);
+        stack.service = stub.service();
+
+        List<Asset> assets = stack.assetLibrary().stream(20).toList().blockingGet();
+
+        assertEquals(45, assets.size());
+        assertEquals("uid44", assets.get(44).getAssetUid());
+        assertEquals(3, stub.requestCount());
+    }
+
+    @Test
+    void testLibraryIsReusableAfterStream() throws Exception {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        StubInterceptor stub = pagedStub("assets", 45);
+        stack.service = stub.service();
+        AssetLibrary library = stack.assetLibrary();
+
+        assertEquals(45, library.stream(20).toList().blockingGet().size());
+        List<Asset> assets = library.fetchAllAsync().get(5, TimeUnit.SECONDS);
+
+        assertEquals(45, assets.size());
+        assertNull(stub.requests().get(3).url().queryParameter("skip"));
+    }
 }
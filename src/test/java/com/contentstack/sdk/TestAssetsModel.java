@@ -227,5 +227,14 @@ public class TestAssetsModel {
         assertNotNull(model.objects);
         assertTrue(model.objects.isEmpty());
     }
-}
 
+    @Test
+    void testConstructorWithDecodedJSONArrayAssets() throws Exception {
+        JSONObject response = ResponseDecoder.decode(new okio.Buffer().writeUtf8(
+                "{\"assets\":[{\"uid\":\"asset1\",\"filename\":\"a.png\"},{\"uid\":\"asset2\"}]}"));
+
+        AssetsModel model = new AssetsModel(response);
+
+        assertEquals(2, model.objects.size());
+    }
+}
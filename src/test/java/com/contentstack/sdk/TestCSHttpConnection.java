@@ -1,5 +1,6 @@
 package com.contentstack.sdk;
 
+import com.contentstack.sdk.utils.StubInterceptor;
 import okhttp3.Request;
 import okhttp3.ResponseBody;
 import org.junit.jupiter.api.*;
@@ -9,12 +10,13 @@ import retrofit2.Response;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -429,97 +431,6 @@ class TestCSHttpConnection {
         assertTrue(result.contains("visual_markups"));
     }
 
-    // ========== CONVERT URL PARAM TESTS ==========
-
-    @Test
-    void testConvertUrlParam() throws Exception {
-        Method convertUrlParamMethod = CSHttpConnection.class.getDeclaredMethod("convertUrlParam", String.class, Object.class, String.class);
-        convertUrlParamMethod.setAccessible(true);
-        
-        JSONArray array = new JSONArray();
-        array.put("field1");
-        array.put("field2");
-        array.put("field3");
-        
-        String result = (String) convertUrlParamMethod.invoke(connection, "?", array, "include[]");
-        
-        assertNotNull(result);
-        assertTrue(result.contains("field1"));
-        assertTrue(result.contains("field2"));
-        assertTrue(result.contains("field3"));
-    }
-
-    @Test
-    void testConvertUrlParamWithExistingParams() throws Exception {
-        Method convertUrlParamMethod = CSHttpConnection.class.getDeclaredMethod("convertUrlParam", String.class, Object.class, String.class);
-        convertUrlParamMethod.setAccessible(true);
-        
-        JSONArray array = new JSONArray();
-        array.put("value1");
-        array.put("value2");
-        
-        String result = (String) convertUrlParamMethod.invoke(connection, "?existing=param&", array, "test_key");
-        
-        assertNotNull(result);
-        assertTrue(result.contains("value1"));
-        assertTrue(result.contains("value2"));
-        assertTrue(result.contains("&"));
-    }
-
-    // ========== CREATE ORDERED JSON OBJECT TEST ==========
-
-    @Test
-    void testCreateOrderedJSONObject() throws Exception {
-        Method createOrderedJSONObjectMethod = CSHttpConnection.class.getDeclaredMethod("createOrderedJSONObject", Map.class);
-        createOrderedJSONObjectMethod.setAccessible(true);
-        
-        Map<String, Object> map = new LinkedHashMap<>();
-        map.put("uid", "test_uid");
-        map.put("title", "Test Title");
-        map.put("count", 42);
-        map.put("active", true);
-        
-        JSONObject result = (JSONObject) createOrderedJSONObjectMethod.invoke(connection, map);
-        
-        assertNotNull(result);
-        assertEquals("test_uid", result.getString("uid"));
-        assertEquals("Test Title", result.getString("title"));
-        assertEquals(42, result.getInt("count"));
-        assertEquals(true, result.getBoolean("active"));
-    }
-
-    @Test
-    void testCreateOrderedJSONObjectWithEmptyMap() throws Exception {
-        Method createOrderedJSONObjectMethod = CSHttpConnection.class.getDeclaredMethod("createOrderedJSONObject", Map.class);
-        createOrderedJSONObjectMethod.setAccessible(true);
-        
-        Map<String, Object> map = new LinkedHashMap<>();
-        
-        JSONObject result = (JSONObject) createOrderedJSONObjectMethod.invoke(connection, map);
-        
-        assertNotNull(result);
-        assertEquals(0, result.length());
-    }
-
-    @Test
-    void testCreateOrderedJSONObjectWithNestedObjects() throws Exception {
-        Method createOrderedJSONObjectMethod = CSHttpConnection.class.getDeclaredMethod("createOrderedJSONObject", Map.class);
-        createOrderedJSONObjectMethod.setAccessible(true);
-        
-        Map<String, Object> innerMap = new LinkedHashMap<>();
-        innerMap.put("nested_key", "nested_value");
-        
-        Map<String, Object> map = new LinkedHashMap<>();
-        map.put("outer_key", "outer_value");
-        map.put("nested", innerMap);
-        
-        JSONObject result = (JSONObject) createOrderedJSONObjectMethod.invoke(connection, map);
-        
-        assertNotNull(result);
-        assertEquals("outer_value", result.getString("outer_key"));
-        assertTrue(result.has("nested"));
-    }
-
     // ========== HANDLE JSON ARRAY TESTS (Live Preview) ==========
 
     @Test
@@ -995,42 +906,6 @@ class TestCSHttpConnection {
         });
     }
 
-    @Test
-    void testConvertUrlParamWithSingleElement() throws Exception {
-        Method convertUrlParamMethod = CSHttpConnection.class.getDeclaredMethod("convertUrlParam", 
-            String.class, Object.class, String.class);
-        convertUrlParamMethod.setAccessible(true);
-        
-        JSONArray array = new JSONArray();
-        array.put("single_value");
-        
-        String result = (String) convertUrlParamMethod.invoke(connection, "?", array, "test_key");
-        
-        assertNotNull(result);
-        assertTrue(result.contains("test_key=single_value"));
-    }
-
-    @Test
-    void testCreateOrderedJSONObjectWithMultipleEntries() throws Exception {
-        Method createOrderedMethod = CSHttpConnection.class.getDeclaredMethod("createOrderedJSONObject", Map.class);
-        createOrderedMethod.setAccessible(true);
-        
-        LinkedHashMap<String, Object> map = new LinkedHashMap<>();
-        map.put("key1", "value1");
-        map.put("key2", 123);
-        map.put("key3", true);
-        map.put("key4", "value4");
-        
-        JSONObject result = (JSONObject) createOrderedMethod.invoke(connection, map);
-        
-        assertNotNull(result);
-        assertEquals("value1", result.get("key1"));
-        assertEquals(123, result.get("key2"));
-        assertEquals(true, result.get("key3"));
-        assertEquals("value4", result.get("key4"));
-        assertEquals(4, result.length());
-    }
-
     @Test
     void testSetErrorWithEmptyString() {
         MockIRequestModelHTTP csConnectionRequest = new MockIRequestModelHTTP();
@@ -1068,150 +943,97 @@ class TestCSHttpConnection {
         assertEquals("No additional error details available.", csConnectionRequest.error.getString("errors"));
     }
 
-    // ========== JSON -> ORDERED MAP CONVERSION TESTS ==========
-    // These exercise the org.json based response parsing that replaced Jackson.
+    // ========== ASYNC EXECUTION TESTS ==========
 
-    private static Method jsonToOrderedMapMethod() throws Exception {
-        Method m = CSHttpConnection.class.getDeclaredMethod("jsonToOrderedMap", JSONObject.class);
-        m.setAccessible(true);
-        return m;
+    private static APIService cannedService(int code, String body, Executor callbackExecutor) {
+        return StubInterceptor.json(code, body).service(callbackExecutor);
     }
 
-    private static Method convertJsonValueMethod() throws Exception {
-        Method m = CSHttpConnection.class.getDeclaredMethod("convertJsonValue", Object.class);
-        m.setAccessible(true);
-        return m;
+    private static CSHttpConnection connectionFor(IRequestModelHTTP request, APIService service, Config config) {
+        CSHttpConnection conn = new CSHttpConnection("https://cdn.contentstack.io/v3/content_types/ct/entries", request);
+        conn.setHeaders(new LinkedHashMap<>());
+        conn.setInfo("QUERY");
+        conn.setController(Constants.QUERYOBJECT);
+        conn.setAPIService(service);
+        conn.setConfig(config);
+        return conn;
     }
 
-    @SuppressWarnings("unchecked")
-    @Test
-    void testJsonToOrderedMapWithPrimitives() throws Exception {
-        JSONObject input = new JSONObject();
-        input.put("uid", "abc123");
-        input.put("count", 42);
-        input.put("active", true);
-
-        Map<String, Object> result = (Map<String, Object>) jsonToOrderedMapMethod().invoke(null, input);
-
-        assertTrue(result instanceof LinkedHashMap);
-        assertEquals("abc123", result.get("uid"));
-        assertEquals(42, result.get("count"));
-        assertEquals(true, result.get("active"));
-    }
-
-    @SuppressWarnings("unchecked")
-    @Test
-    void testJsonToOrderedMapWithEmptyObject() throws Exception {
-        Map<String, Object> result = (Map<String, Object>) jsonToOrderedMapMethod().invoke(null, new JSONObject());
-
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-    }
-
-    @SuppressWarnings("unchecked")
-    @Test
-    void testJsonToOrderedMapWithNestedObjectAndArray() throws Exception {
-        JSONObject nested = new JSONObject();
-        nested.put("x", 1);
-
-        JSONArray array = new JSONArray();
-        array.put("a");
-        array.put("b");
-
-        JSONObject input = new JSONObject();
-        input.put("nested", nested);
-        input.put("arr", array);
-
-        Map<String, Object> result = (Map<String, Object>) jsonToOrderedMapMethod().invoke(null, input);
-
-        // Nested objects must become LinkedHashMap and arrays ArrayList, so the
-        // response models' instanceof checks keep working after the Jackson removal.
-        assertTrue(result.get("nested") instanceof LinkedHashMap);
-        assertEquals(1, ((Map<String, Object>) result.get("nested")).get("x"));
-        assertTrue(result.get("arr") instanceof ArrayList);
-        assertEquals(2, ((List<Object>) result.get("arr")).size());
-        assertEquals("a", ((List<Object>) result.get("arr")).get(0));
-    }
+    static class LatchRequestModel extends MockIRequestModelHTTP {
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile Thread finishedOn;
 
-    @Test
-    void testConvertJsonValueWithNull() throws Exception {
-        Object result = convertJsonValueMethod().invoke(null, new Object[] { null });
-        assertNull(result);
-    }
+        @Override
+        public void onRequestFailed(JSONObject error, int statusCode, ResultCallBack callBackObject) {
+            super.onRequestFailed(error, statusCode, callBackObject);
+            finishedOn = Thread.currentThread();
+            done.countDown();
+        }
 
-    @Test
-    void testConvertJsonValueWithJsonNull() throws Exception {
-        Object result = convertJsonValueMethod().invoke(null, JSONObject.NULL);
-        assertNull(result);
+        @Override
+        public void onRequestFinished(CSHttpConnection request) {
+            super.onRequestFinished(request);
+            finishedOn = Thread.currentThread();
+            done.countDown();
+        }
     }
 
-    @SuppressWarnings("unchecked")
     @Test
-    void testConvertJsonValueWithJsonObject() throws Exception {
-        JSONObject obj = new JSONObject();
-        obj.put("k", "v");
+    void testSendIsSynchronousByDefault() {
+        LatchRequestModel request = new LatchRequestModel();
+        CSHttpConnection conn = connectionFor(request, cannedService(200, "{\"entries\":[]}", null), new Config());
 
-        Object result = convertJsonValueMethod().invoke(null, obj);
+        conn.send();
 
-        assertTrue(result instanceof LinkedHashMap);
-        assertEquals("v", ((Map<String, Object>) result).get("k"));
+        assertFalse(conn.isAsync());
+        assertTrue(request.requestFinishedCalled);
+        assertSame(Thread.currentThread(), request.finishedOn);
     }
 
-    @SuppressWarnings("unchecked")
     @Test
-    void testConvertJsonValueWithEmptyJsonArray() throws Exception {
-        Object result = convertJsonValueMethod().invoke(null, new JSONArray());
+    void testSendEnqueuesWhenAsyncEnabled() throws InterruptedException {
+        LatchRequestModel request = new LatchRequestModel();
+        Config config = new Config().enableAsyncRequests(true);
+        CSHttpConnection conn = connectionFor(request, cannedService(200, "{\"entries\":[{\"uid\":\"a\"}]}", null), config);
 
-        assertTrue(result instanceof ArrayList);
-        assertTrue(((List<Object>) result).isEmpty());
-    }
-
-    @SuppressWarnings("unchecked")
-    @Test
-    void testConvertJsonValueWithPopulatedJsonArray() throws Exception {
-        JSONArray array = new JSONArray();
-        array.put(1);
-        array.put(2);
-        array.put(3);
+        conn.send();
 
-        Object result = convertJsonValueMethod().invoke(null, array);
-
-        assertTrue(result instanceof ArrayList);
-        assertEquals(3, ((List<Object>) result).size());
-        assertEquals(1, ((List<Object>) result).get(0));
+        assertTrue(request.done.await(5, TimeUnit.SECONDS));
+        assertTrue(request.requestFinishedCalled);
+        assertNotSame(Thread.currentThread(), request.finishedOn);
+        assertEquals(1, conn.getResponse().getJSONArray("entries").length());
     }
 
     @Test
-    void testConvertJsonValueWithBigDecimal() throws Exception {
-        // Floating point numbers must be normalized to Double to match the old parser.
-        Object result = convertJsonValueMethod().invoke(null, new BigDecimal("3.14"));
-
-        assertTrue(result instanceof Double);
-        assertEquals(3.14, (Double) result, 0.0);
-    }
+    void testAsyncErrorResponseIsReported() throws InterruptedException {
+        LatchRequestModel request = new LatchRequestModel();
+        Config config = new Config().enableAsyncRequests(true);
+        CSHttpConnection conn = connectionFor(request,
+                cannedService(422, "{\"error_message\":\"Bad\",\"error_code\":141}", null), config);
 
-    @Test
-    void testConvertJsonValueWithPlainString() throws Exception {
-        Object result = convertJsonValueMethod().invoke(null, "hello");
-        assertEquals("hello", result);
-    }
+        conn.send();
 
-    @Test
-    void testConvertJsonValueWithPlainNumber() throws Exception {
-        Object result = convertJsonValueMethod().invoke(null, 42);
-        assertEquals(42, result);
+        assertTrue(request.done.await(5, TimeUnit.SECONDS));
+        assertFalse(request.requestFinishedCalled);
+        assertEquals("Bad", request.error.getString("error_message"));
+        assertEquals(141, request.statusCode);
     }
 
-    @SuppressWarnings("unchecked")
     @Test
-    void testJsonToOrderedMapDropsJsonNullValues() throws Exception {
-        JSONObject input = new JSONObject();
-        input.put("present", "value");
-        input.put("missing", JSONObject.NULL);
+    void testAsyncCallbackDeliveredOnCallbackExecutor() throws InterruptedException {
+        ExecutorService callbackExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "cs-callback"));
+        try {
+            LatchRequestModel request = new LatchRequestModel();
+            Config config = new Config().enableAsyncRequests(true).setCallbackExecutor(callbackExecutor);
+            CSHttpConnection conn = connectionFor(request,
+                    cannedService(200, "{\"entries\":[]}", callbackExecutor), config);
 
-        Map<String, Object> result = (Map<String, Object>) jsonToOrderedMapMethod().invoke(null, input);
+            conn.send();
 
-        assertEquals("value", result.get("present"));
-        assertNull(result.get("missing"));
+            assertTrue(request.done.await(5, TimeUnit.SECONDS));
+            assertEquals("cs-callback", request.finishedOn.getName());
+        } finally {
+            callbackExecutor.shutdownNow();
+        }
     }
 }
@@ -0,0 +1,83 @@
+package com.contentstack.sdk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCacheOptions {
+
+    @Test
+    void testDefaults() {
+        CacheOptions options = new CacheOptions();
+        assertEquals(32L * 1024 * 1024, options.getMaxWeight());
+        assertEquals(TimeUnit.MINUTES.toMillis(5), options.getTimeToLiveMs());
+        assertEquals(CacheOptions.EvictionPolicy.W_TINY_LFU, options.getEvictionPolicy());
+    }
+
+    @Test
+    void testSettersChain() {
+        CacheOptions options = new CacheOptions();
+        assertSame(options, options.setMaxWeight(1024)
+                .setTimeToLive(30, TimeUnit.SECONDS)
+                .setEvictionPolicy(CacheOptions.EvictionPolicy.LRU));
+        assertEquals(1024, options.getMaxWeight());
+        assertEquals(30_000, options.getTimeToLiveMs());
+        assertEquals(CacheOptions.EvictionPolicy.LRU, options.getEvictionPolicy());
+    }
+
+    @Test
+    void testInvalidValuesAreRejected() {
+        CacheOptions options = new CacheOptions();
+        assertThrows(IllegalArgumentException.class, () -> options.setMaxWeight(0));
+        assertThrows(IllegalArgumentException.class, () -> options.setTimeToLive(-1, TimeUnit.SECONDS));
+        assertThrows(NullPointerException.class, () -> options.setTimeToLive(1, null));
+        assertThrows(NullPointerException.class, () -> options.setEvictionPolicy(null));
+    }
+
+    @Test
+    void testToString() {
+        String text = new CacheOptions().toString();
+        assertTrue(text.contains("maxWeight=33554432"));
+        assertTrue(text.contains("W_TINY_LFU"));
+    }
+
+
+    @Test
+    void testStaleWindows() {
+        CacheOptions options = new CacheOptions();
+        assertEquals(0, options.getStaleWhileRevalidateMs());
+        assertEquals(0, options.getStaleIfErrorMs());
+
+        assertSame(options, options.setStaleWhileRevalidate(1, TimeUnit.MINUTES)
+                .setStaleIfError(1, TimeUnit.HOURS));
+        assertEquals(60_000, options.getStaleWhileRevalidateMs());
+        assertEquals(3_600_000, options.getStaleIfErrorMs());
+        assertThrows(IllegalArgumentException.class, () -> options.setStaleWhileRevalidate(-1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> options.setStaleIfError(-1, TimeUnit.SECONDS));
+        assertThrows(NullPointerException.class, () -> options.setStaleIfError(1, null));
+    }
+
+    @Test
+    void testNegativeCachingAndUidFilter() {
+        CacheOptions options = new CacheOptions();
+        assertEquals(0, options.getNegativeTimeToLiveMs());
+        assertEquals(0, options.getUidFilterExpectedUids());
+
+        assertSame(options, options.setNegativeTimeToLive(30, TimeUnit.SECONDS).setUidFilter(10_000, 0.001));
+        assertEquals(30_000, options.getNegativeTimeToLiveMs());
+        assertEquals(10_000, options.getUidFilterExpectedUids());
+        assertEquals(0.001, options.getUidFilterFalsePositiveRate());
+        assertThrows(IllegalArgumentException.class, () -> options.setNegativeTimeToLive(-1, TimeUnit.SECONDS));
+        assertThrows(NullPointerException.class, () -> options.setNegativeTimeToLive(1, null));
+        assertThrows(IllegalArgumentException.class, () -> options.setUidFilter(-1, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> options.setUidFilter(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> options.setUidFilter(100, 1));
+        assertEquals(60_000, options.getUidFilterMaxAge());
+        assertSame(options, options.setUidFilter(100, 0.01, 10, TimeUnit.SECONDS));
+        assertEquals(10_000, options.getUidFilterMaxAge());
+        assertThrows(IllegalArgumentException.class, () -> options.setUidFilter(100, 0.01, -1, TimeUnit.SECONDS));
+        assertThrows(NullPointerException.class, () -> options.setUidFilter(100, 0.01, 1, null));
+    }
+}
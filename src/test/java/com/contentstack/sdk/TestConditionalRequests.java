@@ -0,0 +1,171 @@
+package com.contentstack.sdk;
+
+import com.contentstack.sdk.utils.StubInterceptor;
+import okhttp3.Request;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestConditionalRequests {
+
+    private static final String PAGE = "{\"entries\":[{\"uid\":\"blt1\",\"title\":\"Home\",\"url\":\"/\"}]}";
+
+    /**
+     * Answers with the page and an ETag, or with 304 when the request carries that ETag.
+     */
+    private static StubInterceptor etagServer(String etag) {
+        return new StubInterceptor(request -> etag.equals(request.header("If-None-Match"))
+                ? StubInterceptor.response(304, "")
+                : StubInterceptor.response(200, PAGE).header("ETag", etag));
+    }
+
+    private static Stack stack(StubInterceptor stub, Config config) throws IllegalAccessException {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env", config);
+        stack.service = stub.service();
+        return stack;
+    }
+
+    private static QueryResult find(Stack stack) throws Exception {
+        return stack.contentType("page").query().findAsync().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testRepeatedRequestIsRevalidated() throws Exception {
+        StubInterceptor stub = etagServer("\"v1\"");
+        Stack stack = stack(stub, new Config().enableConditionalRequests(true));
+
+        find(stack);
+        QueryResult revalidated = find(stack);
+
+        assertEquals(2, stub.requestCount());
+        assertNull(stub.requests().get(0).header("If-None-Match"));
+        assertEquals("\"v1\"", stub.requests().get(1).header("If-None-Match"));
+        assertEquals("blt1", revalidated.getResultObjects().get(0).getUid());
+        assertEquals("Home", revalidated.getResultObjects().get(0).getTitle());
+    }
+
+    @Test
+    void testNotModifiedResultsAreCopies() throws Exception {
+        StubInterceptor stub = etagServer("\"v1\"");
+        Stack stack = stack(stub, new Config().enableConditionalRequests(true));
+
+        find(stack).getResultObjects().get(0).toJSON().put("title", "Changed");
+        find(stack).getResultObjects().get(0).toJSON().put("title", "Changed again");
+
+        assertEquals("Home", find(stack).getResultObjects().get(0).getTitle());
+    }
+
+    @Test
+    void testLastModifiedIsSentAsIfModifiedSince() throws Exception {
+        String lastModified = "Wed, 01 May 2024 10:00:00 GMT";
+        StubInterceptor stub = new StubInterceptor(request -> request.header("If-Modified-Since") != null
+                ? StubInterceptor.response(304, "")
+                : StubInterceptor.response(200, PAGE).header("Last-Modified", lastModified));
+        Stack stack = stack(stub, new Config().enableConditionalRequests(true));
+
+        find(stack);
+        QueryResult revalidated = find(stack);
+
+        Request second = stub.requests().get(1);
+        assertEquals(lastModified, second.header("If-Modified-Since"));
+        assertNull(second.header("If-None-Match"));
+        assertEquals(1, revalidated.getResultObjects().size());
+    }
+
+    @Test
+    void testChangedContentReplacesStoredResponse() throws Exception {
+        AtomicReference<String> current = new AtomicReference<>("\"v1\"");
+        StubInterceptor stub = new StubInterceptor(request -> current.get().equals(request.header("If-None-Match"))
+                ? StubInterceptor.response(304, "")
+                : StubInterceptor.response(200, PAGE.replace("Home", current.get().replace("\"", "")))
+                        .header("ETag", current.get()));
+        Stack stack = stack(stub, new Config().enableConditionalRequests(true));
+
+        find(stack);
+        current.set("\"v2\"");
+        assertEquals("v2", find(stack).getResultObjects().get(0).getTitle());
+        assertEquals("v2", find(stack).getResultObjects().get(0).getTitle());
+
+        assertEquals("\"v1\"", stub.requests().get(1).header("If-None-Match"));
+        assertEquals("\"v2\"", stub.requests().get(2).header("If-None-Match"));
+    }
+
+    @Test
+    void testResponsesWithoutValidatorsAreNotRevalidated() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        Stack stack = stack(stub, new Config().enableConditionalRequests(true));
+
+        find(stack);
+        find(stack);
+
+        assertNull(stub.requests().get(1).header("If-None-Match"));
+        assertEquals(0, stack.validatorStore.size());
+    }
+
+    @Test
+    void testEntryFetchDoesNotKeepConditionalHeaders() throws Exception {
+        StubInterceptor stub = new StubInterceptor(request -> "\"e1\"".equals(request.header("If-None-Match"))
+                ? StubInterceptor.response(304, "")
+                : StubInterceptor.response(200, "{\"entry\":{\"uid\":\"blt1\",\"title\":\"Home\"}}")
+                        .header("ETag", "\"e1\""));
+        Stack stack = stack(stub, new Config().enableConditionalRequests(true));
+        Entry entry = stack.contentType("page").entry("blt1");
+        EntryResultCallBack callback = new EntryResultCallBack() {
+            @Override
+            public void onCompletion(ResponseType responseType, Error error) {
+                assertNull(error);
+            }
+        };
+
+        entry.fetch(callback);
+        stack.clearCache();
+        entry.fetch(callback);
+
+        assertFalse(entry.headers.containsKey("If-None-Match"));
+        assertNull(stub.requests().get(1).header("If-None-Match"));
+        assertEquals("Home", entry.getTitle());
+    }
+
+    @Test
+    void testDisabledByDefault() throws Exception {
+        StubInterceptor stub = etagServer("\"v1\"");
+        Stack stack = stack(stub, new Config());
+
+        find(stack);
+        find(stack);
+
+        assertNull(stack.validatorStore);
+        assertNull(stub.requests().get(1).header("If-None-Match"));
+    }
+
+    @Test
+    void testStoreEvictsLeastRecentlyUsed() {
+        ValidatorStore store = new ValidatorStore(30);
+        store.put("a", "\"a\"", null, new JSONObject(), 10);
+        store.put("b", "\"b\"", null, new JSONObject(), 10);
+        store.put("c", null, "Wed, 01 May 2024 10:00:00 GMT", new JSONObject(), 10);
+        store.get("a");
+
+        store.put("d", "\"d\"", null, new JSONObject(), 10);
+
+        assertNotNull(store.get("a"));
+        assertNull(store.get("b"));
+        assertEquals("Wed, 01 May 2024 10:00:00 GMT", store.get("c").lastModified);
+        assertEquals(30, store.weight());
+    }
+
+    @Test
+    void testStoreDropsResponsesThatLostTheirValidators() {
+        ValidatorStore store = new ValidatorStore(100);
+        store.put("a", "\"a\"", null, new JSONObject(), 10);
+        store.put("a", null, null, new JSONObject(), 10);
+        store.put("b", "\"b\"", null, new JSONObject(), 101);
+
+        assertEquals(0, store.size());
+        assertEquals(0, store.weight());
+    }
+}
@@ -9,6 +9,9 @@ import org.junit.jupiter.api.Test;
 
 import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -411,4 +414,101 @@ public class TestConfig {
         assertNotNull(result);
         assertArrayEquals(earlyAccessHeaders, config.getEarlyAccess());
     }
+
+    @Test
+    void testAsyncRequestsDisabledByDefault() {
+        assertFalse(config.isAsyncRequests());
+        assertNull(config.getExecutorService());
+        assertNull(config.getCallbackExecutor());
+        assertEquals(64, config.getMaxRequests());
+        assertEquals(5, config.getMaxRequestsPerHost());
+    }
+
+    @Test
+    void testAsyncExecutionSettings() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Executor callbackExecutor = Runnable::run;
+            Config result = config.enableAsyncRequests(true)
+                    .setExecutorService(executor)
+                    .setCallbackExecutor(callbackExecutor)
+                    .setMaxRequests(256, 128);
+
+            assertSame(config, result);
+            assertTrue(config.isAsyncRequests());
+            assertSame(executor, config.getExecutorService());
+            assertSame(callbackExecutor, config.getCallbackExecutor());
+            assertEquals(256, config.getMaxRequests());
+            assertEquals(128, config.getMaxRequestsPerHost());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSetMaxRequestsRejectsInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> config.setMaxRequests(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> config.setMaxRequests(64, 0));
+    }
+
+    @Test
+    void testStackBuildsWithAsyncConfig() throws IllegalAccessException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            config.enableAsyncRequests(true).setExecutorService(executor).setMaxRequests(10, 10);
+            Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env", config);
+            assertNotNull(stack.service);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testVirtualThreadsDisabledByDefault() {
+        assertFalse(config.isVirtualThreads());
+        assertSame(config, config.enableVirtualThreads(true));
+        assertTrue(config.isVirtualThreads());
+    }
+
+    @Test
+    void testJsonCodecDefaultsToStreaming() {
+        Config config = new Config();
+        assertSame(JsonCodec.STREAMING, config.getJsonCodec());
+
+        assertSame(config, config.setJsonCodec(JsonCodec.GSON));
+        assertSame(JsonCodec.GSON, config.getJsonCodec());
+        assertThrows(IllegalArgumentException.class, () -> config.setJsonCodec(null));
+    }
+
+    @Test
+    void testEnableRequestCoalescing() {
+        Config config = new Config();
+        assertFalse(config.isRequestCoalescing());
+
+        assertSame(config, config.enableRequestCoalescing(true));
+        assertTrue(config.isRequestCoalescing());
+    }
+
+
+    @Test
+    void testSetCacheOptions() {
+        Config config = new Config();
+        assertNull(config.getCacheOptions());
+
+        CacheOptions options = new CacheOptions();
+        assertSame(config, config.setCacheOptions(options));
+        assertSame(options, config.getCacheOptions());
+    }
+
+
+    @Test
+    void testEnableConditionalRequests() {
+        Config config = new Config();
+        assertFalse(config.isConditionalRequests());
+
+        assertSame(config, config.enableConditionalRequests(true, 1024));
+        assertTrue(config.isConditionalRequests());
+        assertEquals(1024, config.validatorStoreMaxWeight);
+        assertThrows(IllegalArgumentException.class, () -> config.enableConditionalRequests(true, 0));
+    }
 }
@@ -1,10 +1,20 @@
 package com.contentstack.sdk;
 
+import okhttp3.Request;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
+import com.contentstack.sdk.utils.StubInterceptor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -932,4 +942,103 @@ public class TestContentType {
         assertNotNull(contentType.headers);
         assertEquals(newStack.headers, contentType.headers);
     }
+
+    // ========== ASYNC API TESTS ==========
+
+    @Test
+    void testFetchAsyncCompletesWithModel() throws Exception {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        stack.service = StubInterceptor.json(200,
+                "{\"content_type\":{\"uid\":\"blog\",\"title\":\"Blog\",\"schema\":[]}}").service();
+        ContentType blog = stack.contentType("blog");
+
+        ContentTypesModel model = blog.fetchAsync(new JSONObject()).get(5, TimeUnit.SECONDS);
+
+        assertNotNull(model.getResponse());
+        assertEquals("Blog", blog.getTitle());
+    }
+
+    // ========== BATCH FETCH TESTS ==========
+
+    private static StubInterceptor publishedStub(Predicate<String> published) {
+        return new StubInterceptor(request -> {
+            JSONArray uids = new JSONObject(request.url().queryParameter("query"))
+                    .getJSONObject("uid").getJSONArray("$in");
+            JSONArray entries = new JSONArray();
+            for (int i = 0; i < uids.length(); i++) {
+                if (published.test(uids.getString(i))) {
+                    entries.put(new JSONObject().put("uid", uids.getString(i)).put("title", uids.getString(i)));
+                }
+            }
+            return StubInterceptor.response(200, new JSONObject().put("entries", entries).toString());
+        });
+    }
+
+    @Test
+    void testEntriesFetchesChunksAndReportsMissing() throws IllegalAccessException {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        StubInterceptor stub = publishedStub(uid -> Integer.parseInt(uid.substring(3)) % 2 == 0);
+        stack.service = stub.service();
+        List<String> uids = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            uids.add("blt" + i);
+        }
+        uids.add("blt4");
+        uids.add("bad/uid");
+
+        EntryBatchResult result = stack.contentType("blog").entries(uids);
+
+        assertEquals(3, stub.requestCount());
+        for (Request request : stub.requests()) {
+            assertTrue(Integer.parseInt(request.url().queryParameter("limit")) <= 100);
+        }
+        assertEquals(125, result.getEntries().size());
+        assertEquals("blt0", result.getEntries().keySet().iterator().next());
+        assertEquals("blt4", result.getEntry("blt4").getTitle());
+        assertEquals(126, result.getMissingUids().size());
+        assertEquals("blt1", result.getMissingUids().get(0));
+        assertEquals("bad/uid", result.getMissingUids().get(125));
+    }
+
+    @Test
+    void testEntriesChunksByEncodedLength() {
+        List<String> uids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            uids.add(String.format("blt%0200d", i));
+        }
+        List<List<String>> chunks = EntryBatchLoader.chunks(uids);
+
+        assertTrue(chunks.size() > 1);
+        int total = 0;
+        for (List<String> chunk : chunks) {
+            assertTrue(chunk.size() * 212 <= EntryBatchLoader.MAX_CHUNK_LENGTH);
+            total += chunk.size();
+        }
+        assertEquals(50, total);
+    }
+
+    @Test
+    void testEntriesFailsWhenAChunkFails() throws IllegalAccessException {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        stack.service = StubInterceptor.json(422, "{\"error_message\":\"Invalid query\",\"error_code\":141}").service();
+
+        CompletableFuture<EntryBatchResult> future = stack.contentType("blog")
+                .entriesAsync(Arrays.asList("blt1", "blt2"));
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertEquals(141, ((ContentstackException) thrown.getCause()).getErrorCode());
+    }
+
+    @Test
+    void testEntriesWithoutUidsSendsNothing() throws IllegalAccessException {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        StubInterceptor stub = publishedStub(uid -> true);
+        stack.service = stub.service();
+
+        EntryBatchResult result = stack.contentType("blog").entries(Collections.emptyList());
+
+        assertTrue(result.getEntries().isEmpty());
+        assertTrue(result.getMissingUids().isEmpty());
+        assertEquals(0, stub.requestCount());
+    }
 }
@@ -0,0 +1,27 @@
+package com.contentstack.sdk;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestContentstackException {
+
+    @Test
+    void testCarriesError() {
+        Error error = new Error("Entry not found", 141, "uid missing");
+        ContentstackException exception = new ContentstackException(error);
+
+        assertSame(error, exception.getError());
+        assertEquals("Entry not found", exception.getMessage());
+        assertEquals(141, exception.getErrorCode());
+    }
+
+    @Test
+    void testNullError() {
+        ContentstackException exception = new ContentstackException(null);
+
+        assertNull(exception.getError());
+        assertNull(exception.getMessage());
+        assertEquals(0, exception.getErrorCode());
+    }
+}
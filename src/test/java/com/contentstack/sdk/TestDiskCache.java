@@ -0,0 +1,211 @@
+package com.contentstack.sdk;
+
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestDiskCache {
+
+    private static final String PAGE = "{\"entries\":[{\"uid\":\"blt1\",\"title\":\"Home\",\"url\":\"/\"}]}";
+
+    @TempDir
+    File directory;
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger hashesSent = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            if (exchange.getRequestHeaders().containsKey(DiskCacheInterceptor.CREDENTIALS_HASH)) {
+                hashesSent.incrementAndGet();
+            }
+            byte[] body = PAGE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", "max-age=0, must-revalidate");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private Config config() {
+        Config config = new Config();
+        config.scheme = "http://";
+        config.setHost("127.0.0.1:" + server.getAddress().getPort());
+        return config;
+    }
+
+    private static QueryResult find(Stack stack) throws Exception {
+        return stack.contentType("page").query().findAsync().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testForcedFreshnessServesFromDisk() throws Exception {
+        Config config = config().setDiskCache(directory, 1024 * 1024).setDiskCacheFreshness(1, TimeUnit.MINUTES);
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env", config);
+
+        find(stack);
+        assertEquals(1, config.getDiskCache().writeSuccessCount());
+        QueryResult cached = find(stack);
+
+        assertEquals(1, hits.get());
+        assertEquals("blt1", cached.getResultObjects().get(0).getUid());
+        assertEquals(1, config.getDiskCache().hitCount());
+    }
+
+    @Test
+    void testCdnCacheControlIsFollowedByDefault() throws Exception {
+        Config config = config().setDiskCache(directory, 1024 * 1024);
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env", config);
+
+        find(stack);
+        find(stack);
+
+        assertEquals(2, hits.get());
+    }
+
+    @Test
+    void testCachedResponsesOnlyMatchTheSameStackAndEnvironment() throws Exception {
+        Config config = config().setDiskCache(directory, 1024 * 1024).setDiskCacheFreshness(1, TimeUnit.MINUTES);
+
+        find(Contentstack.stack("apiKey", "deliveryToken", "env", config));
+        find(Contentstack.stack("apiKey", "deliveryToken", "production", config));
+        assertEquals(2, hits.get());
+        find(Contentstack.stack("apiKey", "deliveryToken", "production", config));
+        assertEquals(2, hits.get());
+        find(Contentstack.stack("otherKey", "deliveryToken", "production", config));
+
+        assertEquals(3, hits.get());
+    }
+
+    @Test
+    void testTokensAreNotWrittenToDisk() throws Exception {
+        Config config = config().setDiskCache(directory, 1024 * 1024).setDiskCacheFreshness(1, TimeUnit.MINUTES);
+        Stack stack = Contentstack.stack("secretApiKey", "secretDeliveryToken", "env", config);
+        stack.setHeader("preview_token", "secretPreviewToken");
+        stack.setHeader("authorization", "secretManagementToken");
+
+        find(stack);
+        find(stack);
+        find(Contentstack.stack("secretApiKey", "otherDeliveryToken", "env", config));
+        config.getDiskCache().flush();
+
+        assertEquals(2, hits.get());
+        assertEquals(0, hashesSent.get());
+        StringBuilder written = new StringBuilder();
+        for (File file : directory.listFiles()) {
+            written.append(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        }
+        assertTrue(written.toString().contains(DiskCacheInterceptor.CREDENTIALS_HASH));
+        for (String secret : new String[]{"secretApiKey", "secretDeliveryToken", "otherDeliveryToken",
+                "secretPreviewToken", "secretManagementToken"}) {
+            assertFalse(written.toString().contains(secret), secret);
+        }
+    }
+
+    @Test
+    void testCacheSurvivesRestart() throws Exception {
+        Config first = config().setDiskCache(directory, 1024 * 1024).setDiskCacheFreshness(1, TimeUnit.MINUTES);
+        find(Contentstack.stack("apiKey", "deliveryToken", "env", first));
+        first.getDiskCache().close();
+
+        Config restarted = config().setDiskCache(directory, 1024 * 1024)
+                .setDiskCacheFreshness(1, TimeUnit.MINUTES);
+        QueryResult result = find(Contentstack.stack("apiKey", "deliveryToken", "env", restarted));
+
+        assertEquals(1, hits.get());
+        assertEquals("Home", result.getResultObjects().get(0).getTitle());
+    }
+
+    @Test
+    void testSyncResponsesKeepCdnHeaders() throws IOException {
+        Request request = new Request.Builder().url("https://cdn.contentstack.io/v3/stacks/sync?init=true")
+                .header("api_key", "apiKey").header("branch", "main").build();
+        Response response = new DiskCacheInterceptor(60_000).intercept(chain(request, "max-age=0", null));
+
+        assertEquals("max-age=0", response.header("Cache-Control"));
+        assertEquals("branch", response.header("Vary"));
+    }
+
+    @Test
+    void testVaryKeepsServerFieldsAndSkipsTransportHeaders() throws IOException {
+        Request request = new Request.Builder().url("https://cdn.contentstack.io/v3/content_types")
+                .header("api_key", "apiKey").header("User-Agent", "sdk").header("branch", "main").build();
+        Response response = new DiskCacheInterceptor(2_000).intercept(chain(request, "no-cache",
+                "Accept-Language"));
+
+        assertEquals("public, max-age=2", response.header("Cache-Control"));
+        assertEquals("Accept-Language, branch", response.header("Vary"));
+    }
+
+    @Test
+    void testVaryUsesHashOfTokens() throws IOException {
+        Request request = new Request.Builder().url("https://cdn.contentstack.io/v3/content_types")
+                .header("api_key", "apiKey").header("access_token", "token").header("environment", "env")
+                .header(DiskCacheInterceptor.CREDENTIALS_HASH, "hash").build();
+        Response response = new DiskCacheInterceptor(0).intercept(chain(request, "max-age=60", null));
+
+        assertEquals("environment, " + DiskCacheInterceptor.CREDENTIALS_HASH, response.header("Vary"));
+        assertSame(request, response.request());
+    }
+
+    @Test
+    void testInvalidSettingsAreRejected() {
+        Config config = new Config();
+        assertNull(config.getDiskCache());
+        assertEquals(0, config.getDiskCacheFreshnessMs());
+        assertThrows(IllegalArgumentException.class, () -> config.setDiskCache(null, 1024));
+        assertThrows(IllegalArgumentException.class, () -> config.setDiskCache(directory, 0));
+        assertThrows(IllegalArgumentException.class, () -> config.setDiskCacheFreshness(-1, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Chain whose network answers with the given caching headers.
+     */
+    private static Interceptor.Chain chain(Request request, String cacheControl, String vary) {
+        return (Interceptor.Chain) java.lang.reflect.Proxy.newProxyInstance(Interceptor.Chain.class.getClassLoader(),
+                new Class<?>[]{Interceptor.Chain.class}, (proxy, method, args) -> {
+                    if ("request".equals(method.getName())) {
+                        return request;
+                    }
+                    if ("proceed".equals(method.getName())) {
+                        Response.Builder response = new Response.Builder().request((Request) args[0])
+                                .protocol(Protocol.HTTP_1_1).code(200).message("OK")
+                                .header("Cache-Control", cacheControl);
+                        if (vary != null) {
+                            response.header("Vary", vary);
+                        }
+                        return response.build();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
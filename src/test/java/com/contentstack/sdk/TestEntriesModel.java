@@ -338,5 +338,32 @@ class TestEntriesModel {
         assertEquals("/comprehensive", entryModel.url);
         assertEquals("en-us", entryModel.language);
     }
-}
 
+    @Test
+    void testConstructorWithDecodedJSONArrayEntries() throws Exception {
+        JSONObject response = ResponseDecoder.decode(new okio.Buffer().writeUtf8(
+                "{\"entries\":[{\"uid\":\"entry1_uid\",\"title\":\"Entry 1 Title\"},"
+                        + "{\"uid\":\"entry2_uid\",\"title\":\"Entry 2 Title\"}]}"));
+
+        EntriesModel model = new EntriesModel(response);
+
+        assertEquals(2, model.objectList.size());
+        assertEquals("entry1_uid", ((EntryModel) model.objectList.get(0)).uid);
+        assertEquals("Entry 2 Title", ((EntryModel) model.objectList.get(1)).title);
+    }
+
+    @Test
+    void testStreamingBuildsModelsWhileDecoding() throws Exception {
+        EntriesModel.Streaming streaming = new EntriesModel.Streaming();
+        JSONObject response = ResponseDecoder.decode(new okio.Buffer().writeUtf8(
+                "{\"entries\":[{\"uid\":\"entry1_uid\"},\"not-an-entry\",{\"uid\":\"entry2_uid\"}],\"count\":3}"),
+                streaming);
+
+        EntriesModel model = streaming.toModel(response);
+
+        assertSame(response, model.jsonObject);
+        assertEquals(2, model.objectList.size());
+        assertEquals("entry1_uid", ((EntryModel) model.objectList.get(0)).uid);
+        assertEquals("entry2_uid", ((EntryModel) model.objectList.get(1)).uid);
+    }
+}
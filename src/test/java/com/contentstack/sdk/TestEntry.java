@@ -7,6 +7,10 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
+import com.contentstack.sdk.utils.StubInterceptor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -1552,4 +1556,38 @@ public class TestEntry {
         assertTrue(callbackInvoked[0], "Callback should be invoked when returning cached draft");
         assertEquals("Draft Title", entry.getTitle());
     }
+
+    // ========== ASYNC API TESTS ==========
+
+    @Test
+    void testFetchAsyncCompletesWithPopulatedEntry() throws Exception {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        StubInterceptor stub = StubInterceptor.json(200,
+                "{\"entry\":{\"uid\":\"blt1\",\"title\":\"Hello\",\"locale\":\"en-us\"}}");
+        stack.service = stub.service();
+        Entry fetched = stack.contentType("blog").entry("blt1");
+
+        Entry result = fetched.fetchAsync().get(5, TimeUnit.SECONDS);
+
+        assertSame(fetched, result);
+        assertEquals("Hello", result.getTitle());
+        assertTrue(stub.requests().get(0).url().encodedPath().endsWith("/content_types/blog/entries/blt1"));
+    }
+
+    @Test
+    void testFetchAsyncCompletesExceptionallyOnError() throws IllegalAccessException {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        stack.service = StubInterceptor.json(404, "{\"error_message\":\"Not found\",\"error_code\":141}").service();
+
+        CompletableFuture<Entry> future = stack.contentType("blog").entry("missing").fetchAsync();
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(thrown.getCause() instanceof ContentstackException);
+    }
+
+    @Test
+    void testFetchAsyncWithoutUidFails() {
+        entry.uid = "";
+        assertTrue(entry.fetchAsync().isCompletedExceptionally());
+    }
 }
@@ -0,0 +1,235 @@
+package com.contentstack.sdk;
+
+import com.contentstack.sdk.utils.StubInterceptor;
+import okhttp3.Request;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestEntryFetchBatcher {
+
+    private static final String NOT_FOUND = "{\"error_message\":\"The requested entry doesn't exist.\","
+            + "\"error_code\":141}";
+
+    /**
+     * Answers entry queries with the requested UIDs that do not start with "missing", and single entry fetches with
+     * the entry, or the server's error for a missing one.
+     */
+    private static StubInterceptor entriesStub() {
+        return new StubInterceptor(request -> {
+            String path = request.url().encodedPath();
+            if (!path.endsWith("/entries")) {
+                String uid = path.substring(path.lastIndexOf('/') + 1);
+                return uid.startsWith("missing") ? StubInterceptor.response(422, NOT_FOUND)
+                        : StubInterceptor.response(200, new JSONObject().put("entry",
+                        new JSONObject().put("uid", uid).put("title", "Title " + uid)).toString());
+            }
+            JSONArray uids = new JSONObject(request.url().queryParameter("query"))
+                    .getJSONObject("uid").getJSONArray("$in");
+            JSONArray entries = new JSONArray();
+            for (int i = 0; i < uids.length(); i++) {
+                String uid = uids.getString(i);
+                if (!uid.startsWith("missing")) {
+                    entries.put(new JSONObject().put("uid", uid).put("title", "Title " + uid)
+                            .put("locale", request.url().queryParameter("locale")));
+                }
+            }
+            return StubInterceptor.response(200, new JSONObject().put("entries", entries).toString());
+        });
+    }
+
+    private static Stack stack(StubInterceptor stub, long windowMs) throws IllegalAccessException {
+        return stack(stub, new Config().setFetchBatchWindow(windowMs, TimeUnit.MILLISECONDS));
+    }
+
+    private static Stack stack(StubInterceptor stub, Config config) throws IllegalAccessException {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env", config);
+        stack.service = stub.service();
+        return stack;
+    }
+
+    /**
+     * Fetches with a callback, completing with the response type the callback received.
+     */
+    private static CompletableFuture<ResponseType> fetch(Entry entry) {
+        CompletableFuture<ResponseType> done = new CompletableFuture<>();
+        entry.fetch(new EntryResultCallBack() {
+            @Override
+            public void onCompletion(ResponseType responseType, Error error) {
+                if (error != null) {
+                    done.completeExceptionally(new ContentstackException(error));
+                } else {
+                    done.complete(responseType);
+                }
+            }
+        });
+        return done;
+    }
+
+    @Test
+    void testFetchesWithinWindowShareOneQuery() throws Exception {
+        StubInterceptor stub = entriesStub();
+        Stack stack = stack(stub, 100);
+        List<CompletableFuture<Entry>> fetches = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            fetches.add(stack.contentType("blog").entry("blt" + i).fetchAsync());
+        }
+        // the same entry twice gets two callbacks
+        fetches.add(stack.contentType("blog").entry("blt0").fetchAsync());
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Title blt" + i, fetches.get(i).get(5, TimeUnit.SECONDS).getTitle());
+        }
+        Entry again = fetches.get(5).get(5, TimeUnit.SECONDS);
+        assertEquals("Title blt0", again.getTitle());
+        assertNotSame(fetches.get(0).get().toJSON(), again.toJSON());
+        assertEquals(1, stub.requestCount());
+        Request request = stub.requests().get(0);
+        assertTrue(request.url().encodedPath().endsWith("/content_types/blog/entries"));
+        assertEquals("5", request.url().queryParameter("limit"));
+    }
+
+    @Test
+    void testMissingEntryIsFetchedOnItsOwn() throws Exception {
+        StubInterceptor stub = entriesStub();
+        Stack stack = stack(stub, 50);
+        CompletableFuture<Entry> found = stack.contentType("blog").entry("blt1").fetchAsync();
+        CompletableFuture<Entry> missing = stack.contentType("blog").entry("missing1").fetchAsync();
+
+        assertEquals("blt1", found.get(5, TimeUnit.SECONDS).getUid());
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> missing.get(5, TimeUnit.SECONDS));
+        // the server's own answer for the entry
+        assertEquals(141, ((ContentstackException) thrown.getCause()).getErrorCode());
+        assertEquals(2, stub.requestCount());
+        assertTrue(stub.requests().get(1).url().encodedPath().endsWith("/entries/missing1"));
+    }
+
+    @Test
+    void testBlockingFetchIsNotBatched() throws Exception {
+        StubInterceptor stub = entriesStub();
+        Stack stack = stack(stub, 60000);
+        Entry entry = stack.contentType("blog").entry("blt1");
+
+        CompletableFuture<ResponseType> done = fetch(entry);
+
+        // the callback ran before fetch returned
+        assertTrue(done.isDone());
+        assertEquals("Title blt1", entry.getTitle());
+        assertTrue(stub.requests().get(0).url().encodedPath().endsWith("/entries/blt1"));
+    }
+
+    @Test
+    void testFetchesAreBatchedWithAsyncRequests() throws Exception {
+        StubInterceptor stub = entriesStub();
+        Stack stack = stack(stub, new Config().enableAsyncRequests(true)
+                .setFetchBatchWindow(50, TimeUnit.MILLISECONDS));
+        Entry first = stack.contentType("blog").entry("blt1");
+        Entry second = stack.contentType("blog").entry("blt2");
+
+        CompletableFuture<ResponseType> firstDone = fetch(first);
+        CompletableFuture<ResponseType> secondDone = fetch(second);
+
+        assertEquals(ResponseType.NETWORK, firstDone.get(5, TimeUnit.SECONDS));
+        assertEquals(ResponseType.NETWORK, secondDone.get(5, TimeUnit.SECONDS));
+        assertEquals("Title blt2", second.getTitle());
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void testFetchesReportTheResponseTypeOfTheQuery() throws Exception {
+        StubInterceptor stub = entriesStub();
+        Stack stack = stack(stub, new Config().enableAsyncRequests(true)
+                .setCacheOptions(new CacheOptions().setTimeToLive(1, TimeUnit.MINUTES))
+                .setFetchBatchWindow(50, TimeUnit.MILLISECONDS));
+
+        assertEquals(ResponseType.NETWORK, fetch(stack.contentType("blog").entry("blt1")).get(5, TimeUnit.SECONDS));
+        Entry cached = stack.contentType("blog").entry("blt1");
+        assertEquals(ResponseType.CACHE, fetch(cached).get(5, TimeUnit.SECONDS));
+        assertEquals("Title blt1", cached.getTitle());
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void testFetchesAreGroupedByLocale() throws Exception {
+        StubInterceptor stub = entriesStub();
+        Stack stack = stack(stub, 100);
+        CompletableFuture<Entry> english = stack.contentType("blog").entry("blt1").setLocale("en-us").fetchAsync();
+        CompletableFuture<Entry> french = stack.contentType("blog").entry("blt2").setLocale("fr-fr").fetchAsync();
+        CompletableFuture<Entry> french2 = stack.contentType("blog").entry("blt3").setLocale("fr-fr").fetchAsync();
+        CompletableFuture<Entry> author = stack.contentType("author").entry("blt4").setLocale("fr-fr").fetchAsync();
+
+        assertEquals("en-us", english.get(5, TimeUnit.SECONDS).getLocale());
+        assertEquals("fr-fr", french.get(5, TimeUnit.SECONDS).getLocale());
+        assertEquals("fr-fr", french2.get(5, TimeUnit.SECONDS).getLocale());
+        assertEquals("blt4", author.get(5, TimeUnit.SECONDS).getUid());
+        assertEquals(3, stub.requestCount());
+    }
+
+    @Test
+    void testFullBatchIsSentWithoutWaiting() throws Exception {
+        StubInterceptor stub = entriesStub();
+        Stack stack = stack(stub, 60000);
+        List<CompletableFuture<Entry>> fetches = new ArrayList<>();
+        for (int i = 0; i < EntryBatchLoader.MAX_CHUNK_SIZE; i++) {
+            fetches.add(stack.contentType("blog").entry("blt" + i).fetchAsync());
+        }
+
+        for (CompletableFuture<Entry> fetch : fetches) {
+            assertNotNull(fetch.get(5, TimeUnit.SECONDS).getTitle());
+        }
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void testFailedQueryFailsEveryFetch() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(422, "{\"error_message\":\"Invalid query\",\"error_code\":141}");
+        Stack stack = stack(stub, 50);
+        CompletableFuture<Entry> first = stack.contentType("blog").entry("blt1").fetchAsync();
+        CompletableFuture<Entry> second = stack.contentType("blog").entry("blt2").fetchAsync();
+
+        for (CompletableFuture<Entry> fetch : Arrays.asList(first, second)) {
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> fetch.get(5, TimeUnit.SECONDS));
+            assertEquals(141, ((ContentstackException) thrown.getCause()).getErrorCode());
+        }
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void testBatchingIsDisabledByDefault() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, "{\"entry\":{\"uid\":\"blt1\",\"title\":\"One\"}}");
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        stack.service = stub.service();
+
+        assertEquals("One", stack.contentType("blog").entry("blt1").fetchAsync().get(5, TimeUnit.SECONDS).getTitle());
+        assertTrue(stub.requests().get(0).url().encodedPath().endsWith("/entries/blt1"));
+        assertEquals(0, new Config().getFetchBatchWindowMs());
+        assertThrows(IllegalArgumentException.class, () -> new Config().setFetchBatchWindow(-1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testKeyIsStable() {
+        LinkedHashMap<String, Object> headers = new LinkedHashMap<>();
+        headers.put("environment", "env");
+        headers.put("api_key", "key");
+        LinkedHashMap<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("api_key", "key");
+        reordered.put("environment", "env");
+        JSONObject params = new JSONObject().put("locale", "en-us").put("include_fallback", true);
+
+        assertEquals(EntryFetchBatcher.key("blog", params, headers),
+                EntryFetchBatcher.key("blog", new JSONObject().put("include_fallback", true).put("locale", "en-us"),
+                        reordered));
+        assertNotEquals(EntryFetchBatcher.key("blog", params, headers),
+                EntryFetchBatcher.key("blog", new JSONObject().put("locale", "fr-fr"), headers));
+    }
+}
@@ -0,0 +1,117 @@
+package com.contentstack.sdk;
+
+import com.contentstack.sdk.utils.StubInterceptor;
+import okio.Buffer;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJsonCodec {
+
+    private static final List<JsonCodec> CODECS = Arrays.asList(JsonCodec.STREAMING, JsonCodec.GSON,
+            JsonCodec.ORG_JSON);
+
+    private static final String PAGE = "{\"entries\":[{\"uid\":\"blt1\",\"title\":\"Caf\\u00e9 \\\"one\\\"\","
+            + "\"price\":12.50,\"views\":3000000000,\"huge\":123456789012345678901234,\"flag\":true,"
+            + "\"tags\":[\"a\",\"b\"],\"group\":{\"ref\":[{\"uid\":\"r1\"}],\"text\":\"a\\/b\\n\"}},"
+            + "{\"uid\":\"blt2\",\"title\":\"Two\",\"zero\":-0}],\"count\":2}";
+
+    private static JSONObject decode(JsonCodec codec, String json, JsonCodec.ElementListener listener)
+            throws IOException {
+        return codec.decode(new Buffer().writeUtf8(json), listener);
+    }
+
+    @Test
+    void testCodecsBuildEquivalentTrees() throws IOException {
+        JSONObject expected = new JSONObject(PAGE);
+        for (JsonCodec codec : CODECS) {
+            JSONObject decoded = decode(codec, PAGE, null);
+            assertTrue(expected.similar(decoded), codec + ": " + decoded);
+            JSONObject entry = decoded.getJSONArray("entries").getJSONObject(0);
+            assertEquals(Double.class, entry.get("price").getClass());
+            assertEquals(3000000000L, entry.get("views"));
+        }
+    }
+
+    @Test
+    void testNullMembers() throws IOException {
+        String json = "{\"entry\":{\"uid\":\"blt1\",\"missing\":null,\"list\":[null]}}";
+
+        for (JsonCodec codec : CODECS) {
+            JSONObject entry = decode(codec, json, null).getJSONObject("entry");
+            assertFalse(entry.has("missing"), codec.toString());
+            assertTrue(entry.getJSONArray("list").isNull(0), codec.toString());
+        }
+    }
+
+    @Test
+    void testCodecsBuildIdenticalTrees() throws IOException {
+        String json = "{\"entries\":[{\"uid\":\"blt1\",\"price\":12.50,\"rate\":1e-3,\"zero\":-0,\"none\":null,"
+                + "\"group\":{\"none\":null,\"weights\":[0.5,null,2],\"nested\":[{\"ratio\":0.25,\"none\":null}]},"
+                + "\"count\":7,\"big\":3000000000}],\"total\":null,\"average\":4.75}";
+        Map<String, Object> expected = decode(JsonCodec.STREAMING, json, null).toMap();
+
+        for (JsonCodec codec : CODECS) {
+            JSONObject decoded = decode(codec, json, null);
+            assertEquals(expected, decoded.toMap(), codec.toString());
+            assertEquals(expected, decode(codec, json, (key, element) -> element).toMap(), codec.toString());
+            JSONObject group = decoded.getJSONArray("entries").getJSONObject(0).getJSONObject("group");
+            assertEquals(Double.class, group.getJSONArray("nested").getJSONObject(0).get("ratio").getClass());
+            assertFalse(group.has("none"));
+        }
+    }
+
+    @Test
+    void testCodecsPassTopLevelElementsToListener() throws IOException {
+        for (JsonCodec codec : CODECS) {
+            List<String> seen = new ArrayList<>();
+            JSONObject decoded = decode(codec, PAGE, (key, element) -> {
+                seen.add(key + ":" + ((JSONObject) element).getString("uid"));
+                return "blt2".equals(((JSONObject) element).getString("uid")) ? null : element;
+            });
+
+            assertEquals(Arrays.asList("entries:blt1", "entries:blt2"), seen, codec.toString());
+            JSONArray entries = decoded.getJSONArray("entries");
+            assertEquals(1, entries.length());
+            assertEquals(1, entries.getJSONObject(0).getJSONObject("group").getJSONArray("ref").length());
+        }
+    }
+
+    @Test
+    void testCodecsRejectMalformedBodies() {
+        for (JsonCodec codec : CODECS) {
+            assertThrows(JSONException.class, () -> decode(codec, "<html>Bad gateway</html>", null));
+            assertThrows(JSONException.class, () -> decode(codec, "[1,2]", null));
+            assertThrows(JSONException.class, () -> decode(codec, "{\"a\":", null));
+        }
+        // org.json reads unquoted words as strings, the strict tokenizers reject them
+        for (JsonCodec codec : Arrays.asList(JsonCodec.STREAMING, JsonCodec.GSON)) {
+            assertThrows(JSONException.class, () -> decode(codec, "{\"a\":tru}", null));
+        }
+    }
+
+    @Test
+    void testConfiguredCodecDecodesQueryResponses() throws Exception {
+        for (JsonCodec codec : CODECS) {
+            Config config = new Config().setJsonCodec(codec);
+            Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env", config);
+            stack.service = StubInterceptor.json(200, PAGE).service();
+
+            QueryResult result = stack.contentType("blog").query().findAsync().get(5, TimeUnit.SECONDS);
+
+            assertEquals(2, result.getResultObjects().size());
+            assertEquals("Café \"one\"", result.getResultObjects().get(0).getTitle());
+            assertEquals(2, result.getCount());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.contentstack.sdk;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLocalQueryPlan {
+
+    private static final List<JSONObject> ENTRIES = Arrays.asList(
+            entry("blt1", "Home", 10, "2024-01-03", "home", "featured"),
+            entry("blt2", "About", 25, "2024-01-01", "about"),
+            entry("blt3", "Blog", 40, "2024-01-02", "blog", "featured"),
+            new JSONObject().put("uid", "blt4").put("title", "Draft").put("updated_at", "2023-12-31")
+                    .put("author", new JSONObject().put("name", "Ann")));
+
+    private static JSONObject entry(String uid, String title, int price, String updatedAt, String... tags) {
+        return new JSONObject().put("uid", uid).put("title", title).put("price", price)
+                .put("updated_at", updatedAt).put("tags", new JSONArray(tags));
+    }
+
+    private static Query query() throws IllegalAccessException {
+        return Contentstack.stack("apiKey", "deliveryToken", "env").contentType("page").query();
+    }
+
+    private static List<String> uids(Query query) {
+        JSONArray entries = query.explain().execute(ENTRIES).getJSONArray("entries");
+        List<String> uids = new ArrayList<>();
+        for (int i = 0; i < entries.length(); i++) {
+            uids.add(entries.getJSONObject(i).getString("uid"));
+        }
+        return uids;
+    }
+
+    @Test
+    void testDefaultOrderIsNewestFirst() throws IllegalAccessException {
+        assertEquals(Arrays.asList("blt1", "blt3", "blt2", "blt4"), uids(query()));
+    }
+
+    @Test
+    void testComparisonOperators() throws IllegalAccessException {
+        assertEquals(Arrays.asList("blt2"), uids(query().where("title", "About")));
+        assertEquals(Arrays.asList("blt1", "blt3", "blt4"), uids(query().notEqualTo("title", "About")));
+        assertEquals(Arrays.asList("blt1", "blt2"), uids(query().lessThanOrEqualTo("price", 25).ascending("price")));
+        assertEquals(Arrays.asList("blt3"), uids(query().greaterThan("price", 25)));
+        assertEquals(Arrays.asList("blt2", "blt3"), uids(query().greaterThanOrEqualTo("price", 25.0)
+                .ascending("price")));
+        assertEquals(Arrays.asList("blt3", "blt2"), uids(query().greaterThanOrEqualTo("updated_at", "2024-01-01")
+                .lessThan("updated_at", "2024-01-03")));
+    }
+
+    @Test
+    void testSetOperatorsAndExistence() throws IllegalAccessException {
+        assertEquals(Arrays.asList("blt1", "blt2"), uids(query().containedIn("title", new Object[]{"Home", "About"})));
+        assertEquals(Arrays.asList("blt3", "blt4"), uids(query().notContainedIn("title", new Object[]{"Home", "About"})));
+        assertEquals(Arrays.asList("blt4"), uids(query().notExists("price")));
+        assertEquals(Arrays.asList("blt4"), uids(query().where("author.name", "Ann")));
+        assertEquals(Arrays.asList("blt1", "blt3"), uids(query().where("tags", "featured")));
+    }
+
+    @Test
+    void testRegexAndLogicalOperators() throws IllegalAccessException {
+        assertEquals(Arrays.asList("blt3", "blt2"), uids(query().regex("title", "b", "i")));
+        assertEquals(Arrays.asList("blt3"), uids(query().regex("title", "B")));
+
+        Query home = query().where("title", "Home");
+        Query cheap = query().lessThan("price", 30);
+        Query featured = query().where("tags", "featured");
+        assertEquals(Arrays.asList("blt1", "blt3"), uids(query().or(Arrays.asList(home, featured))));
+        assertEquals(Arrays.asList("blt1"), uids(query().and(Arrays.asList(cheap, featured))));
+    }
+
+    @Test
+    void testTagsPagingAndCounts() throws IllegalAccessException {
+        assertEquals(Arrays.asList("blt3", "blt1"), uids(query().tags(new String[]{"featured"}).ascending("title")));
+        assertEquals(Arrays.asList("blt3", "blt2"), uids(query().skip(1).limit(2)));
+
+        JSONObject counted = query().skip(3).includeCount().explain().execute(ENTRIES);
+        assertEquals(4, counted.getInt("count"));
+        assertEquals(1, counted.getJSONArray("entries").length());
+        assertEquals(4, query().count().explain().execute(ENTRIES).getInt("entries"));
+    }
+
+    @Test
+    void testProjectionsCopyEntries() throws IllegalAccessException {
+        JSONObject only = query().where("uid", "blt1").only(new String[]{"title"}).explain().execute(ENTRIES)
+                .getJSONArray("entries").getJSONObject(0);
+        assertEquals(2, only.length());
+        assertEquals("Home", only.getString("title"));
+
+        JSONObject except = query().where("uid", "blt1").except(new String[]{"tags"}).explain().execute(ENTRIES)
+                .getJSONArray("entries").getJSONObject(0);
+        assertFalse(except.has("tags"));
+        assertTrue(ENTRIES.get(0).has("tags"));
+    }
+
+    @Test
+    void testUnsupportedPartsAreExplained() throws IllegalAccessException {
+        LocalQueryPlan plan = query().where("title", "Home").includeReference("author").includeFallback().explain();
+
+        assertFalse(plan.isLocal());
+        assertEquals(2, plan.getUnsupported().size());
+        assertTrue(plan.getUnsupported().get(0).startsWith("include"));
+        assertTrue(plan.toString().contains("unsupported="));
+        assertFalse(query().whereIn("author", query().where("name", "Ann")).explain().isLocal());
+
+        LinkedHashMap<String, Object> headers = new LinkedHashMap<>();
+        headers.put("x-cs-variant-uid", "variant");
+        assertFalse(LocalQueryPlan.compile(new JSONObject(), headers).isLocal());
+    }
+
+    @Test
+    void testSupportedQueryIsLocal() throws IllegalAccessException {
+        LocalQueryPlan plan = query().where("title", "Home").locale("fr-fr").descending("price").limit(5).explain();
+
+        assertTrue(plan.isLocal());
+        assertTrue(plan.getUnsupported().isEmpty());
+        assertEquals("fr-fr", plan.getLocale());
+    }
+}
@@ -0,0 +1,289 @@
+package com.contentstack.sdk;
+
+import com.contentstack.sdk.utils.StubInterceptor;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLocalReplica {
+
+    private static final String SYNC = "{\"items\":["
+            + "{\"type\":\"entry_published\",\"content_type_uid\":\"page\",\"data\":{\"uid\":\"blt1\","
+            + "\"title\":\"Home\",\"url\":\"/\",\"locale\":\"en-us\"}},"
+            + "{\"type\":\"entry_published\",\"content_type_uid\":\"page\",\"data\":{\"uid\":\"blt1\","
+            + "\"title\":\"Accueil\",\"url\":\"/\",\"locale\":\"fr-fr\"}},"
+            + "{\"type\":\"entry_published\",\"content_type_uid\":\"blog\",\"data\":{\"uid\":\"blt2\","
+            + "\"title\":\"Post\",\"publish_details\":{\"locale\":\"en-us\"}}},"
+            + "{\"type\":\"asset_published\",\"content_type_uid\":\"sys_assets\",\"data\":{\"uid\":\"bltasset\","
+            + "\"filename\":\"logo.png\",\"url\":\"https://images/logo.png\"}}"
+            + "],\"sync_token\":\"token1\"}";
+
+    @TempDir
+    Path directory;
+
+    private static SyncStack page(String json) {
+        SyncStack page = new SyncStack();
+        page.setJSON(new JSONObject(json));
+        return page;
+    }
+
+    private static HashMap<String, Object> params(String key, Object value) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put(key, value);
+        return params;
+    }
+
+    private static LocalReplica replica(ReplicaOptions options) {
+        return new LocalReplica(options, JsonCodec.STREAMING);
+    }
+
+    private static LocalReplica synced() {
+        LocalReplica replica = replica(new ReplicaOptions());
+        replica.onSyncPage(params("init", true), page(SYNC));
+        return replica;
+    }
+
+    @Test
+    void testPublishedItemsAreStoredPerLocale() {
+        LocalReplica replica = synced();
+
+        assertEquals("token1", replica.getSyncToken());
+        assertEquals(3, replica.getEntryCount());
+        assertEquals(1, replica.getAssetCount());
+        assertEquals("Accueil", replica.getEntry("page", "blt1", "fr-fr").getString("title"));
+        assertNull(replica.getEntry("page", "blt1", null));
+        assertEquals("Post", replica.getEntry("blog", "blt2", null).getString("title"));
+        assertEquals("logo.png", replica.getAsset("bltasset", null).getString("filename"));
+        assertNull(replica.getEntry("blog", "blt1", "en-us"));
+    }
+
+    @Test
+    void testReadsAreCopies() {
+        LocalReplica replica = synced();
+        replica.getEntry("blog", "blt2", null).put("title", "Changed");
+        assertEquals("Post", replica.getEntry("blog", "blt2", null).getString("title"));
+    }
+
+    @Test
+    void testDeltaItemsAreApplied() {
+        LocalReplica replica = synced();
+        replica.onSyncPage(params("sync_token", "token1"), page("{\"items\":["
+                + "{\"type\":\"entry_unpublished\",\"content_type_uid\":\"page\",\"data\":{\"uid\":\"blt1\","
+                + "\"locale\":\"fr-fr\"}},"
+                + "{\"type\":\"content_type_deleted\",\"content_type_uid\":\"blog\",\"data\":{\"uid\":\"blog\"}},"
+                + "{\"type\":\"asset_deleted\",\"content_type_uid\":\"sys_assets\",\"data\":{\"uid\":\"bltasset\"}}"
+                + "],\"sync_token\":\"token2\"}"));
+
+        assertEquals("token2", replica.getSyncToken());
+        assertEquals(1, replica.getEntryCount());
+        assertEquals("Home", replica.getEntry("page", "blt1", null).getString("title"));
+        assertNull(replica.getEntry("blog", "blt2", null));
+        assertEquals(0, replica.getAssetCount());
+
+        replica.onSyncPage(params("sync_token", "token2"), page("{\"items\":[{\"type\":\"entry_deleted\","
+                + "\"content_type_uid\":\"page\",\"data\":{\"uid\":\"blt1\"}}],\"sync_token\":\"token3\"}"));
+        assertEquals(0, replica.getEntryCount());
+    }
+
+    @Test
+    void testFullSyncReplacesReplicaOnceComplete() {
+        LocalReplica replica = synced();
+        replica.onSyncPage(params("init", true), page("{\"items\":[{\"type\":\"entry_published\","
+                + "\"content_type_uid\":\"page\",\"data\":{\"uid\":\"blt9\",\"locale\":\"en-us\"}}],"
+                + "\"pagination_token\":\"next\"}"));
+
+        assertEquals(3, replica.getEntryCount());
+        assertNull(replica.getEntry("page", "blt9", null));
+
+        replica.onSyncPage(params("pagination_token", "next"), page("{\"items\":[],\"sync_token\":\"token2\"}"));
+        assertEquals("token2", replica.getSyncToken());
+        assertEquals(1, replica.getEntryCount());
+        assertNotNull(replica.getEntry("page", "blt9", null));
+        assertEquals(0, replica.getAssetCount());
+    }
+
+    @Test
+    void testFilteredSyncKeepsSyncToken() {
+        LocalReplica replica = synced();
+        HashMap<String, Object> byContentType = params("init", true);
+        byContentType.put("content_type_uid", "page");
+        replica.onSyncPage(byContentType, page("{\"items\":[{\"type\":\"entry_published\","
+                + "\"content_type_uid\":\"page\",\"data\":{\"uid\":\"blt3\",\"locale\":\"en-us\"}}],"
+                + "\"sync_token\":\"filtered\"}"));
+
+        assertEquals("token1", replica.getSyncToken());
+        assertNotNull(replica.getEntry("page", "blt3", null));
+    }
+
+    private static String published(String contentType, String uid, String next) {
+        return "{\"items\":[{\"type\":\"entry_published\",\"content_type_uid\":\"" + contentType + "\","
+                + "\"data\":{\"uid\":\"" + uid + "\",\"locale\":\"en-us\"}}]," + next + "}";
+    }
+
+    @Test
+    void testInterleavedSyncsAreTrackedSeparately() {
+        LocalReplica replica = synced();
+        HashMap<String, Object> partition = params("init", true);
+        partition.put("content_type_uid", "page");
+
+        replica.onSyncPage(params("init", true), page(published("page", "blt9", "\"pagination_token\":\"full2\"")));
+        replica.onSyncPage(partition, page(published("page", "blt7", "\"pagination_token\":\"part2\"")));
+        replica.onSyncPage(params("sync_token", "token1"),
+                page(published("blog", "blt8", "\"pagination_token\":\"delta2\"")));
+        replica.onSyncPage(params("pagination_token", "full2"),
+                page(published("page", "blt10", "\"pagination_token\":\"full3\"")));
+        replica.onSyncPage(params("pagination_token", "part2"),
+                page(published("page", "blt6", "\"sync_token\":\"partition\"")));
+
+        assertEquals("token1", replica.getSyncToken());
+        assertNotNull(replica.getEntry("page", "blt7", null));
+        assertNotNull(replica.getEntry("page", "blt6", null));
+        assertNotNull(replica.getEntry("blog", "blt8", null));
+        assertNull(replica.getEntry("page", "blt9", null));
+        assertNull(replica.getEntry("page", "blt10", null));
+
+        replica.onSyncPage(params("pagination_token", "delta2"), page("{\"items\":[],\"sync_token\":\"delta\"}"));
+        assertEquals("delta", replica.getSyncToken());
+        assertEquals(6, replica.getEntryCount());
+
+        replica.onSyncPage(params("pagination_token", "full3"), page("{\"items\":[],\"sync_token\":\"full\"}"));
+        assertEquals("full", replica.getSyncToken());
+        assertEquals(2, replica.getEntryCount());
+        assertNotNull(replica.getEntry("page", "blt9", null));
+        assertNotNull(replica.getEntry("page", "blt10", null));
+        assertNull(replica.getEntry("page", "blt7", null));
+    }
+
+    @Test
+    void testUnknownPaginationTokenKeepsSyncToken() {
+        LocalReplica replica = synced();
+        replica.onSyncPage(params("pagination_token", "elsewhere"),
+                page(published("page", "blt5", "\"sync_token\":\"token2\"")));
+
+        assertEquals("token1", replica.getSyncToken());
+        assertNotNull(replica.getEntry("page", "blt5", null));
+    }
+
+    @Test
+    void testPersistedReplicaIsLoaded() {
+        File file = directory.resolve("replica.json").toFile();
+        LocalReplica replica = replica(new ReplicaOptions().setPersistenceFile(file));
+        replica.onSyncPage(params("init", true), page(SYNC));
+
+        assertTrue(file.isFile());
+        LocalReplica loaded = replica(new ReplicaOptions().setPersistenceFile(file));
+        assertEquals("token1", loaded.getSyncToken());
+        assertEquals(3, loaded.getEntryCount());
+        assertEquals("Home", loaded.getEntry("page", "blt1", "en-us").getString("title"));
+        assertEquals("logo.png", loaded.getAsset("bltasset", null).getString("filename"));
+    }
+
+    @Test
+    void testUnreadableFileStartsEmpty() throws Exception {
+        File file = directory.resolve("replica.json").toFile();
+        Files.write(file.toPath(), "not json".getBytes(StandardCharsets.UTF_8));
+
+        LocalReplica replica = replica(new ReplicaOptions().setPersistenceFile(file));
+        assertNull(replica.getSyncToken());
+        assertEquals(0, replica.getEntryCount());
+    }
+
+    @Test
+    void testFetchesAreServedFromReplica() throws IllegalAccessException {
+        StubInterceptor stub = new StubInterceptor(request -> request.url().encodedPath().endsWith("/stacks/sync")
+                ? StubInterceptor.response(200, SYNC)
+                : StubInterceptor.response(200, "{\"entry\":{\"uid\":\"blt1\",\"title\":\"Network\"}}"));
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env",
+                new Config().setReplicaOptions(new ReplicaOptions()));
+        stack.service = stub.service();
+        stack.sync(new SyncResultCallBack() {
+            @Override
+            public void onCompletion(SyncStack syncStack, Error error) {
+            }
+        });
+        AtomicReference<ResponseType> type = new AtomicReference<>();
+        EntryResultCallBack callback = new EntryResultCallBack() {
+            @Override
+            public void onCompletion(ResponseType responseType, Error error) {
+                type.set(responseType);
+            }
+        };
+
+        Entry entry = stack.contentType("page").entry("blt1").setLocale("fr-fr");
+        entry.fetch(callback);
+        assertEquals(ResponseType.REPLICA, type.get());
+        assertEquals("Accueil", entry.getTitle());
+        assertEquals(1, stub.requestCount());
+
+        Asset asset = stack.asset("bltasset");
+        asset.fetch(new FetchResultCallback() {
+            @Override
+            public void onCompletion(ResponseType responseType, Error error) {
+                type.set(responseType);
+            }
+        });
+        assertEquals(ResponseType.REPLICA, type.get());
+        assertEquals("logo.png", asset.getFileName());
+
+        Entry withReferences = stack.contentType("page").entry("blt1").setLocale("en-us").includeReference("author");
+        withReferences.fetch(callback);
+        assertEquals(ResponseType.NETWORK, type.get());
+        assertEquals(2, stub.requestCount());
+    }
+
+    @Test
+    void testDisabledByDefault() throws IllegalAccessException {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        assertNull(stack.getReplica());
+    }
+
+    @Test
+    void testQueriesRunOnReplicaAfterFullSync() throws Exception {
+        StubInterceptor stub = new StubInterceptor(request -> request.url().encodedPath().endsWith("/stacks/sync")
+                ? StubInterceptor.response(200, SYNC)
+                : StubInterceptor.response(200, "{\"entries\":[{\"uid\":\"network\"}]}"));
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env",
+                new Config().setReplicaOptions(new ReplicaOptions()));
+        stack.service = stub.service();
+
+        QueryResult beforeSync = stack.contentType("page").query().findAsync().get(5, TimeUnit.SECONDS);
+        assertEquals("network", beforeSync.getResultObjects().get(0).getUid());
+        stack.sync(new SyncResultCallBack() {
+            @Override
+            public void onCompletion(SyncStack syncStack, Error error) {
+            }
+        });
+        AtomicReference<ResponseType> type = new AtomicReference<>();
+        AtomicReference<QueryResult> result = new AtomicReference<>();
+        stack.contentType("page").query().locale("fr-fr").where("title", "Accueil").find(new QueryResultsCallBack() {
+            @Override
+            public void onCompletion(ResponseType responseType, QueryResult queryResult, Error error) {
+                type.set(responseType);
+                result.set(queryResult);
+            }
+        });
+
+        assertEquals(ResponseType.REPLICA, type.get());
+        assertEquals("Accueil", result.get().getResultObjects().get(0).getTitle());
+        assertEquals(2, stub.requestCount());
+
+        // Two locales of blt1 and no locale set: the replica can't pick the master locale
+        stack.contentType("page").query().findAsync().get(5, TimeUnit.SECONDS);
+        stack.contentType("page").query().locale("en-us").includeReference("author").findAsync()
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(4, stub.requestCount());
+        Entry single = stack.contentType("blog").query().findOneAsync().get(5, TimeUnit.SECONDS);
+        assertEquals("Post", single.getTitle());
+        assertEquals(4, stub.requestCount());
+    }
+}
@@ -1,13 +1,23 @@
 package com.contentstack.sdk;
 
+import okhttp3.Request;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.NoSuchElementException;
+import com.contentstack.sdk.utils.StubInterceptor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import io.reactivex.rxjava3.core.Flowable;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -1911,4 +1921,318 @@ public class TestQuery {
         assertEquals("variant_uid_123", query.headers.get("x-cs-variant-uid"));
         assertEquals("staging", query.headers.get("branch"));
     }
+
+    // ========== ASYNC API TESTS ==========
+
+    private Query stubbedQuery(String contentType, StubInterceptor stub) throws IllegalAccessException {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        stack.service = stub.service();
+        return stack.contentType(contentType).query();
+    }
+
+    @Test
+    void testFindAsyncCompletesWithQueryResult() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200,
+                "{\"entries\":[{\"uid\":\"blt1\",\"title\":\"One\"},{\"uid\":\"blt2\",\"title\":\"Two\"}]}");
+        QueryResult result = stubbedQuery("blog", stub).findAsync().get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, result.getResultObjects().size());
+        assertEquals("blt1", result.getResultObjects().get(0).getUid());
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void testFindAsyncFansOutConcurrently() throws Exception {
+        CountDownLatch arrived = new CountDownLatch(4);
+        CountDownLatch release = new CountDownLatch(1);
+        StubInterceptor stub = new StubInterceptor(request -> {
+            arrived.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return StubInterceptor.response(200, "{\"entries\":[{\"uid\":\"blt1\"}]}");
+        });
+        List<CompletableFuture<QueryResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(stubbedQuery("ct" + i, stub).findAsync());
+        }
+        // the calls return while every response is held back, and all four requests are on the wire at once
+        assertTrue(futures.stream().noneMatch(CompletableFuture::isDone));
+        assertTrue(arrived.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<QueryResult> future : futures) {
+            assertEquals(1, future.get().getResultObjects().size());
+        }
+    }
+
+    @Test
+    void testFindAsyncCompletesExceptionallyOnError() throws IllegalAccessException {
+        StubInterceptor stub = StubInterceptor.json(422,
+                "{\"error_message\":\"Invalid query\",\"error_code\":141}");
+        CompletableFuture<QueryResult> future = stubbedQuery("blog", stub).findAsync();
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        ContentstackException cause = (ContentstackException) thrown.getCause();
+        assertEquals(141, cause.getErrorCode());
+        assertEquals("Invalid query", cause.getError().getErrorMessage());
+    }
+
+    @Test
+    void testFindOneAsyncCompletesWithEntry() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, "{\"entries\":[{\"uid\":\"blt1\",\"title\":\"One\"}]}");
+        Entry entry = stubbedQuery("blog", stub).findOneAsync().get(5, TimeUnit.SECONDS);
+
+        assertEquals("blt1", entry.getUid());
+        assertTrue(stub.requests().get(0).url().toString().contains("limit=1"));
+    }
+
+    @Test
+    void testFindAsyncWithoutContentTypeFails() {
+        Query detached = new Query("");
+        detached.headers = new LinkedHashMap<>();
+        assertTrue(detached.findAsync().isCompletedExceptionally());
+    }
+
+    // ========== STREAM TESTS ==========
+
+    private static StubInterceptor pagedStub(String key, int total) {
+        return new StubInterceptor(request -> {
+            String skipParam = request.url().queryParameter("skip");
+            String limitParam = request.url().queryParameter("limit");
+            int skip = skipParam != null ? Integer.parseInt(skipParam) : 0;
+            int limit = limitParam != null ? Integer.parseInt(limitParam) : 100;
+            JSONArray items = new JSONArray();
+            for (int i = skip; i < Math.min(total, skip + limit); i++) {
+                items.put(new JSONObject().put("uid", "uid" + i));
+            }
+            return StubInterceptor.response(200, new JSONObject().put(key, items).toString());
+        });
+    }
+
+    @Test
+    void testStreamPagesThroughAllEntries() throws IllegalAccessException {
+        StubInterceptor stub = pagedStub("entries", 250);
+        List<Entry> entries = stubbedQuery("blog", stub).stream(100).toList().blockingGet();
+
+        assertEquals(250, entries.size());
+        assertEquals("uid0", entries.get(0).getUid());
+        assertEquals("uid249", entries.get(249).getUid());
+        assertEquals(3, stub.requestCount());
+    }
+
+    @Test
+    void testStreamFetchesPagesOnDemand() throws IllegalAccessException {
+        StubInterceptor stub = pagedStub("entries", 1000);
+        List<Entry> entries = stubbedQuery("blog", stub).stream(10).take(15).toList().blockingGet();
+
+        assertEquals(15, entries.size());
+        // two pages cover the 15 entries; at most one more may be prefetched
+        assertTrue(stub.requestCount() <= 3);
+    }
+
+    @Test
+    void testStreamStartsAtExistingSkip() throws IllegalAccessException {
+        StubInterceptor stub = pagedStub("entries", 30);
+        List<Entry> entries = stubbedQuery("blog", stub).skip(20).stream(5).toList().blockingGet();
+
+        assertEquals(10, entries.size());
+        assertEquals("uid20", entries.get(0).getUid());
+    }
+
+    @Test
+    void testQueryIsReusableAfterStream() throws Exception {
+        StubInterceptor stub = pagedStub("entries", 25);
+        Query blog = stubbedQuery("blog", stub);
+
+        assertEquals(25, blog.stream(10).toList().blockingGet().size());
+        QueryResult result = blog.findAsync().get(5, TimeUnit.SECONDS);
+
+        assertEquals(25, result.getResultObjects().size());
+        assertNull(stub.requests().get(3).url().queryParameter("skip"));
+        assertNull(stub.requests().get(3).url().queryParameter("limit"));
+    }
+
+    @Test
+    void testStreamPropagatesErrors() throws IllegalAccessException {
+        StubInterceptor stub = StubInterceptor.json(401, "{\"error_message\":\"Unauthorized\",\"error_code\":401}");
+        Flowable<Entry> stream = stubbedQuery("blog", stub).stream();
+
+        assertThrows(ContentstackException.class, stream::blockingFirst);
+    }
+
+    @Test
+    void testStreamRejectsInvalidPageSize() {
+        assertThrows(IllegalArgumentException.class, () -> query.stream(0));
+    }
+
+    // ========== ITERATE TESTS ==========
+
+    private static String countedBody(int total, Request request) {
+        int skip = Integer.parseInt(request.url().queryParameter("skip"));
+        int limit = Integer.parseInt(request.url().queryParameter("limit"));
+        JSONArray items = new JSONArray();
+        for (int i = skip; i < Math.min(total, skip + limit); i++) {
+            items.put(new JSONObject().put("uid", "uid" + i));
+        }
+        JSONObject body = new JSONObject().put("entries", items);
+        if (request.url().queryParameter("include_count") != null) {
+            body.put("count", total);
+        }
+        return body.toString();
+    }
+
+    private static StubInterceptor countedStub(int total) {
+        return new StubInterceptor(request -> StubInterceptor.response(200, countedBody(total, request)));
+    }
+
+    @Test
+    void testIterateStopsOnCount() throws IllegalAccessException {
+        StubInterceptor stub = countedStub(200);
+        Iterator<Entry> entries = stubbedQuery("blog", stub).iterate(100, 2);
+
+        int read = 0;
+        while (entries.hasNext()) {
+            assertEquals("uid" + read, entries.next().getUid());
+            read++;
+        }
+        assertEquals(200, read);
+        // the count ends the iteration without requesting an empty third page
+        assertEquals(2, stub.requestCount());
+        assertEquals("true", stub.requests().get(0).url().queryParameter("include_count"));
+        assertNull(stub.requests().get(1).url().queryParameter("include_count"));
+        assertThrows(NoSuchElementException.class, entries::next);
+    }
+
+    @Test
+    void testIterateBuffersBoundedPages() throws Exception {
+        StubInterceptor stub = countedStub(1000);
+        Iterator<Entry> entries = stubbedQuery("blog", stub).iterate(10, 2);
+
+        assertEquals("uid0", entries.next().getUid());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (stub.requestCount() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(200);
+        // the page being read and two buffered pages
+        assertEquals(3, stub.requestCount());
+    }
+
+    @Test
+    void testFindAllStartsAtExistingSkip() throws IllegalAccessException {
+        StubInterceptor stub = pagedStub("entries", 30);
+        List<Entry> entries = stubbedQuery("blog", stub).skip(20).findAll();
+
+        assertEquals(10, entries.size());
+        assertEquals("uid20", entries.get(0).getUid());
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void testFindAllLeavesQueryUnchanged() throws IllegalAccessException {
+        StubInterceptor stub = countedStub(250);
+        Query query = stubbedQuery("blog", stub);
+
+        assertEquals(250, query.findAll().size());
+        assertFalse(query.urlQueries.has("skip"));
+        assertFalse(query.urlQueries.has("limit"));
+        assertFalse(query.urlQueries.has("include_count"));
+        // the Query can run again, from the first entry
+        assertEquals(250, query.findAll().size());
+        assertEquals("0", stub.requests().get(3).url().queryParameter("skip"));
+    }
+
+    @Test
+    void testIteratePropagatesErrors() throws IllegalAccessException {
+        StubInterceptor stub = StubInterceptor.json(401, "{\"error_message\":\"Unauthorized\",\"error_code\":401}");
+        Iterator<Entry> entries = stubbedQuery("blog", stub).iterate();
+
+        ContentstackException thrown = assertThrows(ContentstackException.class, entries::hasNext);
+        assertEquals(401, thrown.getErrorCode());
+    }
+
+    @Test
+    void testIterateRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> query.iterate(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> query.iterate(10, 0));
+    }
+
+    // ========== FAN-OUT TESTS ==========
+
+    @Test
+    void testFindAllAsyncFansOutPagesInOrder() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        StubInterceptor stub = new StubInterceptor(request -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return StubInterceptor.response(200, countedBody(1050, request));
+        });
+        Query query = stubbedQuery("blog", stub);
+        List<Entry> entries = query.findAllAsync(100, 3).get(10, TimeUnit.SECONDS);
+
+        assertEquals(1050, entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals("uid" + i, entries.get(i).getUid());
+        }
+        assertEquals(11, stub.requestCount());
+        assertTrue(maxInFlight.get() <= 3);
+        assertEquals("true", stub.requests().get(0).url().queryParameter("include_count"));
+        assertNull(stub.requests().get(1).url().queryParameter("include_count"));
+        // the pages ran on copies
+        assertFalse(query.urlQueries.has("skip"));
+        assertFalse(query.urlQueries.has("include_count"));
+    }
+
+    @Test
+    void testFindAllAsyncWithoutCountPagesSequentially() throws Exception {
+        StubInterceptor stub = pagedStub("entries", 250);
+        List<Entry> entries = stubbedQuery("blog", stub).skip(20).findAllAsync(100, 4).get(10, TimeUnit.SECONDS);
+
+        assertEquals(230, entries.size());
+        assertEquals("uid20", entries.get(0).getUid());
+        assertEquals("uid249", entries.get(229).getUid());
+        assertEquals(3, stub.requestCount());
+    }
+
+    @Test
+    void testFindAllAsyncFailsOnFailedPage() throws IllegalAccessException {
+        StubInterceptor stub = new StubInterceptor(request -> {
+            if ("300".equals(request.url().queryParameter("skip"))) {
+                return StubInterceptor.response(422, "{\"error_message\":\"Invalid query\",\"error_code\":141}");
+            }
+            return StubInterceptor.response(200, countedBody(500, request));
+        });
+        CompletableFuture<List<Entry>> future = stubbedQuery("blog", stub).findAllAsync(100, 2);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertEquals(141, ((ContentstackException) thrown.getCause()).getErrorCode());
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        query.where("title", "Hello").skip(10);
+        Query copy = query.copy();
+        copy.skip(20).limit(5);
+
+        assertEquals(10, query.urlQueries.getInt("skip"));
+        assertFalse(query.urlQueries.has("limit"));
+        assertEquals(20, copy.urlQueries.getInt("skip"));
+        assertEquals("Hello", copy.urlQueries.getJSONObject("query").getString("title"));
+    }
+
+    @Test
+    void testFindAllAsyncRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> query.findAllAsync(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> query.findAllAsync(10, 0));
+    }
 }
@@ -0,0 +1,126 @@
+package com.contentstack.sdk;
+
+import com.contentstack.sdk.utils.LegacyQueryString;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.net.URLEncoder;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestQueryStringBuilder {
+
+    private static final String ALPHABET = "abcXYZ019 -_.*~!'()[]{}:,\"/?#&=+%\\é漢😀🐀";
+
+    private static String randomText(Random random, int maxLength) {
+        StringBuilder text = new StringBuilder();
+        int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            int pick = random.nextInt(ALPHABET.length() + 2);
+            if (pick == ALPHABET.length()) {
+                text.append('\uD800'); // unpaired high surrogate
+            } else if (pick == ALPHABET.length() + 1) {
+                text.append('\uDC00'); // unpaired low surrogate
+            } else {
+                text.append(ALPHABET.charAt(pick));
+            }
+        }
+        return text.toString();
+    }
+
+    private static JSONArray randomArray(Random random) {
+        JSONArray array = new JSONArray();
+        int length = random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            array.put(random.nextBoolean() ? randomText(random, 8) : random.nextInt(100));
+        }
+        return array;
+    }
+
+    private static HashMap<String, Object> randomParams(Random random) {
+        HashMap<String, Object> params = new HashMap<>();
+        String[] arrayKeys = {"include[]", "only[BASE][]", "except[BASE][]", "asset_fields[]", "INCLUDE[]"};
+        for (String key : arrayKeys) {
+            if (random.nextBoolean()) {
+                params.put(key, randomArray(random));
+            }
+        }
+        for (String key : new String[]{"only", "except"}) {
+            if (random.nextBoolean()) {
+                JSONObject projection = new JSONObject();
+                for (int i = random.nextInt(3); i > 0; i--) {
+                    projection.put(randomText(random, 6), randomArray(random));
+                }
+                params.put(key, projection);
+            }
+        }
+        if (random.nextBoolean()) {
+            params.put("query", new JSONObject().put("title", randomText(random, 12))
+                    .put("count", new JSONObject().put("$gt", random.nextInt())));
+        }
+        if (random.nextInt(4) == 0) {
+            params.put("include[]", "not-an-array");
+        }
+        for (int i = random.nextInt(4); i > 0; i--) {
+            params.put(randomText(random, 5), random.nextBoolean() ? randomText(random, 5) : random.nextInt());
+        }
+        return params;
+    }
+
+    @Test
+    void testEncodingMatchesURLEncoder() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            String text = randomText(random, 20);
+            assertEquals(URLEncoder.encode(text, "UTF-8"), QueryStringBuilder.encode(text), text);
+        }
+    }
+
+    @Test
+    void testConstantKeysArePreEncoded() {
+        assertEquals("include%5B%5D", QueryStringBuilder.encodeKey("include[]"));
+        assertSame(QueryStringBuilder.encodeKey("only[BASE][]"), QueryStringBuilder.encodeKey("only[BASE][]"));
+        assertEquals("Include%5B%5D", QueryStringBuilder.encodeKey("Include[]"));
+    }
+
+    @Test
+    void testGetParamsIsByteIdenticalToLegacy() throws Exception {
+        CSHttpConnection connection = new CSHttpConnection("https://cdn.contentstack.io/v3/content_types/blog/entries",
+                null);
+        Method getParams = CSHttpConnection.class.getDeclaredMethod("getParams", HashMap.class);
+        getParams.setAccessible(true);
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            HashMap<String, Object> params = randomParams(random);
+            assertEquals(LegacyQueryString.getParams(params), getParams.invoke(connection, params),
+                    params.toString());
+        }
+    }
+
+    @Test
+    void testFormParamsAreByteIdenticalToLegacy() {
+        CSHttpConnection connection = new CSHttpConnection("https://cdn.contentstack.io/v3/stacks/sync", null);
+        connection.setInfo("SYNC");
+        Random random = new Random(11);
+        for (int i = 0; i < 500; i++) {
+            HashMap<String, Object> params = new HashMap<>();
+            for (int j = 1 + random.nextInt(4); j > 0; j--) {
+                params.put(randomText(random, 6), randomText(random, 6));
+            }
+            assertEquals(LegacyQueryString.formParams(params), connection.setFormParamsGET(params));
+        }
+    }
+
+    @Test
+    void testSeparatorOnlyAfterFirstPair() {
+        assertEquals("?a=1&b=2", new QueryStringBuilder("?").param("a", 1).param("b", 2).toString());
+        assertEquals("?x=1&a=1", new QueryStringBuilder("?x=1").param("a", 1).toString());
+        assertEquals("?only%5Bauthor%5D%5B%5D=name&only%5Bauthor%5D%5B%5D=bio",
+                new QueryStringBuilder("?").fieldArrayParam("only", "author",
+                        new JSONArray().put("name").put("bio")).toString());
+    }
+}
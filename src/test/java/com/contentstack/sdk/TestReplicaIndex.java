@@ -0,0 +1,163 @@
+package com.contentstack.sdk;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestReplicaIndex {
+
+    private static ReplicaOptions indexed() {
+        return new ReplicaOptions()
+                .addHashIndex("blog", "url")
+                .addHashIndex("blog", "tags")
+                .addSortedIndex("blog", "price")
+                .addSortedIndex("blog", "published_date");
+    }
+
+    private static JSONObject item(String type, JSONObject data) {
+        return new JSONObject().put("type", type).put("content_type_uid", "blog").put("data", data);
+    }
+
+    private static JSONObject post(int i) {
+        return new JSONObject().put("uid", "blt" + i).put("title", "Post " + i).put("url", "post-" + (i % 7))
+                .put("price", i % 5 * 10).put("published_date", "2024-01-" + (10 + i % 13))
+                .put("updated_at", "2024-02-" + (10 + i % 11)).put("locale", "en-us")
+                .put("tags", new JSONArray().put(i % 2 == 0 ? "even" : "odd").put("t" + i % 3));
+    }
+
+    private static LocalReplica synced(ReplicaOptions options, int posts) {
+        JSONArray items = new JSONArray();
+        for (int i = 0; i < posts; i++) {
+            items.put(item("entry_published", post(i)));
+        }
+        SyncStack page = new SyncStack();
+        page.setJSON(new JSONObject().put("items", items).put("sync_token", "token1"));
+        LocalReplica replica = new LocalReplica(options, JsonCodec.STREAMING);
+        replica.onSyncPage(params("init", true), page);
+        return replica;
+    }
+
+    private static void delta(LocalReplica replica, JSONObject... items) {
+        SyncStack page = new SyncStack();
+        page.setJSON(new JSONObject().put("items", new JSONArray(items)).put("sync_token", "token2"));
+        replica.onSyncPage(params("sync_token", "token1"), page);
+    }
+
+    private static HashMap<String, Object> params(String key, Object value) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put(key, value);
+        return params;
+    }
+
+    private static Map<String, ReplicaIndex> indexes(LocalReplica replica) {
+        Map<String, ReplicaIndex> indexes = new HashMap<>();
+        for (ReplicaIndex index : replica.getIndexes()) {
+            indexes.put(index.getField(), index);
+        }
+        return indexes;
+    }
+
+    private static Query query() throws IllegalAccessException {
+        return Contentstack.stack("apiKey", "deliveryToken", "env").contentType("blog").query();
+    }
+
+    @Test
+    void testOptions() {
+        ReplicaOptions options = new ReplicaOptions()
+                .addSortedIndex("blog", "price")
+                .addHashIndex("blog", "price")
+                .addHashIndex("blog", "url")
+                .addSortedIndex("blog", "url");
+        assertEquals(ReplicaIndex.Type.SORTED, options.getIndexes().get("blog").get("price"));
+        assertEquals(ReplicaIndex.Type.SORTED, options.getIndexes().get("blog").get("url"));
+        assertThrows(IllegalArgumentException.class, () -> options.addHashIndex("blog", ""));
+        assertThrows(NullPointerException.class, () -> options.addSortedIndex(null, "price"));
+    }
+
+    @Test
+    void testIndexesAreMaintainedBySyncItems() {
+        LocalReplica replica = synced(indexed(), 20);
+        Map<String, ReplicaIndex> indexes = indexes(replica);
+        assertEquals(4, indexes.size());
+        assertEquals(7, indexes.get("url").getKeyCount());
+        assertEquals(20, indexes.get("url").getPostingCount());
+        assertEquals(5, indexes.get("tags").getKeyCount());
+        assertEquals(40, indexes.get("tags").getPostingCount());
+        assertEquals(5, indexes.get("price").getKeyCount());
+        long memory = replica.getIndexMemory();
+        assertTrue(memory > 0);
+
+        // Republishing replaces the postings of the previous version
+        delta(replica, item("entry_published", post(1).put("url", "moved").put("tags", new JSONArray())));
+        indexes = indexes(replica);
+        assertEquals(8, indexes.get("url").getKeyCount());
+        assertEquals(20, indexes.get("url").getPostingCount());
+        assertEquals(38, indexes.get("tags").getPostingCount());
+
+        delta(replica, item("entry_unpublished", new JSONObject().put("uid", "blt1").put("locale", "en-us")),
+                item("entry_deleted", new JSONObject().put("uid", "blt2")));
+        indexes = indexes(replica);
+        assertEquals(7, indexes.get("url").getKeyCount());
+        assertEquals(18, indexes.get("url").getPostingCount());
+        assertEquals(18, indexes.get("price").getPostingCount());
+        assertTrue(replica.getIndexMemory() < memory);
+
+        delta(replica, new JSONObject().put("type", "content_type_deleted").put("content_type_uid", "blog"));
+        assertTrue(replica.getIndexes().isEmpty());
+        assertEquals(0, replica.getIndexMemory());
+    }
+
+    @Test
+    void testIndexedQueriesMatchScans() throws IllegalAccessException {
+        LocalReplica indexed = synced(indexed(), 60);
+        LocalReplica scanned = synced(new ReplicaOptions(), 60);
+        List<Query> queries = Arrays.asList(
+                query().where("url", "post-3"),
+                query().containedIn("url", new Object[]{"post-1", "post-4", "missing"}),
+                query().where("uid", "blt7"),
+                query().tags(new String[]{"t2"}).where("tags", "even"),
+                query().greaterThan("price", 10).lessThanOrEqualTo("price", 30).ascending("title"),
+                query().greaterThanOrEqualTo("published_date", "2024-01-15").includeCount().limit(5),
+                query().lessThan("price", 0),
+                query().descending("price").limit(7).skip(3),
+                query().ascending("published_date").where("tags", "odd").limit(4),
+                query().descending("price").count());
+        for (Query query : queries) {
+            LocalQueryPlan plan = query.explain();
+            JSONObject expected = scanned.query("blog", plan);
+            JSONObject actual = indexed.query("blog", plan);
+            assertTrue(expected.similar(actual), plan + "\n" + expected + "\n" + actual);
+        }
+    }
+
+    @Test
+    void testOrderedReadStopsAtPageWindow() throws IllegalAccessException {
+        LocalReplica replica = synced(indexed(), 30);
+        JSONArray entries = replica.query("blog", query().descending("price").limit(3).explain())
+                .getJSONArray("entries");
+        assertEquals(3, entries.length());
+        assertEquals("blt14", entries.getJSONObject(0).getString("uid"));
+        assertEquals("blt19", entries.getJSONObject(1).getString("uid"));
+        assertEquals("blt24", entries.getJSONObject(2).getString("uid"));
+    }
+
+    @Test
+    void testMultiLocaleEntriesNeedLocale() throws IllegalAccessException {
+        LocalReplica replica = synced(indexed(), 5);
+        delta(replica, item("entry_published", post(2).put("locale", "fr-fr")));
+        assertNull(replica.query("blog", query().where("url", "post-2").explain()));
+        JSONObject french = replica.query("blog", query().locale("fr-fr").where("url", "post-2").explain());
+        assertEquals(1, french.getJSONArray("entries").length());
+
+        delta(replica, item("entry_unpublished", new JSONObject().put("uid", "blt2").put("locale", "fr-fr")));
+        assertEquals(1, replica.query("blog", query().where("url", "post-2").explain())
+                .getJSONArray("entries").length());
+    }
+}
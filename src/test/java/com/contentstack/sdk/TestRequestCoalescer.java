@@ -0,0 +1,210 @@
+package com.contentstack.sdk;
+
+import com.contentstack.sdk.utils.StubInterceptor;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestRequestCoalescer {
+
+    private static final String PAGE = "{\"entries\":[{\"uid\":\"blt1\",\"title\":\"Home\",\"url\":\"/\"}]}";
+
+    private static Stack stack(StubInterceptor stub, boolean coalescing) throws IllegalAccessException {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env",
+                new Config().enableRequestCoalescing(coalescing));
+        stack.service = stub.service();
+        return stack;
+    }
+
+    private static List<QueryResult> findConcurrently(Stack stack, String... contentTypes) throws Exception {
+        List<CompletableFuture<QueryResult>> futures = new ArrayList<>();
+        for (String contentType : contentTypes) {
+            futures.add(stack.contentType(contentType).query().where("url", "home").findAsync());
+        }
+        List<QueryResult> results = new ArrayList<>();
+        for (CompletableFuture<QueryResult> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    @Test
+    void testIdenticalRequestsShareOneCall() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE).delay(300);
+        Stack stack = stack(stub, true);
+
+        List<QueryResult> results = findConcurrently(stack, "page", "page", "page", "page", "page", "page");
+
+        assertEquals(1, stub.requestCount());
+        for (QueryResult result : results) {
+            assertEquals(1, result.getResultObjects().size());
+            assertEquals("blt1", result.getResultObjects().get(0).getUid());
+        }
+    }
+
+    @Test
+    void testEachCallerGetsItsOwnCopy() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE).delay(300);
+        Stack stack = stack(stub, true);
+
+        List<QueryResult> results = findConcurrently(stack, "page", "page", "page");
+        Entry first = results.get(0).getResultObjects().get(0);
+        first.toJSON().put("title", "Changed");
+
+        assertEquals(1, stub.requestCount());
+        for (int i = 1; i < results.size(); i++) {
+            Entry other = results.get(i).getResultObjects().get(0);
+            assertNotSame(first.toJSON(), other.toJSON());
+            assertEquals("Home", other.toJSON().getString("title"));
+        }
+    }
+
+    @Test
+    void testDifferentRequestsAreNotCoalesced() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE).delay(200);
+        Stack stack = stack(stub, true);
+
+        findConcurrently(stack, "page", "blog");
+
+        assertEquals(2, stub.requestCount());
+    }
+
+    @Test
+    void testDisabledByDefault() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE).delay(200);
+        Stack stack = stack(stub, false);
+
+        findConcurrently(stack, "page", "page", "page");
+
+        assertFalse(new Config().isRequestCoalescing());
+        assertEquals(3, stub.requestCount());
+    }
+
+    @Test
+    void testCompletedRequestsAreNotReused() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        Stack stack = stack(stub, true);
+
+        findConcurrently(stack, "page");
+        findConcurrently(stack, "page");
+
+        assertEquals(2, stub.requestCount());
+    }
+
+    @Test
+    void testErrorsAreSharedWithJoinedCallers() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(422, "{\"error_message\":\"Invalid query\",\"error_code\":141}")
+                .delay(300);
+        Stack stack = stack(stub, true);
+        List<CompletableFuture<QueryResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(stack.contentType("page").query().findAsync());
+        }
+
+        for (CompletableFuture<QueryResult> future : futures) {
+            ExecutionException failure = assertThrows(ExecutionException.class,
+                    () -> future.get(5, TimeUnit.SECONDS));
+            assertEquals(141, ((ContentstackException) failure.getCause()).getErrorCode());
+        }
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void testBlockingCallersWaitForTheSharedResponse() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE).delay(300);
+        Stack stack = stack(stub, true);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> calls = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                calls.add(pool.submit(() -> {
+                    start.await();
+                    int[] size = {-1};
+                    stack.contentType("page").query().find(new QueryResultsCallBack() {
+                        @Override
+                        public void onCompletion(ResponseType responseType, QueryResult queryresult, Error error) {
+                            size[0] = queryresult.getResultObjects().size();
+                        }
+                    });
+                    // blocking find has delivered its result by the time it returns
+                    return size[0];
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> call : calls) {
+                assertEquals(1, call.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void testBlockingCallerOnCallbackExecutorDoesNotWait() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE).delay(300);
+        ExecutorService callbacks = Executors.newSingleThreadExecutor();
+        try {
+            Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env",
+                    new Config().enableRequestCoalescing(true).setCallbackExecutor(callbacks));
+            stack.service = stub.service();
+            CompletableFuture<QueryResult> leader = stack.contentType("page").query().where("url", "home").findAsync();
+
+            // The leader completes on the callback thread, which this blocking find would otherwise hold
+            Future<Integer> blocking = callbacks.submit(() -> {
+                int[] size = {-1};
+                stack.contentType("page").query().where("url", "home").find(new QueryResultsCallBack() {
+                    @Override
+                    public void onCompletion(ResponseType responseType, QueryResult queryresult, Error error) {
+                        size[0] = queryresult.getResultObjects().size();
+                    }
+                });
+                return size[0];
+            });
+
+            assertEquals(1, blocking.get(5, TimeUnit.SECONDS));
+            assertEquals(1, leader.get(5, TimeUnit.SECONDS).getResultObjects().size());
+            assertEquals(2, stub.requestCount());
+        } finally {
+            callbacks.shutdownNow();
+        }
+    }
+
+    @Test
+    void testKeyIgnoresHeaderOrder() {
+        LinkedHashMap<String, Object> first = new LinkedHashMap<>();
+        first.put("api_key", "a");
+        first.put("environment", "env");
+        LinkedHashMap<String, Object> second = new LinkedHashMap<>();
+        second.put("environment", "env");
+        second.put("api_key", "a");
+
+        assertEquals(RequestCoalescer.key("url", first), RequestCoalescer.key("url", second));
+        second.put("branch", "dev");
+        assertNotEquals(RequestCoalescer.key("url", first), RequestCoalescer.key("url", second));
+    }
+
+    @Test
+    void testCopyIsDeep() {
+        JSONObject source = new JSONObject("{\"a\":{\"b\":[{\"c\":1}]},\"d\":\"text\"}");
+
+        JSONObject copy = RequestCoalescer.copy(source);
+        copy.getJSONObject("a").getJSONArray("b").getJSONObject(0).put("c", 2);
+
+        assertTrue(new JSONObject("{\"a\":{\"b\":[{\"c\":1}]},\"d\":\"text\"}").similar(source));
+        assertEquals(2, copy.getJSONObject("a").getJSONArray("b").getJSONObject(0).getInt("c"));
+    }
+}
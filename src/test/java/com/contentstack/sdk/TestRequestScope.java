@@ -0,0 +1,248 @@
+package com.contentstack.sdk;
+
+import com.contentstack.sdk.utils.StubInterceptor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestRequestScope {
+
+    private static final String PAGE = "{\"entries\":[{\"uid\":\"blt1\",\"title\":\"Home\",\"url\":\"/\"}]}";
+    private static final String ENTRY = "{\"entry\":{\"uid\":\"blt1\",\"title\":\"Home\"}}";
+
+    private static Stack stack(StubInterceptor stub) throws IllegalAccessException {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env");
+        stack.service = stub.service();
+        return stack;
+    }
+
+    private static QueryResult find(Stack stack, String contentType) throws Exception {
+        return stack.contentType(contentType).query().where("url", "home").findAsync().get(5, TimeUnit.SECONDS);
+    }
+
+    private static Entry fetch(Stack stack) throws Exception {
+        return stack.contentType("page").entry("blt1").fetchAsync().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testIdenticalRequestsAreMadeOnce() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        Stack stack = stack(stub);
+
+        try (RequestScope scope = stack.openScope()) {
+            assertSame(scope, stack.currentScope());
+            QueryResult first = find(stack, "page");
+            QueryResult again = find(stack, "page");
+
+            assertEquals(1, stub.requestCount());
+            assertEquals("blt1", again.getResultObjects().get(0).getUid());
+            assertNotSame(first.getResultObjects().get(0).toJSON(), again.getResultObjects().get(0).toJSON());
+        }
+    }
+
+    @Test
+    void testEachCallerGetsItsOwnCopy() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, ENTRY);
+        Stack stack = stack(stub);
+
+        try (RequestScope scope = stack.openScope()) {
+            assertSame(scope, stack.currentScope());
+            fetch(stack).toJSON().put("title", "Changed");
+
+            assertEquals("Home", fetch(stack).getTitle());
+            assertEquals("Home", fetch(stack).getTitle());
+            assertEquals(1, stub.requestCount());
+        }
+    }
+
+    @Test
+    void testBlockingCallsAreMemoized() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, ENTRY);
+        Stack stack = stack(stub);
+        List<String> titles = new ArrayList<>();
+
+        try (RequestScope scope = stack.openScope()) {
+            assertSame(scope, stack.currentScope());
+            for (int i = 0; i < 3; i++) {
+                Entry entry = stack.contentType("page").entry("blt1");
+                entry.fetch(new EntryResultCallBack() {
+                    @Override
+                    public void onCompletion(ResponseType responseType, Error error) {
+                        titles.add(error == null ? entry.getTitle() : error.getErrorMessage());
+                    }
+                });
+            }
+        }
+
+        assertEquals(3, titles.size());
+        assertTrue(titles.stream().allMatch("Home"::equals));
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void testBlockingCallsAreMemoizedWithCallbackExecutor() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, ENTRY);
+        ExecutorService callbacks = Executors.newSingleThreadExecutor();
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env",
+                new Config().setCallbackExecutor(callbacks));
+        stack.service = stub.service();
+        List<String> titles = new ArrayList<>();
+
+        try (RequestScope scope = stack.openScope()) {
+            for (int i = 0; i < 3; i++) {
+                Entry entry = stack.contentType("page").entry("blt1");
+                entry.fetch(new EntryResultCallBack() {
+                    @Override
+                    public void onCompletion(ResponseType responseType, Error error) {
+                        titles.add(error == null ? entry.getTitle() : error.getErrorMessage());
+                    }
+                });
+            }
+            assertSame(scope, stack.currentScope());
+        } finally {
+            callbacks.shutdown();
+        }
+
+        assertEquals(Arrays.asList("Home", "Home", "Home"), titles);
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void testRequestsInFlightAreShared() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE).delay(200);
+        Stack stack = stack(stub);
+
+        try (RequestScope scope = stack.openScope()) {
+            assertSame(scope, stack.currentScope());
+            List<CompletableFuture<QueryResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(stack.contentType("page").query().where("url", "home").findAsync());
+            }
+            for (CompletableFuture<QueryResult> future : futures) {
+                assertEquals(1, future.get(5, TimeUnit.SECONDS).getResultObjects().size());
+            }
+        }
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void testDifferentRequestsAreNotMemoized() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        Stack stack = stack(stub);
+
+        try (RequestScope scope = stack.openScope()) {
+            assertSame(scope, stack.currentScope());
+            find(stack, "page");
+            find(stack, "blog");
+            stack.contentType("page").query().where("url", "about").findAsync().get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(3, stub.requestCount());
+    }
+
+    @Test
+    void testMemoIsDroppedOnClose() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        Stack stack = stack(stub);
+
+        RequestScope scope = stack.openScope();
+        find(stack, "page");
+        scope.close();
+        scope.close();
+        find(stack, "page");
+        find(stack, "page");
+
+        assertTrue(scope.isClosed());
+        assertNull(stack.currentScope());
+        assertEquals(3, stub.requestCount());
+    }
+
+    @Test
+    void testNestedScopes() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        Stack stack = stack(stub);
+
+        try (RequestScope outer = stack.openScope()) {
+            find(stack, "page");
+            try (RequestScope inner = stack.openScope()) {
+                assertSame(inner, stack.currentScope());
+                find(stack, "page");
+                find(stack, "page");
+            }
+            assertSame(outer, stack.currentScope());
+            find(stack, "page");
+        }
+
+        assertEquals(2, stub.requestCount());
+        assertNull(stack.currentScope());
+    }
+
+    @Test
+    void testFailuresAreNotMemoized() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        StubInterceptor stub = new StubInterceptor(request -> calls.incrementAndGet() == 1
+                ? StubInterceptor.response(422, "{\"error_message\":\"Invalid query\",\"error_code\":141}")
+                : StubInterceptor.response(200, ENTRY));
+        Stack stack = stack(stub);
+
+        try (RequestScope scope = stack.openScope()) {
+            assertSame(scope, stack.currentScope());
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> fetch(stack));
+            assertEquals(141, ((ContentstackException) thrown.getCause()).getErrorCode());
+            assertEquals("Home", fetch(stack).getTitle());
+            assertEquals("Home", fetch(stack).getTitle());
+        }
+
+        assertEquals(2, stub.requestCount());
+    }
+
+    @Test
+    void testScopeKeepsResponseOfCoalescedRequest() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE).delay(300);
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env",
+                new Config().enableRequestCoalescing(true));
+        stack.service = stub.service();
+
+        CompletableFuture<QueryResult> outside = stack.contentType("page").query().where("url", "home").findAsync();
+        try (RequestScope scope = stack.openScope()) {
+            assertSame(scope, stack.currentScope());
+            assertEquals(1, find(stack, "page").getResultObjects().size());
+            assertEquals(1, find(stack, "page").getResultObjects().size());
+        }
+
+        assertEquals(1, outside.get(5, TimeUnit.SECONDS).getResultObjects().size());
+        assertEquals(1, stub.requestCount());
+    }
+
+    @Test
+    void testScopeAppliesToItsThreadOnly() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        Stack stack = stack(stub);
+
+        try (RequestScope scope = stack.openScope()) {
+            assertSame(scope, stack.currentScope());
+            find(stack, "page");
+            CompletableFuture<QueryResult> elsewhere = CompletableFuture.supplyAsync(() -> {
+                try {
+                    assertNull(stack.currentScope());
+                    return find(stack, "page");
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            assertEquals(1, elsewhere.get(5, TimeUnit.SECONDS).getResultObjects().size());
+        }
+
+        assertEquals(2, stub.requestCount());
+    }
+}
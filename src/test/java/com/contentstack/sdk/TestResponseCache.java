@@ -0,0 +1,595 @@
+package com.contentstack.sdk;
+
+import com.contentstack.sdk.utils.StubInterceptor;
+import okio.Buffer;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestResponseCache {
+
+    private static final String PAGE = "{\"entries\":[{\"uid\":\"blt1\",\"title\":\"Home\",\"url\":\"/\"}]}";
+
+    private static Stack stack(StubInterceptor stub, CacheOptions options) throws IllegalAccessException {
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env", new Config().setCacheOptions(options));
+        stack.service = stub.service();
+        return stack;
+    }
+
+    private static QueryResult find(Query query) throws Exception {
+        return query.findAsync().get(5, TimeUnit.SECONDS);
+    }
+
+    private static JSONObject value(String name) {
+        return new JSONObject().put("name", name);
+    }
+
+    @Test
+    void testKeyIgnoresParameterOrder() {
+        LinkedHashMap<String, Object> headers = new LinkedHashMap<>();
+        headers.put("api_key", "key");
+        headers.put("environment", "env");
+        LinkedHashMap<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("environment", "env");
+        reordered.put("api_key", "key");
+
+        assertEquals(ResponseCache.key("entries?locale=en-us&limit=10", headers),
+                ResponseCache.key("entries?limit=10&locale=en-us", reordered));
+        assertNotEquals(ResponseCache.key("entries?locale=en-us", headers),
+                ResponseCache.key("entries?locale=fr-fr", headers));
+    }
+
+    @Test
+    void testKeyIncludesHeaders() {
+        LinkedHashMap<String, Object> headers = new LinkedHashMap<>();
+        headers.put("branch", "main");
+        LinkedHashMap<String, Object> other = new LinkedHashMap<>();
+        other.put("branch", "development");
+
+        assertNotEquals(ResponseCache.key("entries", headers), ResponseCache.key("entries", other));
+    }
+
+    @Test
+    void testEntriesExpireAfterTimeToLive() {
+        AtomicLong now = new AtomicLong();
+        ResponseCache cache = new ResponseCache(new CacheOptions().setTimeToLive(1, TimeUnit.SECONDS), now::get);
+        cache.put("a", value("a"), 10);
+
+        now.set(TimeUnit.MILLISECONDS.toNanos(999));
+        assertNotNull(cache.get("a"));
+        now.set(TimeUnit.SECONDS.toNanos(1));
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+    }
+
+    @Test
+    void testLruEvictsLeastRecentlyUsed() {
+        ResponseCache cache = new ResponseCache(new CacheOptions().setMaxWeight(30)
+                .setEvictionPolicy(CacheOptions.EvictionPolicy.LRU));
+        cache.put("a", value("a"), 10);
+        cache.put("b", value("b"), 10);
+        cache.put("c", value("c"), 10);
+        cache.get("a");
+
+        cache.put("d", value("d"), 10);
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertNotNull(cache.get("d"));
+        assertEquals(30, cache.weight());
+    }
+
+    @Test
+    void testTooHeavyResponsesAreNotCached() {
+        ResponseCache cache = new ResponseCache(new CacheOptions().setMaxWeight(100));
+        cache.put("a", value("a"), 101);
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.weight());
+    }
+
+    @Test
+    void testTinyLfuKeepsFrequentResponsesThroughScans() {
+        ResponseCache cache = new ResponseCache(new CacheOptions().setMaxWeight(1000));
+        for (int i = 0; i < 9; i++) {
+            String key = "hot" + i;
+            for (int reads = 0; reads < 5; reads++) {
+                cache.get(key);
+            }
+            cache.put(key, value(key), 100);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            String key = "scan" + i;
+            cache.get(key);
+            cache.put(key, value(key), 100);
+        }
+
+        for (int i = 0; i < 9; i++) {
+            assertNotNull(cache.get("hot" + i), "hot" + i);
+        }
+        assertTrue(cache.weight() <= 1000);
+    }
+
+    @Test
+    void testRejectedCandidateEvictsNothing() {
+        ResponseCache cache = new ResponseCache(new CacheOptions().setMaxWeight(1000));
+        cache.get("cold");
+        cache.put("cold", value("cold"), 400);
+        for (int reads = 0; reads < 5; reads++) {
+            cache.get("hot");
+        }
+        cache.put("hot", value("hot"), 400);
+        for (int reads = 0; reads < 3; reads++) {
+            cache.get("large");
+        }
+
+        // Admitting it would push out both; "hot" is requested more often, so it is rejected
+        cache.put("large", value("large"), 900);
+
+        assertNull(cache.get("large"));
+        assertNotNull(cache.get("cold"));
+        assertNotNull(cache.get("hot"));
+        assertEquals(800, cache.weight());
+    }
+
+    @Test
+    void testLruLosesFrequentResponsesToScans() {
+        ResponseCache cache = new ResponseCache(new CacheOptions().setMaxWeight(1000)
+                .setEvictionPolicy(CacheOptions.EvictionPolicy.LRU));
+        for (int reads = 0; reads < 5; reads++) {
+            cache.get("hot");
+        }
+        cache.put("hot", value("hot"), 100);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put("scan" + i, value("scan"), 100);
+        }
+
+        assertNull(cache.get("hot"));
+    }
+
+    @Test
+    void testPutReplacesPreviousResponse() {
+        ResponseCache cache = new ResponseCache(new CacheOptions());
+        cache.put("a", value("old"), 10);
+        cache.put("a", value("new"), 20);
+
+        assertEquals("new", cache.get("a").getString("name"));
+        assertEquals(1, cache.size());
+        assertEquals(20, cache.weight());
+    }
+
+    @Test
+    void testFrequencySketchCountsAndAges() {
+        ResponseCache.FrequencySketch sketch = new ResponseCache.FrequencySketch(64);
+        int hash = "key".hashCode();
+        for (int i = 0; i < 20; i++) {
+            sketch.increment(hash);
+        }
+        assertEquals(15, sketch.frequency(hash));
+
+        for (int i = 0; i < 64 * 10; i++) {
+            sketch.increment(("other" + i).hashCode());
+        }
+        assertTrue(sketch.frequency(hash) < 15);
+    }
+
+    @Test
+    void testCountingSourceCountsBodyBytes() throws Exception {
+        Buffer body = new Buffer().writeUtf8(PAGE);
+        ResponseCache.CountingSource counted = new ResponseCache.CountingSource(body);
+        okio.Okio.buffer(counted).readUtf8();
+
+        assertEquals(PAGE.length(), counted.count());
+    }
+
+    @Test
+    void testRepeatedQueryIsServedFromCache() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        Stack stack = stack(stub, new CacheOptions());
+        AtomicReference<ResponseType> first = new AtomicReference<>();
+        AtomicReference<ResponseType> second = new AtomicReference<>();
+
+        stack.contentType("page").query().where("url", "home").find(new QueryResultsCallBack() {
+            @Override
+            public void onCompletion(ResponseType responseType, QueryResult queryResult, Error error) {
+                first.set(responseType);
+            }
+        });
+        stack.contentType("page").query().where("url", "home").find(new QueryResultsCallBack() {
+            @Override
+            public void onCompletion(ResponseType responseType, QueryResult queryResult, Error error) {
+                assertNull(error);
+                assertEquals("blt1", queryResult.getResultObjects().get(0).getUid());
+                second.set(responseType);
+            }
+        });
+
+        assertEquals(1, stub.requestCount());
+        assertEquals(ResponseType.NETWORK, first.get());
+        assertEquals(ResponseType.CACHE, second.get());
+    }
+
+    @Test
+    void testCachedResultsAreCopies() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        Stack stack = stack(stub, new CacheOptions());
+
+        find(stack.contentType("page").query()).getResultObjects().get(0).toJSON().put("title", "Changed");
+        QueryResult cached = find(stack.contentType("page").query());
+        cached.getResultObjects().get(0).toJSON().put("title", "Changed again");
+
+        assertEquals(1, stub.requestCount());
+        assertEquals("Home", find(stack.contentType("page").query()).getResultObjects().get(0).getTitle());
+    }
+
+    @Test
+    void testDifferentLocalesAndHeadersAreCachedSeparately() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        Stack stack = stack(stub, new CacheOptions());
+
+        find(stack.contentType("page").query());
+        find(stack.contentType("page").query().locale("fr-fr"));
+        stack.setHeader("x-cs-variant-uid", "variant");
+        find(stack.contentType("page").query());
+        find(stack.contentType("page").query().locale("fr-fr"));
+
+        assertEquals(4, stub.requestCount());
+    }
+
+    @Test
+    void testEntryFetchIsServedFromCache() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, "{\"entry\":{\"uid\":\"blt1\",\"title\":\"Home\"}}");
+        Stack stack = stack(stub, new CacheOptions());
+        AtomicReference<ResponseType> type = new AtomicReference<>();
+
+        stack.contentType("page").entry("blt1").fetch(new EntryResultCallBack() {
+            @Override
+            public void onCompletion(ResponseType responseType, Error error) {
+                type.set(responseType);
+            }
+        });
+        Entry entry = stack.contentType("page").entry("blt1");
+        entry.fetch(new EntryResultCallBack() {
+            @Override
+            public void onCompletion(ResponseType responseType, Error error) {
+                type.set(responseType);
+            }
+        });
+
+        assertEquals(1, stub.requestCount());
+        assertEquals(ResponseType.CACHE, type.get());
+        assertEquals("Home", entry.getTitle());
+    }
+
+    @Test
+    void testErrorsAreNotCached() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(422, "{\"error_message\":\"Invalid query\",\"error_code\":141}");
+        Stack stack = stack(stub, new CacheOptions());
+
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<QueryResult> future = stack.contentType("page").query().findAsync();
+            assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(2, stub.requestCount());
+    }
+
+    @Test
+    void testClearCache() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        Stack stack = stack(stub, new CacheOptions());
+
+        find(stack.contentType("page").query());
+        stack.clearCache();
+        find(stack.contentType("page").query());
+
+        assertEquals(2, stub.requestCount());
+    }
+
+    @Test
+    void testDisabledByDefault() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        Stack stack = stack(stub, null);
+
+        find(stack.contentType("page").query());
+        find(stack.contentType("page").query());
+
+        assertNull(stack.responseCache);
+        assertEquals(2, stub.requestCount());
+    }
+
+
+    /**
+     * Stack whose cache runs on the given clock.
+     */
+    private static Stack stack(StubInterceptor stub, CacheOptions options, AtomicLong now)
+            throws IllegalAccessException {
+        Stack stack = stack(stub, options);
+        stack.responseCache = new ResponseCache(options, now::get);
+        return stack;
+    }
+
+    /**
+     * Runs a query on the calling thread and returns how its result was served.
+     */
+    private static ResponseType find(Stack stack, AtomicReference<QueryResult> result) {
+        AtomicReference<ResponseType> type = new AtomicReference<>();
+        stack.contentType("page").query().find(new QueryResultsCallBack() {
+            @Override
+            public void onCompletion(ResponseType responseType, QueryResult queryResult, Error error) {
+                result.set(queryResult);
+                type.set(error == null ? responseType : null);
+            }
+        });
+        return type.get();
+    }
+
+    private static String page(String title) {
+        return PAGE.replace("Home", title);
+    }
+
+    private static void awaitRequests(StubInterceptor stub, int count) throws InterruptedException {
+        for (int i = 0; i < 250 && stub.requestCount() < count; i++) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void testLookupReportsStaleness() {
+        AtomicLong now = new AtomicLong();
+        ResponseCache cache = new ResponseCache(new CacheOptions().setTimeToLive(1, TimeUnit.SECONDS)
+                .setStaleWhileRevalidate(1, TimeUnit.SECONDS).setStaleIfError(2, TimeUnit.SECONDS), now::get);
+        cache.put("a", value("a"), 10);
+
+        assertTrue(cache.lookup("a").isFresh());
+        now.set(TimeUnit.MILLISECONDS.toNanos(1500));
+        ResponseCache.Hit stale = cache.lookup("a");
+        assertFalse(stale.isFresh());
+        assertTrue(stale.isServableWhileRevalidating());
+        assertNull(cache.get("a"));
+        now.set(TimeUnit.MILLISECONDS.toNanos(2500));
+        assertFalse(cache.lookup("a").isServableWhileRevalidating());
+        assertTrue(cache.lookup("a").isServableIfError());
+        now.set(TimeUnit.SECONDS.toNanos(3));
+        assertNull(cache.lookup("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testOneRefreshAtATime() {
+        ResponseCache cache = new ResponseCache(new CacheOptions());
+        assertTrue(cache.startRefresh("a"));
+        assertFalse(cache.startRefresh("a"));
+        cache.endRefresh("a");
+        assertTrue(cache.startRefresh("a"));
+    }
+
+    @Test
+    void testStaleResponseIsServedWhileRevalidating() throws Exception {
+        AtomicReference<String> body = new AtomicReference<>(page("First"));
+        StubInterceptor stub = new StubInterceptor(request -> StubInterceptor.response(200, body.get()));
+        AtomicLong now = new AtomicLong();
+        Stack stack = stack(stub, new CacheOptions().setTimeToLive(1, TimeUnit.SECONDS)
+                .setStaleWhileRevalidate(1, TimeUnit.MINUTES), now);
+        AtomicReference<QueryResult> result = new AtomicReference<>();
+
+        assertEquals(ResponseType.NETWORK, find(stack, result));
+        body.set(page("Second"));
+        now.set(TimeUnit.SECONDS.toNanos(2));
+
+        assertEquals(ResponseType.STALE_WHILE_REVALIDATE, find(stack, result));
+        assertEquals("First", result.get().getResultObjects().get(0).getTitle());
+        awaitRequests(stub, 2);
+        ResponseType refreshed = find(stack, result);
+        for (int i = 0; i < 250 && refreshed != ResponseType.CACHE; i++) {
+            Thread.sleep(20);
+            refreshed = find(stack, result);
+        }
+
+        assertEquals(ResponseType.CACHE, refreshed);
+        assertEquals("Second", result.get().getResultObjects().get(0).getTitle());
+    }
+
+    @Test
+    void testOnlyOneBackgroundRefreshRuns() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        AtomicLong now = new AtomicLong();
+        Stack stack = stack(stub, new CacheOptions().setTimeToLive(1, TimeUnit.SECONDS)
+                .setStaleWhileRevalidate(1, TimeUnit.MINUTES), now);
+        AtomicReference<QueryResult> result = new AtomicReference<>();
+        find(stack, result);
+        stub.delay(300);
+        now.set(TimeUnit.SECONDS.toNanos(2));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(ResponseType.STALE_WHILE_REVALIDATE, find(stack, result));
+        }
+        awaitRequests(stub, 2);
+        Thread.sleep(400);
+
+        assertEquals(2, stub.requestCount());
+    }
+
+    @Test
+    void testResponsesPastTheStaleWindowGoToTheNetwork() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, PAGE);
+        AtomicLong now = new AtomicLong();
+        Stack stack = stack(stub, new CacheOptions().setTimeToLive(1, TimeUnit.SECONDS)
+                .setStaleWhileRevalidate(1, TimeUnit.SECONDS), now);
+        AtomicReference<QueryResult> result = new AtomicReference<>();
+        find(stack, result);
+        now.set(TimeUnit.SECONDS.toNanos(3));
+
+        assertEquals(ResponseType.NETWORK, find(stack, result));
+        assertEquals(2, stub.requestCount());
+    }
+
+    @Test
+    void testStaleResponseIsServedIfServerFails() throws Exception {
+        AtomicReference<Integer> status = new AtomicReference<>(200);
+        StubInterceptor stub = new StubInterceptor(request -> status.get() == 200
+                ? StubInterceptor.response(200, PAGE)
+                : StubInterceptor.response(status.get(), "{\"error_message\":\"Unavailable\"}"));
+        AtomicLong now = new AtomicLong();
+        Stack stack = stack(stub, new CacheOptions().setTimeToLive(1, TimeUnit.SECONDS)
+                .setStaleIfError(1, TimeUnit.MINUTES), now);
+        AtomicReference<QueryResult> result = new AtomicReference<>();
+        find(stack, result);
+        status.set(503);
+        now.set(TimeUnit.SECONDS.toNanos(2));
+
+        assertEquals(ResponseType.STALE_IF_ERROR, find(stack, result));
+        assertEquals("Home", result.get().getResultObjects().get(0).getTitle());
+        QueryResult async = stack.contentType("page").query().findAsync().get(5, TimeUnit.SECONDS);
+        assertEquals("blt1", async.getResultObjects().get(0).getUid());
+        assertEquals(3, stub.requestCount());
+    }
+
+    @Test
+    void testClientErrorsAreNotServedStale() throws Exception {
+        AtomicReference<Integer> status = new AtomicReference<>(200);
+        StubInterceptor stub = new StubInterceptor(request -> status.get() == 200
+                ? StubInterceptor.response(200, PAGE)
+                : StubInterceptor.response(status.get(), "{\"error_message\":\"Not found\"}"));
+        AtomicLong now = new AtomicLong();
+        Stack stack = stack(stub, new CacheOptions().setTimeToLive(1, TimeUnit.SECONDS)
+                .setStaleIfError(1, TimeUnit.MINUTES), now);
+        AtomicReference<QueryResult> result = new AtomicReference<>();
+        find(stack, result);
+        status.set(404);
+        now.set(TimeUnit.SECONDS.toNanos(2));
+
+        assertNull(find(stack, result));
+        assertEquals(0, stack.responseCache.size());
+    }
+
+    @Test
+    void testServerErrorsFailWithoutStaleWindow() throws Exception {
+        AtomicReference<Integer> status = new AtomicReference<>(200);
+        StubInterceptor stub = new StubInterceptor(request -> status.get() == 200
+                ? StubInterceptor.response(200, PAGE)
+                : StubInterceptor.response(status.get(), "{\"error_message\":\"Unavailable\"}"));
+        AtomicLong now = new AtomicLong();
+        Stack stack = stack(stub, new CacheOptions().setTimeToLive(1, TimeUnit.SECONDS)
+                .setStaleIfError(1, TimeUnit.SECONDS), now);
+        AtomicReference<QueryResult> result = new AtomicReference<>();
+        find(stack, result);
+        status.set(503);
+        now.set(TimeUnit.SECONDS.toNanos(3));
+
+        assertNull(find(stack, result));
+    }
+
+    private static final String NOT_FOUND = "{\"error_message\":\"Entry not found\",\"error_code\":141}";
+
+    @Test
+    void testNegativeResultsExpireWithoutStaleWindow() {
+        AtomicLong now = new AtomicLong();
+        ResponseCache cache = new ResponseCache(new CacheOptions().setTimeToLive(1, TimeUnit.MINUTES)
+                .setStaleIfError(1, TimeUnit.HOURS).setNegativeTimeToLive(1, TimeUnit.SECONDS), now::get);
+        cache.putEmpty("empty", value("empty"), 10);
+        cache.putMissing("missing", value("missing"), 10, 141);
+
+        ResponseCache.Hit missing = cache.lookup("missing");
+        assertTrue(missing.failed);
+        assertEquals(141, missing.errorCode);
+        assertFalse(cache.lookup("empty").failed);
+        now.set(TimeUnit.SECONDS.toNanos(1));
+        assertNull(cache.lookup("empty"));
+        assertNull(cache.lookup("missing"));
+        assertEquals(0, cache.weight());
+    }
+
+    @Test
+    void testNotFoundErrorsAreCachedForNegativeTimeToLive() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(422, NOT_FOUND);
+        AtomicLong now = new AtomicLong();
+        Stack stack = stack(stub, new CacheOptions().setNegativeTimeToLive(10, TimeUnit.SECONDS), now);
+        List<ResponseType> types = new ArrayList<>();
+        List<Error> errors = new ArrayList<>();
+        EntryResultCallBack callback = new EntryResultCallBack() {
+            @Override
+            public void onCompletion(ResponseType responseType, Error error) {
+                types.add(responseType);
+                errors.add(error);
+            }
+        };
+
+        stack.contentType("page").entry("blt404").fetch(callback);
+        stack.contentType("page").entry("blt404").fetch(callback);
+        now.set(TimeUnit.SECONDS.toNanos(10));
+        stack.contentType("page").entry("blt404").fetch(callback);
+
+        assertEquals(2, stub.requestCount());
+        assertEquals(Arrays.asList(ResponseType.NETWORK, ResponseType.CACHE, ResponseType.NETWORK), types);
+        assertEquals(141, errors.get(1).getErrorCode());
+        assertEquals("Entry not found", errors.get(1).getErrorMessage());
+    }
+
+    @Test
+    void testMissingAssetsAreCachedForNegativeTimeToLive() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(422,
+                "{\"error_message\":\"Asset was not found.\",\"error_code\":145}");
+        Stack stack = stack(stub, new CacheOptions().setNegativeTimeToLive(10, TimeUnit.SECONDS));
+        List<ResponseType> types = new ArrayList<>();
+        List<Error> errors = new ArrayList<>();
+        FetchResultCallback callback = new FetchResultCallback() {
+            @Override
+            public void onCompletion(ResponseType responseType, Error error) {
+                types.add(responseType);
+                errors.add(error);
+            }
+        };
+
+        stack.asset("blt404").fetch(callback);
+        stack.asset("blt404").fetch(callback);
+
+        assertEquals(1, stub.requestCount());
+        assertEquals(Arrays.asList(ResponseType.NETWORK, ResponseType.CACHE), types);
+        assertEquals(145, errors.get(1).getErrorCode());
+        assertEquals("Asset was not found.", errors.get(1).getErrorMessage());
+    }
+
+    @Test
+    void testOtherClientErrorsAreNotCachedAsMissing() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(422, "{\"error_message\":\"Invalid query\",\"error_code\":102}");
+        Stack stack = stack(stub, new CacheOptions().setNegativeTimeToLive(10, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<QueryResult> future = stack.contentType("page").query().findAsync();
+            assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(2, stub.requestCount());
+    }
+
+    @Test
+    void testEmptyResultsUseNegativeTimeToLive() throws Exception {
+        StubInterceptor stub = StubInterceptor.json(200, "{\"entries\":[]}");
+        AtomicLong now = new AtomicLong();
+        Stack stack = stack(stub, new CacheOptions().setTimeToLive(1, TimeUnit.MINUTES)
+                .setNegativeTimeToLive(1, TimeUnit.SECONDS), now);
+        AtomicReference<QueryResult> result = new AtomicReference<>();
+
+        assertEquals(ResponseType.NETWORK, find(stack, result));
+        assertEquals(ResponseType.CACHE, find(stack, result));
+        assertTrue(result.get().getResultObjects().isEmpty());
+        now.set(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(ResponseType.NETWORK, find(stack, result));
+        assertEquals(2, stub.requestCount());
+    }
+}
@@ -0,0 +1,257 @@
+package com.contentstack.sdk;
+
+import com.contentstack.sdk.utils.LegacyResponse;
+import com.contentstack.sdk.utils.StubInterceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.Okio;
+import okio.Source;
+import okio.Timeout;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestResponseDecoder {
+
+    private static final String ENTRIES = "{\"entries\":[{\"uid\":\"blt1\",\"title\":\"Caf\\u00e9 \\\"quoted\\\"\","
+            + "\"rating\":4.5,\"views\":12,\"big\":12345678901,\"huge\":123456789012345678901234,"
+            + "\"ratio\":1e3,\"neg\":-0.25,\"flag\":true,\"off\":false,\"missing\":null,"
+            + "\"tags\":[\"a\",null,\"b\"],\"ref\":[{\"uid\":\"r1\",\"_content_type_uid\":\"author\"}],"
+            + "\"group\":{\"nested\":{\"deep\":[1,2.0,[3]]}},\"path\":\"a\\/b\\\\c\\n\"}],\"count\":1}";
+
+    private static JSONObject decode(String json) throws IOException {
+        return ResponseDecoder.decode(new Buffer().writeUtf8(json));
+    }
+
+    @Test
+    void testMatchesLegacyPipeline() throws Exception {
+        JSONObject decoded = decode(ENTRIES);
+        JSONObject expected = new JSONObject(LegacyResponse.toOrderedMap(ENTRIES));
+        assertTrue(expected.similar(decoded), () -> expected + "\n" + decoded);
+    }
+
+    @Test
+    void testBuildsModelReadyTypes() throws IOException {
+        JSONObject response = decode(ENTRIES);
+        JSONObject entry = response.getJSONArray("entries").getJSONObject(0);
+
+        assertEquals("Café \"quoted\"", entry.getString("title"));
+        assertEquals("a/b\\c\n", entry.getString("path"));
+        assertEquals(4.5, entry.get("rating"));
+        assertEquals(12, entry.get("views"));
+        assertEquals(12345678901L, entry.get("big"));
+        assertEquals(new BigInteger("123456789012345678901234"), entry.get("huge"));
+        assertEquals(1000.0, entry.get("ratio"));
+        assertEquals(-0.25, entry.get("neg"));
+        assertEquals(Boolean.TRUE, entry.get("flag"));
+        assertTrue(entry.get("ref") instanceof JSONArray);
+        assertTrue(entry.get("group") instanceof JSONObject);
+    }
+
+    @Test
+    void testNullMembersAreDroppedButArrayNullsKept() throws IOException {
+        JSONObject entry = decode(ENTRIES).getJSONArray("entries").getJSONObject(0);
+
+        assertFalse(entry.has("missing"));
+        JSONArray tags = entry.getJSONArray("tags");
+        assertEquals(3, tags.length());
+        assertTrue(tags.isNull(1));
+    }
+
+    @Test
+    void testArrayOrderIsPreserved() throws IOException {
+        StringBuilder json = new StringBuilder("{\"entries\":[");
+        for (int i = 0; i < 500; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"uid\":\"").append(i).append("\"}");
+        }
+        JSONArray entries = decode(json.append("]}").toString()).getJSONArray("entries");
+        for (int i = 0; i < 500; i++) {
+            assertEquals(String.valueOf(i), entries.getJSONObject(i).getString("uid"));
+        }
+    }
+
+    @Test
+    void testValuesSpanningBufferBoundaries() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            text.append((char) ('a' + i % 26));
+        }
+        String json = "{\"padding\":\"" + text + "\",\"escaped\":\"x\\u0041y\",\"number\":98765.4321}";
+
+        JSONObject decoded = decode(json);
+
+        assertEquals(text.toString(), decoded.getString("padding"));
+        assertEquals("xAy", decoded.getString("escaped"));
+        assertEquals(98765.4321, decoded.get("number"));
+    }
+
+    @Test
+    void testWhitespaceAndEmptyContainers() throws IOException {
+        JSONObject decoded = decode(" \n{ \"a\" : [ ] ,\t\"b\" : { } }\r\n");
+        assertEquals(0, decoded.getJSONArray("a").length());
+        assertTrue(decoded.getJSONObject("b").isEmpty());
+    }
+
+    @Test
+    void testRejectsMalformedInput() {
+        assertThrows(JSONException.class, () -> decode("<html>Bad gateway</html>"));
+        assertThrows(JSONException.class, () -> decode("[1,2]"));
+        assertThrows(JSONException.class, () -> decode("{\"a\":}"));
+        assertThrows(JSONException.class, () -> decode("{\"a\":tru}"));
+        assertThrows(JSONException.class, () -> decode("{\"a\":\"unterminated"));
+        assertThrows(JSONException.class, () -> decode("{\"a\":1"));
+        assertThrows(JSONException.class, () -> decode("{\"a\":\"\\x\"}"));
+        assertThrows(JSONException.class, () -> decode(""));
+    }
+
+    @Test
+    void testMultiByteUtf8AndByteOrderMark() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            text.append("é漢\uD83D\uDE00");
+        }
+        Buffer body = new Buffer().write(okio.ByteString.decodeHex("efbbbf"))
+                .writeUtf8("{\"title\":\"" + text + "\",\"escaped\":\"\\ud83d\\ude00\"}");
+
+        JSONObject decoded = ResponseDecoder.decode(body);
+
+        assertEquals(text.toString(), decoded.getString("title"));
+        assertEquals("\uD83D\uDE00", decoded.getString("escaped"));
+    }
+
+    @Test
+    void testListenerReceivesTopLevelElementsInOrder() throws IOException {
+        List<String> seen = new ArrayList<>();
+        JSONObject decoded = ResponseDecoder.decode(new Buffer().writeUtf8(
+                "{\"entries\":[{\"uid\":\"a\",\"nested\":[{\"uid\":\"x\"}]},{\"uid\":\"b\"},{\"uid\":\"c\"}],"
+                        + "\"count\":3,\"group\":{\"list\":[1,2]}}"),
+                (key, element) -> {
+                    String uid = ((JSONObject) element).getString("uid");
+                    seen.add(key + ":" + uid);
+                    return "b".equals(uid) ? null : new JSONObject().put("uid", uid.toUpperCase());
+                });
+
+        assertEquals(java.util.Arrays.asList("entries:a", "entries:b", "entries:c"), seen);
+        JSONArray entries = decoded.getJSONArray("entries");
+        assertEquals(2, entries.length());
+        assertEquals("A", entries.getJSONObject(0).getString("uid"));
+        assertEquals("C", entries.getJSONObject(1).getString("uid"));
+        assertEquals(2, decoded.getJSONObject("group").getJSONArray("list").length());
+    }
+
+    @Test
+    void testListenerRunsBeforeRestOfBodyIsRead() throws IOException {
+        Buffer data = new Buffer().writeUtf8("{\"items\":[{\"uid\":\"first\"}");
+        StringBuilder padding = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            padding.append(",{\"uid\":\"").append(i).append("\"}");
+        }
+        data.writeUtf8(padding.append("]}").toString());
+        long total = data.size();
+        long[] readAtFirstElement = {-1};
+        long[] read = {0};
+        Source counting = new Source() {
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                long n = data.read(sink, Math.min(byteCount, 64));
+                if (n > 0) {
+                    read[0] += n;
+                }
+                return n;
+            }
+
+            @Override
+            public Timeout timeout() {
+                return Timeout.NONE;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        BufferedSource source = Okio.buffer(counting);
+
+        ResponseDecoder.decode(source, (key, element) -> {
+            if (readAtFirstElement[0] < 0) {
+                readAtFirstElement[0] = read[0];
+            }
+            return element;
+        });
+
+        assertTrue(readAtFirstElement[0] < total / 2, "first element should be emitted before the page is read");
+        assertEquals(total, read[0]);
+    }
+
+    @Test
+    void testResponseBodyIsDecodedFromTheConnection() throws Exception {
+        Buffer data = new Buffer().writeUtf8(ENTRIES);
+        long total = data.size();
+        long[] read = {0};
+        long[] readBeforeDecoding = {-1};
+        Source counting = new Source() {
+            @Override
+            public long read(Buffer sink, long byteCount) {
+                long n = data.read(sink, Math.min(byteCount, 64));
+                if (n > 0) {
+                    read[0] += n;
+                }
+                return n;
+            }
+
+            @Override
+            public Timeout timeout() {
+                return Timeout.NONE;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Config config = new Config();
+        config.setPlugins(Collections.singletonList(new ContentstackPlugin() {
+            @Override
+            public retrofit2.Response<ResponseBody> onResponse(Stack stack, Request request,
+                    retrofit2.Response<ResponseBody> response) {
+                readBeforeDecoding[0] = read[0];
+                return response;
+            }
+        }));
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env", config);
+        stack.service = new StubInterceptor(request -> new Response.Builder().protocol(Protocol.HTTP_1_1).code(200)
+                .message("stub").body(ResponseBody.create(Okio.buffer(counting),
+                        MediaType.get("application/json"), total))).service();
+
+        QueryResult result = stack.contentType("blog").query().findAsync().get(5, TimeUnit.SECONDS);
+
+        assertEquals("blt1", result.getResultObjects().get(0).getUid());
+        assertEquals(0, readBeforeDecoding[0]);
+        assertEquals(total, read[0]);
+    }
+
+    @Test
+    void testNumbersAreTypedLikeLegacyPipeline() throws Exception {
+        String[] literals = {"0", "-0", "-0.0", "7", "-2147483649", "9223372036854775807",
+                "9223372036854775808", "1.50", "2E-3", "-1e+2"};
+        for (String literal : literals) {
+            Object expected = LegacyResponse.decode("{\"n\":" + literal + "}").get("n");
+            Object actual = ResponseDecoder.toNumber(literal);
+            assertEquals(expected.getClass(), actual.getClass(), literal);
+            assertEquals(expected, actual, literal);
+        }
+    }
+}
@@ -12,9 +12,13 @@ class TestResponseType {
     void testResponseTypeValues() {
         ResponseType[] types = ResponseType.values();
         
-        assertEquals(2, types.length);
+        assertEquals(6, types.length);
         assertEquals(ResponseType.NETWORK, types[0]);
         assertEquals(ResponseType.UNKNOWN, types[1]);
+        assertEquals(ResponseType.CACHE, types[2]);
+        assertEquals(ResponseType.STALE_WHILE_REVALIDATE, types[3]);
+        assertEquals(ResponseType.STALE_IF_ERROR, types[4]);
+        assertEquals(ResponseType.REPLICA, types[5]);
     }
 
     @Test
@@ -98,6 +102,7 @@ class TestResponseType {
     void testEnumOrdinals() {
         assertEquals(0, ResponseType.NETWORK.ordinal());
         assertEquals(1, ResponseType.UNKNOWN.ordinal());
+        assertEquals(2, ResponseType.CACHE.ordinal());
     }
 
     @Test
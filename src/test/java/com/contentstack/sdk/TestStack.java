@@ -5,6 +5,11 @@ import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.*;
+import com.contentstack.sdk.utils.StubInterceptor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -1859,5 +1864,243 @@ public class TestStack {
             assertNotNull(e);
         }
     }
-}
 
+    // ========== ASYNC API TESTS ==========
+
+    @Test
+    void testSyncAsyncCompletesWithSyncStack() throws Exception {
+        Stack stubbed = Contentstack.stack("apiKey", "deliveryToken", "env");
+        StubInterceptor stub = StubInterceptor.json(200,
+                "{\"items\":[],\"skip\":0,\"limit\":100,\"total_count\":0,\"sync_token\":\"token123\"}");
+        stubbed.service = stub.service();
+
+        SyncStack syncStack = stubbed.syncAsync().get(5, TimeUnit.SECONDS);
+
+        assertEquals("token123", syncStack.getSyncToken());
+        assertTrue(stub.requests().get(0).url().toString().contains("init=true"));
+    }
+
+    @Test
+    void testSyncTokenAsyncSendsToken() throws Exception {
+        Stack stubbed = Contentstack.stack("apiKey", "deliveryToken", "env");
+        StubInterceptor stub = StubInterceptor.json(200, "{\"items\":[],\"sync_token\":\"next\"}");
+        stubbed.service = stub.service();
+
+        stubbed.syncTokenAsync("previous").get(5, TimeUnit.SECONDS);
+        stubbed.syncPaginationTokenAsync("page2").get(5, TimeUnit.SECONDS);
+
+        assertTrue(stub.requests().get(0).url().toString().contains("sync_token=previous"));
+        assertTrue(stub.requests().get(1).url().toString().contains("pagination_token=page2"));
+    }
+
+    // ========== STREAM TESTS ==========
+
+    @Test
+    void testSyncStreamFollowsPaginationTokens() throws IllegalAccessException {
+        Stack stubbed = Contentstack.stack("apiKey", "deliveryToken", "env");
+        StubInterceptor stub = new StubInterceptor(request -> {
+            String page = request.url().queryParameter("pagination_token");
+            JSONObject body = new JSONObject();
+            if (page == null) {
+                body.put("items", new JSONArray().put(new JSONObject().put("uid", "a")).put(new JSONObject().put("uid", "b")));
+                body.put("pagination_token", "page2");
+            } else {
+                body.put("items", new JSONArray().put(new JSONObject().put("uid", "c")));
+                body.put("sync_token", "final");
+            }
+            return StubInterceptor.response(200, body.toString());
+        });
+        stubbed.service = stub.service();
+
+        List<JSONObject> items = stubbed.syncStream().toList().blockingGet();
+        assertEquals(3, items.size());
+        assertEquals("c", items.get(2).getString("uid"));
+
+        SyncStack last = stubbed.syncPageStream(null).lastOrError().blockingGet();
+        assertEquals("final", last.getSyncToken());
+    }
+
+    // ========== AUTOMATIC SYNC PAGINATION TESTS ==========
+
+    private static StubInterceptor syncPages(int pages) {
+        return new StubInterceptor(request -> {
+            String token = request.url().queryParameter("pagination_token");
+            int page = token == null ? 1 : Integer.parseInt(token.substring(1));
+            JSONObject body = new JSONObject()
+                    .put("items", new JSONArray().put(new JSONObject().put("type", "entry_published").put("page", page)));
+            if (page < pages) {
+                body.put("pagination_token", "p" + (page + 1));
+            } else {
+                body.put("sync_token", "final");
+            }
+            return StubInterceptor.response(200, body.toString());
+        });
+    }
+
+    @Test
+    void testSyncAllFollowsPaginationTokens() throws Exception {
+        Stack stubbed = Contentstack.stack("apiKey", "deliveryToken", "env");
+        StubInterceptor stub = syncPages(5);
+        stubbed.service = stub.service();
+        List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+
+        String syncToken = stubbed.syncAllAsync(null, 2,
+                page -> handled.add(page.getItems().get(0).getInt("page"))).get(5, TimeUnit.SECONDS);
+
+        assertEquals("final", syncToken);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), handled);
+        assertEquals(5, stub.requestCount());
+        assertTrue(stub.requests().get(0).url().toString().contains("init=true"));
+
+        stubbed.syncAllAsync("previous", 1, page -> { }).get(5, TimeUnit.SECONDS);
+        assertTrue(stub.requests().get(5).url().toString().contains("sync_token=previous"));
+    }
+
+    @Test
+    void testSyncAllPrefetchesWhileHandling() throws Exception {
+        Stack stubbed = Contentstack.stack("apiKey", "deliveryToken", "env");
+        StubInterceptor stub = syncPages(6);
+        stubbed.service = stub.service();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> requestsSeen = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<String> done = stubbed.syncAllAsync(null, 2, page -> {
+            if (page.getItems().get(0).getInt("page") == 1) {
+                try {
+                    // Pages 2 and 3 are fetched while page 1 is handled, page 4 waits for room
+                    long deadline = System.currentTimeMillis() + 5000;
+                    while (stub.requestCount() < 3 && System.currentTimeMillis() < deadline) {
+                        Thread.sleep(10);
+                    }
+                    Thread.sleep(100);
+                    requestsSeen.add(stub.requestCount());
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        release.countDown();
+
+        assertEquals("final", done.get(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(3), requestsSeen);
+        assertEquals(6, stub.requestCount());
+    }
+
+    @Test
+    void testSyncAllStopsWhenHandlerThrows() throws Exception {
+        Stack stubbed = Contentstack.stack("apiKey", "deliveryToken", "env");
+        StubInterceptor stub = syncPages(5);
+        stubbed.service = stub.service();
+        List<String> outcome = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch completed = new CountDownLatch(1);
+
+        stubbed.syncAll(null, 1, new SyncPagesCallBack() {
+            @Override
+            public void onPage(SyncStack syncStack) {
+                if (syncStack.getItems().get(0).getInt("page") == 2) {
+                    throw new IllegalStateException("store unavailable");
+                }
+            }
+
+            @Override
+            public void onCompletion(String syncToken, Error error) {
+                outcome.add(syncToken + ":" + (error != null ? error.getErrorMessage() : null));
+                completed.countDown();
+            }
+        });
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList("null:" + ErrorMessages.SYNC_PAGE_HANDLER_FAILED), outcome);
+        assertTrue(stub.requestCount() <= 3);
+        assertThrows(IllegalArgumentException.class, () -> stubbed.syncAll(null, 0, null));
+    }
+
+    // ========== PARTITIONED SYNC TESTS ==========
+
+    @Test
+    void testSyncPartitionedRunsPartitionsConcurrently() throws Exception {
+        Stack stubbed = Contentstack.stack("apiKey", "deliveryToken", "env");
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        StubInterceptor stub = new StubInterceptor(request -> {
+            if (request.url().encodedPath().endsWith("/content_types")) {
+                return StubInterceptor.response(200,
+                        "{\"content_types\":[{\"uid\":\"blog\"},{\"uid\":\"page\"},{\"uid\":\"author\"}]}");
+            }
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            String partition = request.url().queryParameter("content_type_uid");
+            String next = request.url().queryParameter("pagination_token");
+            JSONObject body = new JSONObject().put("items", new JSONArray().put(new JSONObject().put("type", "entry_published")));
+            if (next != null) {
+                body.put("sync_token", "token-" + next);
+            } else if (partition != null) {
+                body.put("pagination_token", partition);
+            } else {
+                body.put("sync_token", "token-assets");
+            }
+            return StubInterceptor.response(200, body.toString());
+        });
+        stubbed.service = stub.service();
+        List<String> pages = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Map<SyncPartition, String>> done = new CompletableFuture<>();
+
+        stubbed.syncPartitioned(new SyncPartitionOptions().setMaxConcurrency(2), new PartitionedSyncCallBack() {
+            @Override
+            public void onPage(SyncPartition partition, SyncStack syncStack) {
+                pages.add(partition.isAssets() ? "assets" : partition.getContentTypeUid());
+            }
+
+            @Override
+            public void onCompletion(Map<SyncPartition, String> syncTokens, Error error) {
+                done.complete(syncTokens);
+            }
+        });
+        Map<SyncPartition, String> tokens = done.get(10, TimeUnit.SECONDS);
+
+        assertEquals(4, tokens.size());
+        assertEquals("token-blog", tokens.get(SyncPartition.entries("blog", null)));
+        assertEquals("token-author", tokens.get(SyncPartition.entries("author", null)));
+        assertEquals("token-assets", tokens.get(SyncPartition.assets(null)));
+        assertEquals(7, pages.size());
+        assertEquals(2, maxInFlight.get());
+        assertTrue(stub.requests().get(1).url().toString().contains("init=true"));
+    }
+
+    @Test
+    void testSyncPartitionedReportsFailure() throws Exception {
+        Stack stubbed = Contentstack.stack("apiKey", "deliveryToken", "env");
+        StubInterceptor stub = new StubInterceptor(request -> {
+            if ("page".equals(request.url().queryParameter("content_type_uid"))) {
+                return StubInterceptor.response(422, "{\"error_message\":\"Invalid\",\"error_code\":109}");
+            }
+            return StubInterceptor.response(200, "{\"items\":[],\"sync_token\":\"token\"}");
+        });
+        stubbed.service = stub.service();
+        CompletableFuture<Error> failed = new CompletableFuture<>();
+        List<Map<SyncPartition, String>> completed = new ArrayList<>();
+
+        stubbed.syncPartitioned(new SyncPartitionOptions().setContentTypes(Arrays.asList("blog", "page", "author"))
+                .setMaxConcurrency(1), new PartitionedSyncCallBack() {
+            @Override
+            public void onPage(SyncPartition partition, SyncStack syncStack) {
+            }
+
+            @Override
+            public void onCompletion(Map<SyncPartition, String> syncTokens, Error error) {
+                completed.add(syncTokens);
+                failed.complete(error);
+            }
+        });
+
+        assertEquals(109, failed.get(5, TimeUnit.SECONDS).getErrorCode());
+        assertEquals(Collections.singleton(SyncPartition.entries("blog", null)), completed.get(0).keySet());
+        assertEquals(2, stub.requestCount());
+    }
+}
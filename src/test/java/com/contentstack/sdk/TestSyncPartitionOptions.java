@@ -0,0 +1,59 @@
+package com.contentstack.sdk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSyncPartitionOptions {
+
+    @Test
+    void testDefaults() {
+        SyncPartitionOptions options = new SyncPartitionOptions();
+        assertTrue(options.isPartitionByContentType());
+        assertNull(options.getContentTypes());
+        assertTrue(options.getLocales().isEmpty());
+        assertEquals(4, options.getMaxConcurrency());
+        assertEquals(2, options.getPrefetchDepth());
+    }
+
+    @Test
+    void testInvalidValuesAreRejected() {
+        SyncPartitionOptions options = new SyncPartitionOptions();
+        assertThrows(IllegalArgumentException.class, () -> options.setMaxConcurrency(0));
+        assertThrows(IllegalArgumentException.class, () -> options.setPrefetchDepth(0));
+        assertThrows(NullPointerException.class, () -> options.setContentTypes(null));
+        assertThrows(NullPointerException.class, () -> options.setLocales(null));
+    }
+
+    @Test
+    void testPartitionsByContentTypeAndLocale() {
+        SyncPartitionOptions options = new SyncPartitionOptions().setLocales(Arrays.asList("en-us", "fr-fr"));
+        List<SyncPartition> partitions = options.partitions(Arrays.asList("blog", "page"));
+
+        assertEquals(6, partitions.size());
+        assertEquals(SyncPartition.entries("blog", "en-us"), partitions.get(0));
+        assertTrue(partitions.get(2).isAssets());
+        assertEquals("fr-fr", partitions.get(5).getLocale());
+
+        String params = partitions.get(4).params().toString();
+        assertTrue(params.contains("\"content_type_uid\":\"page\""));
+        assertTrue(params.contains("\"locale\":\"fr-fr\""));
+        assertTrue(partitions.get(5).params().toString().contains("\"type\":\"asset_published\""));
+    }
+
+    @Test
+    void testPartitionsByLocaleOnly() {
+        SyncPartitionOptions options = new SyncPartitionOptions().setPartitionByContentType(false)
+                .setLocales(Collections.singletonList("en-us"));
+        List<SyncPartition> partitions = options.partitions(null);
+
+        assertEquals(1, partitions.size());
+        assertNull(partitions.get(0).getContentTypeUid());
+        assertFalse(partitions.get(0).isAssets());
+        assertFalse(partitions.get(0).params().has("type"));
+    }
+}
@@ -648,5 +648,104 @@ public class TestSyncStack {
         assertEquals(-5, syncStack.getLimit());
         assertEquals(-100, syncStack.getCount());
     }
-}
 
+    // ========== STREAMED DECODING TESTS ==========
+
+    @Test
+    void testStreamedItemsMatchSetJSON() throws Exception {
+        String body = "{\"items\":[{\"type\":\"entry_published\",\"title\":\"<script>x</script>\"},"
+                + "{\"type\":\"asset_published\"}],\"skip\":0,\"limit\":100,\"total_count\":2,"
+                + "\"sync_token\":\"token_1\"}";
+        SyncStack.Streaming streaming = new SyncStack.Streaming();
+        JSONObject decoded = ResponseDecoder.decode(new okio.Buffer().writeUtf8(body), streaming);
+
+        syncStack.setJSON(decoded, streaming);
+        SyncStack expected = new SyncStack();
+        expected.setJSON(new JSONObject(body));
+
+        assertEquals(2, syncStack.getItems().size());
+        for (int i = 0; i < 2; i++) {
+            assertTrue(expected.getItems().get(i).similar(syncStack.getItems().get(i)));
+        }
+        assertEquals("&lt;script&gt;x&lt;/script&gt;", syncStack.getItems().get(0).getString("title"));
+        assertEquals(expected.getSyncToken(), syncStack.getSyncToken());
+        assertEquals(expected.getCount(), syncStack.getCount());
+        assertEquals(expected.getLimit(), syncStack.getLimit());
+    }
+
+    @Test
+    void testStreamedFallsBackWhenItemsIsNotAnArray() {
+        JSONObject response = new JSONObject().put("items", new JSONObject().put("type", "entry_published"));
+
+        syncStack.setJSON(response, new SyncStack.Streaming());
+
+        assertEquals(1, syncStack.getItems().size());
+    }
+
+    // ========== SANITIZE MODE TESTS ==========
+
+    private static JSONObject nestedItem() {
+        return new JSONObject()
+                .put("type", "entry_published")
+                .put("event_at", "<SCRIPT>top</Script>")
+                .put("data", new JSONObject()
+                        .put("title", "<script>title</script>")
+                        .put("blocks", new JSONArray().put("<ScRiPt>a</sCrIpT>").put(new JSONObject().put("body", "<script>b"))));
+    }
+
+    @Test
+    void testFullModeSanitizesNestedData() {
+        SyncStack full = new SyncStack(SyncStack.SanitizeMode.FULL);
+        full.setJSON(new JSONObject().put("items", new JSONArray().put(nestedItem())));
+
+        JSONObject item = full.getItems().get(0);
+        assertEquals("&lt;script&gt;top&lt;/script&gt;", item.getString("event_at"));
+        JSONObject data = item.getJSONObject("data");
+        assertEquals("&lt;script&gt;title&lt;/script&gt;", data.getString("title"));
+        assertEquals("&lt;script&gt;a&lt;/script&gt;", data.getJSONArray("blocks").getString(0));
+        assertEquals("&lt;script&gt;b", data.getJSONArray("blocks").getJSONObject(1).getString("body"));
+    }
+
+    @Test
+    void testTopLevelModeLeavesDataUntouched() {
+        syncStack.setJSON(new JSONObject().put("items", new JSONArray().put(nestedItem())));
+
+        JSONObject item = syncStack.getItems().get(0);
+        assertEquals("&lt;script&gt;top&lt;/script&gt;", item.getString("event_at"));
+        assertEquals("<script>title</script>", item.getJSONObject("data").getString("title"));
+    }
+
+    @Test
+    void testOffModeLeavesItemsUnchanged() {
+        SyncStack off = new SyncStack(SyncStack.SanitizeMode.OFF);
+        JSONObject item = nestedItem();
+        off.setJSON(new JSONObject().put("items", new JSONArray().put(item)));
+
+        assertSame(item, off.getItems().get(0));
+        assertEquals("<SCRIPT>top</Script>", item.getString("event_at"));
+    }
+
+    @Test
+    void testSanitizeReturnsSameInstanceWithoutScriptTags() {
+        String value = "<p>a < b and <scrip>t</p>";
+        assertSame(value, SyncStack.sanitize(value));
+        assertEquals("x&lt;script&gt;&lt;/script&gt;y<", SyncStack.sanitize("x<script></SCRIPT>y<"));
+    }
+
+    @Test
+    void testSanitizeModeFromConfig() {
+        Config config = new Config();
+        assertEquals(SyncStack.SanitizeMode.TOP_LEVEL, config.getSyncSanitizeMode());
+        assertEquals(SyncStack.SanitizeMode.FULL,
+                config.setSyncSanitizeMode(SyncStack.SanitizeMode.FULL).getSyncSanitizeMode());
+        assertThrows(IllegalArgumentException.class, () -> config.setSyncSanitizeMode(null));
+    }
+
+    @Test
+    void testEmptyTokenIsRejected() {
+        syncStack.setJSON(new JSONObject().put("sync_token", "").put("pagination_token", "page_1.2-3"));
+
+        assertNull(syncStack.getSyncToken());
+        assertEquals("page_1.2-3", syncStack.getPaginationToken());
+    }
+}
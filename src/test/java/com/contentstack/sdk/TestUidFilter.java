@@ -0,0 +1,221 @@
+package com.contentstack.sdk;
+
+import com.contentstack.sdk.utils.StubInterceptor;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestUidFilter {
+
+    private static final String SYNC = "{\"items\":[{\"type\":\"entry_published\",\"content_type_uid\":\"page\","
+            + "\"data\":{\"uid\":\"blt1\",\"title\":\"Home\"}},{\"type\":\"asset_published\","
+            + "\"content_type_uid\":\"sys_assets\",\"data\":{\"uid\":\"bltasset\"}}],\"sync_token\":\"token\"}";
+
+    private static final String NOT_FOUND = "{\"error_message\":\"The requested entry doesn't exist.\","
+            + "\"error_code\":141,\"errors\":{\"uid\":[\"is not valid.\"]}}";
+
+    private static SyncStack page(String json) {
+        SyncStack page = new SyncStack();
+        page.setJSON(new JSONObject(json));
+        return page;
+    }
+
+    private static HashMap<String, Object> init() {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("init", true);
+        return params;
+    }
+
+    @Test
+    void testAddedUidsAreFound() {
+        UidFilter filter = new UidFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("blt" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("blt" + i));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRateIsBounded() {
+        UidFilter filter = new UidFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("blt" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("missing" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void testReadyOnlyAfterFullInitialSync() {
+        UidFilter filter = new UidFilter(100, 0.01);
+        HashMap<String, Object> byContentType = init();
+        byContentType.put("content_type_uid", "page");
+        filter.onSyncPage(byContentType, page(SYNC));
+        assertFalse(filter.isReady());
+        assertFalse(filter.isKnownMissing("blt2"));
+
+        filter.onSyncPage(init(), page(SYNC.replace("\"sync_token\"", "\"pagination_token\"")));
+        assertFalse(filter.isReady());
+        filter.onSyncPage(new HashMap<>(), page("{\"items\":[{\"type\":\"entry_published\","
+                + "\"data\":{\"uid\":\"blt2\"}}],\"sync_token\":\"token\"}"));
+
+        assertTrue(filter.isReady());
+        assertFalse(filter.isKnownMissing("blt1"));
+        assertFalse(filter.isKnownMissing("blt2"));
+        assertFalse(filter.isKnownMissing("bltasset"));
+        assertTrue(filter.isKnownMissing("blt3"));
+    }
+
+    @Test
+    void testAnswersOnlyWithinMaxAgeOfLastSync() {
+        AtomicLong now = new AtomicLong();
+        UidFilter filter = new UidFilter(100, 0.01, 1000, now::get);
+        filter.onSyncPage(init(), page(SYNC));
+        assertNull(filter.notFound("blt2", false));
+
+        filter.onNotFound(false, new JSONObject(NOT_FOUND));
+        assertEquals(141, filter.notFound("blt2", false).getInt("error_code"));
+        assertNull(filter.notFound("blt1", false));
+        assertNull(filter.notFound("blt2", true));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertFalse(filter.isKnownMissing("blt2"));
+        assertNull(filter.notFound("blt2", false));
+
+        HashMap<String, Object> delta = new HashMap<>();
+        delta.put("sync_token", "token");
+        filter.onSyncPage(delta, page("{\"items\":[{\"type\":\"entry_published\","
+                + "\"data\":{\"uid\":\"blt3\"}}],\"sync_token\":\"token2\"}"));
+        assertTrue(filter.isKnownMissing("blt2"));
+        assertFalse(filter.isKnownMissing("blt3"));
+    }
+
+    @Test
+    void testFetchOfUnknownUidFailsWithServerError() throws IllegalAccessException {
+        StubInterceptor stub = new StubInterceptor(request -> {
+            String path = request.url().encodedPath();
+            if (path.endsWith("/stacks/sync")) {
+                return StubInterceptor.response(200, SYNC);
+            }
+            return path.endsWith("/blt1")
+                    ? StubInterceptor.response(200, "{\"entry\":{\"uid\":\"blt1\",\"title\":\"Home\"}}")
+                    : StubInterceptor.response(422, NOT_FOUND);
+        });
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env",
+                new Config().setCacheOptions(new CacheOptions().setUidFilter(100, 0.01)));
+        stack.service = stub.service();
+        stack.sync(new SyncResultCallBack() {
+            @Override
+            public void onCompletion(SyncStack syncStack, Error error) {
+            }
+        });
+        AtomicReference<ResponseType> type = new AtomicReference<>();
+        AtomicReference<Error> failure = new AtomicReference<>();
+        EntryResultCallBack callback = new EntryResultCallBack() {
+            @Override
+            public void onCompletion(ResponseType responseType, Error error) {
+                type.set(responseType);
+                failure.set(error);
+            }
+        };
+
+        stack.contentType("page").entry("blt404").fetch(callback);
+        assertEquals(ResponseType.NETWORK, type.get());
+        assertEquals(141, failure.get().getErrorCode());
+        assertEquals(2, stub.requestCount());
+
+        stack.contentType("page").entry("blt405").fetch(callback);
+        assertEquals(ResponseType.CACHE, type.get());
+        assertEquals(141, failure.get().getErrorCode());
+        assertEquals("The requested entry doesn't exist.", failure.get().getErrorMessage());
+        assertEquals(2, stub.requestCount());
+
+        stack.contentType("page").entry("blt1").fetch(callback);
+        assertEquals(ResponseType.NETWORK, type.get());
+        assertNull(failure.get());
+        assertEquals(3, stub.requestCount());
+    }
+
+    @Test
+    void testFetchOfUnknownAssetFailsWithServerError() throws IllegalAccessException {
+        StubInterceptor stub = new StubInterceptor(request -> request.url().encodedPath().endsWith("/stacks/sync")
+                ? StubInterceptor.response(200, SYNC)
+                : StubInterceptor.response(422, "{\"error_message\":\"Asset was not found.\",\"error_code\":145}"));
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env",
+                new Config().setCacheOptions(new CacheOptions().setUidFilter(100, 0.01)));
+        stack.service = stub.service();
+        stack.sync(new SyncResultCallBack() {
+            @Override
+            public void onCompletion(SyncStack syncStack, Error error) {
+            }
+        });
+        AtomicReference<ResponseType> type = new AtomicReference<>();
+        AtomicReference<Error> failure = new AtomicReference<>();
+        FetchResultCallback callback = new FetchResultCallback() {
+            @Override
+            public void onCompletion(ResponseType responseType, Error error) {
+                type.set(responseType);
+                failure.set(error);
+            }
+        };
+
+        stack.asset("blt404").fetch(callback);
+        assertEquals(ResponseType.NETWORK, type.get());
+        assertEquals(2, stub.requestCount());
+
+        stack.asset("blt405").fetch(callback);
+        assertEquals(ResponseType.CACHE, type.get());
+        assertEquals(145, failure.get().getErrorCode());
+        assertEquals(2, stub.requestCount());
+    }
+
+    @Test
+    void testContentPublishedAfterSyncIsFetched() throws IllegalAccessException {
+        StubInterceptor stub = new StubInterceptor(request -> {
+            String path = request.url().encodedPath();
+            if (path.endsWith("/stacks/sync")) {
+                return StubInterceptor.response(200, SYNC);
+            }
+            return path.endsWith("/bltnew")
+                    ? StubInterceptor.response(200, "{\"entry\":{\"uid\":\"bltnew\",\"title\":\"New\"}}")
+                    : StubInterceptor.response(422, NOT_FOUND);
+        });
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env",
+                new Config().setCacheOptions(new CacheOptions().setUidFilter(100, 0.01, 0, TimeUnit.SECONDS)));
+        stack.service = stub.service();
+        stack.sync(new SyncResultCallBack() {
+            @Override
+            public void onCompletion(SyncStack syncStack, Error error) {
+            }
+        });
+        AtomicReference<Error> failure = new AtomicReference<>();
+        EntryResultCallBack callback = new EntryResultCallBack() {
+            @Override
+            public void onCompletion(ResponseType responseType, Error error) {
+                failure.set(error);
+            }
+        };
+
+        stack.contentType("page").entry("blt404").fetch(callback);
+        assertEquals(141, failure.get().getErrorCode());
+        Entry entry = stack.contentType("page").entry("bltnew");
+        entry.fetch(callback);
+
+        assertNull(failure.get());
+        assertEquals("New", entry.getTitle());
+        assertEquals(3, stub.requestCount());
+    }
+}
@@ -0,0 +1,48 @@
+package com.contentstack.sdk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestVirtualThreads {
+
+    private static boolean jvmHasVirtualThreads() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @Test
+    void testSupportMatchesRunningJvm() {
+        assertEquals(jvmHasVirtualThreads(), VirtualThreads.isSupported());
+    }
+
+    @Test
+    void testExecutorOrFallback() throws Exception {
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor();
+        if (!jvmHasVirtualThreads()) {
+            assertNull(executor);
+            return;
+        }
+        try {
+            Thread worker = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+            assertEquals(Boolean.TRUE, Thread.class.getMethod("isVirtual").invoke(worker));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testStackBuildsWithVirtualThreadsEnabled() throws IllegalAccessException {
+        Config config = new Config().enableVirtualThreads(true);
+        Stack stack = Contentstack.stack("apiKey", "deliveryToken", "env", config);
+        assertNotNull(stack.service);
+        assertTrue(stack.config.isVirtualThreads());
+    }
+}
@@ -0,0 +1,93 @@
+package com.contentstack.sdk.utils;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * The {@code String +=} query string construction CSHttpConnection used before QueryStringBuilder, kept verbatim as
+ * the reference the builder must match byte for byte.
+ */
+public final class LegacyQueryString {
+
+    private static final String UTF_TYPE = "UTF-8";
+
+    private LegacyQueryString() {
+    }
+
+    /**
+     * Query string for controllers that are not query, entry, asset or asset library requests.
+     */
+    public static String formParams(Map<String, Object> params) {
+        String urlParams = null;
+        for (Map.Entry<String, Object> e : params.entrySet()) {
+            if (urlParams == null) {
+                urlParams = "?" + e.getKey() + "=" + e.getValue();
+            } else {
+                urlParams += "&" + e.getKey() + "=" + e.getValue();
+            }
+        }
+        return urlParams;
+    }
+
+    public static String getParams(Map<String, Object> params) {
+        String urlParams = "?";
+        for (Map.Entry<String, Object> e : params.entrySet()) {
+            String key = e.getKey();
+            Object value = e.getValue();
+            try {
+                if (key.equalsIgnoreCase("include[]") || key.equalsIgnoreCase("only[BASE][]")
+                        || key.equalsIgnoreCase("except[BASE][]") || key.equalsIgnoreCase("asset_fields[]")) {
+                    urlParams = convertUrlParam(urlParams, value, key);
+                } else if (key.equalsIgnoreCase("only")) {
+                    JSONObject onlyJSON = (JSONObject) value;
+                    Iterator<String> itrString = onlyJSON.keys();
+                    while (itrString.hasNext()) {
+                        String innerKey = itrString.next();
+                        JSONArray array = onlyJSON.optJSONArray(innerKey);
+                        innerKey = URLEncoder.encode("only[" + innerKey + "][]", UTF_TYPE);
+                        for (int i = 0; i < array.length(); i++) {
+                            urlParams += urlParams.equals("?") ? innerKey + "=" + array.opt(i)
+                                    : "&" + innerKey + "=" + array.opt(i);
+                        }
+                    }
+                } else if (key.equalsIgnoreCase("except")) {
+                    JSONObject onlyJSON = (JSONObject) value;
+                    Iterator<String> iter = onlyJSON.keys();
+                    while (iter.hasNext()) {
+                        String innerKey = iter.next();
+                        JSONArray array = onlyJSON.optJSONArray(innerKey);
+                        innerKey = URLEncoder.encode("except[" + innerKey + "][]", UTF_TYPE);
+                        for (int i = 0; i < array.length(); i++) {
+                            urlParams += urlParams.equals("?") ? innerKey + "=" + array.opt(i)
+                                    : "&" + innerKey + "=" + array.opt(i);
+                        }
+                    }
+                } else if (key.equalsIgnoreCase("query")) {
+                    JSONObject queryJSON = (JSONObject) value;
+                    urlParams += urlParams.equals("?") ? key + "=" + URLEncoder.encode(queryJSON.toString(), UTF_TYPE)
+                            : "&" + key + "=" + URLEncoder.encode(queryJSON.toString(), UTF_TYPE);
+                } else {
+                    urlParams += urlParams.equals("?") ? key + "=" + value : "&" + key + "=" + value;
+                }
+            } catch (Exception ignored) {
+                // the original logged and moved on to the next parameter
+            }
+        }
+        return urlParams;
+    }
+
+    private static String convertUrlParam(String urlParams, Object value, String key)
+            throws UnsupportedEncodingException {
+        key = URLEncoder.encode(key, UTF_TYPE);
+        JSONArray array = (JSONArray) value;
+        for (int i = 0; i < array.length(); i++) {
+            urlParams += urlParams.equals("?") ? key + "=" + array.opt(i) : "&" + key + "=" + array.opt(i);
+        }
+        return urlParams;
+    }
+}
@@ -0,0 +1,72 @@
+package com.contentstack.sdk.utils;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The response pipeline CSHttpConnection used before ResponseDecoder: parse the body with {@code org.json}, copy it
+ * into ordered maps and wrap it in a {@link JSONObject} again. Kept verbatim as the reference the decoders must
+ * match, and as the baseline of the codec benchmark.
+ */
+public final class LegacyResponse {
+
+    private LegacyResponse() {
+    }
+
+    /**
+     * The response as the models received it, holding the ordered maps and lists themselves.
+     */
+    public static JSONObject decode(String body) {
+        return createOrderedJSONObject(toOrderedMap(body));
+    }
+
+    /**
+     * The body parsed into ordered maps and lists.
+     */
+    public static Map<String, Object> toOrderedMap(String body) {
+        return jsonToOrderedMap(new JSONObject(body));
+    }
+
+    private static JSONObject createOrderedJSONObject(Map<String, Object> map) {
+        JSONObject json = new JSONObject();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            json.put(entry.getKey(), entry.getValue());
+        }
+        return json;
+    }
+
+    private static Map<String, Object> jsonToOrderedMap(JSONObject object) {
+        LinkedHashMap<String, Object> map = new LinkedHashMap<>();
+        for (String key : object.keySet()) {
+            map.put(key, convertJsonValue(object.get(key)));
+        }
+        return map;
+    }
+
+    private static Object convertJsonValue(Object value) {
+        if (value == null || value == JSONObject.NULL) {
+            return null;
+        }
+        if (value instanceof JSONObject) {
+            return jsonToOrderedMap((JSONObject) value);
+        }
+        if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            ArrayList<Object> list = new ArrayList<>(array.length());
+            for (int i = 0; i < array.length(); i++) {
+                list.add(convertJsonValue(array.get(i)));
+            }
+            return list;
+        }
+        // Normalize floating-point numbers to Double to match the previous parser's output.
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).doubleValue();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,96 @@
+package com.contentstack.sdk.utils;
+
+import com.contentstack.sdk.APIService;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import retrofit2.Retrofit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * OkHttp interceptor that answers every request with a canned JSON response, so request/response handling can be
+ * unit tested without network access. Requests are recorded for assertions.
+ */
+public class StubInterceptor implements Interceptor {
+
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    private final Function<Request, Response.Builder> responder;
+    private final List<Request> requests = Collections.synchronizedList(new ArrayList<>());
+    private volatile long delayMs = 0;
+
+    public StubInterceptor(Function<Request, Response.Builder> responder) {
+        this.responder = responder;
+    }
+
+    /**
+     * Answers every request with the same status code and body.
+     */
+    public static StubInterceptor json(int code, String body) {
+        return new StubInterceptor(request -> response(code, body));
+    }
+
+    public static Response.Builder response(int code, String body) {
+        return new Response.Builder()
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("stub")
+                .body(ResponseBody.create(body, JSON));
+    }
+
+    /**
+     * Holds every response for the given time before returning it.
+     */
+    public StubInterceptor delay(long delayMs) {
+        this.delayMs = delayMs;
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) {
+        Request request = chain.request();
+        requests.add(request);
+        if (delayMs > 0) {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return responder.apply(request).request(request).build();
+    }
+
+    public int requestCount() {
+        return requests.size();
+    }
+
+    public List<Request> requests() {
+        synchronized (requests) {
+            return new ArrayList<>(requests);
+        }
+    }
+
+    public APIService service() {
+        return service(null);
+    }
+
+    public APIService service(Executor callbackExecutor) {
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(this).build();
+        Retrofit.Builder builder = new Retrofit.Builder().baseUrl("https://cdn.contentstack.io/").client(client);
+        if (callbackExecutor != null) {
+            builder.callbackExecutor(callbackExecutor);
+        }
+        return builder.build().create(APIService.class);
+    }
+}